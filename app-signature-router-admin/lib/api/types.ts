@@ -34,6 +34,14 @@ export interface DashboardMetrics {
     p95: number;
     p99: number;
   }>;
+  // Per-minute latency of the last hour (in-process, one backend instance)
+  latencyLastHour?: Array<{
+    timestamp: string;
+    count: number;
+    p50: number;
+    p95: number;
+    p99: number;
+  }>;
   errorTimeline: Array<{
     date: string;
     errorRate: number;
@@ -45,6 +53,7 @@ export interface DashboardMetrics {
     status: 'healthy' | 'degraded' | 'down';
     uptime: number;
     circuitState: string;
+    p95Latency?: number;
   }>;
   recentActivity: Array<{
     id: string;
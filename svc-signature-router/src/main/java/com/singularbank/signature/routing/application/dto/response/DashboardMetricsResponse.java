@@ -15,7 +15,7 @@ import java.util.Map;
  * Comprehensive metrics for admin dashboard including:
  * - Overview statistics (total signatures, success rate, latency, providers)
  * - Channel breakdown (SMS, PUSH, VOICE, BIOMETRIC)
- * - Latency timeline (P50, P95, P99)
+ * - Latency timeline (P50, P95, P99), daily and per minute for the last hour
  * - Error rate timeline
  * - Provider health status
  * - Recent activity feed
@@ -34,6 +34,9 @@ public record DashboardMetricsResponse(
     @Schema(description = "Latency timeline for the last 7 days")
     List<LatencyTimelinePoint> latencyTimeline,
     
+    @Schema(description = "Per-minute latency for the last hour (this instance)")
+    List<LatencyMinutePoint> latencyLastHour,
+    
     @Schema(description = "Error rate timeline for the last 7 days")
     List<ErrorTimelinePoint> errorTimeline,
     
@@ -122,6 +125,28 @@ public record DashboardMetricsResponse(
         long p99
     ) {}
     
+    /**
+     * Latency Minute Point
+     */
+    @Builder
+    @Schema(description = "Latency metrics for one minute")
+    public record LatencyMinutePoint(
+        @Schema(description = "Start of the minute")
+        Instant timestamp,
+        
+        @Schema(description = "Signatures created in this minute", example = "42")
+        long count,
+        
+        @Schema(description = "P50 latency in milliseconds", example = "150")
+        long p50,
+        
+        @Schema(description = "P95 latency in milliseconds", example = "420")
+        long p95,
+        
+        @Schema(description = "P99 latency in milliseconds", example = "780")
+        long p99
+    ) {}
+    
     /**
      * Error Timeline Point
      */
@@ -154,7 +179,10 @@ public record DashboardMetricsResponse(
         double uptime,
         
         @Schema(description = "Circuit breaker state: CLOSED, OPEN, HALF_OPEN", example = "CLOSED")
-        String circuitState
+        String circuitState,
+        
+        @Schema(description = "P95 provider call latency over the last 24 hours in ms (0 if no calls)", example = "310")
+        long p95Latency
     ) {}
     
     /**
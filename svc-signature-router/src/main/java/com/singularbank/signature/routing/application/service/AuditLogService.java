@@ -2,6 +2,7 @@ package com.singularbank.signature.routing.application.service;
 
 import com.singularbank.signature.routing.domain.model.entity.AuditLog;
 import com.singularbank.signature.routing.domain.port.outbound.AuditLogRepository;
+import com.singularbank.signature.routing.infrastructure.audit.AuditWriteQueue;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,7 +13,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -33,8 +33,10 @@ import java.util.UUID;
  * 
  * <p><b>Features:</b>
  * <ul>
- *   <li>Automatic context extraction (username, IP, User-Agent)</li>
- *   <li>REQUIRES_NEW transaction for graceful degradation</li>
+ *   <li>Automatic context extraction (username, IP, User-Agent) on the caller thread</li>
+ *   <li>Rows written asynchronously in batches by {@link AuditWriteQueue}
+ *       (critical operations synchronously, see {@code audit.writer.sync-operations})</li>
+ *   <li>Graceful degradation: a failed write is spooled, never thrown to the caller</li>
  *   <li>Comprehensive search and filtering</li>
  *   <li>Statistics and analytics</li>
  * </ul>
@@ -47,10 +49,12 @@ import java.util.UUID;
 public class AuditLogService {
     
     private final AuditLogRepository auditLogRepository;
+    private final AuditWriteQueue<AuditLog> auditLogWriteQueue;
     
     /**
      * Record an audit log entry.
-     * Uses REQUIRES_NEW transaction to ensure audit is saved even if main transaction fails.
+     * The row is written in its own transaction by the audit writer, so it is kept even if the
+     * caller's transaction rolls back.
      * 
      * @param operation the operation type
      * @param entityType the entity type
@@ -58,7 +62,6 @@ public class AuditLogService {
      * @param entityName the entity name (for display)
      * @param changes optional map of changes (old → new values)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordAudit(
         AuditLog.OperationType operation,
         AuditLog.EntityType entityType,
@@ -87,9 +90,9 @@ public class AuditLogService {
                 .success(true)
                 .build();
             
-            auditLogRepository.save(auditLog);
+            auditLogWriteQueue.submit(auditLog);
             
-            log.debug("Audit recorded: operation={}, entity={}/{}, user={}",
+            log.debug("Audit submitted: operation={}, entity={}/{}, user={}",
                 operation, entityType, entityId, username);
                 
         } catch (Exception e) {
@@ -107,7 +110,6 @@ public class AuditLogService {
      * @param entityId the entity ID
      * @param errorMessage the error message
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordFailedOperation(
         AuditLog.OperationType operation,
         AuditLog.EntityType entityType,
@@ -134,9 +136,9 @@ public class AuditLogService {
                 .errorMessage(errorMessage)
                 .build();
             
-            auditLogRepository.save(auditLog);
+            auditLogWriteQueue.submit(auditLog);
             
-            log.debug("Failed operation audit recorded: operation={}, entity={}/{}, error={}",
+            log.debug("Failed operation audit submitted: operation={}, entity={}/{}, error={}",
                 operation, entityType, entityId, errorMessage);
                 
         } catch (Exception e) {
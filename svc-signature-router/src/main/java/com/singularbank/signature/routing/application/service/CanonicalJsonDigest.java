@@ -0,0 +1,243 @@
+package com.singularbank.signature.routing.application.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Streams canonical JSON into a MessageDigest.
+ * 
+ * <p>Walks the Jackson token stream of a JSON document and digests its canonical form:
+ * object members sorted by name (UTF-16 code unit order), no insignificant whitespace,
+ * strings re-escaped minimally, numbers and literals as written. Semantically equal documents
+ * that differ only in member order or whitespace produce the same digest.</p>
+ * 
+ * <p>No object tree is built: scalars and arrays are written straight to the digest through
+ * a small chunk buffer. Object members must be sorted before they are emitted, so their
+ * encoded values are staged in a reusable per-depth scratch buffer until the object closes.</p>
+ * 
+ * <p>Not thread-safe; HashService keeps one instance per thread.</p>
+ */
+final class CanonicalJsonDigest {
+    
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+    private static final int CHUNK_SIZE = 4096;
+    private static final int MAX_RETAINED_SCRATCH = 1 << 20;
+    private static final Comparator<Member> BY_NAME = Comparator.comparing(Member::name);
+    
+    private final JsonFactory jsonFactory;
+    private final Out direct = new Out(CHUNK_SIZE);
+    // One staging buffer per object nesting level, so a nested object never interleaves
+    // its staged members with the bytes of the enclosing value
+    private final List<Out> scratchByDepth = new ArrayList<>();
+    private int depth;
+    private char[] nameChars = new char[64];
+    
+    CanonicalJsonDigest(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+    
+    /**
+     * Digest the canonical form of a JSON document.
+     * 
+     * @param json UTF-8 JSON document
+     * @param digest digest to update (not reset)
+     * @throws IOException if the document is not valid JSON
+     */
+    void update(byte[] json, MessageDigest digest) throws IOException {
+        direct.target = digest;
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new JsonParseException(parser, "Empty JSON document");
+            }
+            writeValue(parser, token, direct);
+            if (parser.nextToken() != null) {
+                throw new JsonParseException(parser, "Trailing content after JSON document");
+            }
+            direct.flush();
+        } finally {
+            direct.reset();
+            direct.target = null;
+            depth = 0;
+            for (int i = 0; i < scratchByDepth.size(); i++) {
+                if (scratchByDepth.get(i).bytes.length > MAX_RETAINED_SCRATCH) {
+                    scratchByDepth.set(i, new Out(CHUNK_SIZE));
+                }
+                scratchByDepth.get(i).reset();
+            }
+        }
+    }
+    
+    private void writeValue(JsonParser parser, JsonToken token, Out out) throws IOException {
+        switch (token) {
+            case START_OBJECT -> writeObject(parser, out);
+            case START_ARRAY -> writeArray(parser, out);
+            case VALUE_STRING -> writeString(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), out);
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> writeAscii(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), out);
+            case VALUE_TRUE -> out.write(TRUE, 0, TRUE.length);
+            case VALUE_FALSE -> out.write(FALSE, 0, FALSE.length);
+            case VALUE_NULL -> out.write(NULL, 0, NULL.length);
+            default -> throw new JsonParseException(parser, "Unexpected token " + token);
+        }
+    }
+    
+    private void writeArray(JsonParser parser, Out out) throws IOException {
+        out.write('[');
+        JsonToken token;
+        boolean first = true;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (!first) {
+                out.write(',');
+            }
+            writeValue(parser, token, out);
+            first = false;
+        }
+        out.write(']');
+    }
+    
+    private void writeObject(JsonParser parser, Out out) throws IOException {
+        if (depth == scratchByDepth.size()) {
+            scratchByDepth.add(new Out(CHUNK_SIZE));
+        }
+        Out scratch = scratchByDepth.get(depth++);
+        int objectStart = scratch.size;
+        
+        List<Member> members = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            int start = scratch.size;
+            writeValue(parser, parser.nextToken(), scratch);
+            members.add(new Member(name, start, scratch.size - start));
+        }
+        members.sort(BY_NAME);
+        
+        out.write('{');
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            if (i > 0) {
+                out.write(',');
+            }
+            String name = member.name();
+            if (name.length() > nameChars.length) {
+                nameChars = new char[name.length()];
+            }
+            name.getChars(0, name.length(), nameChars, 0);
+            writeString(nameChars, 0, name.length(), out);
+            out.write(':');
+            out.write(scratch.bytes, member.offset(), member.length());
+        }
+        out.write('}');
+        
+        scratch.size = objectStart;
+        depth--;
+    }
+    
+    private static void writeAscii(char[] chars, int offset, int length, Out out) {
+        for (int i = offset; i < offset + length; i++) {
+            out.write(chars[i]);
+        }
+    }
+    
+    private static void writeString(char[] chars, int offset, int length, Out out) {
+        out.write('"');
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c < 0x20) {
+                out.write('\\');
+                out.write('u');
+                out.write('0');
+                out.write('0');
+                out.write(HEX[c >> 4]);
+                out.write(HEX[c & 0xF]);
+            } else if (c < 0x80) {
+                out.write(c);
+            } else if (c < 0x800) {
+                out.write(0xC0 | (c >> 6));
+                out.write(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars[i + 1])) {
+                int codePoint = Character.toCodePoint(c, chars[++i]);
+                out.write(0xF0 | (codePoint >> 18));
+                out.write(0x80 | ((codePoint >> 12) & 0x3F));
+                out.write(0x80 | ((codePoint >> 6) & 0x3F));
+                out.write(0x80 | (codePoint & 0x3F));
+            } else {
+                out.write(0xE0 | (c >> 12));
+                out.write(0x80 | ((c >> 6) & 0x3F));
+                out.write(0x80 | (c & 0x3F));
+            }
+        }
+        out.write('"');
+    }
+    
+    /**
+     * Object member staged in the scratch buffer.
+     */
+    private record Member(String name, int offset, int length) {}
+    
+    /**
+     * Byte sink: flushes to {@code target} when set, grows otherwise.
+     */
+    private static final class Out {
+        private byte[] bytes;
+        private int size;
+        private MessageDigest target;
+        
+        Out(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+        
+        void write(int b) {
+            if (size == bytes.length) {
+                makeRoom(1);
+            }
+            bytes[size++] = (byte) b;
+        }
+        
+        void write(byte[] source, int offset, int length) {
+            if (size + length > bytes.length) {
+                makeRoom(length);
+            }
+            if (length > bytes.length) {
+                target.update(source, offset, length);
+                return;
+            }
+            System.arraycopy(source, offset, bytes, size, length);
+            size += length;
+        }
+        
+        void flush() {
+            if (target != null && size > 0) {
+                target.update(bytes, 0, size);
+                size = 0;
+            }
+        }
+        
+        void reset() {
+            size = 0;
+        }
+        
+        private void makeRoom(int length) {
+            if (target != null) {
+                flush();
+            } else {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+        }
+    }
+}
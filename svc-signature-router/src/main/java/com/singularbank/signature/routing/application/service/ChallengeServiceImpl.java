@@ -13,15 +13,24 @@ import com.singularbank.signature.routing.domain.service.FallbackLoopDetector;
 import com.singularbank.signature.routing.domain.service.ProviderSelectorService;
 import com.singularbank.signature.routing.infrastructure.config.FallbackChainConfig;
 import com.singularbank.signature.routing.infrastructure.observability.metrics.ChallengeMetrics;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderErrorRateCalculator;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderHealthStats;
 import com.singularbank.signature.routing.infrastructure.resilience.DegradedModeManager;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
 /**
  * Implementation of ChallengeService.
  * Story 2.4: Challenge Creation & Provider Selection
@@ -32,6 +41,7 @@ import org.springframework.stereotype.Service;
  * Story 4-3: Added degraded mode support (skip challenge sending when degraded)
  * Story 4-7: Added fallback loop prevention (max attempts limit, duplicate detection)
  * Story 9.2: Prometheus Metrics Export (@Timed annotation + ChallengeMetrics integration)
+ * Speculative fallback: primary and fallback raced concurrently when the primary is unhealthy
  */
 @Service
 @RequiredArgsConstructor
@@ -44,6 +54,9 @@ public class ChallengeServiceImpl implements ChallengeService {
     private final MeterRegistry meterRegistry;
     private final DegradedModeManager degradedModeManager;
     private final ChallengeMetrics challengeMetrics;
+    private final ProviderHealthStats providerHealthStats;
+    private final ProviderErrorRateCalculator providerErrorRateCalculator;
+    private final ExecutorService speculativeFallbackExecutor;
     
     /**
      * Maximum number of provider attempts per signature request.
@@ -53,6 +66,19 @@ public class ChallengeServiceImpl implements ChallengeService {
     @Value("${resilience.fallback.max-attempts:3}")
     private int maxFallbackAttempts;
     
+    /**
+     * Race primary and fallback concurrently when the primary provider is unhealthy.
+     */
+    @Value("${resilience.fallback.speculative.enabled:true}")
+    private boolean speculativeFallbackEnabled;
+    
+    /**
+     * Primary error rate (from ProviderErrorRateCalculator) at or above which the fallback
+     * is started speculatively. A HALF_OPEN primary circuit breaker always triggers it.
+     */
+    @Value("${resilience.fallback.speculative.error-rate-threshold:0.25}")
+    private double speculativeErrorRateThreshold;
+    
     @Override
     @Timed(value = "challenge.send", 
            description = "Time to send challenge to provider", 
@@ -85,12 +111,16 @@ public class ChallengeServiceImpl implements ChallengeService {
         
         // 3. Send challenge via provider (Story 3.2 - updated to use ProviderResult success/failure)
         // Story 4-2: Added fallback support
-        ProviderResult providerResult = sendChallengeWithFallback(
-            signatureRequest, 
-            challenge, 
-            channelType, 
-            phoneNumber
-        );
+        // signatureId in the MDC tags the provider call JFR events (and logs) of this request
+        ProviderResult providerResult;
+        try (MDC.MDCCloseable ignored = MDC.putCloseable("signatureId", String.valueOf(signatureRequest.getId()))) {
+            providerResult = sendChallengeWithFallback(
+                signatureRequest, 
+                challenge, 
+                channelType, 
+                phoneNumber
+            );
+        }
         
         // 4. Handle final result (after fallback attempts)
         if (providerResult.success()) {
@@ -121,6 +151,10 @@ public class ChallengeServiceImpl implements ChallengeService {
      * 2. If fails AND fallback enabled → try fallback channel
      * 3. If fallback also fails → return failure
      * 
+     * If the primary provider is unhealthy (circuit breaker HALF_OPEN or error rate above
+     * resilience.fallback.speculative.error-rate-threshold), primary and fallback are raced
+     * concurrently instead, see {@link #sendChallengeSpeculatively}.
+     * 
      * Fallback Triggers:
      * - ProviderResult.failure() (provider error)
      * - CallNotPermittedException (circuit breaker OPEN)
@@ -147,6 +181,10 @@ public class ChallengeServiceImpl implements ChallengeService {
         // Story 4-7: Create loop detector for this request
         FallbackLoopDetector loopDetector = new FallbackLoopDetector(maxFallbackAttempts);
         
+        if (shouldSpeculate(challenge.getProvider(), channelType)) {
+            return sendChallengeSpeculatively(signatureRequest, challenge, channelType, recipient, loopDetector);
+        }
+        
         // Try primary provider
         ProviderResult primaryResult = sendToProviderWithLoopCheck(
             challenge, 
@@ -243,6 +281,194 @@ public class ChallengeServiceImpl implements ChallengeService {
         }
     }
     
+    /**
+     * Whether the fallback should be started together with the primary.
+     * 
+     * @param providerType The primary provider type
+     * @param channelType The primary channel type
+     * @return true if speculative fallback is enabled, a fallback exists and the primary is unhealthy
+     */
+    private boolean shouldSpeculate(ProviderType providerType, ChannelType channelType) {
+        if (!speculativeFallbackEnabled
+            || !fallbackChainConfig.isEnabled()
+            || !fallbackChainConfig.hasFallback(channelType)) {
+            return false;
+        }
+        
+        CircuitBreaker.State circuitState = providerHealthStats.circuitState(providerType.name());
+        double errorRate = providerErrorRateCalculator.getErrorRate(providerType.name());
+        
+        return circuitState == CircuitBreaker.State.HALF_OPEN || errorRate >= speculativeErrorRateThreshold;
+    }
+    
+    /**
+     * Races the primary and the fallback provider concurrently.
+     * 
+     * <p>Both attempts are recorded in the loop detector before anything is sent, so the
+     * FallbackLoopDetector bounds the race exactly like the sequential chain. Provider calls run on
+     * speculativeFallbackExecutor; all aggregate and challenge mutations stay on the calling thread.
+     * 
+     * <p>The first successful result wins and the other challenge is superseded (or failed, if it
+     * had already failed). A call still in flight for the superseded challenge is left to finish;
+     * its result is ignored.
+     * 
+     * @param signatureRequest The signature request
+     * @param challenge The primary challenge
+     * @param channelType The primary channel type
+     * @param recipient The recipient
+     * @param loopDetector The loop detector for this request
+     * @return winning result, or the fallback failure if both failed
+     */
+    private ProviderResult sendChallengeSpeculatively(
+        SignatureRequest signatureRequest,
+        SignatureChallenge challenge,
+        ChannelType channelType,
+        String recipient,
+        FallbackLoopDetector loopDetector
+    ) {
+        ChannelType fallbackChannel = fallbackChainConfig.getFallbackChannel(channelType);
+        SignatureChallenge fallbackChallenge;
+        
+        try {
+            loopDetector.recordAttempt(challenge.getProvider());
+            ProviderType fallbackProviderType = providerSelectorService.selectProvider(fallbackChannel);
+            loopDetector.recordAttempt(fallbackProviderType);
+            fallbackChallenge = signatureRequest.createSpeculativeChallenge(
+                challenge, fallbackChannel, fallbackProviderType);
+        } catch (FallbackLoopException e) {
+            log.error("Speculative fallback loop prevented: {} → {}, message={}, attemptedProviders={}", 
+                channelType, fallbackChannel, e.getMessage(), e.getAttemptedProviders());
+            meterRegistry.counter("fallback.loops.prevented.total").increment();
+            return sendPrimaryOnly(challenge, recipient);
+        } catch (Exception e) {
+            log.warn("Speculative fallback not started, sending primary only: {} → {}, reason={}", 
+                channelType, fallbackChannel, e.getMessage());
+            meterRegistry.counter("fallback.error", 
+                "from", channelType.name(), 
+                "to", fallbackChannel.name()
+            ).increment();
+            return sendPrimaryOnly(challenge, recipient);
+        }
+        
+        log.info("Speculative fallback triggered: {} → {}, primaryChallengeId={}, fallbackChallengeId={}", 
+            channelType, fallbackChannel, challenge.getId(), fallbackChallenge.getId());
+        meterRegistry.counter("fallback.speculative.triggered", 
+            "from", channelType.name(), 
+            "to", fallbackChannel.name()
+        ).increment();
+        
+        CompletableFuture<ProviderResult> primaryFuture = CompletableFuture.supplyAsync(
+            withCallerMdc(() -> sendToProvider(challenge, recipient)), speculativeFallbackExecutor);
+        CompletableFuture<ProviderResult> fallbackFuture = CompletableFuture.supplyAsync(
+            withCallerMdc(() -> sendToProvider(fallbackChallenge, recipient)), speculativeFallbackExecutor);
+        
+        // Completes with the first successful future, or null once both have failed
+        CompletableFuture<CompletableFuture<ProviderResult>> firstSuccess = new CompletableFuture<>();
+        primaryFuture.thenAccept(result -> {
+            if (result.success()) {
+                firstSuccess.complete(primaryFuture);
+            }
+        });
+        fallbackFuture.thenAccept(result -> {
+            if (result.success()) {
+                firstSuccess.complete(fallbackFuture);
+            }
+        });
+        CompletableFuture.allOf(primaryFuture, fallbackFuture).thenRun(() -> firstSuccess.complete(null));
+        
+        CompletableFuture<ProviderResult> winner = firstSuccess.join();
+        
+        if (winner == primaryFuture) {
+            ProviderResult primaryResult = primaryFuture.join();
+            challenge.markAsSent(primaryResult);
+            resolveLoser(fallbackChallenge, fallbackFuture);
+            recordSpeculativeWinner(channelType, fallbackChannel, "primary");
+            
+            log.info("Speculative fallback: primary won {} → {}, challengeId={}", 
+                channelType, fallbackChannel, challenge.getId());
+            return primaryResult;
+        }
+        
+        if (winner == fallbackFuture) {
+            ProviderResult fallbackResult = fallbackFuture.join();
+            fallbackChallenge.markAsSent(fallbackResult);
+            resolveLoser(challenge, primaryFuture);
+            recordSpeculativeWinner(channelType, fallbackChannel, "fallback");
+            meterRegistry.counter("fallback.success", 
+                "from", channelType.name(), 
+                "to", fallbackChannel.name()
+            ).increment();
+            
+            log.info("Speculative fallback: fallback won {} → {}, challengeId={}", 
+                channelType, fallbackChannel, fallbackChallenge.getId());
+            return fallbackResult;
+        }
+        
+        // Both failed
+        ProviderResult primaryResult = primaryFuture.join();
+        ProviderResult fallbackResult = fallbackFuture.join();
+        challenge.fail(primaryResult.errorCode());
+        fallbackChallenge.fail(fallbackResult.errorCode());
+        recordSpeculativeWinner(channelType, fallbackChannel, "none");
+        meterRegistry.counter("fallback.failure", 
+            "from", channelType.name(), 
+            "to", fallbackChannel.name()
+        ).increment();
+        
+        log.error("Speculative fallback FAILED: {} → {}, primaryError={}, fallbackError={}", 
+            channelType, fallbackChannel, primaryResult.errorMessage(), fallbackResult.errorMessage());
+        return fallbackResult;
+    }
+    
+    /**
+     * Runs {@code call} on an executor thread with the caller's MDC (signature and trace ids).
+     */
+    private static Supplier<ProviderResult> withCallerMdc(Supplier<ProviderResult> call) {
+        Map<String, String> callerContext = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            MDC.setContextMap(callerContext != null ? callerContext : Map.of());
+            try {
+                return call.get();
+            } finally {
+                MDC.setContextMap(previous != null ? previous : Map.of());
+            }
+        };
+    }
+    
+    /**
+     * Sends only the primary challenge after its attempt was recorded (no fallback left).
+     */
+    private ProviderResult sendPrimaryOnly(SignatureChallenge challenge, String recipient) {
+        ProviderResult primaryResult = sendToProvider(challenge, recipient);
+        if (primaryResult.success()) {
+            challenge.markAsSent(primaryResult);
+        } else {
+            challenge.fail(primaryResult.errorCode());
+        }
+        return primaryResult;
+    }
+    
+    /**
+     * Supersedes the losing challenge of a speculative race, or fails it if its call already failed.
+     */
+    private void resolveLoser(SignatureChallenge loser, CompletableFuture<ProviderResult> loserFuture) {
+        ProviderResult loserResult = loserFuture.getNow(null);
+        if (loserResult != null && !loserResult.success()) {
+            loser.fail(loserResult.errorCode());
+        } else {
+            loser.supersede();
+        }
+    }
+    
+    private void recordSpeculativeWinner(ChannelType from, ChannelType to, String winner) {
+        meterRegistry.counter("fallback.speculative.winner", 
+            "from", from.name(), 
+            "to", to.name(), 
+            "winner", winner
+        ).increment();
+    }
+    
     /**
      * Sends challenge to provider with loop detection.
      * Story 4-7: Fallback Loop Prevention
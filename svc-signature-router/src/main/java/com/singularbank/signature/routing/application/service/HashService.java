@@ -1,12 +1,15 @@
 package com.singularbank.signature.routing.application.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 /**
  * Service for calculating SHA-256 hashes of request bodies.
@@ -17,19 +20,30 @@ import java.security.MessageDigest;
  * @since Story 10.5
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class HashService {
     
     private static final String ALGORITHM = "SHA-256";
     
+    private static final HexFormat HEX = HexFormat.of();
+    
+    // MessageDigest.getInstance does a provider lookup per call; digests are reused per thread
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(HashService::newDigest);
+    
     private final ObjectMapper objectMapper;
+    private final ThreadLocal<CanonicalJsonDigest> canonicalJsonDigest;
+    
+    public HashService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.canonicalJsonDigest = ThreadLocal.withInitial(() -> new CanonicalJsonDigest(objectMapper.getFactory()));
+    }
     
     /**
      * Calculate SHA-256 hash of an object after JSON serialization.
      * 
-     * <p>The object is serialized to JSON (with consistent ordering) and then hashed.
-     * This ensures that the same object always produces the same hash.</p>
+     * <p>The object is serialized to JSON and then hashed. This ensures that the same object
+     * always produces the same hash. The JSON is streamed into the digest, never materialized
+     * as a String.</p>
      * 
      * @param object Object to hash (typically request body)
      * @return SHA-256 hash as hexadecimal string (64 characters)
@@ -40,39 +54,62 @@ public class HashService {
             throw new IllegalArgumentException("Object cannot be null");
         }
         
-        try {
-            // Serialize to JSON with consistent ordering
-            String json = objectMapper.writeValueAsString(object);
-            
-            // Calculate SHA-256 hash
-            MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
-            byte[] hashBytes = digest.digest(json.getBytes(StandardCharsets.UTF_8));
-            
-            // Convert to hexadecimal string
-            return bytesToHex(hashBytes);
-            
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+        try (DigestOutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            objectMapper.writeValue(out, object);
+            return HEX.formatHex(digest.digest());
         } catch (Exception e) {
+            digest.reset();
             log.error("Failed to calculate hash for object: {}", object.getClass().getName(), e);
             throw new IllegalArgumentException("Failed to calculate hash: " + e.getMessage(), e);
         }
     }
     
     /**
-     * Convert byte array to hexadecimal string.
+     * Calculate SHA-256 hash of the canonical form of a JSON document.
+     * 
+     * <p>Members are sorted by name and whitespace is dropped, so documents differing only in
+     * member order or formatting hash the same. The token stream is digested directly
+     * (see {@link CanonicalJsonDigest}); no object tree or intermediate String is built.</p>
      * 
-     * @param bytes Byte array
-     * @return Hexadecimal string
+     * @param json UTF-8 JSON document (typically a request body)
+     * @return SHA-256 hash as hexadecimal string (64 characters)
+     * @throws IllegalArgumentException if json is null or not valid JSON
      */
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder hexString = new StringBuilder(2 * bytes.length);
-        for (byte b : bytes) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
-            }
-            hexString.append(hex);
+    public String sha256CanonicalJson(byte[] json) {
+        if (json == null) {
+            throw new IllegalArgumentException("JSON cannot be null");
+        }
+        
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+        try {
+            canonicalJsonDigest.get().update(json, digest);
+            return HEX.formatHex(digest.digest());
+        } catch (IOException e) {
+            digest.reset();
+            throw new IllegalArgumentException("Invalid JSON: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Calculate SHA-256 hash of raw bytes.
+     * 
+     * @param bytes Bytes to hash
+     * @return SHA-256 hash as hexadecimal string (64 characters)
+     */
+    public String sha256Bytes(byte[] bytes) {
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+        return HEX.formatHex(digest.digest(bytes));
+    }
+    
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Hash algorithm not available: " + ALGORITHM, e);
         }
-        return hexString.toString();
     }
 }
-
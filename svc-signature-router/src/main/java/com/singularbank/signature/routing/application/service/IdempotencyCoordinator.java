@@ -0,0 +1,284 @@
+package com.singularbank.signature.routing.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.singularbank.signature.routing.domain.exception.IdempotencyKeyConflictException;
+import com.singularbank.signature.routing.domain.model.entity.IdempotencyRecord;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Two-tier idempotency: node-local front cache and in-flight coalescing over the
+ * idempotency_record table.
+ * 
+ * <p>{@link #begin} decides what to do with a request:
+ * <ol>
+ *   <li>Key completed recently on this node: replay from the front cache (no DB round trip)</li>
+ *   <li>Key executing on this node: wait for that request and replay its response</li>
+ *   <li>Otherwise reserve the key in the DB (IN_PROGRESS row). Reserved: execute.
+ *       Completed on another node: replay. Executing on another node: {@link Outcome.InProgress}</li>
+ * </ol>
+ * The request that executes must call {@link #complete} (2xx response) or {@link #abandon}.
+ * Completed responses are cached and released to waiters immediately and written back to the
+ * DB asynchronously; until the write lands, other nodes see the reservation (InProgress).
+ * If the write fails the reservation lapses after {@code reservation-ttl}.</p>
+ * 
+ * <p><b>Metrics Exported:</b></p>
+ * <pre>
+ * idempotency.requests{outcome}      (counter: executed, cache_replay, coalesced, db_replay, in_progress, conflict)
+ * idempotency.writeback.errors       (counter)
+ * </pre>
+ * 
+ * @see IdempotencyService
+ */
+@Service
+@Slf4j
+public class IdempotencyCoordinator {
+    
+    private static final long TTL_HOURS = 24;
+    
+    private final IdempotencyService idempotencyService;
+    private final MeterRegistry meterRegistry;
+    private final Executor writeBackExecutor;
+    private final Duration reservationTtl;
+    private final Duration waitTimeout;
+    private final Cache<String, IdempotencyRecord> recent;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public IdempotencyCoordinator(
+            IdempotencyService idempotencyService,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.front-cache.max-size:100000}") long frontCacheMaxSize,
+            @Value("${idempotency.front-cache.ttl:10m}") Duration frontCacheTtl,
+            @Value("${idempotency.reservation-ttl:60s}") Duration reservationTtl,
+            @Value("${idempotency.in-flight-wait-timeout:10s}") Duration waitTimeout) {
+        this(idempotencyService, meterRegistry, frontCacheMaxSize, frontCacheTtl, reservationTtl, waitTimeout,
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("idempotency-writeback-", 1).factory()));
+    }
+    
+    IdempotencyCoordinator(
+            IdempotencyService idempotencyService,
+            MeterRegistry meterRegistry,
+            long frontCacheMaxSize,
+            Duration frontCacheTtl,
+            Duration reservationTtl,
+            Duration waitTimeout,
+            Executor writeBackExecutor) {
+        this.idempotencyService = idempotencyService;
+        this.meterRegistry = meterRegistry;
+        this.reservationTtl = reservationTtl;
+        this.waitTimeout = waitTimeout;
+        this.writeBackExecutor = writeBackExecutor;
+        this.recent = Caffeine.newBuilder()
+            .maximumSize(frontCacheMaxSize)
+            .expireAfterWrite(frontCacheTtl)
+            .build();
+    }
+    
+    /**
+     * Decide whether a request executes, replays a response or is rejected as in progress.
+     * 
+     * @param idempotencyKey Idempotency key from header
+     * @param requestHash SHA-256 hash of request body
+     * @return outcome; {@link Outcome.Execute} obliges the caller to {@link #complete} or {@link #abandon}
+     * @throws IdempotencyKeyConflictException if the key is in use with a different request hash
+     */
+    public Outcome begin(String idempotencyKey, String requestHash) {
+        while (true) {
+            IdempotencyRecord cached = recent.getIfPresent(idempotencyKey);
+            if (cached != null && !cached.isExpired(Instant.now())) {
+                checkHash(cached.getRequestHash(), idempotencyKey, requestHash);
+                return replay(cached, "cache_replay");
+            }
+            
+            InFlight mine = new InFlight(requestHash);
+            InFlight leader = inFlight.putIfAbsent(idempotencyKey, mine);
+            if (leader == null) {
+                return lead(idempotencyKey, requestHash, mine);
+            }
+            
+            checkHash(leader.requestHash, idempotencyKey, requestHash);
+            IdempotencyRecord result;
+            try {
+                result = leader.response.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                return inProgress(idempotencyKey);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return inProgress(idempotencyKey);
+            } catch (ExecutionException e) {
+                result = null;
+            }
+            if (result != null) {
+                return replay(result, "coalesced");
+            }
+            // Leader abandoned the key: compete for it again
+        }
+    }
+    
+    /**
+     * Record the successful response of an executed request.
+     * 
+     * <p>Waiters and later duplicates on this node replay it immediately; the DB record is
+     * written asynchronously.</p>
+     * 
+     * @param idempotencyKey Idempotency key
+     * @param requestHash SHA-256 hash of request body
+     * @param statusCode HTTP status code of the response
+     * @param responseBody Response body (JSON serialized)
+     */
+    public void complete(String idempotencyKey, String requestHash, int statusCode, String responseBody) {
+        Instant now = Instant.now();
+        IdempotencyRecord record = IdempotencyRecord.builder()
+            .idempotencyKey(idempotencyKey)
+            .requestHash(requestHash)
+            .statusCode(statusCode)
+            .responseBody(responseBody)
+            .createdAt(now)
+            .expiresAt(now.plus(Duration.ofHours(TTL_HOURS)))
+            .build();
+        recent.put(idempotencyKey, record);
+        finish(idempotencyKey, record);
+        
+        writeBackExecutor.execute(() -> {
+            try {
+                idempotencyService.storeResponse(idempotencyKey, requestHash, statusCode, responseBody);
+            } catch (Exception e) {
+                log.warn("Idempotency write-back failed, reservation will lapse: key={}, error={}",
+                    idempotencyKey, e.getMessage());
+                meterRegistry.counter("idempotency.writeback.errors").increment();
+            }
+        });
+    }
+    
+    /**
+     * Give up an executed request that produced no cacheable response (non-2xx or exception).
+     * 
+     * <p>Releases the DB reservation so the client can retry with the same key; local waiters
+     * compete for the key again.</p>
+     * 
+     * @param idempotencyKey Idempotency key
+     */
+    public void abandon(String idempotencyKey) {
+        try {
+            idempotencyService.release(idempotencyKey);
+        } catch (Exception e) {
+            log.warn("Failed to release idempotency reservation, it will lapse: key={}, error={}",
+                idempotencyKey, e.getMessage());
+        } finally {
+            finish(idempotencyKey, null);
+        }
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        if (writeBackExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+    
+    private Outcome lead(String idempotencyKey, String requestHash, InFlight mine) {
+        try {
+            if (idempotencyService.reserve(idempotencyKey, requestHash, reservationTtl)) {
+                meterRegistry.counter("idempotency.requests", "outcome", "executed").increment();
+                return new Outcome.Execute();
+            }
+            
+            Optional<IdempotencyRecord> existing = idempotencyService.getCachedResponse(idempotencyKey);
+            if (existing.isPresent()) {
+                checkHash(existing.get().getRequestHash(), idempotencyKey, requestHash);
+                if (!existing.get().isInProgress()) {
+                    recent.put(idempotencyKey, existing.get());
+                    finish(idempotencyKey, existing.get());
+                    return replay(existing.get(), "db_replay");
+                }
+            }
+            
+            finish(idempotencyKey, null);
+            return inProgress(idempotencyKey);
+        } catch (RuntimeException e) {
+            finish(idempotencyKey, null);
+            throw e;
+        }
+    }
+    
+    private void finish(String idempotencyKey, IdempotencyRecord response) {
+        InFlight leader = inFlight.remove(idempotencyKey);
+        if (leader != null) {
+            leader.response.complete(response);
+        }
+    }
+    
+    private void checkHash(String existingHash, String idempotencyKey, String requestHash) {
+        if (!existingHash.equals(requestHash)) {
+            log.warn("Idempotency key conflict: key={}, existingHash={}, newHash={}",
+                idempotencyKey, existingHash, requestHash);
+            meterRegistry.counter("idempotency.requests", "outcome", "conflict").increment();
+            throw new IdempotencyKeyConflictException(idempotencyKey);
+        }
+    }
+    
+    private Outcome replay(IdempotencyRecord record, String outcome) {
+        meterRegistry.counter("idempotency.requests", "outcome", outcome).increment();
+        return new Outcome.Replay(record);
+    }
+    
+    private Outcome inProgress(String idempotencyKey) {
+        log.info("Idempotency key in progress: key={}", idempotencyKey);
+        meterRegistry.counter("idempotency.requests", "outcome", "in_progress").increment();
+        return new Outcome.InProgress();
+    }
+    
+    /**
+     * What to do with a request carrying an idempotency key.
+     */
+    public sealed interface Outcome {
+        
+        /**
+         * Execute the request; the caller owns the key until complete/abandon.
+         */
+        record Execute() implements Outcome {}
+        
+        /**
+         * Replay a stored response.
+         * 
+         * @param record completed idempotency record
+         */
+        record Replay(IdempotencyRecord record) implements Outcome {}
+        
+        /**
+         * The same request is still executing (on another node, or longer than the wait timeout).
+         */
+        record InProgress() implements Outcome {}
+    }
+    
+    /**
+     * Request executing on this node; duplicates wait on its response (null if abandoned).
+     */
+    private static final class InFlight {
+        private final String requestHash;
+        private final CompletableFuture<IdempotencyRecord> response = new CompletableFuture<>();
+        
+        InFlight(String requestHash) {
+            this.requestHash = requestHash;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,8 +27,11 @@ import java.util.UUID;
  * </p>
  * 
  * <p><b>Thread Safety:</b> Uses database transactions with appropriate isolation level
- * to handle concurrent requests with the same idempotency key.</p>
+ * to handle concurrent requests with the same idempotency key. Cross-node exclusivity
+ * comes from {@link #reserve} (IN_PROGRESS row); IdempotencyCoordinator adds the
+ * node-local front cache and in-flight coalescing on top of this service.</p>
  * 
+ * @see IdempotencyCoordinator
  * @since Story 10.5
  */
 @Service
@@ -141,11 +145,37 @@ public class IdempotencyService {
         return saved;
     }
     
+    /**
+     * Reserve an idempotency key before executing the request (INSERT ... ON CONFLICT).
+     * 
+     * @param idempotencyKey Idempotency key
+     * @param requestHash SHA-256 hash of request body
+     * @param reservationTtl How long the reservation holds if the request never completes
+     * @return true if this caller owns the key, false if a live record already exists
+     */
+    public boolean reserve(String idempotencyKey, String requestHash, Duration reservationTtl) {
+        boolean reserved = idempotencyRepository.reserve(
+            idempotencyKey, requestHash, Instant.now().plus(reservationTtl));
+        log.debug("Idempotency key reservation: key={}, reserved={}", idempotencyKey, reserved);
+        return reserved;
+    }
+    
+    /**
+     * Release the reservation of a request that did not complete successfully,
+     * so the client can retry with the same key.
+     * 
+     * @param idempotencyKey Idempotency key
+     */
+    public void release(String idempotencyKey) {
+        idempotencyRepository.release(idempotencyKey);
+        log.debug("Idempotency key released: key={}", idempotencyKey);
+    }
+    
     /**
      * Get cached response for an idempotency key.
      * 
      * @param idempotencyKey Idempotency key
-     * @return Optional containing cached record if found and not expired, empty otherwise
+     * @return Optional containing cached record (or IN_PROGRESS reservation) if found and not expired, empty otherwise
      */
     @Transactional(readOnly = true)
     public Optional<IdempotencyRecord> getCachedResponse(String idempotencyKey) {
@@ -165,8 +195,8 @@ public class IdempotencyService {
     /**
      * Clean up expired idempotency records.
      * 
-     * <p>Deletes all records where expiresAt is before the current time.
-     * This method is typically called by a scheduled job.</p>
+     * <p>Deletes all records where expiresAt is before the current time in a single
+     * statement. The scheduled job uses {@link #cleanupExpiredBatch} instead.</p>
      * 
      * @return Number of deleted records
      */
@@ -177,5 +207,25 @@ public class IdempotencyService {
         log.info("Cleaned up {} expired idempotency records", deleted);
         return deleted;
     }
+    
+    /**
+     * Delete one bounded chunk of expired records in its own short transaction.
+     * 
+     * @param cutoffTime Records with expiresAt before this time are eligible
+     * @param batchSize Maximum number of records to delete
+     * @return Number of deleted records
+     */
+    public int cleanupExpiredBatch(Instant cutoffTime, int batchSize) {
+        return idempotencyRepository.deleteExpiredBatch(cutoffTime, batchSize);
+    }
+    
+    /**
+     * Count expired records still waiting for cleanup.
+     * 
+     * @param cutoffTime Records with expiresAt before this time are counted
+     * @return Number of expired records
+     */
+    public long countExpiredRecords(Instant cutoffTime) {
+        return idempotencyRepository.countExpired(cutoffTime);
+    }
 }
-
@@ -3,6 +3,7 @@ package com.singularbank.signature.routing.application.service;
 import com.singularbank.signature.routing.domain.model.entity.RoutingRuleAuditLog;
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.RoutingRuleAuditLogJpaRepository;
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.entity.RoutingRuleAuditLogEntity;
+import com.singularbank.signature.routing.infrastructure.audit.AuditWriteQueue;
 import com.singularbank.signature.routing.infrastructure.logging.AuditLogger;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +13,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -37,18 +37,19 @@ public class RoutingRuleAuditService {
     
     private final RoutingRuleAuditLogJpaRepository repository;
     private final AuditLogger auditLogger;
+    private final AuditWriteQueue<RoutingRuleAuditLogEntity> routingRuleAuditWriteQueue;
     
     /**
      * Save an audit log entry.
-     * Uses REQUIRES_NEW to ensure audit is saved even if main transaction rolls back.
+     * The row is queued for the audit writer, which inserts it in its own transaction, so it is
+     * kept even if the caller's transaction rolls back.
      * 
      * @param auditLog the audit log to save
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void save(RoutingRuleAuditLog auditLog) {
         RoutingRuleAuditLogEntity entity = RoutingRuleAuditLogEntity.fromDomain(auditLog);
-        repository.save(entity);
-        log.info("Audit log saved: action={}, ruleId={}, changedBy={}",
+        routingRuleAuditWriteQueue.submit(entity);
+        log.info("Audit log submitted: action={}, ruleId={}, changedBy={}",
             auditLog.getAction(), auditLog.getRuleId(), auditLog.getChangedBy());
         
         // Critical Improvement #5: Log to structured audit log
@@ -17,8 +17,6 @@ import com.singularbank.signature.routing.infrastructure.observability.metrics.C
 import com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureRequestMetrics;
 import com.singularbank.signature.routing.infrastructure.util.CorrelationIdProvider;
 import io.micrometer.core.annotation.Timed;
-import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
@@ -53,7 +51,6 @@ public class CompleteSignatureUseCaseImpl implements CompleteSignatureUseCase {
     private final SignatureRequestRepository repository;
     private final EventPublisher eventPublisher;
     private final CorrelationIdProvider correlationIdProvider;
-    private final MeterRegistry meterRegistry;
     private final SignatureRequestMetrics signatureRequestMetrics;
     private final ChallengeMetrics challengeMetrics;
     private final ObservationRegistry observationRegistry;
@@ -129,10 +126,7 @@ public class CompleteSignatureUseCaseImpl implements CompleteSignatureUseCase {
                         repository.save(signatureRequest);
                         attemptCounters.remove(challenge.getId()); // Cleanup
                         
-                        Counter.builder("signatures.completion.failed")
-                            .tag("reason", "max_attempts")
-                            .register(meterRegistry)
-                            .increment();
+                        signatureRequestMetrics.recordMaxAttemptsExceeded();
                     }
                     
                     throw new InvalidChallengeCodeException(challenge.getId(), Math.max(0, remainingAttempts));
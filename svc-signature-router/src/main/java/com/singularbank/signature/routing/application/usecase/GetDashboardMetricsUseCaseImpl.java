@@ -19,18 +19,21 @@ import com.singularbank.signature.routing.application.dto.response.DashboardMetr
 import com.singularbank.signature.routing.application.dto.response.DashboardMetricsResponse.ChannelMetrics;
 import com.singularbank.signature.routing.application.dto.response.DashboardMetricsResponse.ErrorTimelinePoint;
 import com.singularbank.signature.routing.application.dto.response.DashboardMetricsResponse.HourlyDataPoint;
+import com.singularbank.signature.routing.application.dto.response.DashboardMetricsResponse.LatencyMinutePoint;
 import com.singularbank.signature.routing.application.dto.response.DashboardMetricsResponse.LatencyTimelinePoint;
 import com.singularbank.signature.routing.application.dto.response.DashboardMetricsResponse.OverviewMetrics;
 import com.singularbank.signature.routing.application.dto.response.DashboardMetricsResponse.ProviderHealthStatus;
 import com.singularbank.signature.routing.application.dto.response.DashboardMetricsResponse.RecentActivityItem;
 import com.singularbank.signature.routing.application.dto.response.ProviderHealthResponse;
 import com.singularbank.signature.routing.application.service.ProviderHealthService;
-import com.singularbank.signature.routing.domain.model.valueobject.Channel;
 import com.singularbank.signature.routing.domain.model.valueobject.ChannelStats;
 import com.singularbank.signature.routing.domain.model.valueobject.HealthStatus;
 import com.singularbank.signature.routing.domain.model.valueobject.SignatureStatus;
 import com.singularbank.signature.routing.domain.port.outbound.RoutingRuleRepository;
 import com.singularbank.signature.routing.domain.port.outbound.SignatureRequestRepository;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.LatencyHistograms;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.LatencyHistograms.LatencySnapshot;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.LatencyHistograms.Series;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -43,7 +46,8 @@ import lombok.extern.slf4j.Slf4j;
  * Epic 14: Frontend-Backend Complete Integration
  * 
  * Aggregates metrics from SignatureRequestRepository, ProviderHealthService,
- * RoutingRuleRepository, and CircuitBreakerRegistry.
+ * RoutingRuleRepository, and CircuitBreakerRegistry. Latency figures come from
+ * the in-process {@link LatencyHistograms} of this instance (kept for 7 days).
  * Results are cached for 1 minute to avoid expensive queries.
  */
 @Service
@@ -55,6 +59,7 @@ public class GetDashboardMetricsUseCaseImpl implements GetDashboardMetricsUseCas
         private final ProviderHealthService providerHealthService;
         private final RoutingRuleRepository routingRuleRepository;
         private final CircuitBreakerRegistry circuitBreakerRegistry;
+        private final LatencyHistograms latencyHistograms;
 
         private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
         private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("HH:00");
@@ -87,11 +92,14 @@ public class GetDashboardMetricsUseCaseImpl implements GetDashboardMetricsUseCas
                 // Latency timeline (last 7 days)
                 List<LatencyTimelinePoint> latencyTimeline = computeLatencyTimeline(last7d, now);
 
+                // Latency per minute (last hour)
+                List<LatencyMinutePoint> latencyLastHour = computeLatencyLastHour();
+
                 // Error timeline (last 7 days)
                 List<ErrorTimelinePoint> errorTimeline = computeErrorTimeline(last7d, now);
 
                 // Provider health status
-                List<ProviderHealthStatus> providerHealth = computeProviderHealth();
+                List<ProviderHealthStatus> providerHealth = computeProviderHealth(last24h, now);
 
                 // Recent activity (last 10 events)
                 List<RecentActivityItem> recentActivity = computeRecentActivity(now);
@@ -113,6 +121,7 @@ public class GetDashboardMetricsUseCaseImpl implements GetDashboardMetricsUseCas
                                 .overview(overview)
                                 .byChannel(byChannel)
                                 .latencyTimeline(latencyTimeline)
+                                .latencyLastHour(latencyLastHour)
                                 .errorTimeline(errorTimeline)
                                 .providerHealth(providerHealth)
                                 .recentActivity(recentActivity)
@@ -148,10 +157,9 @@ public class GetDashboardMetricsUseCaseImpl implements GetDashboardMetricsUseCas
                                 SignatureStatus.CHALLENGED, last7d, now);
                 long activeSignatures = activePending + activeChallenged;
 
-                // Average latency (last 30 days)
-                // TODO: Implement latency calculation from metrics or event sourcing
-                // For now, using a placeholder
-                long avgLatency = 245L; // Placeholder
+                // Average latency (last 7 days, the retention of the hourly histograms)
+                long avgLatency = Math.round(
+                                latencyHistograms.aggregate(Series.ALL_SIGNATURES, last7d, now).meanMs());
 
                 // Provider health
                 var healthResponse = providerHealthService.getProvidersHealth(false);
@@ -206,10 +214,8 @@ public class GetDashboardMetricsUseCaseImpl implements GetDashboardMetricsUseCas
                         if (totalCount > 0) {
                                 double successRate = (successCount * 100.0 / totalCount);
 
-                                // Get placeholder latency for channel (will be replaced with real metrics
-                                // later)
-                                Channel channel = parseChannel(channelName);
-                                long avgLatency = channel != null ? getPlaceholderLatency(channel) : 200L;
+                                long avgLatency = Math.round(
+                                                latencyHistograms.aggregate(Series.channel(channelName), from, to).meanMs());
 
                                 metrics.put(channelName, ChannelMetrics.builder()
                                                 .count(totalCount)
@@ -222,18 +228,6 @@ public class GetDashboardMetricsUseCaseImpl implements GetDashboardMetricsUseCas
                 return metrics;
         }
 
-        /**
-         * Parse channel name to Channel enum, returning null if not found.
-         */
-        private Channel parseChannel(String channelName) {
-                try {
-                        return Channel.valueOf(channelName);
-                } catch (IllegalArgumentException e) {
-                        log.warn("Unknown channel name: {}", channelName);
-                        return null;
-                }
-        }
-
         /**
          * Compute latency timeline (last 7 days)
          */
@@ -244,19 +238,37 @@ public class GetDashboardMetricsUseCaseImpl implements GetDashboardMetricsUseCas
                 LocalDate endDate = LocalDate.ofInstant(to, ZoneOffset.UTC);
 
                 for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-                        // TODO: Implement actual latency metrics from observability system
-                        // For now, using placeholders
+                        Instant dayStart = date.atStartOfDay(ZoneOffset.UTC).toInstant();
+                        Instant dayEnd = date.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+                        // Days without recorded signatures (e.g. before this instance started) report 0
+                        LatencySnapshot day = latencyHistograms.aggregate(Series.ALL_SIGNATURES, dayStart, dayEnd);
                         timeline.add(LatencyTimelinePoint.builder()
                                         .date(date.format(DATE_FORMATTER))
-                                        .p50(145 + (long) (Math.random() * 10))
-                                        .p95(410 + (long) (Math.random() * 30))
-                                        .p99(740 + (long) (Math.random() * 60))
+                                        .p50(day.p50Ms())
+                                        .p95(day.p95Ms())
+                                        .p99(day.p99Ms())
                                         .build());
                 }
 
                 return timeline;
         }
 
+        /**
+         * Compute per-minute latency for the last hour
+         */
+        private List<LatencyMinutePoint> computeLatencyLastHour() {
+                return latencyHistograms.minutes(Series.ALL_SIGNATURES).stream()
+                                .map(minute -> LatencyMinutePoint.builder()
+                                                .timestamp(minute.start())
+                                                .count(minute.count())
+                                                .p50(minute.p50Ms())
+                                                .p95(minute.p95Ms())
+                                                .p99(minute.p99Ms())
+                                                .build())
+                                .toList();
+        }
+
         /**
          * Compute error rate timeline (last 7 days)
          */
@@ -296,22 +308,10 @@ public class GetDashboardMetricsUseCaseImpl implements GetDashboardMetricsUseCas
                 return timeline;
         }
 
-        /**
-         * Placeholder latency by channel (until metrics system is integrated)
-         */
-        private long getPlaceholderLatency(Channel channel) {
-                return switch (channel) {
-                        case SMS -> 180L;
-                        case PUSH -> 120L;
-                        case VOICE -> 450L;
-                        case BIOMETRIC -> 90L;
-                };
-        }
-
         /**
          * Compute provider health status for dashboard
          */
-        private List<ProviderHealthStatus> computeProviderHealth() {
+        private List<ProviderHealthStatus> computeProviderHealth(Instant from, Instant to) {
                 var healthResponse = providerHealthService.getProvidersHealth(false);
                 List<ProviderHealthStatus> result = new ArrayList<>();
 
@@ -347,6 +347,8 @@ public class GetDashboardMetricsUseCaseImpl implements GetDashboardMetricsUseCas
                                         .status(status)
                                         .uptime(uptime)
                                         .circuitState(circuitState)
+                                        .p95Latency(latencyHistograms.aggregate(
+                                                        Series.provider(providerType), from, to).p95Ms())
                                         .build());
                 }
 
@@ -11,7 +11,10 @@ import com.singularbank.signature.routing.domain.service.ChallengeService;
 import com.singularbank.signature.routing.domain.port.outbound.PseudonymizationService;
 import com.singularbank.signature.routing.domain.service.RoutingService;
 import com.singularbank.signature.routing.domain.service.TransactionHashService;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.LatencyHistograms;
 import com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureRequestMetrics;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureStageProfiler;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureStageProfiler.Stage;
 import com.singularbank.signature.routing.infrastructure.ratelimit.CustomerRateLimitService;
 import com.singularbank.signature.routing.infrastructure.ratelimit.RateLimited;
 import com.singularbank.signature.routing.infrastructure.resilience.DegradedModeManager;
@@ -21,7 +24,7 @@ import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -34,6 +37,7 @@ import java.util.ArrayList;
  * Story 2.4: Challenge Creation & Provider Selection (integrated)
  * Story 4.3: Degraded Mode Manager (PENDING_DEGRADED status when degraded)
  * Story 9.2: Prometheus Metrics Export (@Timed annotation + SignatureRequestMetrics integration)
+ * Per-stage timings are recorded by SignatureStageProfiler (actuator: signaturestages).
  * 
  * This use case orchestrates the creation of a new signature request
  * following the hexagonal architecture pattern.
@@ -54,15 +58,20 @@ public class StartSignatureUseCaseImpl implements StartSignatureUseCase {
     private final DegradedModeManager degradedModeManager;
     private final CustomerRateLimitService customerRateLimitService;
     private final SignatureRequestMetrics signatureRequestMetrics;
+    private final LatencyHistograms latencyHistograms;
+    private final SignatureStageProfiler stageProfiler;
     private final ObservationRegistry observationRegistry;
+    private final TransactionTemplate transactionTemplate;
     
     @Override
-    @Transactional
     @RateLimited(name = "signatureCreation") // Global rate limit: 100/s (FR86)
     @Timed(value = "signature.request.create", 
            description = "Time to create signature request", 
            percentiles = {0.5, 0.95, 0.99})
     public SignatureRequest execute(CreateSignatureRequestDto request) {
+        long startNanos = System.nanoTime();
+        SignatureStageProfiler.StageTimer stages = stageProfiler.start();
+        
         // Story 9.4: Create custom observation span for signature creation
         return Observation.createNotStarted("signature.request.create", observationRegistry)
             .lowCardinalityKeyValue("customerId", request.customerId())
@@ -70,39 +79,48 @@ public class StartSignatureUseCaseImpl implements StartSignatureUseCase {
                 log.info("Starting signature request for customer: {}", request.customerId());
                 
                 // Critical Improvement #2: Customer-specific rate limit (10/min - FR85)
+                // Checked before the transaction: the shared bucket store must not take a second
+                // pool connection while this request holds one
                 customerRateLimitService.checkRateLimit(request.customerId());
+                stages.mark(Stage.RATE_LIMIT);
                 
-                // 1. Pseudonymize customer ID (HMAC-SHA256)
-                Observation.createNotStarted("signature.request.pseudonymize", observationRegistry)
-                    .observe(() -> {
-                        String pseudonymizedCustomerId = pseudonymizationService.pseudonymize(request.customerId());
-                        log.debug("Customer ID pseudonymized");
-                        return pseudonymizedCustomerId;
-                    });
-                
-                String pseudonymizedCustomerId = pseudonymizationService.pseudonymize(request.customerId());
-                
-                // 2. Map DTO to domain TransactionContext
-                TransactionContext transactionContext = mapper.toDomain(request);
-                
-                // 3. Calculate SHA-256 hash of transaction context
-                String transactionHash = transactionHashService.calculateHash(transactionContext);
-                TransactionContext contextWithHash = new TransactionContext(
-                    transactionContext.amount(),
-                    transactionContext.merchantId(),
-                    transactionContext.orderId(),
-                    transactionContext.description(),
-                    transactionHash
-                );
-                log.debug("Transaction context hash calculated: {}", transactionHash);
-                
-                // 4. Evaluate routing rules to determine optimal channel (Story 2.3)
-                RoutingService.RoutingDecision routingDecision = Observation.createNotStarted("signature.routing.evaluate", observationRegistry)
-                    .lowCardinalityKeyValue("merchantId", contextWithHash.merchantId())
-                    .observe(() -> routingService.evaluate(contextWithHash));
-                    
-                log.info("Routing evaluation completed: channel={}, defaultUsed={}", 
-                    routingDecision.selectedChannel(), routingDecision.defaultChannelUsed());
+                return transactionTemplate.execute(status -> create(request, stages, startNanos));
+            });
+    }
+    
+    private SignatureRequest create(CreateSignatureRequestDto request, SignatureStageProfiler.StageTimer stages, long startNanos) {
+        // 1. Pseudonymize customer ID (HMAC-SHA256)
+        String pseudonymizedCustomerId = Observation.createNotStarted("signature.request.pseudonymize", observationRegistry)
+            .observe(() -> {
+                String pseudonymized = pseudonymizationService.pseudonymize(request.customerId());
+                log.debug("Customer ID pseudonymized");
+                return pseudonymized;
+            });
+        stages.mark(Stage.PSEUDONYMIZE);
+        
+        // 2. Map DTO to domain TransactionContext
+        TransactionContext transactionContext = mapper.toDomain(request);
+        
+        // 3. Calculate SHA-256 hash of transaction context
+        String transactionHash = transactionHashService.calculateHash(transactionContext);
+        TransactionContext contextWithHash = new TransactionContext(
+            transactionContext.amount(),
+            transactionContext.merchantId(),
+            transactionContext.orderId(),
+            transactionContext.description(),
+            transactionHash
+        );
+        log.debug("Transaction context hash calculated: {}", transactionHash);
+        stages.mark(Stage.HASH);
+        
+        // 4. Evaluate routing rules to determine optimal channel (Story 2.3)
+        RoutingService.RoutingDecision routingDecision = Observation.createNotStarted("signature.routing.evaluate", observationRegistry)
+            .lowCardinalityKeyValue("merchantId", contextWithHash.merchantId())
+            .observe(() -> routingService.evaluate(contextWithHash));
+        stages.mark(Stage.ROUTING);
+            
+        log.info("Routing evaluation completed: channel={}, defaultUsed={}", 
+            routingDecision.selectedChannel(), routingDecision.defaultChannelUsed());
         
         // 5. Build SignatureRequest aggregate with routing timeline
         Instant now = Instant.now();
@@ -123,38 +141,41 @@ public class StartSignatureUseCaseImpl implements StartSignatureUseCase {
             .expiresAt(now.plus(DEFAULT_TTL))
             .build();
         
-                // 6. Create and send challenge for selected channel (Story 2.4, 2.5)
-                // Story 4.3: ChallengeService will skip sending if degraded mode
-                // Story 9.4: Custom span for challenge creation
-                Observation.createNotStarted("signature.challenge.create", observationRegistry)
-                    .lowCardinalityKeyValue("channel", routingDecision.selectedChannel().name())
-                    .lowCardinalityKeyValue("degradedMode", String.valueOf(degradedModeManager.isInDegradedMode()))
-                    .observe(() -> {
-                        challengeService.createChallenge(signatureRequest, routingDecision.selectedChannel(), request.phoneNumber());
-                        return null;
-                    });
-                
-                if (degradedModeManager.isInDegradedMode()) {
-                    log.warn("⚠️ Challenge created but NOT sent (degraded mode): id={}, channel={}", 
-                        signatureRequest.getId(), routingDecision.selectedChannel());
-                } else {
-                    log.info("Challenge created and sent for channel: {}", routingDecision.selectedChannel());
-                }
-                
-                // 7. Persist signature request (with challenge)
-                SignatureRequest savedRequest = repository.save(signatureRequest);
-                
-                // Story 9.2: Record signature request created metric
-                signatureRequestMetrics.recordCreated(savedRequest);
-                
-                log.info("Signature request created successfully: id={}, channel={}, challenges={}, expiresAt={}", 
-                    savedRequest.getId(), 
-                    routingDecision.selectedChannel(), 
-                    savedRequest.getChallenges().size(),
-                    savedRequest.getExpiresAt());
-                
-                return savedRequest;
+        // 6. Create and send challenge for selected channel (Story 2.4, 2.5)
+        // Story 4.3: ChallengeService will skip sending if degraded mode
+        // Story 9.4: Custom span for challenge creation
+        Observation.createNotStarted("signature.challenge.create", observationRegistry)
+            .lowCardinalityKeyValue("channel", routingDecision.selectedChannel().name())
+            .lowCardinalityKeyValue("degradedMode", String.valueOf(degradedModeManager.isInDegradedMode()))
+            .observe(() -> {
+                challengeService.createChallenge(signatureRequest, routingDecision.selectedChannel(), request.phoneNumber());
+                return null;
             });
+        stages.mark(Stage.CHALLENGE);
+        
+        if (degradedModeManager.isInDegradedMode()) {
+            log.warn("⚠️ Challenge created but NOT sent (degraded mode): id={}, channel={}", 
+                signatureRequest.getId(), routingDecision.selectedChannel());
+        } else {
+            log.info("Challenge created and sent for channel: {}", routingDecision.selectedChannel());
+        }
+        
+        // 7. Persist signature request (with challenge)
+        SignatureRequest savedRequest = repository.save(signatureRequest);
+        stages.mark(Stage.PERSIST);
+        
+        // Story 9.2: Record signature request created metric
+        signatureRequestMetrics.recordCreated(savedRequest);
+        latencyHistograms.recordSignature(routingDecision.selectedChannel().name(),
+            Duration.ofNanos(System.nanoTime() - startNanos));
+        stages.complete(routingDecision.selectedChannel().name());
+        
+        log.info("Signature request created successfully: id={}, channel={}, challenges={}, expiresAt={}", 
+            savedRequest.getId(), 
+            routingDecision.selectedChannel(), 
+            savedRequest.getChallenges().size(),
+            savedRequest.getExpiresAt());
+        
+        return savedRequest;
     }
 }
-
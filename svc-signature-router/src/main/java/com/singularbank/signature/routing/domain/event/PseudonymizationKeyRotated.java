@@ -0,0 +1,26 @@
+package com.singularbank.signature.routing.domain.event;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Event published when a new pseudonymization key has been written to Vault.
+ *
+ * <p>Published by {@code VaultSecretRotationServiceImpl} after the rotation. Consumed by
+ * {@code PseudonymizationKeyHolder}, which reloads the keys so this node pseudonymizes with the
+ * new key at once (other replicas pick it up on their periodic refresh).
+ */
+@Value
+public class PseudonymizationKeyRotated {
+
+    /**
+     * Version of the new key.
+     */
+    int version;
+
+    /**
+     * Timestamp when the key was rotated.
+     */
+    Instant timestamp;
+}
@@ -78,11 +78,46 @@ public class SignatureRequest {
         // Create new challenge with PENDING status
         // Story 2.4: Challenge created in PENDING state, will transition to SENT after provider call
         // Story 2.5: Generate OTP code for challenge
+        return addChallenge(channel, provider, "CHALLENGE_CREATED",
+            String.format("Challenge created for channel %s using provider %s", channel, provider));
+    }
+    
+    /**
+     * Create a fallback challenge that runs concurrently with an active primary challenge
+     * (speculative fallback when the primary provider is known to be unhealthy).
+     * 
+     * <p><b>Business Rule:</b> The only active (PENDING or SENT) challenge must be {@code primary}.
+     * The caller must leave exactly one of the two active afterwards, superseding or failing the other.</p>
+     * 
+     * @param primary The active primary challenge being raced
+     * @param channel Fallback delivery channel
+     * @param provider Fallback provider
+     * @return Created SignatureChallenge
+     * @throws ChallengeAlreadyActiveException if another challenge than {@code primary} is active
+     */
+    public SignatureChallenge createSpeculativeChallenge(SignatureChallenge primary, ChannelType channel, ProviderType provider) {
+        boolean otherActiveChallenge = challenges.stream()
+            .filter(c -> c != primary)
+            .anyMatch(c -> c.getStatus() == ChallengeStatus.PENDING || 
+                          c.getStatus() == ChallengeStatus.SENT);
+        boolean primaryActive = primary.getStatus() == ChallengeStatus.PENDING
+            || primary.getStatus() == ChallengeStatus.SENT;
+        
+        if (otherActiveChallenge || !primaryActive || !this.challenges.contains(primary)) {
+            throw new ChallengeAlreadyActiveException(this.id);
+        }
+        
+        return addChallenge(channel, provider, "SPECULATIVE_CHALLENGE_CREATED",
+            String.format("Speculative challenge created for channel %s using provider %s (racing %s)",
+                channel, provider, primary.getChannelType()));
+    }
+    
+    private SignatureChallenge addChallenge(ChannelType channel, ProviderType provider, String eventType, String detail) {
         SignatureChallenge challenge = SignatureChallenge.builder()
             .id(UUIDGenerator.generateV7())
             .channelType(channel)
             .provider(provider)
-            .status(ChallengeStatus.PENDING)  // Changed from SENT to PENDING
+            .status(ChallengeStatus.PENDING)
             .challengeCode(com.singularbank.signature.routing.domain.util.OtpGenerator.generate())
             .createdAt(Instant.now())
             .expiresAt(this.expiresAt)  // Inherit TTL from SignatureRequest
@@ -94,10 +129,10 @@ public class SignatureRequest {
         // Add audit event to routing timeline
         this.routingTimeline.add(new RoutingEvent(
             Instant.now(),
-            "CHALLENGE_CREATED",
+            eventType,
             null,
             channel,
-            String.format("Challenge created for channel %s using provider %s", channel, provider)
+            detail
         ));
         
         return challenge;
@@ -38,6 +38,13 @@ public class IdempotencyRecord {
      */
     String requestHash;
     
+    /**
+     * Processing state. IN_PROGRESS records reserve the key while the first request executes
+     * (no status code or body yet); COMPLETED records hold the response to replay.
+     */
+    @Builder.Default
+    State state = State.COMPLETED;
+    
     /**
      * HTTP status code of the original response.
      * Used to replay the same status code on duplicate requests.
@@ -56,7 +63,7 @@ public class IdempotencyRecord {
     Instant createdAt;
     
     /**
-     * Timestamp when the record expires (TTL: 24 hours).
+     * Timestamp when the record expires (TTL: 24 hours; reservations expire sooner).
      * After this time, the record can be deleted and the key can be reused.
      */
     Instant expiresAt;
@@ -71,6 +78,15 @@ public class IdempotencyRecord {
         return expiresAt.isBefore(now);
     }
     
+    /**
+     * Checks if the key is reserved by a request that has not finished yet.
+     * 
+     * @return true if state is IN_PROGRESS
+     */
+    public boolean isInProgress() {
+        return state == State.IN_PROGRESS;
+    }
+    
     /**
      * Checks if the request hash matches.
      * 
@@ -80,5 +96,12 @@ public class IdempotencyRecord {
     public boolean matchesRequestHash(String hash) {
         return requestHash.equals(hash);
     }
+    
+    /**
+     * Processing state of an idempotency key.
+     */
+    public enum State {
+        IN_PROGRESS,
+        COMPLETED
+    }
 }
-
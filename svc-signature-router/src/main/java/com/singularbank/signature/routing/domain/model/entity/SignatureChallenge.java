@@ -139,6 +139,27 @@ public class SignatureChallenge {
         this.errorCode = "TTL_EXCEEDED";
     }
     
+    /**
+     * Supersedes the challenge after a concurrent challenge on another channel was sent first
+     * (speculative fallback).
+     * 
+     * <p><b>Business Rule:</b> Challenge must be in PENDING or SENT status.</p>
+     * 
+     * @throws InvalidStateTransitionException if challenge not in PENDING or SENT status
+     */
+    public void supersede() {
+        if (this.status != ChallengeStatus.PENDING && this.status != ChallengeStatus.SENT) {
+            throw new InvalidStateTransitionException(
+                "Cannot supersede challenge, status is not PENDING or SENT",
+                null,
+                null
+            );
+        }
+        
+        this.status = ChallengeStatus.SUPERSEDED;
+        this.errorCode = "SUPERSEDED";
+    }
+    
     /**
      * Checks if the challenge has expired.
      * Story 2.9: Challenge Expiration Background Job
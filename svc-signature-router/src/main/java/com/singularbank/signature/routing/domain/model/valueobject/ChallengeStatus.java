@@ -19,7 +19,10 @@ public enum ChallengeStatus {
     FAILED,
     
     /** Challenge expired (TTL exceeded before completion). */
-    EXPIRED
+    EXPIRED,
+    
+    /** Challenge lost a speculative fallback race (another channel was delivered first). */
+    SUPERSEDED
 }
 
 
@@ -36,6 +36,13 @@ public interface AuditLogRepository {
      */
     AuditLog save(AuditLog auditLog);
     
+    /**
+     * Insert audit log entries in one batch and one transaction.
+     * 
+     * @param auditLogs the audit logs to insert (ids already assigned)
+     */
+    void saveAll(List<AuditLog> auditLogs);
+    
     /**
      * Find audit log by ID.
      * 
@@ -42,6 +42,28 @@ public interface IdempotencyRepository {
      */
     IdempotencyRecord save(IdempotencyRecord record);
     
+    /**
+     * Reserve an idempotency key for a request that is about to execute.
+     * 
+     * <p>Atomically creates an IN_PROGRESS record, or takes over an expired record.
+     * Exactly one caller across all nodes gets true for a live key.</p>
+     * 
+     * @param idempotencyKey Idempotency key to reserve
+     * @param requestHash SHA-256 hash of the request body
+     * @param expiresAt When the reservation lapses if the request never completes
+     * @return true if the key was reserved, false if a live record already exists
+     */
+    boolean reserve(String idempotencyKey, String requestHash, Instant expiresAt);
+    
+    /**
+     * Release a reservation whose request did not complete successfully.
+     * 
+     * <p>Only IN_PROGRESS records are deleted; completed records are kept.</p>
+     * 
+     * @param idempotencyKey Idempotency key to release
+     */
+    void release(String idempotencyKey);
+    
     /**
      * Delete expired idempotency records.
      * 
@@ -54,6 +76,26 @@ public interface IdempotencyRepository {
      */
     int deleteExpired(Instant cutoffTime);
     
+    /**
+     * Delete one bounded chunk of expired idempotency records.
+     * 
+     * <p>Rows locked by a concurrent cleanup (another node) are skipped, so several
+     * nodes can run cleanup at once without blocking each other.</p>
+     * 
+     * @param cutoffTime Records with expiresAt before this time are eligible
+     * @param batchSize Maximum number of records to delete
+     * @return Number of deleted records (less than batchSize when the backlog is drained)
+     */
+    int deleteExpiredBatch(Instant cutoffTime, int batchSize);
+    
+    /**
+     * Count expired idempotency records (cleanup backlog).
+     * 
+     * @param cutoffTime Records with expiresAt before this time are counted
+     * @return Number of expired records
+     */
+    long countExpired(Instant cutoffTime);
+    
     /**
      * Delete idempotency record by ID.
      * 
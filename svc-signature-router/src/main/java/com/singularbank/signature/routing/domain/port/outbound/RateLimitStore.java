@@ -0,0 +1,39 @@
+package com.singularbank.signature.routing.domain.port.outbound;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Domain port for token buckets shared by all replicas (distributed rate limiting).
+ * 
+ * <p>Each bucket holds up to {@code capacity} permits and refills continuously at
+ * {@code capacity / refillPeriod}. Callers take permits in batches (leases) and spend them
+ * locally, so the store is only hit when a node's lease runs out.</p>
+ * 
+ * <p><b>Hexagonal Architecture:</b> Implemented by PostgresRateLimitStoreAdapter
+ * ({@code rate_limit_bucket} table). A shared cache (e.g. Redis) can replace it by providing
+ * another implementation and setting {@code rate-limit.distributed.store}.</p>
+ */
+public interface RateLimitStore {
+    
+    /**
+     * Atomically refill a bucket and take up to {@code requested} permits from it.
+     * 
+     * <p>A bucket that does not exist yet is created full.</p>
+     * 
+     * @param bucketKey Bucket key (e.g. "global:signatureCreation", "customer:{id}")
+     * @param requested Permits wanted (lease size)
+     * @param capacity Bucket capacity (limit for period)
+     * @param refillPeriod Time to refill an empty bucket completely
+     * @return Permits granted (0 to requested)
+     */
+    long acquire(String bucketKey, int requested, int capacity, Duration refillPeriod);
+    
+    /**
+     * Delete buckets not used since {@code idleSince} (they are full, so equivalent to absent).
+     * 
+     * @param idleSince Buckets last refilled before this instant are deleted
+     * @return Number of deleted buckets
+     */
+    int purgeIdle(Instant idleSince);
+}
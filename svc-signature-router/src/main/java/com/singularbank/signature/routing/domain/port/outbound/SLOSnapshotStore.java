@@ -0,0 +1,41 @@
+package com.singularbank.signature.routing.domain.port.outbound;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Domain port for persisting the in-process SLO counters across restarts.
+ *
+ * <p>Each instance keeps one snapshot (an opaque, compressed encoding of its counter rings),
+ * overwritten periodically and read back on startup.</p>
+ *
+ * <p><b>Hexagonal Architecture:</b> Implemented by PostgresSLOSnapshotStoreAdapter
+ * ({@code slo_snapshot} table).</p>
+ */
+public interface SLOSnapshotStore {
+
+    /**
+     * Load the last snapshot written by an instance.
+     *
+     * @param instanceId Instance identifier
+     * @return Snapshot bytes, empty if the instance never saved one
+     */
+    Optional<byte[]> load(String instanceId);
+
+    /**
+     * Insert or replace the snapshot of an instance.
+     *
+     * @param instanceId Instance identifier
+     * @param snapshot Snapshot bytes
+     * @param takenAt When the snapshot was taken
+     */
+    void save(String instanceId, byte[] snapshot, Instant takenAt);
+
+    /**
+     * Delete snapshots not refreshed since {@code takenBefore} (instances that are gone).
+     *
+     * @param takenBefore Snapshots taken before this instant are deleted
+     * @return Number of deleted snapshots
+     */
+    int purgeOlderThan(Instant takenBefore);
+}
@@ -0,0 +1,216 @@
+package com.singularbank.signature.routing.infrastructure.actuator;
+
+import com.singularbank.signature.routing.infrastructure.observability.jfr.AggregatePersistEvent;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.OutboxWriteEvent;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.ProviderCallEvent;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.RateLimitDecisionEvent;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.RoutingEvaluatedEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Spring Boot Actuator endpoint to take a bounded JDK Flight Recorder recording.
+ *
+ * <p>Records the JDK events of the chosen settings ({@code default}: ~1% overhead, or
+ * {@code profile}) plus the signature router events (routing, provider calls, aggregate
+ * persistence, outbox writes, rate limit decisions), tagged with the signature request id where
+ * known and the HTTP trace id. This correlates GC pauses, lock contention and I/O with specific
+ * signature requests.
+ *
+ * <p>Exposed in the DEV profile only, to the PRF_ADMIN role (SecurityConfig).
+ *
+ * <p>A recording is bounded in time ({@code observability.jfr.max-duration}, it stops on its
+ * own) and in size ({@code observability.jfr.max-size}, oldest chunks are dropped). Only one
+ * recording runs at a time.
+ *
+ * <ul>
+ * <li>{@code GET /actuator/jfr}: state of the current recording</li>
+ * <li>{@code POST /actuator/jfr} {@code {"duration": "PT2M", "settings": "profile"}}: start</li>
+ * <li>{@code GET /actuator/jfr/dump}: download the recording ({@code .jfr}, open with JDK Mission
+ *     Control or {@code jfr print}); works while running and after it stopped</li>
+ * <li>{@code DELETE /actuator/jfr}: stop and discard</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    static final String RECORDING_NAME = "signature-router";
+    static final int STATUS_CONFLICT = 409;
+
+    private static final List<Class<? extends Event>> ROUTER_EVENTS = List.of(
+        RoutingEvaluatedEvent.class,
+        ProviderCallEvent.class,
+        AggregatePersistEvent.class,
+        OutboxWriteEvent.class,
+        RateLimitDecisionEvent.class
+    );
+
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private Recording recording;
+
+    public FlightRecorderEndpoint(
+        @Value("${observability.jfr.max-duration:10m}") Duration maxDuration,
+        @Value("${observability.jfr.max-size:100MB}") DataSize maxSize
+    ) {
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+    }
+
+    @ReadOperation
+    public synchronized RecordingStatus status() {
+        return RecordingStatus.of(recording);
+    }
+
+    /**
+     * Start a recording, replacing a stopped one.
+     *
+     * @param duration recording length (capped at {@code observability.jfr.max-duration})
+     * @param settings JFR settings: {@code default} or {@code profile}
+     * @return the new recording, or 409 if one is still running
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<RecordingStatus> start(@Nullable Duration duration, @Nullable String settings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(RecordingStatus.of(recording), STATUS_CONFLICT);
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings != null ? settings : "default");
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        discard();
+
+        Duration length = duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        Recording started = new Recording(configuration);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setDuration(length);
+        started.setMaxSize(maxSize.toBytes());
+        started.setMaxAge(length);
+        for (Class<? extends Event> eventType : ROUTER_EVENTS) {
+            started.enable(eventType).withoutThreshold();
+        }
+        started.start();
+        recording = started;
+
+        log.info("JFR recording started: settings={}, duration={}, maxSize={}", configuration.getName(), length, maxSize);
+        return new WebEndpointResponse<>(RecordingStatus.of(recording));
+    }
+
+    /**
+     * Download the recording.
+     *
+     * @param dump must be {@code dump}
+     * @return the {@code .jfr} file, or 404 if there is no recording
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump(@Selector String dump) {
+        if (!"dump".equals(dump) || recording == null || recording.getState() == RecordingState.NEW) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            recording.dump(file);
+            log.info("JFR recording dumped: {} bytes", Files.size(file));
+            return new WebEndpointResponse<>(new TemporaryFileResource(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dump JFR recording", e);
+        }
+    }
+
+    /**
+     * Stop and discard the recording.
+     */
+    @DeleteOperation
+    public synchronized RecordingStatus stop() {
+        discard();
+        return RecordingStatus.of(null);
+    }
+
+    private void discard() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            log.info("JFR recording discarded");
+        }
+    }
+
+    /**
+     * @param state     NONE, RUNNING or STOPPED
+     * @param name      recording name
+     * @param startTime when recording started
+     * @param duration  configured length
+     * @param maxSize   size bound in bytes
+     * @param size      bytes written so far
+     */
+    public record RecordingStatus(String state, String name, Instant startTime, Duration duration, long maxSize, long size) {
+
+        static RecordingStatus of(Recording recording) {
+            if (recording == null) {
+                return new RecordingStatus("NONE", null, null, null, 0, 0);
+            }
+            return new RecordingStatus(recording.getState().name(), recording.getName(), recording.getStartTime(),
+                recording.getDuration(), recording.getMaxSize(), recording.getSize());
+        }
+    }
+
+    /**
+     * Dump file deleted once the response has been written.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            // Streamed through getInputStream, so the file is deleted after the write
+            return false;
+        }
+    }
+}
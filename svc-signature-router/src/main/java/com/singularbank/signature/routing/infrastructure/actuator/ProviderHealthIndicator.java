@@ -1,14 +1,15 @@
 package com.singularbank.signature.routing.infrastructure.actuator;
 
-import io.micrometer.core.instrument.Gauge;
-import io.micrometer.core.instrument.MeterRegistry;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderCallWindow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.actuate.health.Status;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -16,6 +17,10 @@ import java.util.Map;
  * Spring Boot Actuator health indicator for provider error rates.
  * 
  * <p>Exposes provider error rate status at /actuator/health/providers endpoint.
+ * Status is decided on the last minute of calls ({@link ProviderCallWindow}); the 10s and
+ * 5m error rates and the 1m request rate are reported alongside. Windows with fewer than
+ * {@code resilience.error-rate.minimum-calls} calls report 0.0, so one failed call on an idle
+ * provider does not turn the provider DOWN.
  * 
  * <p><strong>Health Status:</strong>
  * <ul>
@@ -35,6 +40,10 @@ import java.util.Map;
  *         "SMS": {
  *           "errorRate": 0.35,
  *           "errorRatePercentage": "35.00%",
+ *           "errorRate10s": 0.60,
+ *           "errorRate5m": 0.12,
+ *           "requestsPerSecond": 4.2,
+ *           "calls": 252,
  *           "status": "WARNING"
  *         },
  *         "PUSH": {
@@ -66,10 +75,14 @@ import java.util.Map;
 @Slf4j
 public class ProviderHealthIndicator implements HealthIndicator {
     
-    private final MeterRegistry meterRegistry;
+    private final ProviderCallWindow providerCallWindow;
     
     private static final String[] PROVIDER_TYPES = {"SMS", "PUSH", "VOICE", "BIOMETRIC"};
     
+    private static final Duration SHORT_WINDOW = Duration.ofSeconds(10);
+    private static final Duration STATUS_WINDOW = Duration.ofMinutes(1);
+    private static final Duration LONG_WINDOW = Duration.ofMinutes(5);
+    
     // Error rate thresholds
     private static final double WARNING_THRESHOLD = 0.25;  // 25%
     private static final double CRITICAL_THRESHOLD = 0.50;  // 50%
@@ -77,6 +90,9 @@ public class ProviderHealthIndicator implements HealthIndicator {
     // Custom health status
     private static final Status WARNING = new Status("WARNING");
     
+    @Value("${resilience.error-rate.minimum-calls:10}")
+    private long minimumCalls = 10;
+    
     @Override
     public Health health() {
         Map<String, Object> details = new HashMap<>();
@@ -84,12 +100,8 @@ public class ProviderHealthIndicator implements HealthIndicator {
         
         for (String provider : PROVIDER_TYPES) {
             try {
-                // Query provider.error.rate gauge
-                Gauge errorRateGauge = meterRegistry.find("provider.error.rate")
-                    .tag("provider", provider)
-                    .gauge();
-                
-                double errorRate = (errorRateGauge != null) ? errorRateGauge.value() : 0.0;
+                ProviderCallWindow.WindowStats stats = providerCallWindow.stats(provider, STATUS_WINDOW);
+                double errorRate = stats.errorRate(minimumCalls);
                 
                 // Determine provider status
                 Status providerStatus = determineStatus(errorRate);
@@ -98,6 +110,10 @@ public class ProviderHealthIndicator implements HealthIndicator {
                 Map<String, Object> providerDetails = new HashMap<>();
                 providerDetails.put("errorRate", errorRate);
                 providerDetails.put("errorRatePercentage", String.format("%.2f%%", errorRate * 100));
+                providerDetails.put("errorRate10s", providerCallWindow.stats(provider, SHORT_WINDOW).errorRate(minimumCalls));
+                providerDetails.put("errorRate5m", providerCallWindow.stats(provider, LONG_WINDOW).errorRate(minimumCalls));
+                providerDetails.put("calls", stats.calls());
+                providerDetails.put("requestsPerSecond", stats.requestRate());
                 providerDetails.put("status", providerStatus.getCode());
                 
                 details.put(provider, providerDetails);
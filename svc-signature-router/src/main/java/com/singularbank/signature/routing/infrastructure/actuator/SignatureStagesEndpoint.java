@@ -0,0 +1,63 @@
+package com.singularbank.signature.routing.infrastructure.actuator;
+
+import com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureStageProfiler;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureStageProfiler.Stage;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureStageProfiler.StageSample;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureStageProfiler.StageStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spring Boot Actuator endpoint for the per-stage latency breakdown of signature creation.
+ *
+ * <p>Exposed at /actuator/signaturestages. Reports, for each stage of StartSignatureUseCaseImpl,
+ * the percentiles over the last few minutes ({@link SignatureStageProfiler}), the stage with the
+ * highest p99 and the sampled per-request breakdowns.
+ *
+ * <p><strong>Example Response:</strong>
+ * <pre>
+ * {
+ *   "dominantP99Stage": "CHALLENGE",
+ *   "stages": {
+ *     "RATE_LIMIT":   { "count": 1200, "meanMicros": 85.2, "p50Micros": 70, "p95Micros": 150, "p99Micros": 310, "maxMicros": 900 },
+ *     "PSEUDONYMIZE": { "count": 1200, "meanMicros": 12.4, "p50Micros": 11, "p95Micros": 20, "p99Micros": 41, "maxMicros": 120 },
+ *     ...
+ *     "CHALLENGE":    { "count": 1200, "meanMicros": 98000.0, "p50Micros": 85000, "p95Micros": 190000, "p99Micros": 420000, "maxMicros": 1200000 }
+ *   },
+ *   "samples": [
+ *     { "completedAt": "2025-11-24T10:15:03Z", "channel": "SMS", "stageMicros": { ... }, "totalMicros": 131000 }
+ *   ]
+ * }
+ * </pre>
+ */
+@Component
+@Endpoint(id = "signaturestages")
+@RequiredArgsConstructor
+public class SignatureStagesEndpoint {
+
+    private final SignatureStageProfiler stageProfiler;
+
+    @ReadOperation
+    public StagesReport stages() {
+        Map<Stage, StageStats> stages = stageProfiler.percentiles();
+        Stage dominant = stages.entrySet().stream()
+            .filter(entry -> entry.getValue().count() > 0)
+            .max(Comparator.comparingLong(entry -> entry.getValue().p99Micros()))
+            .map(Map.Entry::getKey)
+            .orElse(null);
+        return new StagesReport(dominant, stages, stageProfiler.samples());
+    }
+
+    /**
+     * @param dominantP99Stage stage with the highest p99 (null until a request completes)
+     * @param stages           per-stage percentiles
+     * @param samples          sampled per-request breakdowns, oldest first
+     */
+    public record StagesReport(Stage dominantP99Stage, Map<Stage, StageStats> stages, List<StageSample> samples) {}
+}
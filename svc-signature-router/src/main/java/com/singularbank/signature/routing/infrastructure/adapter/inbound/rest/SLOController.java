@@ -2,6 +2,7 @@ package com.singularbank.signature.routing.infrastructure.adapter.inbound.rest;
 
 import com.singularbank.signature.routing.application.dto.SLOReportDTO;
 import com.singularbank.signature.routing.infrastructure.observability.slo.SLOCalculator;
+import com.singularbank.signature.routing.infrastructure.observability.slo.SLOEngine;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,9 @@ import java.time.YearMonth;
  * Endpoints:
  * - GET /api/v1/slo/status - Monthly SLO status
  * - GET /api/v1/slo/status/weekly - Weekly SLO status
+ * - GET /api/v1/slo/burn-rate - Multi-window burn rates and alerts
+ * 
+ * Served from the in-process {@link SLOEngine}, no Prometheus round trip.
  * 
  * @author BMAD DevOps
  * @since Story 9.6
@@ -35,6 +39,7 @@ import java.time.YearMonth;
 public class SLOController {
     
     private final SLOCalculator sloCalculator;
+    private final SLOEngine sloEngine;
     
     /**
      * Get current monthly SLO status.
@@ -85,5 +90,23 @@ public class SLOController {
         
         return ResponseEntity.ok(report);
     }
+    
+    /**
+     * Get current error budget burn rates.
+     * 
+     * Returns availability and latency burn rates over 5m, 30m, 1h, 6h, 3d and 30d windows,
+     * the 30-day error budget remaining and the multi-window alert rules (re-evaluated every 10s).
+     * 
+     * @return Burn rate report
+     */
+    @GetMapping("/burn-rate")
+    @Operation(
+        summary = "Get current error budget burn rates",
+        description = "Returns multi-window burn rates, 30-day error budget remaining and alert status"
+    )
+    public ResponseEntity<SLOEngine.BurnRateReport> getBurnRates() {
+        log.info("GET /api/v1/slo/burn-rate - Fetching burn rates");
+        
+        return ResponseEntity.ok(sloEngine.burnRates());
+    }
 }
-
@@ -0,0 +1,45 @@
+package com.singularbank.signature.routing.infrastructure.adapter.inbound.rest.admin;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.singularbank.signature.routing.infrastructure.observability.metrics.MetricCardinalityGovernor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Metric Cardinality REST Controller.
+ *
+ * Endpoints:
+ * - GET /api/v1/admin/metrics/cardinality - Metrics nearest their cardinality budget
+ */
+@RestController
+@RequestMapping("/api/v1/admin/metrics/cardinality")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Metrics Cardinality", description = "Series count per metric and heavy hitters of governed tags")
+public class MetricsCardinalityController {
+
+    private final MetricCardinalityGovernor metricCardinalityGovernor;
+    private final MeterRegistry meterRegistry;
+
+    @GetMapping
+    @PreAuthorize("hasRole('PRF_ADMIN') or hasRole('PRF_CONSULTIVO')")
+    @Operation(summary = "Get metric cardinality", description = "Metrics sorted by budget utilization, with collapsed lookups and heavy hitters per governed tag")
+    public ResponseEntity<List<MetricCardinalityGovernor.MetricCardinality>> getCardinality(
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("GET /api/v1/admin/metrics/cardinality?limit={}", limit);
+
+        return ResponseEntity.ok(metricCardinalityGovernor.report(meterRegistry, Math.max(limit, 1)));
+    }
+}
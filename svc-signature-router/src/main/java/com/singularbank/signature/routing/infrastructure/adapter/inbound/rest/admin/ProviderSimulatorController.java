@@ -0,0 +1,97 @@
+package com.singularbank.signature.routing.infrastructure.adapter.inbound.rest.admin;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.provider.simulator.ProviderSimulator;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.provider.simulator.ProviderSimulatorConfig;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Provider Simulator REST Controller (local load and chaos testing).
+ *
+ * Only registered when providers.simulator.enabled=true.
+ *
+ * Endpoints:
+ * - GET /api/v1/admin/simulator - State of every simulated provider
+ * - GET /api/v1/admin/simulator/scenarios - Configured outage scenarios
+ * - PUT /api/v1/admin/simulator/{providerType}/profile - Replace a provider's profile
+ * - POST /api/v1/admin/simulator/{providerType}/scenario/{scenarioName} - Start an outage scenario
+ * - DELETE /api/v1/admin/simulator/{providerType}/scenario - Stop the running scenario
+ */
+@RestController
+@RequestMapping("/api/v1/admin/simulator")
+@ConditionalOnProperty(prefix = "providers.simulator", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Provider Simulator", description = "Simulated providers for load and chaos testing")
+public class ProviderSimulatorController {
+
+    private final ProviderSimulator providerSimulator;
+
+    @GetMapping
+    @PreAuthorize("hasRole('PRF_ADMIN') or hasRole('PRF_CONSULTIVO')")
+    @Operation(summary = "Get simulator state", description = "Profile, running scenario and effective rates per provider type")
+    public ResponseEntity<List<ProviderSimulator.SimulatorState>> getState() {
+        log.info("GET /api/v1/admin/simulator");
+
+        return ResponseEntity.ok(providerSimulator.getState());
+    }
+
+    @GetMapping("/scenarios")
+    @PreAuthorize("hasRole('PRF_ADMIN') or hasRole('PRF_CONSULTIVO')")
+    @Operation(summary = "List scenarios", description = "Outage scenarios configured under providers.simulator.scenarios")
+    public ResponseEntity<List<String>> getScenarios() {
+        log.info("GET /api/v1/admin/simulator/scenarios");
+
+        return ResponseEntity.ok(providerSimulator.getScenarioNames());
+    }
+
+    @PutMapping("/{providerType}/profile")
+    @PreAuthorize("hasRole('PRF_ADMIN')")
+    @Operation(summary = "Update profile", description = "Replace latency distribution, error/timeout rates and throughput cap of a simulated provider")
+    public ResponseEntity<ProviderSimulator.SimulatorState> updateProfile(
+            @PathVariable ProviderType providerType,
+            @Valid @RequestBody ProviderSimulatorConfig.Profile profile) {
+        log.info("PUT /api/v1/admin/simulator/{}/profile", providerType);
+
+        return ResponseEntity.ok(providerSimulator.updateProfile(providerType, profile));
+    }
+
+    @PostMapping("/{providerType}/scenario/{scenarioName}")
+    @PreAuthorize("hasRole('PRF_ADMIN')")
+    @Operation(summary = "Start scenario", description = "Run a scripted outage scenario on a simulated provider")
+    public ResponseEntity<ProviderSimulator.SimulatorState> startScenario(
+            @PathVariable ProviderType providerType,
+            @PathVariable String scenarioName) {
+        log.info("POST /api/v1/admin/simulator/{}/scenario/{}", providerType, scenarioName);
+
+        return ResponseEntity.ok(providerSimulator.startScenario(providerType, scenarioName));
+    }
+
+    @DeleteMapping("/{providerType}/scenario")
+    @PreAuthorize("hasRole('PRF_ADMIN')")
+    @Operation(summary = "Stop scenario", description = "Stop the running scenario and return to the steady-state profile")
+    public ResponseEntity<ProviderSimulator.SimulatorState> stopScenario(@PathVariable ProviderType providerType) {
+        log.info("DELETE /api/v1/admin/simulator/{}/scenario", providerType);
+
+        return ResponseEntity.ok(providerSimulator.stopScenario(providerType));
+    }
+}
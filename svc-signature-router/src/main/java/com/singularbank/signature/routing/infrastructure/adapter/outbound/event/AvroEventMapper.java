@@ -1,7 +1,9 @@
 package com.singularbank.signature.routing.infrastructure.adapter.outbound.event;
 
 import java.time.Instant;
+import java.util.List;
 
+import org.apache.avro.Schema;
 import org.springframework.stereotype.Component;
 
 import com.singularbank.signature.routing.domain.event.DomainEvent;
@@ -27,6 +29,19 @@ import com.singularbank.signature.routing.events.avro.SignatureCompletedPayload;
 @Component
 public class AvroEventMapper {
 
+    /**
+     * Schemas of every Avro record {@link #toAvro(DomainEvent)} can return.
+     *
+     * @return record schemas, registered ahead of use by {@link SchemaRegistrySchemaIdResolver}
+     */
+    public List<Schema> schemas() {
+        return List.of(
+                com.singularbank.signature.routing.events.avro.SignatureCompletedEvent.getClassSchema(),
+                com.singularbank.signature.routing.events.avro.SignatureAbortedEvent.getClassSchema(),
+                com.singularbank.signature.routing.events.avro.CircuitBreakerOpenedEvent.getClassSchema(),
+                com.singularbank.signature.routing.events.avro.CircuitBreakerClosedEvent.getClassSchema());
+    }
+
     /**
      * Maps a generic DomainEvent to its corresponding Avro-generated DTO.
      *
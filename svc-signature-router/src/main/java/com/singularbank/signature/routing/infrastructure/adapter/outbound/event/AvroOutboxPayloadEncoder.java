@@ -0,0 +1,134 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.event;
+
+import com.singularbank.signature.routing.domain.event.DomainEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodes domain events as Confluent-framed Avro for the outbox.
+ * 
+ * <p>Wire format (what KafkaAvroSerializer produces, so the bytes are forwarded unchanged):</p>
+ * <pre>
+ * byte 0      magic byte 0x00
+ * bytes 1-4   schema id (big-endian int)
+ * bytes 5-    Avro binary encoding of the record
+ * </pre>
+ * 
+ * <p>Records come from {@link AvroEventMapper}. Event types without an Avro mapping, and
+ * events whose schema is not registered yet (registry down at startup, registration retried in
+ * the background by {@link SchemaRegistrySchemaIdResolver}), return empty and are stored as JSON.
+ * Encoding never calls the registry, so the business transaction never waits on it.</p>
+ * 
+ * <p><strong>Relay:</strong> avro mode requires the in-process {@link OutboxRelay}
+ * ({@code outbox.relay.enabled=true}) and refuses to start without it. Rows of one table then
+ * carry their payload in either {@code payload} (JSON fallback) or {@code payload_avro}; the relay
+ * reads {@code payload_format} per row. The Debezium EventRouter in
+ * {@code debezium/connector-config.json} routes a single payload column through one converter,
+ * so it would emit empty events for every Avro row (or every JSON fallback row, if pointed at
+ * {@code payload_avro}). Stop the connector before switching to avro.</p>
+ * 
+ * <p><strong>Metrics Exported:</strong></p>
+ * <pre>
+ * outbox.avro.fallback{reason}   (counter: unmapped, registry)
+ * </pre>
+ * 
+ * @see SchemaRegistrySchemaIdResolver
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox", name = "payload-format", havingValue = "avro")
+@Slf4j
+public class AvroOutboxPayloadEncoder {
+    
+    private static final byte MAGIC_BYTE = 0x0;
+    private static final ThreadLocal<BinaryEncoder> ENCODER = new ThreadLocal<>();
+    
+    private final AvroEventMapper avroEventMapper;
+    private final SchemaRegistrySchemaIdResolver schemaIdResolver;
+    private final MeterRegistry meterRegistry;
+    private final Set<Class<?>> unmappedTypes = ConcurrentHashMap.newKeySet();
+    private final Map<Schema, DatumWriter<SpecificRecord>> writers = new ConcurrentHashMap<>();
+    
+    public AvroOutboxPayloadEncoder(
+        AvroEventMapper avroEventMapper,
+        SchemaRegistrySchemaIdResolver schemaIdResolver,
+        MeterRegistry meterRegistry,
+        OutboxRelayConfig relayConfig
+    ) {
+        if (!relayConfig.isEnabled()) {
+            throw new IllegalStateException("outbox.payload-format=avro requires outbox.relay.enabled=true: "
+                + "the Debezium connector relays only the JSON payload column");
+        }
+        this.avroEventMapper = avroEventMapper;
+        this.schemaIdResolver = schemaIdResolver;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * Encode an event as Confluent-framed Avro.
+     * 
+     * @param event domain event
+     * @return framed Avro bytes, or empty if the event must be stored as JSON
+     */
+    public Optional<byte[]> encode(DomainEvent event) {
+        if (unmappedTypes.contains(event.getClass())) {
+            return fallback("unmapped");
+        }
+        
+        SpecificRecord record;
+        try {
+            record = (SpecificRecord) avroEventMapper.toAvro(event);
+        } catch (IllegalArgumentException e) {
+            unmappedTypes.add(event.getClass());
+            log.info("No Avro mapping for {}, outbox stores it as JSON", event.getClass().getSimpleName());
+            return fallback("unmapped");
+        }
+        
+        OptionalInt schemaId = schemaIdResolver.schemaId(record.getSchema());
+        if (schemaId.isEmpty()) {
+            return fallback("registry");
+        }
+        
+        return Optional.of(frame(schemaId.getAsInt(), record));
+    }
+    
+    private byte[] frame(int schemaId, SpecificRecord record) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        out.write(MAGIC_BYTE);
+        out.write(schemaId >>> 24);
+        out.write(schemaId >>> 16);
+        out.write(schemaId >>> 8);
+        out.write(schemaId);
+        
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, ENCODER.get());
+        ENCODER.set(encoder);
+        try {
+            writers.computeIfAbsent(record.getSchema(), SpecificDatumWriter::new).write(record, encoder);
+            encoder.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode Avro record " + record.getSchema().getFullName(), e);
+        }
+        return out.toByteArray();
+    }
+    
+    private Optional<byte[]> fallback(String reason) {
+        meterRegistry.counter("outbox.avro.fallback", "reason", reason).increment();
+        return Optional.empty();
+    }
+}
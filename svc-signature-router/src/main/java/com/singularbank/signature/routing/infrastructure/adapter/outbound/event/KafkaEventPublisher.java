@@ -1,31 +1,115 @@
 package com.singularbank.signature.routing.infrastructure.adapter.outbound.event;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.singularbank.signature.routing.domain.event.*;
 import com.singularbank.signature.routing.domain.port.outbound.EventPublisher;
+import com.singularbank.signature.routing.infrastructure.config.KafkaPublisherConfig;
 import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderMetrics;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Kafka adapter for publishing domain events.
  * Story 2.11: Signature Completion (User Response)
  * Story 2.12: Signature Abort (Admin Action)
  * Story 4.8: Circuit Breaker Event Publishing
  * 
+ * <p><strong>Throughput and back-pressure:</strong></p>
+ * <ul>
+ *   <li>Producer batching/compression comes from {@link KafkaPublisherConfig} (see KafkaConfig)</li>
+ *   <li>At most {@code kafka.publisher.max-in-flight} sends are unacknowledged; callers wait up to
+ *       {@code max-block} for a slot, then the event is spooled instead of blocking further</li>
+ *   <li>{@link #publishAll} sends the whole batch, then awaits the combined acks once</li>
+ * </ul>
+ * 
+ * <p><strong>Failed sends</strong> (broker error, no slot, producer exception) are appended to a
+ * local retry spool ({@link KafkaRetrySpool}) and replayed every
+ * {@code kafka.publisher.spool.replay-interval}.</p>
+ * <ul>
+ *   <li>Failures are queued (up to {@code spool.queue-capacity}) to the {@code kafka-spool-writer}
+ *       thread, which appends whatever has queued up with one fsync. The producer I/O thread
+ *       that completes a failed ack never touches the disk</li>
+ *   <li>The future of a failed send completes once its record is on disk, so
+ *       {@link #publishAll} and the replay still return only after their failures are spooled</li>
+ *   <li>The scheduler only hands the replay to the {@code kafka-spool-replay} thread: a replay
+ *       waits up to {@code batch-timeout} for the acks of each chunk of at most 500 events</li>
+ *   <li>The replay checkpoints past every acknowledged or re-spooled event, and a timed-out
+ *       chunk is awaited again by the next run instead of being resent; only a crash resends
+ *       the events past the last checkpoint</li>
+ * </ul>
+ * 
+ * <p><strong>Metrics Exported:</strong></p>
+ * <pre>
+ * kafka.publisher.in-flight                          (gauge, unacknowledged sends)
+ * kafka.publisher.stall{cause=in_flight|producer_buffer}  (timer, time callers were blocked)
+ * kafka.publisher.spooled{reason}                    (counter, failed sends written to the spool)
+ * kafka.publisher.spool.dropped                      (counter, spool or spool queue full, or unwritable)
+ * kafka.publisher.spool.replayed{outcome}            (counter)
+ * kafka.publisher.spool.bytes                        (gauge)
+ * </pre>
+ * 
  * @since Story 2.11
  */
 @Component
 @ConditionalOnProperty(prefix = "spring.kafka", name = "enabled", havingValue = "true", matchIfMissing = true)
-@RequiredArgsConstructor
 @Slf4j
 public class KafkaEventPublisher implements EventPublisher {
     
+    // send() normally returns in microseconds; longer means buffer.memory was full
+    private static final long PRODUCER_STALL_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    
+    // Max records per spool write (one fsync)
+    private static final int SPOOL_WRITE_BATCH = 500;
+    
+    // Max records read from the spool per replay chunk
+    private static final int REPLAY_CHUNK = 500;
+    
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final ProviderMetrics providerMetrics;
+    private final KafkaPublisherConfig config;
+    private final KafkaRetrySpool spool;
+    private final Semaphore inFlight;
+    private final MeterRegistry meterRegistry;
+    private final Timer inFlightStallTimer;
+    private final Timer producerStallTimer;
+    private final Counter spoolDroppedCounter;
+    private final BlockingQueue<PendingSpool> spoolQueue;
+    private final AtomicBoolean replaying = new AtomicBoolean();
+    // Last replay chunk whose outcomes did not all arrive in time (replay thread only)
+    private PendingReplay pendingReplay;
+    private volatile boolean closed;
+    private final ExecutorService spoolWriter = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("kafka-spool-writer").daemon().factory()
+    );
+    private final ExecutorService replayExecutor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("kafka-spool-replay").daemon().factory()
+    );
     
     @Value("${kafka.topics.signature-completed}")
     private String signatureCompletedTopic;
@@ -36,224 +120,410 @@ public class KafkaEventPublisher implements EventPublisher {
     @Value("${kafka.topics.circuit-breaker-events:signature.circuit-breaker.events}")
     private String circuitBreakerEventsTopic;
     
+    public KafkaEventPublisher(
+        KafkaTemplate<String, Object> kafkaTemplate,
+        ProviderMetrics providerMetrics,
+        KafkaPublisherConfig config,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.providerMetrics = providerMetrics;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(config.getMaxInFlight());
+        this.spool = new KafkaRetrySpool(
+            Path.of(config.getSpool().getDirectory()), config.getSpool().getMaxBytes(), objectMapper);
+        
+        Gauge.builder("kafka.publisher.in-flight", inFlight, s -> config.getMaxInFlight() - s.availablePermits())
+            .description("Kafka sends not yet acknowledged")
+            .register(meterRegistry);
+        Gauge.builder("kafka.publisher.spool.bytes", spool, KafkaRetrySpool::sizeBytes)
+            .description("Bytes of failed Kafka sends waiting in the retry spool")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.inFlightStallTimer = stallTimer(meterRegistry, "in_flight");
+        this.producerStallTimer = stallTimer(meterRegistry, "producer_buffer");
+        this.spoolDroppedCounter = Counter.builder("kafka.publisher.spool.dropped")
+            .description("Failed Kafka sends lost because the spool was full or unwritable")
+            .register(meterRegistry);
+        this.spoolQueue = new LinkedBlockingQueue<>(config.getSpool().getQueueCapacity());
+        spoolWriter.execute(this::writeSpool);
+    }
+    
+    private static Timer stallTimer(MeterRegistry meterRegistry, String cause) {
+        return Timer.builder("kafka.publisher.stall")
+            .description("Time publishers were blocked by send back-pressure")
+            .tag("cause", cause)
+            .register(meterRegistry);
+    }
+    
     @Override
     public void publish(DomainEvent event) {
         log.debug("Publishing generic domain event: type={}, aggregateId={}", 
             event.getEventType(), event.getAggregateId());
-        
-        // Delegate to specific methods based on event type
-        switch (event) {
-            case SignatureCompletedEvent e -> publishSignatureCompleted(e);
-            case SignatureAbortedEvent e -> publishSignatureAborted(e);
-            case CircuitBreakerOpenedEvent e -> publishCircuitBreakerOpened(e);
-            case CircuitBreakerHalfOpenEvent e -> publishCircuitBreakerHalfOpen(e);
-            case CircuitBreakerClosedEvent e -> publishCircuitBreakerClosed(e);
-            case CircuitBreakerFailedRecoveryEvent e -> publishCircuitBreakerFailedRecovery(e);
-            case CircuitBreakerResetEvent e -> publishCircuitBreakerReset(e);
-            default -> log.warn("Unknown event type: {}", event.getClass().getName());
-        }
+        dispatch(event);
     }
     
+    /**
+     * Send every event, then wait once for all acks (up to {@code kafka.publisher.batch-timeout}).
+     * Events that failed within that time are already in the retry spool when this returns.
+     */
     @Override
-    public void publishAll(java.util.List<DomainEvent> events) {
+    public void publishAll(List<DomainEvent> events) {
         log.debug("Publishing {} domain events in batch", events.size());
-        events.forEach(this::publish);
+        
+        CompletableFuture<?>[] acks = new CompletableFuture<?>[events.size()];
+        for (int i = 0; i < acks.length; i++) {
+            acks[i] = dispatch(events.get(i));
+        }
+        
+        try {
+            CompletableFuture.allOf(acks).get(config.getBatchTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            long failed = Arrays.stream(acks).filter(CompletableFuture::isCompletedExceptionally).count();
+            log.warn("Batch published with {} of {} events spooled for retry", failed, acks.length);
+        } catch (TimeoutException e) {
+            log.warn("Batch of {} events not fully acknowledged within {}; pending sends continue in background",
+                acks.length, config.getBatchTimeout());
+        }
     }
     
     @Override
     public void publishSignatureCompleted(SignatureCompletedEvent event) {
-        log.info("Publishing SignatureCompletedEvent: signatureRequestId={}, channel={}", 
-            event.signatureRequestId(), event.channelType());
-        
-        try {
-            kafkaTemplate.send(signatureCompletedTopic, event.signatureRequestId().toString(), event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Failed to publish SignatureCompletedEvent: {}", event, ex);
-                    } else {
-                        log.debug("Event published successfully: topic={}, partition={}, offset={}", 
-                            signatureCompletedTopic, 
-                            result.getRecordMetadata().partition(),
-                            result.getRecordMetadata().offset());
-                    }
-                });
-        } catch (Exception e) {
-            log.error("Error publishing SignatureCompletedEvent: {}", event, e);
-            // In production, consider implementing a dead letter queue or retry mechanism
-        }
+        sendSignatureCompleted(event);
     }
     
     @Override
     public void publishSignatureAborted(SignatureAbortedEvent event) {
-        log.info("Publishing SignatureAbortedEvent: signatureRequestId={}, reason={}", 
-            event.signatureRequestId(), event.reason());
-        
-        try {
-            kafkaTemplate.send(signatureAbortedTopic, event.signatureRequestId().toString(), event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Failed to publish SignatureAbortedEvent: {}", event, ex);
-                    } else {
-                        log.debug("Event published successfully: topic={}, partition={}, offset={}", 
-                            signatureAbortedTopic, 
-                            result.getRecordMetadata().partition(),
-                            result.getRecordMetadata().offset());
-                    }
-                });
-        } catch (Exception e) {
-            log.error("Error publishing SignatureAbortedEvent: {}", event, e);
-        }
+        sendSignatureAborted(event);
     }
     
     // Circuit Breaker Events (Story 4.8)
     
     @Override
     public void publishCircuitBreakerOpened(CircuitBreakerOpenedEvent event) {
-        String provider = event.providerType().name();
-        String eventType = "OPENED";
-        
         log.info("Circuit breaker event published: provider={}, event={}, failureRate={}%", 
-            provider, eventType, event.failureRate());
-        
-        try {
-            kafkaTemplate.send(circuitBreakerEventsTopic, provider, event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Failed to publish circuit breaker event: provider={}, event={}, error={}", 
-                            provider, eventType, ex.getMessage(), ex);
-                        providerMetrics.recordCircuitBreakerEventPublishFailed(provider, eventType);
-                    } else {
-                        log.debug("Circuit breaker event published: topic={}, partition={}, offset={}", 
-                            circuitBreakerEventsTopic,
-                            result.getRecordMetadata().partition(),
-                            result.getRecordMetadata().offset());
-                        providerMetrics.recordCircuitBreakerEventPublished(provider, eventType);
-                    }
-                });
-        } catch (Exception e) {
-            log.error("Error publishing CircuitBreakerOpenedEvent: provider={}, event={}", 
-                provider, event, e);
-            providerMetrics.recordCircuitBreakerEventPublishFailed(provider, eventType);
-        }
+            event.providerType(), "OPENED", event.failureRate());
+        sendCircuitBreakerEvent(event.providerType().name(), "OPENED", event);
     }
     
     @Override
     public void publishCircuitBreakerHalfOpen(CircuitBreakerHalfOpenEvent event) {
-        String provider = event.providerType().name();
-        String eventType = "HALF_OPEN";
-        
-        log.info("Circuit breaker event published: provider={}, event={}", provider, eventType);
-        
-        try {
-            kafkaTemplate.send(circuitBreakerEventsTopic, provider, event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Failed to publish circuit breaker event: provider={}, event={}, error={}", 
-                            provider, eventType, ex.getMessage(), ex);
-                        providerMetrics.recordCircuitBreakerEventPublishFailed(provider, eventType);
-                    } else {
-                        log.debug("Circuit breaker event published: topic={}, partition={}, offset={}", 
-                            circuitBreakerEventsTopic,
-                            result.getRecordMetadata().partition(),
-                            result.getRecordMetadata().offset());
-                        providerMetrics.recordCircuitBreakerEventPublished(provider, eventType);
-                    }
-                });
-        } catch (Exception e) {
-            log.error("Error publishing CircuitBreakerHalfOpenEvent: provider={}, event={}", 
-                provider, event, e);
-            providerMetrics.recordCircuitBreakerEventPublishFailed(provider, eventType);
-        }
+        log.info("Circuit breaker event published: provider={}, event={}", event.providerType(), "HALF_OPEN");
+        sendCircuitBreakerEvent(event.providerType().name(), "HALF_OPEN", event);
     }
     
     @Override
     public void publishCircuitBreakerClosed(CircuitBreakerClosedEvent event) {
-        String provider = event.providerType().name();
-        String eventType = "CLOSED";
-        
         log.info("Circuit breaker event published: provider={}, event={}, recoveryDuration={}", 
-            provider, eventType, event.recoveryDuration());
-        
-        try {
-            kafkaTemplate.send(circuitBreakerEventsTopic, provider, event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Failed to publish circuit breaker event: provider={}, event={}, error={}", 
-                            provider, eventType, ex.getMessage(), ex);
-                        providerMetrics.recordCircuitBreakerEventPublishFailed(provider, eventType);
-                    } else {
-                        log.debug("Circuit breaker event published: topic={}, partition={}, offset={}", 
-                            circuitBreakerEventsTopic,
-                            result.getRecordMetadata().partition(),
-                            result.getRecordMetadata().offset());
-                        providerMetrics.recordCircuitBreakerEventPublished(provider, eventType);
-                    }
-                });
-        } catch (Exception e) {
-            log.error("Error publishing CircuitBreakerClosedEvent: provider={}, event={}", 
-                provider, event, e);
-            providerMetrics.recordCircuitBreakerEventPublishFailed(provider, eventType);
-        }
+            event.providerType(), "CLOSED", event.recoveryDuration());
+        sendCircuitBreakerEvent(event.providerType().name(), "CLOSED", event);
     }
     
     @Override
     public void publishCircuitBreakerFailedRecovery(CircuitBreakerFailedRecoveryEvent event) {
-        String provider = event.providerType().name();
-        String eventType = "FAILED_RECOVERY";
-        
         log.warn("Circuit breaker event published: provider={}, event={}, failureRate={}%", 
-            provider, eventType, event.failureRate());
-        
-        try {
-            kafkaTemplate.send(circuitBreakerEventsTopic, provider, event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Failed to publish circuit breaker event: provider={}, event={}, error={}", 
-                            provider, eventType, ex.getMessage(), ex);
-                        providerMetrics.recordCircuitBreakerEventPublishFailed(provider, eventType);
-                    } else {
-                        log.debug("Circuit breaker event published: topic={}, partition={}, offset={}", 
-                            circuitBreakerEventsTopic,
-                            result.getRecordMetadata().partition(),
-                            result.getRecordMetadata().offset());
-                        providerMetrics.recordCircuitBreakerEventPublished(provider, eventType);
-                    }
-                });
-        } catch (Exception e) {
-            log.error("Error publishing CircuitBreakerFailedRecoveryEvent: provider={}, event={}", 
-                provider, event, e);
-            providerMetrics.recordCircuitBreakerEventPublishFailed(provider, eventType);
-        }
+            event.providerType(), "FAILED_RECOVERY", event.failureRate());
+        sendCircuitBreakerEvent(event.providerType().name(), "FAILED_RECOVERY", event);
     }
     
     @Override
     public void publishCircuitBreakerReset(CircuitBreakerResetEvent event) {
-        String provider = event.providerType().name();
-        String eventType = "RESET";
-        
         log.info("Circuit breaker event published: provider={}, event={}, resetBy={}, reason={}", 
-            provider, eventType, event.resetBy(), event.resetReason());
+            event.providerType(), "RESET", event.resetBy(), event.resetReason());
+        sendCircuitBreakerEvent(event.providerType().name(), "RESET", event);
+    }
+    
+    /**
+     * Starts a replay on the replay thread, unless the previous one is still in progress.
+     */
+    @Scheduled(fixedDelayString = "${kafka.publisher.spool.replay-interval:30s}")
+    public void scheduleReplay() {
+        if (!replaying.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            replayExecutor.execute(() -> {
+                try {
+                    replaySpool();
+                } finally {
+                    replaying.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            replaying.set(false);
+            log.warn("Kafka spool replay not started: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Resend spooled events (on the calling thread), one chunk at a time. Sends that fail again go
+     * back to the spool. The run stops after a chunk with failures (broker still unhealthy) or
+     * whose outcomes did not all arrive within {@code batch-timeout}; the next run first waits
+     * for those outcomes rather than resending them.
+     */
+    void replaySpool() {
+        try {
+            if (pendingReplay != null && !awaitReplay(pendingReplay)) {
+                return;
+            }
+            pendingReplay = null;
+            KafkaRetrySpool.ReplayChunk chunk;
+            while ((chunk = spool.readReplay(REPLAY_CHUNK)) != null) {
+                if (!chunk.records().isEmpty()) {
+                    log.info("Replaying {} spooled Kafka events", chunk.records().size());
+                }
+                CompletableFuture<?>[] outcomes = new CompletableFuture<?>[chunk.records().size()];
+                for (int i = 0; i < outcomes.length; i++) {
+                    KafkaRetrySpool.SpooledRecord record = chunk.records().get(i);
+                    outcomes[i] = send(record.topic(), record.key(), record.event())
+                        .whenComplete((result, ex) -> meterRegistry.counter("kafka.publisher.spool.replayed",
+                            "outcome", ex == null ? "published" : "respooled").increment());
+                }
+                PendingReplay replay = new PendingReplay(chunk, outcomes);
+                if (!awaitReplay(replay)) {
+                    pendingReplay = replay;
+                    log.warn("Kafka spool replay incomplete, awaiting outstanding sends next run");
+                    return;
+                }
+                if (chunk.exhausted() || Arrays.stream(outcomes).anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Kafka spool replay incomplete, retrying next run: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Wait up to {@code batch-timeout} for a chunk's outcomes and checkpoint the longest prefix
+     * that was acknowledged or re-spooled.
+     *
+     * @return true if every outcome arrived
+     */
+    private boolean awaitReplay(PendingReplay replay) throws IOException, InterruptedException {
+        KafkaRetrySpool.ReplayChunk chunk = replay.chunk();
+        try {
+            CompletableFuture.allOf(replay.outcomes())
+                .handle((ignored, ex) -> null)
+                .get(config.getBatchTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            int resolved = 0;
+            while (resolved < replay.outcomes().length && replay.outcomes()[resolved].isDone()) {
+                resolved++;
+            }
+            if (resolved > 0) {
+                spool.checkpoint(chunk.endOffsets()[resolved - 1]);
+            }
+            return false;
+        }
+        if (chunk.exhausted()) {
+            spool.completeDrain();
+        } else {
+            spool.checkpoint(chunk.end());
+        }
+        return true;
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        replayExecutor.shutdownNow();
+        // Not interrupted: an interrupt would close the spool file channel mid-write
+        closed = true;
+        spoolWriter.shutdown();
+        try {
+            if (!spoolWriter.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.error("Kafka spool writer did not finish, {} failed sends not spooled", spoolQueue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private CompletableFuture<?> dispatch(DomainEvent event) {
+        // Delegate to specific methods based on event type
+        return switch (event) {
+            case SignatureCompletedEvent e -> sendSignatureCompleted(e);
+            case SignatureAbortedEvent e -> sendSignatureAborted(e);
+            case CircuitBreakerOpenedEvent e -> sendCircuitBreakerEvent(e.providerType().name(), "OPENED", e);
+            case CircuitBreakerHalfOpenEvent e -> sendCircuitBreakerEvent(e.providerType().name(), "HALF_OPEN", e);
+            case CircuitBreakerClosedEvent e -> sendCircuitBreakerEvent(e.providerType().name(), "CLOSED", e);
+            case CircuitBreakerFailedRecoveryEvent e -> sendCircuitBreakerEvent(e.providerType().name(), "FAILED_RECOVERY", e);
+            case CircuitBreakerResetEvent e -> sendCircuitBreakerEvent(e.providerType().name(), "RESET", e);
+            default -> {
+                log.warn("Unknown event type: {}", event.getClass().getName());
+                yield CompletableFuture.completedFuture(null);
+            }
+        };
+    }
+    
+    private CompletableFuture<?> sendSignatureCompleted(SignatureCompletedEvent event) {
+        log.info("Publishing SignatureCompletedEvent: signatureRequestId={}, channel={}", 
+            event.signatureRequestId(), event.channelType());
+        return send(signatureCompletedTopic, event.signatureRequestId().toString(), event)
+            .whenComplete((result, ex) -> logResult(signatureCompletedTopic, "SignatureCompletedEvent", result, ex));
+    }
+    
+    private CompletableFuture<?> sendSignatureAborted(SignatureAbortedEvent event) {
+        log.info("Publishing SignatureAbortedEvent: signatureRequestId={}, reason={}", 
+            event.signatureRequestId(), event.reason());
+        return send(signatureAbortedTopic, event.signatureRequestId().toString(), event)
+            .whenComplete((result, ex) -> logResult(signatureAbortedTopic, "SignatureAbortedEvent", result, ex));
+    }
+    
+    private CompletableFuture<?> sendCircuitBreakerEvent(String provider, String eventType, DomainEvent event) {
+        return send(circuitBreakerEventsTopic, provider, event)
+            .whenComplete((result, ex) -> {
+                if (ex != null) {
+                    log.error("Failed to publish circuit breaker event (spooled for retry): provider={}, event={}, error={}", 
+                        provider, eventType, ex.getMessage());
+                    providerMetrics.recordCircuitBreakerEventPublishFailed(provider, eventType);
+                } else {
+                    log.debug("Circuit breaker event published: topic={}, partition={}, offset={}", 
+                        circuitBreakerEventsTopic,
+                        result.getRecordMetadata().partition(),
+                        result.getRecordMetadata().offset());
+                    providerMetrics.recordCircuitBreakerEventPublished(provider, eventType);
+                }
+            });
+    }
+    
+    private static void logResult(String topic, String eventName, SendResult<String, Object> result, Throwable ex) {
+        if (ex != null) {
+            log.error("Failed to publish {} (spooled for retry): {}", eventName, ex.getMessage());
+        } else {
+            log.debug("Event published successfully: topic={}, partition={}, offset={}", 
+                topic,
+                result.getRecordMetadata().partition(),
+                result.getRecordMetadata().offset());
+        }
+    }
+    
+    /**
+     * Send under the in-flight limit; any failure spools the event, then fails the returned future.
+     */
+    CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object event) {
+        if (!acquireSlot()) {
+            return spoolThenFail(topic, key, event, "in_flight_limit",
+                new TimeoutException("No Kafka in-flight slot within " + config.getMaxBlock()));
+        }
         
+        CompletableFuture<SendResult<String, Object>> ack;
+        long start = System.nanoTime();
         try {
-            kafkaTemplate.send(circuitBreakerEventsTopic, provider, event)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Failed to publish circuit breaker event: provider={}, event={}, error={}", 
-                            provider, eventType, ex.getMessage(), ex);
-                        providerMetrics.recordCircuitBreakerEventPublishFailed(provider, eventType);
-                    } else {
-                        log.debug("Circuit breaker event published: topic={}, partition={}, offset={}", 
-                            circuitBreakerEventsTopic,
-                            result.getRecordMetadata().partition(),
-                            result.getRecordMetadata().offset());
-                        providerMetrics.recordCircuitBreakerEventPublished(provider, eventType);
-                    }
-                });
+            ack = kafkaTemplate.send(topic, key, event);
         } catch (Exception e) {
-            log.error("Error publishing CircuitBreakerResetEvent: provider={}, event={}", 
-                provider, event, e);
-            providerMetrics.recordCircuitBreakerEventPublishFailed(provider, eventType);
+            inFlight.release();
+            return spoolThenFail(topic, key, event, "send_error", e);
+        } finally {
+            long blocked = System.nanoTime() - start;
+            if (blocked > PRODUCER_STALL_THRESHOLD_NANOS) {
+                producerStallTimer.record(blocked, TimeUnit.NANOSECONDS);
+            }
         }
+        
+        CompletableFuture<SendResult<String, Object>> outcome = new CompletableFuture<>();
+        ack.whenComplete((result, ex) -> {
+            inFlight.release();
+            if (ex == null) {
+                outcome.complete(result);
+            } else {
+                // Runs on the producer I/O thread: only enqueue, the spool writer does the I/O
+                spoolThenFail(topic, key, event, "broker_error", ex)
+                    .whenComplete((ignored, failure) -> outcome.completeExceptionally(failure));
+            }
+        });
+        return outcome;
     }
+    
+    private boolean acquireSlot() {
+        if (inFlight.tryAcquire()) {
+            return true;
+        }
+        long start = System.nanoTime();
+        try {
+            return inFlight.tryAcquire(config.getMaxBlock().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            inFlightStallTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    /**
+     * Queue a failed send for the spool writer.
+     *
+     * @return future failed with {@code cause} once the event is on disk (or dropped)
+     */
+    private <T> CompletableFuture<T> spoolThenFail(String topic, String key, Object event, String reason, Throwable cause) {
+        PendingSpool pending = new PendingSpool(
+            new KafkaRetrySpool.SpooledRecord(topic, key, event), reason, new CompletableFuture<>());
+        if (closed || !spoolQueue.offer(pending)) {
+            dropped(pending.record());
+            pending.written().complete(null);
+        }
+        CompletableFuture<T> failed = new CompletableFuture<>();
+        pending.written().whenComplete((ignored, error) -> failed.completeExceptionally(cause));
+        return failed;
+    }
+    
+    /**
+     * Spool writer loop: append what has queued up with one fsync, until shut down and drained.
+     */
+    private void writeSpool() {
+        List<PendingSpool> batch = new ArrayList<>(SPOOL_WRITE_BATCH);
+        while (!closed || !spoolQueue.isEmpty()) {
+            try {
+                PendingSpool first = spoolQueue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                spoolQueue.drainTo(batch, SPOOL_WRITE_BATCH - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Kafka spool writer failed on a batch of {} events", batch.size(), e);
+                batch.forEach(pending -> pending.written().complete(null));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void writeBatch(List<PendingSpool> batch) {
+        boolean[] written = spool.appendAll(batch.stream().map(PendingSpool::record).toList());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingSpool pending = batch.get(i);
+            if (written[i]) {
+                meterRegistry.counter("kafka.publisher.spooled", "reason", pending.reason()).increment();
+            } else {
+                dropped(pending.record());
+            }
+            pending.written().complete(null);
+        }
+    }
+    
+    private void dropped(KafkaRetrySpool.SpooledRecord record) {
+        spoolDroppedCounter.increment();
+        log.error("Kafka event lost, retry spool full or unwritable: topic={}, key={}", record.topic(), record.key());
+    }
+    
+    /**
+     * A failed send waiting for the spool writer; {@code written} completes once it is on disk.
+     */
+    private record PendingSpool(KafkaRetrySpool.SpooledRecord record, String reason, CompletableFuture<Void> written) {}
+    
+    /**
+     * A replayed chunk and the outcomes of its resends, in spool order.
+     */
+    private record PendingReplay(KafkaRetrySpool.ReplayChunk chunk, CompletableFuture<?>[] outcomes) {}
 }
-
@@ -0,0 +1,261 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.event;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singularbank.signature.routing.domain.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only local file of events whose Kafka send failed.
+ *
+ * <p>One JSON line per event (topic, key, event class, event). Each {@link #appendAll} writes
+ * its records with one write and forces them to disk with one fsync before returning.
+ *
+ * <p>Replay moves the file aside and reads it back in bounded chunks ({@link #readReplay}). The
+ * offset up to which records were resent or re-spooled is checkpointed to a side file
+ * ({@link #checkpoint}), so a later run or a crash resumes after it instead of resending them;
+ * only records past the checkpoint are sent again (at-least-once). The replay file is deleted by
+ * {@link #completeDrain()} once it was fully checkpointed.
+ *
+ * <p>Only {@link DomainEvent} classes are deserialized back.
+ */
+@Slf4j
+final class KafkaRetrySpool {
+
+    static final String SPOOL_FILE = "kafka-retry.spool";
+    static final String REPLAY_FILE = "kafka-retry.replaying";
+    static final String CHECKPOINT_FILE = "kafka-retry.replaying.offset";
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final Path spoolFile;
+    private final Path replayFile;
+    private final Path checkpointFile;
+    private final long maxBytes;
+    private final ObjectMapper objectMapper;
+    // Replay file bytes already resent or re-spooled
+    private volatile long replayed;
+
+    /**
+     * A spooled send.
+     */
+    record SpooledRecord(String topic, String key, Object event) {}
+
+    /**
+     * Records read from the replay file.
+     *
+     * @param endOffsets per record, the replay file offset just past it (checkpoint once resolved)
+     * @param end offset just past the chunk, including skipped unreadable lines
+     * @param exhausted true if the chunk reaches the end of the replay file
+     */
+    record ReplayChunk(List<SpooledRecord> records, long[] endOffsets, long end, boolean exhausted) {}
+
+    private record Line(String topic, String key, String type, JsonNode event) {}
+
+    KafkaRetrySpool(Path directory, long maxBytes, ObjectMapper objectMapper) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create Kafka retry spool directory " + directory, e);
+        }
+        this.spoolFile = directory.resolve(SPOOL_FILE);
+        this.replayFile = directory.resolve(REPLAY_FILE);
+        this.checkpointFile = directory.resolve(CHECKPOINT_FILE);
+        this.replayed = readCheckpoint(checkpointFile);
+        this.maxBytes = maxBytes;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Append failed sends, forced to disk with a single fsync.
+     *
+     * @return per record, false if the spool was full or the write failed (the event is lost)
+     */
+    synchronized boolean[] appendAll(List<SpooledRecord> records) {
+        boolean[] written = new boolean[records.size()];
+        try {
+            long size = sizeBytes();
+            List<ByteBuffer> lines = new ArrayList<>(records.size() * 2);
+            for (int i = 0; i < records.size(); i++) {
+                SpooledRecord record = records.get(i);
+                if (size >= maxBytes) {
+                    break;
+                }
+                byte[] line = encode(record);
+                if (line != null) {
+                    lines.add(ByteBuffer.wrap(line));
+                    lines.add(ByteBuffer.wrap(NEWLINE));
+                    size += line.length + NEWLINE.length;
+                    written[i] = true;
+                }
+            }
+            if (lines.isEmpty()) {
+                return written;
+            }
+            try (FileChannel channel = FileChannel.open(spoolFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer[] buffers = lines.toArray(ByteBuffer[]::new);
+                while (buffers[buffers.length - 1].hasRemaining()) {
+                    channel.write(buffers);
+                }
+                channel.force(false);
+            }
+            return written;
+        } catch (IOException e) {
+            log.error("Failed to spool {} Kafka events: {}", records.size(), e.getMessage());
+            return new boolean[records.size()];
+        }
+    }
+
+    /**
+     * Read the next records to resend, starting at the replay checkpoint. Moves the spool aside
+     * first if no replay is in progress.
+     *
+     * @param maxRecords max records in the chunk
+     * @return the chunk, or null if nothing is spooled
+     */
+    synchronized ReplayChunk readReplay(int maxRecords) throws IOException {
+        if (!Files.exists(replayFile)) {
+            if (!Files.exists(spoolFile)) {
+                return null;
+            }
+            Files.move(spoolFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+            checkpoint(0);
+        }
+        List<SpooledRecord> records = new ArrayList<>(maxRecords);
+        List<Long> endOffsets = new ArrayList<>(maxRecords);
+        long offset = replayed;
+        try (FileChannel channel = FileChannel.open(replayFile, StandardOpenOption.READ)) {
+            InputStream in = new BufferedInputStream(Channels.newInputStream(channel.position(offset)));
+            ByteArrayOutputStream line = new ByteArrayOutputStream(512);
+            while (records.size() < maxRecords) {
+                int b = in.read();
+                if (b == -1) {
+                    if (line.size() > 0) {
+                        offset += line.size();
+                        decodeLine(line, records, endOffsets, offset);
+                    }
+                    return new ReplayChunk(records, toArray(endOffsets), offset, true);
+                }
+                if (b != NEWLINE[0]) {
+                    line.write(b);
+                    continue;
+                }
+                offset += line.size() + NEWLINE.length;
+                decodeLine(line, records, endOffsets, offset);
+            }
+            return new ReplayChunk(records, toArray(endOffsets), offset, offset >= channel.size());
+        }
+    }
+
+    /**
+     * Record that the replay file up to {@code offset} was resent or re-spooled, so a crash or
+     * a later run resumes after it. Forced to disk before returning.
+     */
+    synchronized void checkpoint(long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(checkpointFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(Long.toString(offset).getBytes(StandardCharsets.US_ASCII));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        replayed = offset;
+    }
+
+    /**
+     * Delete the replay file after every record in it was resent or re-spooled.
+     */
+    synchronized void completeDrain() throws IOException {
+        Files.deleteIfExists(replayFile);
+        Files.deleteIfExists(checkpointFile);
+        replayed = 0;
+    }
+
+    /**
+     * Bytes waiting in the spool, including the part of a replay not yet checkpointed.
+     */
+    long sizeBytes() {
+        return size(spoolFile) + Math.max(0, size(replayFile) - replayed);
+    }
+
+    private byte[] encode(SpooledRecord record) {
+        try {
+            return objectMapper.writeValueAsBytes(new Line(
+                record.topic(), record.key(), record.event().getClass().getName(),
+                objectMapper.valueToTree(record.event())));
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Failed to spool Kafka event: topic={}, key={}, error={}", record.topic(), record.key(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void decodeLine(ByteArrayOutputStream line, List<SpooledRecord> records, List<Long> endOffsets, long end) {
+        String json = line.toString(StandardCharsets.UTF_8);
+        line.reset();
+        if (!json.isBlank() && decode(json, records)) {
+            endOffsets.add(end);
+        }
+    }
+
+    private boolean decode(String json, List<SpooledRecord> records) {
+        try {
+            // BigDecimal keeps nanosecond timestamps exact through the JsonNode tree
+            Line line = objectMapper.readerFor(Line.class)
+                .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .readValue(json);
+            Class<?> type = Class.forName(line.type());
+            if (!DomainEvent.class.isAssignableFrom(type)) {
+                log.error("Discarding spooled record of non-event type {}", line.type());
+                return false;
+            }
+            Object event = objectMapper.readerFor(type)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(line.event());
+            records.add(new SpooledRecord(line.topic(), line.key(), event));
+            return true;
+        } catch (IOException | ClassNotFoundException e) {
+            log.error("Discarding unreadable spooled Kafka record: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static long[] toArray(List<Long> offsets) {
+        return offsets.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long readCheckpoint(Path file) {
+        try {
+            return Files.exists(file) ? Long.parseLong(Files.readString(file, StandardCharsets.US_ASCII).trim()) : 0;
+        } catch (IOException | NumberFormatException e) {
+            // Torn checkpoint: replay the whole file again (at-least-once)
+            return 0;
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -4,9 +4,13 @@ import com.singularbank.signature.routing.domain.event.DomainEvent;
 import com.singularbank.signature.routing.domain.port.outbound.EventPublisher;
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.entity.OutboxEventEntity;
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.repository.OutboxEventRepository;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.adapter.OutboxEventJdbcWriter;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.OutboxWriteEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.f4b6a3.uuid.UuidCreator;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
@@ -17,9 +21,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Adapter implementation of EventPublisher port using Outbox pattern.
@@ -27,7 +34,8 @@ import java.util.List;
  * <p><strong>Outbox Pattern Flow:</strong></p>
  * <ol>
  *   <li>Application calls publish() within active transaction</li>
- *   <li>Event serialized to JSON and persisted to outbox_event table</li>
+ *   <li>Event serialized to JSON (or Confluent-framed Avro with outbox.payload-format=avro)
+ *       and persisted to outbox_event table</li>
  *   <li>Transaction commits → event + state change guaranteed atomic</li>
  *   <li>Debezium CDC connector reads outbox table (PostgreSQL WAL)</li>
  *   <li>Debezium publishes event to Kafka topic signature.events</li>
@@ -44,6 +52,7 @@ import java.util.List;
  *   <li>SHA-256 hash: ~1ms P99</li>
  *   <li>JPA insert: ~10-20ms P99 (depends on DB load)</li>
  *   <li>Total: ~15-30ms P99</li>
+ *   <li>publishAll: one JDBC batch for all events ({@link OutboxEventJdbcWriter})</li>
  * </ul>
  * 
  * @see EventPublisher
@@ -55,18 +64,38 @@ import java.util.List;
 @Primary
 public class OutboxEventPublisherAdapter implements EventPublisher {
     
+    private static final HexFormat HEX = HexFormat.of();
+    
+    // Thread-confined: MessageDigest is not thread-safe and getInstance is a provider lookup
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+    
     private final OutboxEventRepository outboxRepository;
     private final ObjectMapper objectMapper;
     private final Counter eventsCreatedCounter;
     private final Timer publishDurationTimer;
+    private final DistributionSummary jsonPayloadSize;
+    private final DistributionSummary avroPayloadSize;
+    private final Optional<AvroOutboxPayloadEncoder> avroPayloadEncoder;
+    private final OutboxEventJdbcWriter outboxWriter;
+    private final DistributionSummary batchSizeSummary;
     
     public OutboxEventPublisherAdapter(
         OutboxEventRepository outboxRepository,
+        OutboxEventJdbcWriter outboxWriter,
         ObjectMapper objectMapper,
-        MeterRegistry meterRegistry
+        MeterRegistry meterRegistry,
+        Optional<AvroOutboxPayloadEncoder> avroPayloadEncoder
     ) {
         this.outboxRepository = outboxRepository;
+        this.outboxWriter = outboxWriter;
         this.objectMapper = objectMapper;
+        this.avroPayloadEncoder = avroPayloadEncoder;
         
         // Metrics
         this.eventsCreatedCounter = Counter.builder("outbox.events.created.total")
@@ -78,6 +107,23 @@ public class OutboxEventPublisherAdapter implements EventPublisher {
             .description("Duration of event publishing to outbox")
             .tag("component", "outbox")
             .register(meterRegistry);
+        
+        this.jsonPayloadSize = payloadSize(meterRegistry, OutboxEventEntity.PAYLOAD_FORMAT_JSON);
+        this.avroPayloadSize = payloadSize(meterRegistry, OutboxEventEntity.PAYLOAD_FORMAT_AVRO);
+        
+        this.batchSizeSummary = DistributionSummary.builder("outbox.publish.batch.size")
+            .description("Events per batched outbox insert")
+            .tag("component", "outbox")
+            .register(meterRegistry);
+    }
+    
+    private static DistributionSummary payloadSize(MeterRegistry meterRegistry, String format) {
+        return DistributionSummary.builder("outbox.payload.bytes")
+            .description("Size of outbox event payloads")
+            .baseUnit("bytes")
+            .tag("component", "outbox")
+            .tag("format", format)
+            .register(meterRegistry);
     }
     
     /**
@@ -92,34 +138,22 @@ public class OutboxEventPublisherAdapter implements EventPublisher {
     @Override
     @Transactional(propagation = Propagation.MANDATORY)
     public void publish(DomainEvent event) {
+        OutboxWriteEvent jfrEvent = new OutboxWriteEvent();
+        jfrEvent.begin();
         publishDurationTimer.record(() -> {
             try {
-                // Serialize event to JSON
-                String payload = objectMapper.writeValueAsString(event);
-                String payloadHash = sha256(payload);
-                
-                // Create outbox entity
-                OutboxEventEntity outboxEvent = OutboxEventEntity.builder()
-                    .id(UuidCreator.getTimeOrderedEpoch())
-                    .aggregateId(event.getAggregateId())
-                    .aggregateType(event.getAggregateType())
-                    .eventType(event.getEventType())
-                    .payload(payload)
-                    .payloadHash(payloadHash)
-                    .createdAt(Instant.now())
-                    .publishedAt(null)  // Will be set by Debezium
-                    .build();
-                
                 // Persist to outbox table (same TX as aggregate)
-                outboxRepository.save(outboxEvent);
+                outboxRepository.save(toOutboxEvent(event));
                 
                 // Update metrics
                 eventsCreatedCounter.increment();
+                jfrEvent.complete(event.getAggregateId(), event.getEventType(), 1, true);
                 
                 log.debug("Event persisted to outbox: eventType={}, aggregateId={}, eventId={}", 
                     event.getEventType(), event.getAggregateId(), event.getEventId());
                     
             } catch (Exception e) {
+                jfrEvent.complete(event.getAggregateId(), event.getEventType(), 1, false);
                 log.error("Failed to persist event to outbox: eventType={}, aggregateId={}, error={}", 
                     event.getEventType(), event.getAggregateId(), e.getMessage(), e);
                 throw new RuntimeException("Failed to publish event to outbox", e);
@@ -129,33 +163,91 @@ public class OutboxEventPublisherAdapter implements EventPublisher {
     
     /**
      * Publish multiple domain events in batch.
-     * All events persisted in same transaction.
+     * All events are serialized first, then inserted with one JDBC batch in the same
+     * transaction (single events take the {@link #publish} path).
      * 
      * @param events List of domain events to publish
      * @throws IllegalStateException if no transaction active
+     * @throws RuntimeException if serialization or persistence fails (no event is persisted)
      */
     @Override
     @Transactional(propagation = Propagation.MANDATORY)
     public void publishAll(List<DomainEvent> events) {
-        events.forEach(this::publish);
-        log.debug("Batch published {} events to outbox", events.size());
+        if (events.size() <= 1) {
+            events.forEach(this::publish);
+            return;
+        }
+        OutboxWriteEvent jfrEvent = new OutboxWriteEvent();
+        jfrEvent.begin();
+        DomainEvent first = events.get(0);
+        publishDurationTimer.record(() -> {
+            try {
+                List<OutboxEventEntity> outboxEvents = new ArrayList<>(events.size());
+                for (DomainEvent event : events) {
+                    outboxEvents.add(toOutboxEvent(event));
+                }
+                
+                outboxWriter.insertAll(outboxEvents);
+                
+                eventsCreatedCounter.increment(outboxEvents.size());
+                batchSizeSummary.record(outboxEvents.size());
+                jfrEvent.complete(first.getAggregateId(), first.getEventType(), outboxEvents.size(), true);
+                
+                log.debug("Batch published {} events to outbox", outboxEvents.size());
+                
+            } catch (Exception e) {
+                jfrEvent.complete(first.getAggregateId(), first.getEventType(), events.size(), false);
+                log.error("Failed to persist event batch to outbox: size={}, error={}", 
+                    events.size(), e.getMessage(), e);
+                throw new RuntimeException("Failed to publish events to outbox", e);
+            }
+        });
     }
     
     /**
-     * Compute SHA-256 hash of input string.
+     * Serialize an event into an outbox row: Confluent-framed Avro when enabled and mapped,
+     * JSON otherwise.
+     */
+    private OutboxEventEntity toOutboxEvent(DomainEvent event) throws JsonProcessingException {
+        Optional<byte[]> avroPayload = avroPayloadEncoder.flatMap(encoder -> encoder.encode(event));
+        OutboxEventEntity.OutboxEventEntityBuilder outboxEvent = OutboxEventEntity.builder()
+            .id(UuidCreator.getTimeOrderedEpoch())
+            .aggregateId(event.getAggregateId())
+            .aggregateType(event.getAggregateType())
+            .eventType(event.getEventType())
+            .createdAt(Instant.now())
+            .publishedAt(null);  // Will be set by Debezium
+        
+        byte[] payloadBytes;
+        if (avroPayload.isPresent()) {
+            payloadBytes = avroPayload.get();
+            outboxEvent
+                .payloadAvro(payloadBytes)
+                .payloadFormat(OutboxEventEntity.PAYLOAD_FORMAT_AVRO);
+        } else {
+            String payload = objectMapper.writeValueAsString(event);
+            payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+            outboxEvent
+                .payload(payload)
+                .payloadFormat(OutboxEventEntity.PAYLOAD_FORMAT_JSON);
+        }
+        payloadSizeSummary(avroPayload.isPresent()).record(payloadBytes.length);
+        return outboxEvent.payloadHash(sha256(payloadBytes)).build();
+    }
+    
+    /**
+     * Compute SHA-256 hash of the stored payload bytes.
      * Used for payload integrity validation.
      * 
-     * @param input Input string to hash
+     * @param input Payload bytes (UTF-8 JSON or framed Avro)
      * @return Hex-encoded SHA-256 hash (64 characters)
      */
-    private String sha256(String input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hash);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to compute SHA-256 hash", e);
-        }
+    private static String sha256(byte[] input) {
+        MessageDigest digest = SHA_256.get();
+        return HEX.formatHex(digest.digest(input));
+    }
+    
+    private DistributionSummary payloadSizeSummary(boolean avro) {
+        return avro ? avroPayloadSize : jsonPayloadSize;
     }
 }
-
@@ -0,0 +1,270 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.event;
+
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.adapter.OutboxEventRelayStore;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.entity.OutboxEventEntity;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.OutboxMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process outbox relay: publishes outbox_event rows to Kafka without Debezium.
+ *
+ * <p>Each batch runs in one transaction:
+ * <ol>
+ * <li>Claim up to {@code batch-size} pending rows with {@code FOR UPDATE SKIP LOCKED}
+ *     (replicas claim disjoint batches, see {@link OutboxEventRelayStore})</li>
+ * <li>Send them through an async, idempotent producer (acks=all, lz4, linger)</li>
+ * <li>Wait for the acks (up to {@code send-timeout}) and set published_at on the acked rows
+ *     with one UPDATE</li>
+ * </ol>
+ * The producer's {@code max.block.ms} and {@code delivery.timeout.ms} are capped at
+ * {@code send-timeout}, and no send is started once it has elapsed, so one batch spends at most
+ * twice {@code send-timeout} in Kafka calls. The transaction times out after
+ * {@code transaction-timeout}, which must be at least that: a broker outage leaves rows pending
+ * instead of holding their locks and a pool connection until the transaction is killed.
+ * Rows that fail or time out stay pending and are claimed again. Delivery is at-least-once,
+ * as with Debezium: consumers deduplicate on the {@code id} header (outbox row id).
+ *
+ * <p>Records carry the aggregate id as key and the stored payload bytes as value (UTF-8 JSON,
+ * or Confluent-framed Avro when {@code outbox.payload-format=avro}), with {@code id},
+ * {@code eventType}, {@code aggregateType} and {@code payloadFormat} headers.
+ *
+ * <p>Polls back to back while batches come back full, then waits {@code poll-interval}. The
+ * scheduler only hands the drain loop to the relay's own {@code outbox-relay} thread, so a
+ * large backlog does not hold a {@code spring.task.scheduling} thread; a tick while a drain is
+ * in progress is skipped. Lag and throughput are exported through {@link OutboxMetrics}.
+ *
+ * @see OutboxRelayConfig
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true")
+@Slf4j
+public class OutboxRelay {
+
+    static final String HEADER_ID = "id";
+    static final String HEADER_EVENT_TYPE = "eventType";
+    static final String HEADER_AGGREGATE_TYPE = "aggregateType";
+    static final String HEADER_PAYLOAD_FORMAT = "payloadFormat";
+
+    private final OutboxEventRelayStore relayStore;
+    private final OutboxRelayConfig config;
+    private final TransactionTemplate transactionTemplate;
+    private final Producer<String, byte[]> producer;
+    private final OutboxMetrics outboxMetrics;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService relayExecutor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("outbox-relay").daemon().factory()
+    );
+
+    public OutboxRelay(
+        OutboxEventRelayStore relayStore,
+        OutboxRelayConfig config,
+        PlatformTransactionManager transactionManager,
+        OutboxMetrics outboxMetrics,
+        @Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers
+    ) {
+        this(relayStore, config, transactionTemplate(transactionManager, config),
+            new KafkaProducer<>(producerProperties(config, bootstrapServers)), outboxMetrics);
+    }
+
+    OutboxRelay(
+        OutboxEventRelayStore relayStore,
+        OutboxRelayConfig config,
+        TransactionTemplate transactionTemplate,
+        Producer<String, byte[]> producer,
+        OutboxMetrics outboxMetrics
+    ) {
+        if (config.getSendTimeout().multipliedBy(2).compareTo(config.getTransactionTimeout()) > 0) {
+            throw new IllegalStateException("outbox.relay.send-timeout (" + config.getSendTimeout()
+                + ") must be at most half of outbox.relay.transaction-timeout (" + config.getTransactionTimeout() + ")");
+        }
+        this.relayStore = relayStore;
+        this.config = config;
+        this.transactionTemplate = transactionTemplate;
+        this.producer = producer;
+        this.outboxMetrics = outboxMetrics;
+        log.info("Outbox relay enabled: topic={}, batchSize={}", config.getTopic(), config.getBatchSize());
+    }
+
+    private static TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager,
+                                                           OutboxRelayConfig config) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout((int) Math.max(1, config.getTransactionTimeout().toSeconds()));
+        return template;
+    }
+
+    /**
+     * Producer settings for batch relaying; {@code outbox.relay.producer} overrides them, except
+     * the blocking and delivery timeouts, which are capped at {@code send-timeout}.
+     */
+    static Map<String, Object> producerProperties(OutboxRelayConfig config, String bootstrapServers) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.CLIENT_ID_CONFIG, "outbox-relay");
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        props.put(ProducerConfig.LINGER_MS_CONFIG, 10);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, 256 * 1024);
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        props.putAll(config.getProducer());
+
+        long sendTimeoutMs = config.getSendTimeout().toMillis();
+        long lingerMs = Long.parseLong(props.get(ProducerConfig.LINGER_MS_CONFIG).toString());
+        props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, Math.min(sendTimeoutMs,
+            Long.parseLong(props.getOrDefault(ProducerConfig.MAX_BLOCK_MS_CONFIG, sendTimeoutMs).toString())));
+        // Kafka requires delivery.timeout.ms >= linger.ms + request.timeout.ms
+        props.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, (int) sendTimeoutMs);
+        props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, (int) Math.max(1, sendTimeoutMs - lingerMs));
+        return props;
+    }
+
+    /**
+     * Starts a drain on the relay thread, unless the previous one is still in progress.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:200ms}")
+    public void schedulePoll() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            relayExecutor.execute(() -> {
+                try {
+                    poll();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            log.warn("Outbox relay poll not started: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Relay pending rows until the backlog is drained or a batch fails (on the calling thread).
+     */
+    void poll() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == config.getBatchSize());
+    }
+
+    /**
+     * Claim, send and acknowledge one batch.
+     *
+     * @return rows published, or 0 if nothing was claimed or any row failed
+     */
+    int relayBatch() {
+        try {
+            Integer published = transactionTemplate.execute(status -> relayClaimed());
+            return published != null ? published : 0;
+        } catch (Exception e) {
+            log.warn("Outbox relay batch failed, retrying next poll: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        relayExecutor.shutdown();
+        try {
+            // Let the running batch finish within its ack wait before the producer goes away
+            relayExecutor.awaitTermination(config.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        producer.close(Duration.ofSeconds(5));
+    }
+
+    private int relayClaimed() {
+        List<OutboxEventEntity> claimed = relayStore.claimBatch(config.getBatchSize());
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        long deadline = start + config.getSendTimeout().toNanos();
+
+        // No flush: linger.ms is short and the acks are awaited below. A send blocks at most
+        // max.block.ms (= send-timeout); rows not sent before the deadline stay pending.
+        List<Future<RecordMetadata>> acks = new ArrayList<>(claimed.size());
+        for (OutboxEventEntity event : claimed) {
+            if (System.nanoTime() - deadline >= 0) {
+                break;
+            }
+            acks.add(producer.send(toRecord(event)));
+        }
+
+        List<UUID> published = new ArrayList<>(claimed.size());
+        for (int i = 0; i < acks.size(); i++) {
+            if (awaitAck(acks.get(i), deadline, claimed.get(i))) {
+                published.add(claimed.get(i).getId());
+            }
+        }
+        relayStore.markPublished(published);
+
+        int failed = claimed.size() - published.size();
+        outboxMetrics.recordRelayBatch(published.size(), failed, System.nanoTime() - start);
+        log.debug("Outbox relay batch: published={}, failed={}", published.size(), failed);
+        return failed == 0 ? published.size() : 0;
+    }
+
+    private boolean awaitAck(Future<RecordMetadata> ack, long deadline, OutboxEventEntity event) {
+        try {
+            ack.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Outbox event not acknowledged, left pending: id={}, eventType={}, error={}",
+                event.getId(), event.getEventType(), e.getCause() != null ? e.getCause().getMessage() : e.toString());
+            return false;
+        }
+    }
+
+    private ProducerRecord<String, byte[]> toRecord(OutboxEventEntity event) {
+        byte[] value = OutboxEventEntity.PAYLOAD_FORMAT_AVRO.equals(event.getPayloadFormat())
+            ? event.getPayloadAvro()
+            : event.getPayload().getBytes(StandardCharsets.UTF_8);
+        ProducerRecord<String, byte[]> record =
+            new ProducerRecord<>(config.getTopic(), event.getAggregateId().toString(), value);
+        record.headers()
+            .add(HEADER_ID, event.getId().toString().getBytes(StandardCharsets.UTF_8))
+            .add(HEADER_EVENT_TYPE, event.getEventType().getBytes(StandardCharsets.UTF_8))
+            .add(HEADER_AGGREGATE_TYPE, event.getAggregateType().getBytes(StandardCharsets.UTF_8))
+            .add(HEADER_PAYLOAD_FORMAT, event.getPayloadFormat().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
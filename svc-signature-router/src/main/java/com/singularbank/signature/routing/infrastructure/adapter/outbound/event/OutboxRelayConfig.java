@@ -0,0 +1,94 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.event;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration for the in-process outbox relay (alternative to the Debezium connector).
+ *
+ * <p>Properties:
+ * <ul>
+ * <li>enabled: Relay outbox_event rows from this service (default: false, Debezium relays)</li>
+ * <li>topic: Destination topic (default: signature.events, same route as the connector)</li>
+ * <li>batchSize: Rows claimed per poll (default: 500)</li>
+ * <li>pollInterval: Delay between polls once the backlog is drained (default: 200ms)</li>
+ * <li>sendTimeout: Max wait for broker acks of a batch; rows locked meanwhile. Also caps the
+ *     producer's max.block.ms and delivery.timeout.ms (default: 5s)</li>
+ * <li>transactionTimeout: Timeout of the claim/send/mark transaction; must be at least twice
+ *     sendTimeout so a slow broker never holds row locks until the transaction is killed
+ *     (default: 30s)</li>
+ * <li>producer: Extra Kafka producer properties (override batching/compression defaults)</li>
+ * </ul>
+ *
+ * <p><strong>Do not run both relays:</strong> stop the Debezium connector before enabling
+ * this one, or every event is delivered twice.
+ *
+ * <p><strong>Configuration Example:</strong>
+ * <pre>
+ * outbox:
+ *   relay:
+ *     enabled: true
+ *     batch-size: 500
+ *     producer:
+ *       linger.ms: 20
+ *       compression.type: lz4
+ * </pre>
+ *
+ * @see OutboxRelay
+ */
+@Configuration
+@ConfigurationProperties(prefix = "outbox.relay")
+@Data
+@Validated
+public class OutboxRelayConfig {
+
+    /**
+     * Relay outbox rows from this service.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Destination topic.
+     */
+    @NotBlank
+    private String topic = "signature.events";
+
+    /**
+     * Rows claimed per poll (one transaction).
+     */
+    @Min(1)
+    private int batchSize = 500;
+
+    /**
+     * Delay between polls once the backlog is drained.
+     */
+    @NotNull
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /**
+     * Max wait for the broker acks of one batch (the claimed rows stay locked meanwhile); caps
+     * the producer's {@code max.block.ms} and {@code delivery.timeout.ms}.
+     */
+    @NotNull
+    private Duration sendTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Timeout of one relay transaction; at least twice {@code sendTimeout}.
+     */
+    @NotNull
+    private Duration transactionTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Extra Kafka producer properties, e.g. {@code linger.ms}, {@code batch.size}.
+     */
+    private Map<String, String> producer = new HashMap<>();
+}
@@ -0,0 +1,115 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.event;
+
+import com.singularbank.signature.routing.infrastructure.config.KafkaConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves Confluent Schema Registry ids for the outbox Avro schemas ahead of use.
+ * 
+ * <p>Registers every schema of {@link AvroEventMapper#schemas()} under the RecordNameStrategy
+ * subject (the schema full name, e.g.
+ * {@code com.singularbank.signature.routing.events.avro.SignatureCompletedEvent}) via
+ * {@code POST /subjects/{subject}/versions}, the same strategy KafkaConfig sets for the
+ * producer ({@link KafkaConfig#VALUE_SUBJECT_NAME_STRATEGY}). Registration is idempotent: an
+ * already registered schema returns its existing id.</p>
+ * 
+ * <p>Registration runs on the scheduler right after startup and then every
+ * {@code outbox.avro.registration-retry-interval} until every schema has an id; ids are kept for
+ * the life of the process. {@link #schemaId} is a map lookup: the publisher, which runs inside
+ * the business transaction, never waits on the registry.</p>
+ * 
+ * <p>Talks to the registry REST API directly; only the serializer (not the registry client)
+ * is on the classpath.</p>
+ * 
+ * @see AvroOutboxPayloadEncoder
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox", name = "payload-format", havingValue = "avro")
+@Slf4j
+public class SchemaRegistrySchemaIdResolver {
+    
+    private static final MediaType SCHEMA_REGISTRY_JSON = MediaType.parseMediaType("application/vnd.schemaregistry.v1+json");
+    
+    private final RestTemplate restTemplate;
+    private final String registryUrl;
+    private final List<Schema> schemas;
+    private final Map<String, Integer> schemaIds = new ConcurrentHashMap<>();
+    
+    public SchemaRegistrySchemaIdResolver(
+        RestTemplateBuilder restTemplateBuilder,
+        AvroEventMapper avroEventMapper,
+        @Value("${outbox.avro.schema-registry-url:${spring.kafka.properties.schema.registry.url}}") String registryUrl
+    ) {
+        this.restTemplate = restTemplateBuilder
+            .setConnectTimeout(Duration.ofSeconds(2))
+            .setReadTimeout(Duration.ofSeconds(2))
+            .build();
+        this.registryUrl = registryUrl;
+        this.schemas = avroEventMapper.schemas();
+        log.info("Outbox Avro payloads enabled: schemaRegistry={}", registryUrl);
+    }
+    
+    /**
+     * Get the registry id of a schema, without calling the registry.
+     * 
+     * @param schema Avro schema of the record
+     * @return schema id, as written in the Confluent wire format header; empty until registered
+     */
+    public OptionalInt schemaId(Schema schema) {
+        Integer id = schemaIds.get(schema.getFullName());
+        return id != null ? OptionalInt.of(id) : OptionalInt.empty();
+    }
+    
+    /**
+     * Register the schemas that have no id yet (on the scheduler thread, outside any transaction).
+     */
+    @Scheduled(fixedDelayString = "${outbox.avro.registration-retry-interval:30s}")
+    public void registerSchemas() {
+        for (Schema schema : schemas) {
+            if (schemaIds.containsKey(schema.getFullName())) {
+                continue;
+            }
+            try {
+                schemaIds.put(schema.getFullName(), register(schema.getFullName(), schema));
+            } catch (RestClientException | IllegalStateException e) {
+                log.warn("Avro schema not registered, outbox stores JSON until it is: subject={}, error={}",
+                    schema.getFullName(), e.getMessage());
+            }
+        }
+    }
+    
+    private int register(String subject, Schema schema) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(SCHEMA_REGISTRY_JSON);
+        
+        @SuppressWarnings("unchecked")
+        Map<String, Object> response = restTemplate.postForObject(
+            registryUrl + "/subjects/{subject}/versions",
+            new HttpEntity<>(Map.of("schema", schema.toString()), headers),
+            Map.class,
+            subject
+        );
+        if (response == null || !(response.get("id") instanceof Number id)) {
+            throw new IllegalStateException("Schema Registry returned no id for subject " + subject);
+        }
+        log.info("Avro schema resolved: subject={}, id={}", subject, id);
+        return id.intValue();
+    }
+}
@@ -0,0 +1,99 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singularbank.signature.routing.domain.model.entity.AuditLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batched JDBC insert of audit_log rows.
+ *
+ * <p>All rows go out in one JDBC batch, sent as multi-row INSERT statements with
+ * {@code reWriteBatchedInserts=true} (see OutboxEventJdbcWriter). Audit rows are immutable, so
+ * bypassing the persistence context loses nothing. {@code changes} and {@code metadata} are
+ * serialized to jsonb with the application ObjectMapper.</p>
+ *
+ * <p>Rows whose id already exists are skipped ({@code ON CONFLICT (id) DO NOTHING}), so a
+ * spool replay resumed after a failure can send the same rows again.</p>
+ *
+ * @see AuditLogRepositoryAdapter#saveAll
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditLogJdbcWriter {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO audit_log
+            (id, timestamp, user_id, username, operation, entity_type, entity_id, entity_name,
+             changes, ip_address, user_agent, success, error_message, metadata)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb), ?, ?, ?, ?, CAST(? AS jsonb))
+        ON CONFLICT (id) DO NOTHING
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Insert audit rows in one JDBC batch (joins the caller's transaction, if any).
+     *
+     * @param auditLogs rows to insert
+     * @return number of rows sent (rows already present are skipped)
+     */
+    public int insertAll(List<AuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AuditLog auditLog = auditLogs.get(i);
+                Instant timestamp = auditLog.getTimestamp() != null ? auditLog.getTimestamp() : Instant.now();
+                ps.setObject(1, auditLog.getId());
+                ps.setTimestamp(2, Timestamp.from(timestamp));
+                ps.setObject(3, auditLog.getUserId());
+                ps.setString(4, auditLog.getUsername());
+                ps.setString(5, auditLog.getOperation().name());
+                ps.setString(6, auditLog.getEntityType().name());
+                ps.setString(7, auditLog.getEntityId());
+                ps.setString(8, auditLog.getEntityName());
+                ps.setString(9, toJson(auditLog.getChanges()));
+                ps.setString(10, auditLog.getIpAddress());
+                ps.setString(11, auditLog.getUserAgent());
+                ps.setBoolean(12, auditLog.isSuccess());
+                ps.setString(13, auditLog.getErrorMessage());
+                ps.setString(14, toJson(auditLog.getMetadata()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return auditLogs.size();
+            }
+        });
+        return auditLogs.size();
+    }
+
+    /**
+     * @throws DataIntegrityViolationException if the value is not serializable (the row can never be inserted)
+     */
+    private String toJson(Map<String, Object> value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new DataIntegrityViolationException("Audit log field not serializable to JSON", e);
+        }
+    }
+}
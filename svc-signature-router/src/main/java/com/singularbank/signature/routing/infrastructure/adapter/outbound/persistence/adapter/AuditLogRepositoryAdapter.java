@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
@@ -33,6 +34,7 @@ public class AuditLogRepositoryAdapter implements AuditLogRepository {
     
     private final AuditLogJpaRepository jpaRepository;
     private final AuditLogEntityMapper mapper;
+    private final AuditLogJdbcWriter jdbcWriter;
     
     @Override
     public AuditLog save(AuditLog auditLog) {
@@ -41,6 +43,12 @@ public class AuditLogRepositoryAdapter implements AuditLogRepository {
         return mapper.toDomain(saved);
     }
     
+    @Override
+    @Transactional
+    public void saveAll(List<AuditLog> auditLogs) {
+        jdbcWriter.insertAll(auditLogs);
+    }
+    
     @Override
     public Optional<AuditLog> findById(UUID id) {
         return jpaRepository.findById(id)
@@ -51,6 +51,18 @@ public class IdempotencyRepositoryAdapter implements IdempotencyRepository {
         return saved.toDomain();
     }
     
+    @Override
+    @Transactional
+    public boolean reserve(String idempotencyKey, String requestHash, Instant expiresAt) {
+        return jpaRepository.reserve(idempotencyKey, requestHash, expiresAt) > 0;
+    }
+    
+    @Override
+    @Transactional
+    public void release(String idempotencyKey) {
+        jpaRepository.deleteByIdempotencyKeyAndState(idempotencyKey, IdempotencyRecord.State.IN_PROGRESS);
+    }
+    
     @Override
     @Transactional
     public int deleteExpired(Instant cutoffTime) {
@@ -61,6 +73,25 @@ public class IdempotencyRepositoryAdapter implements IdempotencyRepository {
         return jpaRepository.deleteByExpiresAtBefore(cutoffTime);
     }
     
+    @Override
+    @Transactional
+    public int deleteExpiredBatch(Instant cutoffTime, int batchSize) {
+        if (cutoffTime == null) {
+            throw new IllegalArgumentException("Cutoff time cannot be null");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        
+        return jpaRepository.deleteExpiredBatch(cutoffTime, batchSize);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long countExpired(Instant cutoffTime) {
+        return jpaRepository.countByExpiresAtBefore(cutoffTime);
+    }
+    
     @Override
     @Transactional
     public void deleteById(UUID id) {
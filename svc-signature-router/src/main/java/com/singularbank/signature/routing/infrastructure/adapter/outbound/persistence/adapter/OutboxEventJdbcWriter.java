@@ -0,0 +1,77 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.adapter;
+
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.entity.OutboxEventEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Batched JDBC insert of outbox rows.
+ * 
+ * <p>All rows go out in one JDBC batch; with {@code reWriteBatchedInserts=true} on the
+ * PostgreSQL driver the batch is sent as multi-row INSERT statements (one round trip).
+ * {@link JdbcTemplate} takes the connection bound to the current transaction, so the rows
+ * commit atomically with the aggregate state written through JPA.</p>
+ * 
+ * <p>Rows are never updated by the application, so bypassing the persistence context
+ * loses nothing; Debezium only sees them at commit.</p>
+ * 
+ * @see com.singularbank.signature.routing.infrastructure.adapter.outbound.event.OutboxEventPublisherAdapter#publishAll
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventJdbcWriter {
+    
+    private static final String INSERT_SQL = """
+        INSERT INTO outbox_event
+            (id, aggregate_id, aggregate_type, event_type, payload, payload_avro, payload_format,
+             payload_hash, created_at, published_at)
+        VALUES (?, ?, ?, ?, CAST(? AS jsonb), ?, ?, ?, ?, NULL)
+        """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Insert outbox rows in one JDBC batch (must run inside the caller's transaction).
+     * 
+     * @param events rows to insert
+     * @return number of rows inserted
+     */
+    public int insertAll(List<OutboxEventEntity> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                OutboxEventEntity event = events.get(i);
+                ps.setObject(1, event.getId());
+                ps.setObject(2, event.getAggregateId());
+                ps.setString(3, event.getAggregateType());
+                ps.setString(4, event.getEventType());
+                ps.setString(5, event.getPayload());
+                if (event.getPayloadAvro() != null) {
+                    ps.setBytes(6, event.getPayloadAvro());
+                } else {
+                    ps.setNull(6, Types.BINARY);
+                }
+                ps.setString(7, event.getPayloadFormat());
+                ps.setString(8, event.getPayloadHash());
+                ps.setTimestamp(9, Timestamp.from(event.getCreatedAt()));
+            }
+            
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+        return events.size();
+    }
+}
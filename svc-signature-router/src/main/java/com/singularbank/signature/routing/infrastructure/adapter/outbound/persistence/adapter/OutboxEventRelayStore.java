@@ -0,0 +1,86 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.adapter;
+
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.entity.OutboxEventEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Claims and acknowledges outbox rows for the in-process relay.
+ * 
+ * <p>{@link #claimBatch} locks pending rows with {@code FOR UPDATE SKIP LOCKED}, so each
+ * replica claims a disjoint batch without blocking on the others. A row is skipped while an
+ * older event of the same aggregate is still pending: per-aggregate (per-partition-key)
+ * order holds even when consecutive events would land in batches of different replicas.
+ * Later events of an aggregate follow in the next claim.</p>
+ * 
+ * <p>Both methods must run in the relay's transaction; the locks are held until
+ * {@link #markPublished} commits.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OutboxEventRelayStore {
+    
+    private static final String CLAIM_SQL = """
+        SELECT o.id, o.aggregate_id, o.aggregate_type, o.event_type, o.payload, o.payload_avro,
+               o.payload_format, o.payload_hash, o.created_at
+        FROM outbox_event o
+        WHERE o.published_at IS NULL
+          AND NOT EXISTS (
+              SELECT 1 FROM outbox_event prior
+              WHERE prior.aggregate_id = o.aggregate_id
+                AND prior.published_at IS NULL
+                AND prior.id < o.id)
+        ORDER BY o.id
+        LIMIT :batchSize
+        FOR UPDATE OF o SKIP LOCKED
+        """;
+    
+    private static final String MARK_PUBLISHED_SQL =
+        "UPDATE outbox_event SET published_at = now() WHERE id IN (:ids)";
+    
+    private static final RowMapper<OutboxEventEntity> ROW_MAPPER = (rs, rowNum) -> OutboxEventEntity.builder()
+        .id(rs.getObject("id", UUID.class))
+        .aggregateId(rs.getObject("aggregate_id", UUID.class))
+        .aggregateType(rs.getString("aggregate_type"))
+        .eventType(rs.getString("event_type"))
+        .payload(rs.getString("payload"))
+        .payloadAvro(rs.getBytes("payload_avro"))
+        .payloadFormat(rs.getString("payload_format"))
+        .payloadHash(rs.getString("payload_hash"))
+        .createdAt(rs.getTimestamp("created_at").toInstant())
+        .build();
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    /**
+     * Lock up to {@code batchSize} pending rows, oldest first (UUIDv7 ids are time ordered).
+     * 
+     * @param batchSize max rows
+     * @return claimed rows, locked until the transaction ends
+     */
+    public List<OutboxEventEntity> claimBatch(int batchSize) {
+        return jdbcTemplate.query(CLAIM_SQL, new MapSqlParameterSource("batchSize", batchSize), ROW_MAPPER);
+    }
+    
+    /**
+     * Set published_at on acknowledged rows.
+     * 
+     * @param ids ids of rows acknowledged by the broker
+     * @return rows updated
+     */
+    public int markPublished(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(MARK_PUBLISHED_SQL, new MapSqlParameterSource("ids", ids));
+    }
+}
@@ -0,0 +1,71 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.adapter;
+
+import com.singularbank.signature.routing.domain.port.outbound.SLOSnapshotStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostgreSQL adapter implementing SLOSnapshotStore with the {@code slo_snapshot} table.
+ *
+ * <p>One row per instance, replaced with {@code INSERT ... ON CONFLICT DO UPDATE}. Snapshots are
+ * a few kilobytes, written every few minutes.</p>
+ *
+ * <p>Disable with {@code observability.slo.engine.persistence.enabled=false}; SLO history then
+ * restarts empty.</p>
+ *
+ * <p><b>Hexagonal Architecture:</b> Infrastructure adapter that implements domain port.</p>
+ */
+@Component
+@ConditionalOnProperty(value = "observability.slo.engine.persistence.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresSLOSnapshotStoreAdapter implements SLOSnapshotStore {
+
+    private static final String LOAD_SQL = "SELECT snapshot FROM slo_snapshot WHERE instance_id = :instanceId";
+
+    private static final String SAVE_SQL = """
+        INSERT INTO slo_snapshot (instance_id, snapshot, taken_at)
+        VALUES (:instanceId, :snapshot, :takenAt)
+        ON CONFLICT (instance_id) DO UPDATE SET
+            snapshot = EXCLUDED.snapshot,
+            taken_at = EXCLUDED.taken_at
+        """;
+
+    private static final String PURGE_SQL = "DELETE FROM slo_snapshot WHERE taken_at < :takenBefore";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<byte[]> load(String instanceId) {
+        List<byte[]> rows = jdbcTemplate.query(LOAD_SQL,
+            new MapSqlParameterSource("instanceId", instanceId),
+            (rs, rowNum) -> rs.getBytes("snapshot"));
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(String instanceId, byte[] snapshot, Instant takenAt) {
+        jdbcTemplate.update(SAVE_SQL, new MapSqlParameterSource()
+            .addValue("instanceId", instanceId)
+            .addValue("snapshot", snapshot)
+            .addValue("takenAt", Timestamp.from(takenAt)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int purgeOlderThan(Instant takenBefore) {
+        return jdbcTemplate.update(PURGE_SQL,
+            new MapSqlParameterSource("takenBefore", Timestamp.from(takenBefore)));
+    }
+}
@@ -21,6 +21,7 @@ import com.singularbank.signature.routing.domain.port.outbound.SignatureRequestR
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.entity.SignatureRequestEntity;
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.mapper.SignatureRequestEntityMapper;
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.repository.SignatureRequestJpaRepository;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.AggregatePersistEvent;
 
 /**
  * JPA adapter implementing domain repository port (Hexagonal Architecture).
@@ -119,9 +120,13 @@ public class SignatureRequestRepositoryAdapter implements SignatureRequestReposi
     @Override
     @Transactional
     public SignatureRequest save(SignatureRequest request) {
+        AggregatePersistEvent jfrEvent = new AggregatePersistEvent();
+        jfrEvent.begin();
         SignatureRequestEntity entity = mapper.toEntity(request);
         SignatureRequestEntity saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        SignatureRequest persisted = mapper.toDomain(saved);
+        jfrEvent.complete("SAVE", request.getId(), persisted);
+        return persisted;
     }
 
     /**
@@ -138,8 +143,12 @@ public class SignatureRequestRepositoryAdapter implements SignatureRequestReposi
     @Override
     @Transactional(readOnly = true)
     public Optional<SignatureRequest> findById(UUID id) {
-        return jpaRepository.findByIdWithChallenges(id)
+        AggregatePersistEvent jfrEvent = new AggregatePersistEvent();
+        jfrEvent.begin();
+        Optional<SignatureRequest> found = jpaRepository.findByIdWithChallenges(id)
                 .map(mapper::toDomain);
+        jfrEvent.complete("LOAD", id, found.orElse(null));
+        return found;
     }
 
     /**
@@ -35,10 +35,14 @@ public class IdempotencyRecordEntity {
     @Column(name = "request_hash", length = 64, nullable = false)
     private String requestHash;
     
-    @Column(name = "status_code", nullable = false)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", length = 20, nullable = false)
+    private IdempotencyRecord.State state;
+    
+    @Column(name = "status_code")
     private Integer statusCode;
     
-    @Column(name = "response_body", columnDefinition = "TEXT", nullable = false)
+    @Column(name = "response_body", columnDefinition = "TEXT")
     private String responseBody;
     
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -64,6 +68,7 @@ public class IdempotencyRecordEntity {
         return IdempotencyRecordEntity.builder()
             .idempotencyKey(domain.getIdempotencyKey())
             .requestHash(domain.getRequestHash())
+            .state(domain.getState())
             .statusCode(domain.getStatusCode())
             .responseBody(domain.getResponseBody())
             .createdAt(domain.getCreatedAt())
@@ -82,6 +87,7 @@ public class IdempotencyRecordEntity {
             .id(java.util.UUID.randomUUID()) // Domain model needs UUID, but DB uses idempotency_key as PK
             .idempotencyKey(idempotencyKey)
             .requestHash(requestHash)
+            .state(state)
             .statusCode(statusCode)
             .responseBody(responseBody)
             .createdAt(createdAt)
@@ -25,7 +25,9 @@ import java.util.UUID;
  *     aggregate_id UUID NOT NULL,
  *     aggregate_type VARCHAR(100) NOT NULL,
  *     event_type VARCHAR(100) NOT NULL,
- *     payload JSONB NOT NULL,
+ *     payload JSONB,
+ *     payload_avro BYTEA,
+ *     payload_format VARCHAR(10) NOT NULL DEFAULT 'JSON',
  *     payload_hash VARCHAR(64),
  *     created_at TIMESTAMPTZ NOT NULL,
  *     published_at TIMESTAMPTZ
@@ -44,6 +46,9 @@ import java.util.UUID;
 @AllArgsConstructor
 public class OutboxEventEntity {
     
+    public static final String PAYLOAD_FORMAT_JSON = "JSON";
+    public static final String PAYLOAD_FORMAT_AVRO = "AVRO";
+    
     /**
      * Primary key (UUIDv7 for time-ordered sorting).
      */
@@ -76,12 +81,26 @@ public class OutboxEventEntity {
      * Stored as JSONB in PostgreSQL for efficient querying.
      * Contains serialized DomainEvent fields.
      */
-    @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
+    @Column(name = "payload", columnDefinition = "jsonb")
     @JdbcTypeCode(SqlTypes.JSON)
-    private String payload;  // JSON string
+    private String payload;  // JSON string (null for AVRO rows)
+    
+    /**
+     * Event payload as Confluent-framed Avro (magic byte, schema id, Avro binary).
+     * Set instead of payload when payloadFormat is AVRO.
+     */
+    @Column(name = "payload_avro")
+    private byte[] payloadAvro;
+    
+    /**
+     * Payload encoding: JSON (payload column) or AVRO (payload_avro column).
+     */
+    @Column(name = "payload_format", nullable = false, length = 10)
+    @Builder.Default
+    private String payloadFormat = PAYLOAD_FORMAT_JSON;
     
     /**
-     * SHA-256 hash of payload for integrity validation.
+     * SHA-256 hash of payload (JSON text or Avro bytes) for integrity validation.
      * Used to detect tampering or corruption.
      */
     @Column(name = "payload_hash", length = 64)
@@ -1,5 +1,6 @@
 package com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.repository;
 
+import com.singularbank.signature.routing.domain.model.entity.IdempotencyRecord;
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.entity.IdempotencyRecordEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -26,6 +27,45 @@ public interface IdempotencyRecordJpaRepository extends JpaRepository<Idempotenc
      */
     Optional<IdempotencyRecordEntity> findByIdempotencyKey(String idempotencyKey);
     
+    /**
+     * Insert an IN_PROGRESS reservation, or take over an expired record.
+     * 
+     * <p>The conflict update only fires for expired rows, so a live key is never overwritten.</p>
+     * 
+     * @param idempotencyKey Idempotency key
+     * @param requestHash Request hash
+     * @param expiresAt Reservation expiry
+     * @return 1 if reserved, 0 if a live record exists
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        INSERT INTO idempotency_record (idempotency_key, request_hash, state, created_at, expires_at)
+        VALUES (:idempotencyKey, :requestHash, 'IN_PROGRESS', now(), :expiresAt)
+        ON CONFLICT (idempotency_key) DO UPDATE SET
+            request_hash = EXCLUDED.request_hash,
+            state = 'IN_PROGRESS',
+            status_code = NULL,
+            response_body = NULL,
+            created_at = now(),
+            expires_at = EXCLUDED.expires_at
+        WHERE idempotency_record.expires_at < now()
+        """)
+    int reserve(@Param("idempotencyKey") String idempotencyKey,
+                @Param("requestHash") String requestHash,
+                @Param("expiresAt") Instant expiresAt);
+    
+    /**
+     * Delete a record if it is in the given state.
+     * 
+     * @param idempotencyKey Idempotency key
+     * @param state Required state (IN_PROGRESS to release a reservation)
+     * @return Number of deleted records (0 or 1)
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordEntity ir WHERE ir.idempotencyKey = :idempotencyKey AND ir.state = :state")
+    int deleteByIdempotencyKeyAndState(@Param("idempotencyKey") String idempotencyKey,
+                                       @Param("state") IdempotencyRecord.State state);
+    
     /**
      * Delete expired idempotency records.
      * 
@@ -35,5 +75,34 @@ public interface IdempotencyRecordJpaRepository extends JpaRepository<Idempotenc
     @Modifying
     @Query("DELETE FROM IdempotencyRecordEntity ir WHERE ir.expiresAt < :cutoffTime")
     int deleteByExpiresAtBefore(@Param("cutoffTime") Instant cutoffTime);
+    
+    /**
+     * Delete up to {@code batchSize} expired records by physical row id.
+     * 
+     * <p>The sub-select walks idx_idempotency_expires_at and skips rows locked by another
+     * cleanup, keeping each transaction short and concurrent cleanups disjoint.</p>
+     * 
+     * @param cutoffTime Records with expiresAt before this time are eligible
+     * @param batchSize Maximum number of records to delete
+     * @return Number of deleted records
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        DELETE FROM idempotency_record
+        WHERE ctid IN (
+            SELECT ctid FROM idempotency_record
+            WHERE expires_at < :cutoffTime
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+        )
+        """)
+    int deleteExpiredBatch(@Param("cutoffTime") Instant cutoffTime, @Param("batchSize") int batchSize);
+    
+    /**
+     * Count expired records.
+     * 
+     * @param cutoffTime Records with expiresAt before this time are counted
+     * @return Number of expired records
+     */
+    long countByExpiresAtBefore(Instant cutoffTime);
 }
-
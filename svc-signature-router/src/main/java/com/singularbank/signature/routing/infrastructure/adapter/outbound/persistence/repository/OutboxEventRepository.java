@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -57,6 +58,15 @@ public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity,
     @Query("SELECT COUNT(o) FROM OutboxEventEntity o WHERE o.publishedAt IS NULL")
     long countPendingEvents();
     
+    /**
+     * Creation time of the oldest pending event.
+     * Used for Prometheus metrics: outbox.relay.lag.seconds gauge.
+     * 
+     * @return created_at of the oldest event with published_at IS NULL, or null if none
+     */
+    @Query("SELECT MIN(o.createdAt) FROM OutboxEventEntity o WHERE o.publishedAt IS NULL")
+    Instant findOldestPendingCreatedAt();
+    
     /**
      * Find pending events by event type for metrics breakdown.
      * 
@@ -4,6 +4,9 @@ import com.singularbank.signature.routing.domain.exception.NoAvailableProviderEx
 import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
 import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
 import com.singularbank.signature.routing.domain.service.ProviderSelectorService;
+import com.singularbank.signature.routing.infrastructure.config.FallbackChainConfig;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderHealthStats;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -13,22 +16,26 @@ import java.util.Map;
  * Implementation of ProviderSelectorService.
  * Story 2.4: Challenge Creation & Provider Selection
  * Story 3.1: Updated to use abstract provider types
- * 
- * Simple implementation with static mapping:
+ *
+ * Static mapping from channel to provider type:
  * - SMS → ProviderType.SMS
  * - PUSH → ProviderType.PUSH
  * - VOICE → ProviderType.VOICE
  * - BIOMETRIC → ProviderType.BIOMETRIC
- * 
- * Future enhancements (Epic 4):
- * - Circuit breaker integration
- * - Degraded mode detection
- * - Multiple providers per channel with load balancing
+ *
+ * There is one executing provider bean per type, so a channel has exactly one provider to
+ * route to. A provider is unavailable while its circuit breaker is OPEN or FORCED_OPEN
+ * (last known state from {@link ProviderHealthStats}).
+ *
+ * An unavailable provider is still selected when its channel has a fallback configured:
+ * the send then fails fast on the open circuit and ChallengeServiceImpl moves on to the
+ * fallback channel. Without a fallback, NoAvailableProviderException is thrown.
  */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class ProviderSelectorServiceImpl implements ProviderSelectorService {
-    
+
     // Static mapping: ChannelType → ProviderType
     // Story 3.1: Updated to use abstract provider types (not vendor-specific)
     private static final Map<ChannelType, ProviderType> CHANNEL_TO_PROVIDER = Map.of(
@@ -37,41 +44,47 @@ public class ProviderSelectorServiceImpl implements ProviderSelectorService {
         ChannelType.VOICE, ProviderType.VOICE,
         ChannelType.BIOMETRIC, ProviderType.BIOMETRIC
     );
-    
+
+    private final ProviderHealthStats providerHealthStats;
+    private final FallbackChainConfig fallbackChainConfig;
+
     @Override
     public ProviderType selectProvider(ChannelType channelType) {
         log.debug("Selecting provider for channel: {}", channelType);
-        
+
         if (channelType == null) {
             throw new IllegalArgumentException("channelType cannot be null");
         }
-        
+
         // Get mapped provider for channel
         ProviderType provider = CHANNEL_TO_PROVIDER.get(channelType);
-        
+
         if (provider == null) {
             log.error("No provider mapping configured for channel: {}", channelType);
             throw new NoAvailableProviderException(channelType, "No provider configured");
         }
-        
-        // Check if provider is available (not in degraded mode)
-        // For now, always return true (circuit breaker will be added in Epic 4)
+
         if (!isProviderAvailable(provider)) {
-            log.warn("Provider {} is not available (degraded mode)", provider);
-            throw new NoAvailableProviderException(channelType, 
+            if (fallbackChainConfig.isEnabled() && fallbackChainConfig.hasFallback(channelType)) {
+                // Let the fallback chain handle it: the open circuit fails the send fast
+                log.warn("Provider {} is not available (circuit open), selected for fallback to {}",
+                    provider, fallbackChainConfig.getFallbackChannel(channelType));
+                return provider;
+            }
+            log.warn("Provider {} is not available (circuit open)", provider);
+            throw new NoAvailableProviderException(channelType,
                 String.format("Provider %s is in degraded mode", provider));
         }
-        
+
         log.info("Provider selected: {} for channel: {}", provider, channelType);
         return provider;
     }
-    
+
     @Override
     public boolean isProviderAvailable(ProviderType providerType) {
-        // For Story 2.4: Always return true (no circuit breaker yet)
-        // Epic 4 will integrate with CircuitBreakerService
-        log.debug("Checking availability for provider: {} (always true for now)", providerType);
-        return true;
+        return switch (providerHealthStats.circuitState(providerType.name())) {
+            case OPEN, FORCED_OPEN -> false;
+            default -> true;
+        };
     }
 }
-
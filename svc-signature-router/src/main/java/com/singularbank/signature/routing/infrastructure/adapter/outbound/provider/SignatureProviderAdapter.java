@@ -5,6 +5,9 @@ import com.singularbank.signature.routing.domain.model.valueobject.HealthStatus;
 import com.singularbank.signature.routing.domain.model.valueobject.ProviderResult;
 import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
 import com.singularbank.signature.routing.domain.port.outbound.SignatureProviderPort;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.provider.simulator.ProviderSimulator;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.ProviderCallEvent;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.LatencyHistograms;
 import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderMetrics;
 import io.github.resilience4j.timelimiter.TimeLimiter;
 import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
@@ -17,6 +20,7 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -80,6 +84,8 @@ public class SignatureProviderAdapter implements SignatureProviderPort {
     private final MeterRegistry meterRegistry;
     private final ScheduledExecutorService providerExecutorService;
     private final ProviderMetrics providerMetrics;
+    private final LatencyHistograms latencyHistograms;
+    private final Optional<ProviderSimulator> providerSimulator;
     
     /**
      * Sends a challenge with timeout protection.
@@ -111,6 +117,8 @@ public class SignatureProviderAdapter implements SignatureProviderPort {
             throw new IllegalArgumentException("recipient cannot be null or blank");
         }
         
+        ProviderCallEvent jfrEvent = new ProviderCallEvent();
+        jfrEvent.begin();
         ProviderType providerType = challenge.getProvider();
         Instant startTime = Instant.now();
         
@@ -146,12 +154,14 @@ public class SignatureProviderAdapter implements SignatureProviderPort {
             
             // Record provider call metrics (Story 3.10 AC1, AC3, AC6)
             providerMetrics.recordProviderCall(
-                providerType.name(),
-                challenge.getChannelType().name(),
+                providerType,
+                challenge.getChannelType(),
                 result,
                 duration
             );
+            latencyHistograms.recordProviderCall(providerType.name(), duration);
             
+            jfrEvent.complete(challenge, result);
             return result;
             
         } catch (ExecutionException e) {
@@ -181,12 +191,14 @@ public class SignatureProviderAdapter implements SignatureProviderPort {
                 
                 // Record provider call metrics including timeout (Story 3.10 AC1, AC2)
                 providerMetrics.recordProviderCall(
-                    providerType.name(),
-                    challenge.getChannelType().name(),
+                    providerType,
+                    challenge.getChannelType(),
                     result,
                     duration
                 );
+                latencyHistograms.recordProviderCall(providerType.name(), duration);
                 
+                jfrEvent.complete(challenge, result);
                 return result;
             }
             
@@ -206,12 +218,14 @@ public class SignatureProviderAdapter implements SignatureProviderPort {
             
             // Record provider call metrics (Story 3.10 AC1)
             providerMetrics.recordProviderCall(
-                providerType.name(),
-                challenge.getChannelType().name(),
+                providerType,
+                challenge.getChannelType(),
                 result,
                 duration
             );
+            latencyHistograms.recordProviderCall(providerType.name(), duration);
             
+            jfrEvent.complete(challenge, result);
             return result;
             
         } catch (InterruptedException e) {
@@ -228,12 +242,14 @@ public class SignatureProviderAdapter implements SignatureProviderPort {
             
             // Record provider call metrics (Story 3.10 AC1)
             providerMetrics.recordProviderCall(
-                providerType.name(),
-                challenge.getChannelType().name(),
+                providerType,
+                challenge.getChannelType(),
                 result,
                 duration
             );
+            latencyHistograms.recordProviderCall(providerType.name(), duration);
             
+            jfrEvent.complete(challenge, result);
             return result;
         }
     }
@@ -305,11 +321,18 @@ public class SignatureProviderAdapter implements SignatureProviderPort {
      * <li>BIOMETRIC → biometricProvider</li>
      * </ul>
      * 
+     * <p>When the provider simulator is enabled ({@code providers.simulator.enabled=true}),
+     * the simulated provider of the type is returned instead.
+     * 
      * @param providerType the provider type
      * @return SignatureProviderPort implementation
      * @throws IllegalArgumentException if provider not found
      */
     private SignatureProviderPort getProviderImplementation(ProviderType providerType) {
+        if (providerSimulator.isPresent()) {
+            return providerSimulator.get().provider(providerType);
+        }
+        
         String beanName = switch (providerType) {
             case SMS -> "twilioSmsProvider";
             case PUSH -> "pushProvider";
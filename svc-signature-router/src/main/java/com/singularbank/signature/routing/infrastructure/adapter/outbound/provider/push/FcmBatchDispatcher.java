@@ -0,0 +1,194 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.provider.push;
+
+import com.google.api.core.ApiFuture;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-batching dispatcher for Firebase Cloud Messaging.
+ *
+ * <p>Instead of one blocking {@code firebaseMessaging.send(message)} HTTP call per challenge,
+ * pending push messages are accumulated and sent together with
+ * {@link FirebaseMessaging#sendEachAsync(List)}.
+ *
+ * <p><strong>Flush Triggers:</strong>
+ * <ul>
+ * <li>{@code providers.push.batch.max-size} messages pending → flush immediately on the submitting thread</li>
+ * <li>{@code providers.push.batch.linger-ms} elapsed since the first pending message → flush on the provider executor</li>
+ * <li>Application shutdown → flush whatever is pending</li>
+ * </ul>
+ *
+ * <p><strong>Result Mapping:</strong>
+ * FCM returns one {@link SendResponse} per message, in request order. Each response completes the
+ * future returned by {@link #submit(Message)} for that message, so PushNotificationProvider maps it
+ * to the challenge's own ProviderResult. A failure of the whole batch fails every future in it.
+ *
+ * <p><strong>Metrics Exported:</strong>
+ * <pre>
+ * provider.push.batch.size     - DistributionSummary (messages per batch)
+ * provider.push.batch.latency  - Timer (FCM round trip per batch)
+ * </pre>
+ *
+ * @see PushNotificationProvider
+ * @see PushProviderConfig.Batch
+ */
+@Component
+@ConditionalOnProperty(prefix = "providers.push.batch", name = "enabled", havingValue = "true")
+@Slf4j
+public class FcmBatchDispatcher {
+
+    /** Hard limit of FCM sendEach. */
+    static final int FCM_MAX_BATCH_SIZE = 500;
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final ScheduledExecutorService providerExecutorService;
+    private final int maxBatchSize;
+    private final long lingerMs;
+    private final DistributionSummary batchSize;
+    private final Timer batchLatency;
+
+    private final Object lock = new Object();
+    private List<PendingMessage> pending;
+    private ScheduledFuture<?> scheduledFlush;
+
+    public FcmBatchDispatcher(
+        FirebaseMessaging firebaseMessaging,
+        PushProviderConfig pushProviderConfig,
+        MeterRegistry meterRegistry,
+        ScheduledExecutorService providerExecutorService
+    ) {
+        this.firebaseMessaging = firebaseMessaging;
+        this.providerExecutorService = providerExecutorService;
+        this.maxBatchSize = Math.max(1, Math.min(pushProviderConfig.getBatch().getMaxSize(), FCM_MAX_BATCH_SIZE));
+        this.lingerMs = Math.max(0, pushProviderConfig.getBatch().getLingerMs());
+        this.pending = new ArrayList<>(maxBatchSize);
+        this.batchSize = DistributionSummary.builder("provider.push.batch.size")
+            .description("Push messages sent per FCM sendEach batch")
+            .register(meterRegistry);
+        this.batchLatency = Timer.builder("provider.push.batch.latency")
+            .description("FCM sendEach round trip per batch")
+            .register(meterRegistry);
+
+        log.info("FCM batch dispatcher enabled: maxBatchSize={}, lingerMs={}", maxBatchSize, lingerMs);
+    }
+
+    /**
+     * Queues a message for the next FCM batch.
+     *
+     * @param message the FCM message
+     * @return future completed with this message's SendResponse once its batch returns
+     */
+    public CompletableFuture<SendResponse> submit(Message message) {
+        PendingMessage pendingMessage = new PendingMessage(message, new CompletableFuture<>());
+        List<PendingMessage> fullBatch = null;
+
+        synchronized (lock) {
+            pending.add(pendingMessage);
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = drain();
+            } else if (pending.size() == 1) {
+                scheduledFlush = providerExecutorService.schedule(this::flush, lingerMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return pendingMessage.future();
+    }
+
+    /**
+     * Sends all pending messages now (linger timer and shutdown).
+     */
+    @PreDestroy
+    public void flush() {
+        List<PendingMessage> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Swaps out the pending list. Must be called while holding {@code lock}.
+     */
+    private List<PendingMessage> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<PendingMessage> batch = pending;
+        pending = new ArrayList<>(maxBatchSize);
+        return batch;
+    }
+
+    private void dispatch(List<PendingMessage> batch) {
+        List<Message> messages = new ArrayList<>(batch.size());
+        for (PendingMessage pendingMessage : batch) {
+            messages.add(pendingMessage.message());
+        }
+
+        batchSize.record(batch.size());
+        long start = System.nanoTime();
+
+        ApiFuture<BatchResponse> response;
+        try {
+            response = firebaseMessaging.sendEachAsync(messages);
+        } catch (RuntimeException e) {
+            batchLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            failAll(batch, e);
+            return;
+        }
+
+        response.addListener(() -> complete(batch, response, start), Runnable::run);
+    }
+
+    private void complete(List<PendingMessage> batch, ApiFuture<BatchResponse> response, long start) {
+        batchLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        try {
+            List<SendResponse> responses = response.get().getResponses();
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(responses.get(i));
+            }
+            log.debug("FCM batch sent: size={}, durationMs={}",
+                batch.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (ExecutionException e) {
+            log.error("FCM batch failed: size={}, error={}", batch.size(), e.getCause().getMessage());
+            failAll(batch, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failAll(batch, e);
+        } catch (RuntimeException e) {
+            log.error("FCM batch response could not be mapped: size={}", batch.size(), e);
+            failAll(batch, e);
+        }
+    }
+
+    private void failAll(List<PendingMessage> batch, Throwable error) {
+        for (PendingMessage pendingMessage : batch) {
+            pendingMessage.future().completeExceptionally(error);
+        }
+    }
+
+    private record PendingMessage(Message message, CompletableFuture<SendResponse> future) {}
+}
@@ -9,6 +9,7 @@ import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -22,7 +23,9 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
@@ -48,6 +51,11 @@ import java.util.concurrent.ScheduledExecutorService;
  * - Notification: Title + Body visible to user
  * - Data: Custom payload with challenge details
  * 
+ * Micro-batching (providers.push.batch.enabled=true):
+ * - Messages are handed to {@link FcmBatchDispatcher} and sent with FCM sendEach
+ * - Each message's SendResponse is mapped back to its own ProviderResult
+ * - sendChallengeAsync does not occupy a provider thread while the batch is in flight
+ * 
  * Bean name: pushProvider (maps to ProviderType.PUSH)
  * 
  * @since Story 3.3
@@ -67,6 +75,7 @@ public class PushNotificationProvider implements SignatureProviderPort {
     private final FirebaseMessaging firebaseMessaging;
     private final MeterRegistry meterRegistry;
     private final ScheduledExecutorService providerExecutorService;
+    private final Optional<FcmBatchDispatcher> batchDispatcher;
     
     // Health check cache (30 seconds TTL)
     private volatile HealthStatus cachedHealthStatus;
@@ -106,6 +115,14 @@ public class PushNotificationProvider implements SignatureProviderPort {
             throw new IllegalArgumentException("deviceToken cannot be blank");
         }
         
+        if (batchDispatcher.isPresent()) {
+            try {
+                return sendBatched(challenge, deviceToken).join();
+            } catch (CompletionException e) {
+                return ProviderResult.failure("PROVIDER_ERROR", e.getCause().getMessage());
+            }
+        }
+        
         log.info("Sending push notification: challengeId={}, deviceToken={}", 
             challenge.getId(), maskToken(deviceToken));
         
@@ -118,19 +135,69 @@ public class PushNotificationProvider implements SignatureProviderPort {
             // Send via FCM
             String messageId = firebaseMessaging.send(message);
             
-            // Build provider proof
-            String providerProof = buildProviderProof(messageId, deviceToken);
-            
-            // Record metrics
-            sample.stop(meterRegistry.timer(METRIC_PREFIX + ".latency", "status", "success"));
-            meterRegistry.counter(METRIC_PREFIX + ".calls", "status", "success").increment();
-            
-            log.info("Push notification sent successfully: challengeId={}, messageId={}", 
-                challenge.getId(), messageId);
+            return toSuccess(challenge, deviceToken, messageId, sample);
             
-            return ProviderResult.success(messageId, providerProof);
-            
-        } catch (FirebaseMessagingException e) {
+        } catch (Exception e) {
+            return toFailure(challenge, e, sample);
+        }
+    }
+    
+    /**
+     * Sends a signature challenge through the FCM batch dispatcher.
+     * 
+     * <p>The returned future completes when the batch containing this message returns,
+     * with the ProviderResult mapped from this message's own SendResponse.
+     * 
+     * @param challenge The signature challenge
+     * @param deviceToken The FCM device token
+     * @return future completing with the ProviderResult of this challenge
+     */
+    private CompletableFuture<ProviderResult> sendBatched(SignatureChallenge challenge, String deviceToken) {
+        log.info("Queueing push notification for FCM batch: challengeId={}, deviceToken={}", 
+            challenge.getId(), maskToken(deviceToken));
+        
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Message message = buildFcmMessage(challenge, deviceToken);
+        
+        return batchDispatcher.get().submit(message).handle((SendResponse response, Throwable error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null 
+                    ? error.getCause() 
+                    : error;
+                return toFailure(challenge, cause, sample);
+            }
+            if (response.isSuccessful()) {
+                return toSuccess(challenge, deviceToken, response.getMessageId(), sample);
+            }
+            return toFailure(challenge, response.getException(), sample);
+        });
+    }
+    
+    /**
+     * Records success metrics and builds the success ProviderResult.
+     */
+    private ProviderResult toSuccess(SignatureChallenge challenge, String deviceToken, 
+                                     String messageId, Timer.Sample sample) {
+        // Build provider proof
+        String providerProof = buildProviderProof(messageId, deviceToken);
+        
+        // Record metrics
+        sample.stop(meterRegistry.timer(METRIC_PREFIX + ".latency", "status", "success"));
+        meterRegistry.counter(METRIC_PREFIX + ".calls", "status", "success").increment();
+        
+        log.info("Push notification sent successfully: challengeId={}, messageId={}", 
+            challenge.getId(), messageId);
+        
+        return ProviderResult.success(messageId, providerProof);
+    }
+    
+    /**
+     * Records error metrics and maps the error to a failure ProviderResult.
+     * 
+     * <p>FirebaseMessagingException → FCM_ERROR_{messagingErrorCode}, anything else → PROVIDER_ERROR.
+     */
+    private ProviderResult toFailure(SignatureChallenge challenge, Throwable error, Timer.Sample sample) {
+        if (error instanceof FirebaseMessagingException e) {
             String errorCode = "FCM_ERROR_" + (e.getMessagingErrorCode() != null 
                 ? e.getMessagingErrorCode().name() 
                 : "UNKNOWN");
@@ -142,16 +209,15 @@ public class PushNotificationProvider implements SignatureProviderPort {
                 challenge.getId(), errorCode, e.getMessage());
             
             return ProviderResult.failure(errorCode, e.getMessage());
-            
-        } catch (Exception e) {
-            sample.stop(meterRegistry.timer(METRIC_PREFIX + ".latency", "status", "error", "error_code", "PROVIDER_ERROR"));
-            meterRegistry.counter(METRIC_PREFIX + ".errors", "error_code", "PROVIDER_ERROR").increment();
-            
-            log.error("Unexpected error sending push notification: challengeId={}", 
-                challenge.getId(), e);
-            
-            return ProviderResult.failure("PROVIDER_ERROR", e.getMessage());
         }
+        
+        sample.stop(meterRegistry.timer(METRIC_PREFIX + ".latency", "status", "error", "error_code", "PROVIDER_ERROR"));
+        meterRegistry.counter(METRIC_PREFIX + ".errors", "error_code", "PROVIDER_ERROR").increment();
+        
+        log.error("Unexpected error sending push notification: challengeId={}", 
+            challenge.getId(), error);
+        
+        return ProviderResult.failure("PROVIDER_ERROR", error.getMessage());
     }
     
     /**
@@ -167,7 +233,8 @@ public class PushNotificationProvider implements SignatureProviderPort {
      * 
      * <p><strong>Implementation Note:</strong>
      * This method reuses the existing synchronous logic (DRY principle) rather than
-     * duplicating the FCM API call implementation.
+     * duplicating the FCM API call implementation. When micro-batching is enabled the
+     * future comes straight from {@link FcmBatchDispatcher} instead.
      * 
      * @param challenge the signature challenge to send
      * @param deviceToken the FCM device registration token
@@ -178,6 +245,15 @@ public class PushNotificationProvider implements SignatureProviderPort {
     @Override
     public CompletableFuture<ProviderResult> sendChallengeAsync(
             SignatureChallenge challenge, String deviceToken) {
+        if (batchDispatcher.isPresent()) {
+            Objects.requireNonNull(challenge, "challenge cannot be null");
+            Objects.requireNonNull(deviceToken, "deviceToken cannot be null");
+            if (deviceToken.isBlank()) {
+                throw new IllegalArgumentException("deviceToken cannot be blank");
+            }
+            // Batched: the future completes when the FCM batch returns, no thread is parked
+            return sendBatched(challenge, deviceToken);
+        }
         return CompletableFuture.supplyAsync(
             () -> sendChallenge(challenge, deviceToken),
             providerExecutorService
@@ -12,6 +12,11 @@ import org.springframework.context.annotation.Configuration;
  * - fcm.server-key: Firebase Cloud Messaging server key
  * - fcm.sender-id: Firebase sender ID
  * - fcm.project-id: Firebase project ID
+ * 
+ * Micro-batching (providers.push.batch.*):
+ * - enabled: accumulate push challenges and send them with FCM sendEach
+ * - max-size: flush as soon as this many messages are pending (FCM limit: 500)
+ * - linger-ms: flush at the latest this long after the first pending message
  */
 @Configuration
 @ConfigurationProperties(prefix = "providers.push")
@@ -20,6 +25,7 @@ public class PushProviderConfig {
     private boolean enabled = true;  // Feature flag
     private String apiUrl = "https://fcm.googleapis.com/fcm/send";  // Future use
     private int timeoutSeconds = 3;
+    private Batch batch = new Batch();
     
     // Getters and setters
     
@@ -46,5 +52,46 @@ public class PushProviderConfig {
     public void setTimeoutSeconds(int timeoutSeconds) {
         this.timeoutSeconds = timeoutSeconds;
     }
+    
+    public Batch getBatch() {
+        return batch;
+    }
+    
+    public void setBatch(Batch batch) {
+        this.batch = batch;
+    }
+    
+    /**
+     * Micro-batching settings for FcmBatchDispatcher.
+     */
+    public static class Batch {
+        
+        private boolean enabled = false;  // Feature flag
+        private int maxSize = 100;  // FCM sendEach accepts up to 500 messages
+        private long lingerMs = 5;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getMaxSize() {
+            return maxSize;
+        }
+        
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+        
+        public long getLingerMs() {
+            return lingerMs;
+        }
+        
+        public void setLingerMs(long lingerMs) {
+            this.lingerMs = lingerMs;
+        }
+    }
 }
-
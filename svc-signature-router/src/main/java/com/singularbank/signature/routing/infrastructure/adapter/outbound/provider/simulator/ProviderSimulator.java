@@ -0,0 +1,178 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.provider.simulator;
+
+import com.singularbank.signature.routing.domain.exception.NotFoundException;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Registry of simulated providers, one per {@link ProviderType}.
+ *
+ * <p>Enabled with {@code providers.simulator.enabled=true}. SignatureProviderAdapter then routes
+ * every provider type to {@link #provider(ProviderType)} instead of the real provider beans,
+ * keeping TimeLimiter, metrics, circuit breakers and fallback logic unchanged.
+ *
+ * <p>Runtime control (used by ProviderSimulatorController):
+ * <ul>
+ * <li>{@link #updateProfile} replaces a provider's steady-state profile</li>
+ * <li>{@link #startScenario} runs a scripted outage from {@code providers.simulator.scenarios}</li>
+ * <li>{@link #stopScenario} ends it early</li>
+ * </ul>
+ *
+ * @see ProviderSimulatorConfig
+ * @see SimulatedSignatureProvider
+ */
+@Component
+@ConditionalOnProperty(prefix = "providers.simulator", name = "enabled", havingValue = "true")
+@Slf4j
+public class ProviderSimulator {
+
+    private final ProviderSimulatorConfig config;
+    private final Map<ProviderType, SimulatedSignatureProvider> providers = new EnumMap<>(ProviderType.class);
+
+    public ProviderSimulator(
+        ProviderSimulatorConfig config,
+        CircuitBreakerRegistry circuitBreakerRegistry,
+        MeterRegistry meterRegistry,
+        ScheduledExecutorService providerExecutorService
+    ) {
+        this.config = config;
+        for (ProviderType type : ProviderType.values()) {
+            ProviderSimulatorConfig.Profile profile =
+                config.getProfiles().getOrDefault(type, new ProviderSimulatorConfig.Profile());
+            providers.put(type, new SimulatedSignatureProvider(
+                type,
+                profile,
+                circuitBreakerRegistry.circuitBreaker(type.name().toLowerCase() + "Provider"),
+                meterRegistry,
+                providerExecutorService
+            ));
+        }
+        log.warn("🎭 PROVIDER SIMULATOR ENABLED - no real SMS, push, voice or biometric calls will be made");
+    }
+
+    /**
+     * Get the simulated provider for a type.
+     *
+     * @param providerType the provider type
+     * @return simulated provider (never null)
+     */
+    public SimulatedSignatureProvider provider(ProviderType providerType) {
+        return providers.get(providerType);
+    }
+
+    /**
+     * Replace the steady-state profile of a provider.
+     *
+     * @param providerType the provider type
+     * @param profile      the new profile
+     * @return the provider's new state
+     */
+    public SimulatorState updateProfile(ProviderType providerType, ProviderSimulatorConfig.Profile profile) {
+        providers.get(providerType).setProfile(profile);
+        log.info("Simulator profile updated: provider={}, distribution={}, latencyMs={}, errorRate={}, timeoutRate={}",
+            providerType, profile.getDistribution(), profile.getLatencyMs(),
+            profile.getErrorRate(), profile.getTimeoutRate());
+        return state(providerType);
+    }
+
+    /**
+     * Start a configured outage scenario on a provider (replaces any running scenario).
+     *
+     * @param providerType the provider type
+     * @param scenarioName name under {@code providers.simulator.scenarios}
+     * @return the provider's new state
+     * @throws NotFoundException if the scenario is not configured
+     */
+    public SimulatorState startScenario(ProviderType providerType, String scenarioName) {
+        ProviderSimulatorConfig.Scenario scenario = config.getScenarios().get(scenarioName);
+        if (scenario == null || scenario.getPhases().isEmpty()) {
+            throw new NotFoundException("Simulator scenario", scenarioName);
+        }
+        providers.get(providerType).startScenario(scenarioName, scenario);
+        log.warn("Simulator scenario '{}' started on {} ({} phases)",
+            scenarioName, providerType, scenario.getPhases().size());
+        return state(providerType);
+    }
+
+    /**
+     * Stop the running scenario of a provider, if any.
+     *
+     * @param providerType the provider type
+     * @return the provider's new state
+     */
+    public SimulatorState stopScenario(ProviderType providerType) {
+        providers.get(providerType).stopScenario();
+        log.info("Simulator scenario stopped on {}", providerType);
+        return state(providerType);
+    }
+
+    /**
+     * Current state of every simulated provider.
+     *
+     * @return one entry per provider type
+     */
+    public List<SimulatorState> getState() {
+        List<SimulatorState> states = new ArrayList<>(providers.size());
+        for (ProviderType type : providers.keySet()) {
+            states.add(state(type));
+        }
+        return states;
+    }
+
+    /**
+     * Configured scenario names.
+     *
+     * @return scenario names
+     */
+    public List<String> getScenarioNames() {
+        return config.getScenarios().keySet().stream().sorted().toList();
+    }
+
+    private SimulatorState state(ProviderType providerType) {
+        SimulatedSignatureProvider provider = providers.get(providerType);
+        SimulatedSignatureProvider.Behaviour behaviour = provider.currentBehaviour();
+        return new SimulatorState(
+            providerType,
+            behaviour.profile(),
+            behaviour.scenarioName(),
+            behaviour.scenarioName() != null ? behaviour.phaseIndex() : null,
+            behaviour.phaseRemainingMs(),
+            behaviour.errorRate(),
+            behaviour.timeoutRate(),
+            behaviour.latencyMultiplier()
+        );
+    }
+
+    /**
+     * Point-in-time view of a simulated provider.
+     *
+     * @param providerType          provider type
+     * @param profile               steady-state profile
+     * @param scenario              running scenario (null if none)
+     * @param phase                 running phase index (null if none)
+     * @param phaseRemainingMs      time left in the running phase
+     * @param effectiveErrorRate    error rate currently applied
+     * @param effectiveTimeoutRate  timeout rate currently applied
+     * @param latencyMultiplier     latency multiplier currently applied
+     */
+    public record SimulatorState(
+        ProviderType providerType,
+        ProviderSimulatorConfig.Profile profile,
+        String scenario,
+        Integer phase,
+        long phaseRemainingMs,
+        double effectiveErrorRate,
+        double effectiveTimeoutRate,
+        double latencyMultiplier
+    ) {}
+}
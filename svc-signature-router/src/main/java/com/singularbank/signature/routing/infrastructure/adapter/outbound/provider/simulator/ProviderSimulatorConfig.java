@@ -0,0 +1,171 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.provider.simulator;
+
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration for the provider simulator (local load and chaos testing).
+ *
+ * <p>When enabled, every provider type is served by a {@link SimulatedSignatureProvider}
+ * instead of Twilio / FCM / biometric SDKs, so circuit breakers, fallback chains, degraded
+ * mode and throughput can be exercised without any external account.
+ *
+ * <p><strong>Configuration Example:</strong>
+ * <pre>
+ * providers:
+ *   simulator:
+ *     enabled: true
+ *     profiles:
+ *       SMS:
+ *         distribution: NORMAL
+ *         latency-ms: 800
+ *         latency-std-dev-ms: 300
+ *         error-rate: 0.02
+ *         max-throughput-per-second: 50
+ *       PUSH:
+ *         distribution: PARETO
+ *         latency-ms: 150     # scale (minimum latency)
+ *         pareto-shape: 2.0   # lower = longer tail
+ *     scenarios:
+ *       sms-outage:
+ *         phases:
+ *           - duration: 30s
+ *             error-rate: 1.0
+ *           - duration: 60s
+ *             latency-multiplier: 3
+ *             error-rate: 0.3
+ * </pre>
+ *
+ * <p>Profiles and scenarios can be switched at runtime through the simulator admin endpoint.
+ *
+ * @see ProviderSimulator
+ */
+@Configuration
+@ConfigurationProperties(prefix = "providers.simulator")
+@Data
+@Validated
+public class ProviderSimulatorConfig {
+
+    /**
+     * Replace real providers with simulated ones.
+     * Default: false
+     */
+    private boolean enabled = false;
+
+    /**
+     * Behaviour profile per provider type (types not listed use the {@link Profile} defaults).
+     */
+    @Valid
+    private Map<ProviderType, Profile> profiles = new EnumMap<>(ProviderType.class);
+
+    /**
+     * Named outage scenarios that can be started on any provider type.
+     */
+    @Valid
+    private Map<String, Scenario> scenarios = new HashMap<>();
+
+    /**
+     * Latency distribution of a simulated provider.
+     */
+    public enum LatencyDistribution {
+        /** Always {@code latencyMs}. */
+        FIXED,
+        /** Gaussian around {@code latencyMs} with {@code latencyStdDevMs}, truncated at 0. */
+        NORMAL,
+        /** Pareto with scale {@code latencyMs} and shape {@code paretoShape} (long tail). */
+        PARETO
+    }
+
+    /**
+     * Steady-state behaviour of a simulated provider.
+     */
+    @Data
+    public static class Profile {
+
+        @NotNull
+        private LatencyDistribution distribution = LatencyDistribution.FIXED;
+
+        /** Fixed latency, normal mean or Pareto scale (milliseconds). */
+        @Min(0)
+        private long latencyMs = 100;
+
+        /** Standard deviation for NORMAL (milliseconds). */
+        @Min(0)
+        private long latencyStdDevMs = 0;
+
+        /** Shape (alpha) for PARETO; values close to 1 give a very heavy tail. */
+        @DecimalMin("1.01")
+        private double paretoShape = 2.0;
+
+        /** Upper bound for any sampled latency (milliseconds). */
+        @Min(0)
+        private long maxLatencyMs = 30_000;
+
+        /** Probability (0.0 - 1.0) that a call fails with a provider error. */
+        @DecimalMin("0.0")
+        @DecimalMax("1.0")
+        private double errorRate = 0.0;
+
+        /** Probability (0.0 - 1.0) that a call hangs until the TimeLimiter cancels it. */
+        @DecimalMin("0.0")
+        @DecimalMax("1.0")
+        private double timeoutRate = 0.0;
+
+        /** How long a "hanging" call blocks before giving up on its own. */
+        @NotNull
+        private Duration hangDuration = Duration.ofSeconds(60);
+
+        /** Max accepted calls per second; excess calls fail with THROTTLED. 0 = unlimited. */
+        @Min(0)
+        private int maxThroughputPerSecond = 0;
+    }
+
+    /**
+     * Scripted outage: phases applied one after another, then the provider returns to its profile.
+     */
+    @Data
+    public static class Scenario {
+
+        @NotEmpty
+        @Valid
+        private List<Phase> phases = new ArrayList<>();
+    }
+
+    /**
+     * One phase of a scenario. Unset rates keep the profile value.
+     */
+    @Data
+    public static class Phase {
+
+        @NotNull
+        private Duration duration = Duration.ofSeconds(30);
+
+        @DecimalMin("0.0")
+        @DecimalMax("1.0")
+        private Double errorRate;
+
+        @DecimalMin("0.0")
+        @DecimalMax("1.0")
+        private Double timeoutRate;
+
+        /** Multiplier applied to every sampled latency during the phase. */
+        @DecimalMin("0.0")
+        private double latencyMultiplier = 1.0;
+    }
+}
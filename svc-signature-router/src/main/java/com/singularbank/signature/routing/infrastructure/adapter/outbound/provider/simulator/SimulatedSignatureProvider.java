@@ -0,0 +1,294 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.provider.simulator;
+
+import com.singularbank.signature.routing.domain.model.entity.SignatureChallenge;
+import com.singularbank.signature.routing.domain.model.valueobject.HealthStatus;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderResult;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
+import com.singularbank.signature.routing.domain.port.outbound.SignatureProviderPort;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Simulated provider for one {@link ProviderType}.
+ *
+ * <p>Each call goes through the type's Resilience4j circuit breaker (smsProvider, pushProvider,
+ * ...) and then:
+ * <ol>
+ * <li>Rejects the call with THROTTLED when the per-second throughput cap is exceeded</li>
+ * <li>Hangs for {@code hangDuration} with probability {@code timeoutRate} (the TimeLimiter
+ *     in SignatureProviderAdapter times out first, exactly like a stuck vendor call)</li>
+ * <li>Completes after a latency sampled from the profile's distribution</li>
+ * <li>Fails with SIMULATED_ERROR with probability {@code errorRate}</li>
+ * </ol>
+ * Hangs and latencies are delayed completions ({@link CompletableFuture#delayedExecutor}), not
+ * sleeps: no thread of the shared provider executor is held while a call is pending, so a hang
+ * profile cannot starve real providers. Injected failures complete the future inside the circuit
+ * breaker so they count towards its failure rate, and are returned to callers as
+ * {@link ProviderResult#failure} like real providers do.
+ *
+ * <p>The active profile and scenario can be replaced at runtime; both are held in atomic
+ * references and read once per call.
+ *
+ * <p><strong>Metrics Exported:</strong>
+ * <pre>
+ * provider.simulator.calls{provider, outcome=success|error|timeout|throttled|circuit_open}
+ * </pre>
+ *
+ * @see ProviderSimulator
+ */
+@Slf4j
+public class SimulatedSignatureProvider implements SignatureProviderPort {
+
+    private static final String METRIC_NAME = "provider.simulator.calls";
+
+    private final ProviderType providerType;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService providerExecutorService;
+
+    private final AtomicReference<ProviderSimulatorConfig.Profile> profile;
+    private final AtomicReference<ActiveScenario> scenario = new AtomicReference<>();
+
+    // Fixed one-second window for the throughput cap
+    private final AtomicLong throughputWindow = new AtomicLong(-1);
+    private final AtomicInteger throughputCount = new AtomicInteger();
+
+    public SimulatedSignatureProvider(
+        ProviderType providerType,
+        ProviderSimulatorConfig.Profile profile,
+        CircuitBreaker circuitBreaker,
+        MeterRegistry meterRegistry,
+        ScheduledExecutorService providerExecutorService
+    ) {
+        this.providerType = providerType;
+        this.profile = new AtomicReference<>(profile);
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.providerExecutorService = providerExecutorService;
+    }
+
+    @Override
+    public ProviderResult sendChallenge(SignatureChallenge challenge, String recipient) {
+        return sendChallengeAsync(challenge, recipient).join();
+    }
+
+    @Override
+    public CompletableFuture<ProviderResult> sendChallengeAsync(SignatureChallenge challenge, String recipient) {
+        Objects.requireNonNull(challenge, "challenge cannot be null");
+        Objects.requireNonNull(recipient, "recipient cannot be null");
+
+        Behaviour behaviour = currentBehaviour();
+
+        return circuitBreaker.executeCompletionStage(() -> simulateCall(challenge, behaviour))
+            .toCompletableFuture()
+            .handle((result, error) -> {
+                if (error == null) {
+                    count("success");
+                    return result;
+                }
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+                if (cause instanceof CallNotPermittedException) {
+                    count("circuit_open");
+                    return ProviderResult.failure("CIRCUIT_OPEN", "Simulated " + providerType + " circuit breaker is open");
+                }
+                if (cause instanceof SimulatedFailure failure) {
+                    count(failure.outcome);
+                    return ProviderResult.failure(failure.errorCode, failure.getMessage());
+                }
+                count("error");
+                return ProviderResult.failure("PROVIDER_ERROR", cause.getMessage());
+            });
+    }
+
+    @Override
+    public HealthStatus checkHealth(ProviderType type) {
+        if (type != providerType) {
+            throw new IllegalArgumentException("Expected " + providerType + " provider type, got: " + type);
+        }
+
+        Behaviour behaviour = currentBehaviour();
+        if (behaviour.errorRate() >= 1.0) {
+            return HealthStatus.down(String.format("Simulated %s outage (scenario: %s, phase: %d)",
+                providerType, behaviour.scenarioName(), behaviour.phaseIndex()));
+        }
+        return HealthStatus.up(String.format("Simulated %s provider (%s latency, error rate %.2f)",
+            providerType, behaviour.profile().getDistribution(), behaviour.errorRate()));
+    }
+
+    public ProviderType getProviderType() {
+        return providerType;
+    }
+
+    public ProviderSimulatorConfig.Profile getProfile() {
+        return profile.get();
+    }
+
+    void setProfile(ProviderSimulatorConfig.Profile newProfile) {
+        profile.set(newProfile);
+    }
+
+    void startScenario(String name, ProviderSimulatorConfig.Scenario definition) {
+        scenario.set(new ActiveScenario(name, List.copyOf(definition.getPhases()), System.nanoTime()));
+    }
+
+    void stopScenario() {
+        scenario.set(null);
+    }
+
+    /**
+     * Effective behaviour right now: the profile overlaid with the active scenario phase, if any.
+     */
+    Behaviour currentBehaviour() {
+        ProviderSimulatorConfig.Profile current = profile.get();
+        ActiveScenario active = scenario.get();
+
+        if (active != null) {
+            long elapsedMs = (System.nanoTime() - active.startNanos()) / 1_000_000;
+            long phaseEndMs = 0;
+            for (int i = 0; i < active.phases().size(); i++) {
+                ProviderSimulatorConfig.Phase phase = active.phases().get(i);
+                phaseEndMs += phase.getDuration().toMillis();
+                if (elapsedMs < phaseEndMs) {
+                    return new Behaviour(
+                        current,
+                        phase.getErrorRate() != null ? phase.getErrorRate() : current.getErrorRate(),
+                        phase.getTimeoutRate() != null ? phase.getTimeoutRate() : current.getTimeoutRate(),
+                        phase.getLatencyMultiplier(),
+                        active.name(),
+                        i,
+                        phaseEndMs - elapsedMs
+                    );
+                }
+            }
+            // Scenario finished: back to the steady-state profile
+            if (scenario.compareAndSet(active, null)) {
+                log.info("Simulator scenario '{}' finished on {}", active.name(), providerType);
+            }
+        }
+
+        return new Behaviour(current, current.getErrorRate(), current.getTimeoutRate(), 1.0, null, -1, 0);
+    }
+
+    /**
+     * Decides the outcome now and completes it after the simulated delay.
+     */
+    private CompletableFuture<ProviderResult> simulateCall(SignatureChallenge challenge, Behaviour behaviour) {
+        ProviderSimulatorConfig.Profile current = behaviour.profile();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (!admit(current.getMaxThroughputPerSecond())) {
+            return CompletableFuture.failedFuture(new SimulatedFailure("throttled", "THROTTLED",
+                "Simulated " + providerType + " throughput cap exceeded (" + current.getMaxThroughputPerSecond() + "/s)"));
+        }
+
+        if (random.nextDouble() < behaviour.timeoutRate()) {
+            return completeAfter(current.getHangDuration().toMillis(), () -> {
+                throw new SimulatedFailure("timeout", "TIMEOUT", "Simulated " + providerType + " call hung");
+            });
+        }
+
+        long latencyMs = Math.round(sampleLatencyMs(current, random) * behaviour.latencyMultiplier());
+        boolean fail = random.nextDouble() < behaviour.errorRate();
+
+        return completeAfter(latencyMs, () -> {
+            if (fail) {
+                throw new SimulatedFailure("error", "SIMULATED_ERROR",
+                    "Simulated " + providerType + " provider error after " + latencyMs + "ms");
+            }
+            String id = "SIM-" + providerType + "-" + UUID.randomUUID();
+            String proof = String.format(
+                "{\"provider\":\"simulator\",\"type\":\"%s\",\"id\":\"%s\",\"challengeId\":\"%s\",\"latencyMs\":%d,\"timestamp\":\"%s\"}",
+                providerType, id, challenge.getId(), latencyMs, Instant.now()
+            );
+            return ProviderResult.success(id, proof);
+        });
+    }
+
+    /**
+     * Runs {@code outcome} on the provider executor once {@code delayMs} has elapsed (inline when 0).
+     */
+    private CompletableFuture<ProviderResult> completeAfter(long delayMs, Supplier<ProviderResult> outcome) {
+        Executor executor = delayMs > 0
+            ? CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS, providerExecutorService)
+            : Runnable::run;
+        return CompletableFuture.supplyAsync(outcome, executor);
+    }
+
+    /**
+     * Samples a latency from the profile's distribution, capped at {@code maxLatencyMs}.
+     */
+    static double sampleLatencyMs(ProviderSimulatorConfig.Profile profile, ThreadLocalRandom random) {
+        double sample = switch (profile.getDistribution()) {
+            case FIXED -> profile.getLatencyMs();
+            case NORMAL -> Math.max(0.0,
+                profile.getLatencyMs() + random.nextGaussian() * profile.getLatencyStdDevMs());
+            // Inverse CDF: scale / U^(1/shape), U in (0, 1]
+            case PARETO -> profile.getLatencyMs()
+                / Math.pow(1.0 - random.nextDouble(), 1.0 / profile.getParetoShape());
+        };
+        return Math.min(sample, profile.getMaxLatencyMs());
+    }
+
+    private boolean admit(int maxPerSecond) {
+        if (maxPerSecond <= 0) {
+            return true;
+        }
+        long second = System.nanoTime() / 1_000_000_000L;
+        long window = throughputWindow.get();
+        if (window != second && throughputWindow.compareAndSet(window, second)) {
+            throughputCount.set(0);
+        }
+        return throughputCount.incrementAndGet() <= maxPerSecond;
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter(METRIC_NAME, "provider", providerType.name(), "outcome", outcome).increment();
+    }
+
+    /**
+     * Effective behaviour for one call.
+     */
+    record Behaviour(
+        ProviderSimulatorConfig.Profile profile,
+        double errorRate,
+        double timeoutRate,
+        double latencyMultiplier,
+        String scenarioName,
+        int phaseIndex,
+        long phaseRemainingMs
+    ) {}
+
+    private record ActiveScenario(String name, List<ProviderSimulatorConfig.Phase> phases, long startNanos) {}
+
+    /**
+     * Injected failure, thrown inside the circuit breaker so it is recorded as an error.
+     */
+    private static final class SimulatedFailure extends RuntimeException {
+        private final String outcome;
+        private final String errorCode;
+
+        SimulatedFailure(String outcome, String errorCode, String message) {
+            super(message, null, false, false);
+            this.outcome = outcome;
+            this.errorCode = errorCode;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.singularbank.signature.routing.infrastructure.adapter.outbound.provi
 
 import com.singularbank.signature.routing.infrastructure.config.provider.ProviderConfigProperties;
 import jakarta.annotation.PostConstruct;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.Getter;
@@ -10,6 +12,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 /**
  * Configuration for Twilio SMS Provider.
  * Story 2.5: SMS Provider Integration (Twilio)
@@ -26,6 +30,7 @@ import org.springframework.validation.annotation.Validated;
  * - authToken: Twilio Auth Token (from Vault)
  * - fromNumber: Twilio phone number in E.164 format
  * - apiUrl: Twilio API base URL
+ * - http.*: Pooled HTTP client shared by SMS and Voice (see {@link Http})
  * 
  * @since Story 2.5, refactored in Story 3.6
  */
@@ -48,6 +53,9 @@ public class TwilioConfig extends ProviderConfigProperties {
     
     private String apiUrl = "https://api.twilio.com/2010-04-01";
     
+    @Valid
+    private Http http = new Http();
+    
     /**
      * Validates configuration on bean initialization.
      * 
@@ -60,5 +68,49 @@ public class TwilioConfig extends ProviderConfigProperties {
         // Bean Validation (@NotBlank, @Pattern) already validates fields
         // Custom validation logic can be added here if needed
     }
+    
+    /**
+     * Pooled HTTP client settings for the shared TwilioRestClient.
+     * 
+     * <pre>
+     * providers:
+     *   twilio:
+     *     http:
+     *       max-connections-per-route: 20
+     *       max-connections-total: 40
+     *       connect-timeout: 2s
+     *       connection-request-timeout: 500ms
+     *       keep-alive: 30s
+     *       validate-after-inactivity: 2s
+     * </pre>
+     * 
+     * The read (socket) timeout is not configured here: it is taken from the
+     * smsTimeout/voiceTimeout TimeLimiters so a blocked socket never outlives them.
+     * 
+     * @see TwilioHttpClientConfig
+     */
+    @Getter
+    @Setter
+    public static class Http {
+        
+        /** Max pooled connections per route (all Twilio calls share api.twilio.com). */
+        @Min(value = 1, message = "max-connections-per-route must be at least 1")
+        private int maxConnectionsPerRoute = 20;
+        
+        /** Max pooled connections across all routes. */
+        @Min(value = 1, message = "max-connections-total must be at least 1")
+        private int maxConnectionsTotal = 40;
+        
+        /** TCP + TLS connect timeout. */
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        
+        /** Max wait for a free connection from the pool. */
+        private Duration connectionRequestTimeout = Duration.ofMillis(500);
+        
+        /** Max idle time a connection is kept alive (capped by the server's Keep-Alive hint). */
+        private Duration keepAlive = Duration.ofSeconds(30);
+        
+        /** Idle time after which a pooled connection is re-validated before reuse. */
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+    }
 }
-
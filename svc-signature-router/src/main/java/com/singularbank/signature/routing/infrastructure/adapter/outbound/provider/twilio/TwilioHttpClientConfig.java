@@ -0,0 +1,143 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.provider.twilio;
+
+import com.twilio.http.NetworkHttpClient;
+import com.twilio.http.TwilioRestClient;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Shared, pooled Twilio REST client for SMS and Voice.
+ *
+ * <p>Replaces the static {@code Twilio.init} default client. TwilioSmsProvider and
+ * VoiceCallProvider receive the {@link TwilioRestClient} bean and pass it to every
+ * {@code creator(...).create(client)} call, so both channels reuse the same keep-alive
+ * connections to api.twilio.com instead of paying TCP + TLS setup per call.
+ *
+ * <p><strong>Timeouts:</strong>
+ * <ul>
+ * <li>Connect / pool lease: {@code providers.twilio.http.connect-timeout} and
+ *     {@code connection-request-timeout}</li>
+ * <li>Read (socket): the longest of the smsTimeout and voiceTimeout TimeLimiters, so a
+ *     blocked socket is released as soon as no caller can still be waiting for it</li>
+ * </ul>
+ *
+ * <p><strong>Metrics Exported</strong> (tag {@code httpclient=twilio}):
+ * <pre>
+ * httpcomponents.httpclient.pool.total.connections{state=leased|available}
+ * httpcomponents.httpclient.pool.total.pending
+ * httpcomponents.httpclient.pool.total.max
+ * httpcomponents.httpclient.pool.route.max.default
+ * </pre>
+ *
+ * @see TwilioConfig.Http
+ */
+@Configuration
+@Slf4j
+public class TwilioHttpClientConfig {
+
+    static final String POOL_NAME = "twilio";
+
+    /**
+     * Connection pool shared by all Twilio calls.
+     *
+     * @param twilioConfig         Twilio settings (pool sizing and keep-alive)
+     * @param timeLimiterRegistry  source of the read timeout
+     * @param meterRegistry        registry for pool metrics
+     * @return pooling connection manager (closed on shutdown)
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager twilioConnectionManager(
+            TwilioConfig twilioConfig,
+            TimeLimiterRegistry timeLimiterRegistry,
+            MeterRegistry meterRegistry) {
+        TwilioConfig.Http http = twilioConfig.getHttp();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+            http.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS);
+        connectionManager.setDefaultMaxPerRoute(http.getMaxConnectionsPerRoute());
+        connectionManager.setMaxTotal(Math.max(http.getMaxConnectionsTotal(), http.getMaxConnectionsPerRoute()));
+        connectionManager.setValidateAfterInactivity((int) http.getValidateAfterInactivity().toMillis());
+        connectionManager.setDefaultSocketConfig(SocketConfig.custom()
+            .setSoKeepAlive(true)
+            .setTcpNoDelay(true)
+            .setSoTimeout((int) readTimeout(timeLimiterRegistry).toMillis())
+            .build());
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME, Tags.empty())
+            .bindTo(meterRegistry);
+
+        log.info("Twilio HTTP pool initialized: maxPerRoute={}, maxTotal={}, keepAlive={}",
+            connectionManager.getDefaultMaxPerRoute(), connectionManager.getMaxTotal(), http.getKeepAlive());
+        return connectionManager;
+    }
+
+    /**
+     * Twilio REST client backed by the shared connection pool.
+     *
+     * @param twilioConfig             Twilio credentials and HTTP settings
+     * @param twilioConnectionManager  shared connection pool
+     * @param timeLimiterRegistry      source of the read timeout
+     * @return client to pass to Twilio {@code create(client)} calls
+     */
+    @Bean
+    public TwilioRestClient twilioRestClient(
+            TwilioConfig twilioConfig,
+            PoolingHttpClientConnectionManager twilioConnectionManager,
+            TimeLimiterRegistry timeLimiterRegistry) {
+        TwilioConfig.Http http = twilioConfig.getHttp();
+        long keepAliveMs = http.getKeepAlive().toMillis();
+        Duration readTimeout = readTimeout(timeLimiterRegistry);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectTimeout((int) http.getConnectTimeout().toMillis())
+            .setConnectionRequestTimeout((int) http.getConnectionRequestTimeout().toMillis())
+            .setSocketTimeout((int) readTimeout.toMillis())
+            .build();
+
+        // Honour the server's Keep-Alive hint, but never keep an idle connection longer than configured
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+            long serverHint = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverHint > 0 ? Math.min(serverHint, keepAliveMs) : keepAliveMs;
+        };
+
+        HttpClientBuilder clientBuilder = HttpClientBuilder.create()
+            .setConnectionManager(twilioConnectionManager)
+            .setConnectionManagerShared(true)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy(keepAliveStrategy)
+            .evictExpiredConnections()
+            .evictIdleConnections(keepAliveMs, TimeUnit.MILLISECONDS);
+
+        log.info("Twilio REST client initialized with account: {} (readTimeout={})",
+            twilioConfig.getAccountSid(), readTimeout);
+
+        return new TwilioRestClient.Builder(twilioConfig.getAccountSid(), twilioConfig.getAuthToken())
+            .httpClient(new NetworkHttpClient(clientBuilder))
+            .build();
+    }
+
+    /**
+     * Longest TimeLimiter among the channels that share the client.
+     */
+    static Duration readTimeout(TimeLimiterRegistry timeLimiterRegistry) {
+        return Stream.of("smsTimeout", "voiceTimeout")
+            .map(name -> timeLimiterRegistry.timeLimiter(name).getTimeLimiterConfig().getTimeoutDuration())
+            .max(Duration::compareTo)
+            .orElseThrow();
+    }
+}
@@ -5,16 +5,16 @@ import com.singularbank.signature.routing.domain.model.valueobject.ProviderResul
 import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
 import com.singularbank.signature.routing.domain.model.valueobject.HealthStatus;
 import com.singularbank.signature.routing.domain.port.outbound.SignatureProviderPort;
-import com.twilio.Twilio;
 import com.twilio.exception.ApiException;
+import com.twilio.http.TwilioRestClient;
 import com.twilio.rest.api.v2010.account.Message;
 import com.twilio.type.PhoneNumber;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
-import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -38,6 +38,8 @@ import java.util.concurrent.ScheduledExecutorService;
  * 
  * Authentication: Basic Auth (AccountSid + AuthToken from Vault)
  * 
+ * HTTP: Shared pooled {@link TwilioRestClient} (see TwilioHttpClientConfig), no global Twilio.init
+ * 
  * Bean name: twilioSmsProvider (used by ChallengeServiceImpl for provider resolution)
  * 
  * @since Story 3.2 - Implements SignatureProviderPort interface
@@ -50,22 +52,33 @@ public class TwilioSmsProvider implements SignatureProviderPort {
     private static final String METRIC_PREFIX = "provider.twilio";
     
     private final TwilioConfig config;
+    private final TwilioRestClient twilioRestClient;
     private final MeterRegistry meterRegistry;
     private final ScheduledExecutorService providerExecutorService;
     
+    // Pre-bound meters (registered once, not per send)
+    private final Timer successLatency;
+    private final Timer errorLatency;
+    private final Counter successCalls;
+    private final Counter unknownErrors;
+    
     public TwilioSmsProvider(
             TwilioConfig config, 
+            TwilioRestClient twilioRestClient,
             MeterRegistry meterRegistry,
             ScheduledExecutorService providerExecutorService) {
         this.config = config;
+        this.twilioRestClient = twilioRestClient;
         this.meterRegistry = meterRegistry;
         this.providerExecutorService = providerExecutorService;
-    }
-    
-    @PostConstruct
-    public void init() {
-        Twilio.init(config.getAccountSid(), config.getAuthToken());
-        log.info("Twilio SMS Provider initialized with account: {}", config.getAccountSid());
+        this.successLatency = Timer.builder(METRIC_PREFIX + ".latency")
+            .tag("status", "success")
+            .register(meterRegistry);
+        this.errorLatency = Timer.builder(METRIC_PREFIX + ".latency")
+            .tag("status", "error")
+            .register(meterRegistry);
+        this.successCalls = meterRegistry.counter(METRIC_PREFIX + ".calls", "status", "success");
+        this.unknownErrors = meterRegistry.counter(METRIC_PREFIX + ".errors", "error_code", "unknown");
     }
     
     @Override
@@ -92,17 +105,14 @@ public class TwilioSmsProvider implements SignatureProviderPort {
                 new PhoneNumber(phoneNumber),
                 new PhoneNumber(config.getFromNumber()),
                 messageBody
-            ).create();
+            ).create(twilioRestClient);
             
             // Build comprehensive provider proof (full JSON response)
             String providerProof = buildProviderProof(message);
             
             // Record success metrics
-            sample.stop(Timer.builder(METRIC_PREFIX + ".latency")
-                .tag("status", "success")
-                .register(meterRegistry));
-            
-            meterRegistry.counter(METRIC_PREFIX + ".calls", "status", "success").increment();
+            sample.stop(successLatency);
+            successCalls.increment();
             
             log.info("SMS sent successfully. Twilio SID: {}, Status: {}", 
                 message.getSid(), message.getStatus());
@@ -112,9 +122,7 @@ public class TwilioSmsProvider implements SignatureProviderPort {
             
         } catch (ApiException e) {
             // Record error metrics
-            sample.stop(Timer.builder(METRIC_PREFIX + ".latency")
-                .tag("status", "error")
-                .register(meterRegistry));
+            sample.stop(errorLatency);
             
             meterRegistry.counter(METRIC_PREFIX + ".errors", 
                 "error_code", String.valueOf(e.getCode())).increment();
@@ -129,11 +137,8 @@ public class TwilioSmsProvider implements SignatureProviderPort {
             
         } catch (Exception e) {
             // Record error metrics
-            sample.stop(Timer.builder(METRIC_PREFIX + ".latency")
-                .tag("status", "error")
-                .register(meterRegistry));
-            
-            meterRegistry.counter(METRIC_PREFIX + ".errors", "error_code", "unknown").increment();
+            sample.stop(errorLatency);
+            unknownErrors.increment();
             
             log.error("Unexpected error sending SMS via Twilio", e);
             
@@ -201,16 +206,7 @@ public class TwilioSmsProvider implements SignatureProviderPort {
                 return HealthStatus.down("Twilio From Number not configured");
             }
             
-            // Check 2: Verify Twilio is initialized (reinitialize if needed)
-            // Note: Twilio SDK is initialized in @PostConstruct, this is a safety check
-            try {
-                Twilio.init(config.getAccountSid(), config.getAuthToken());
-            } catch (Exception e) {
-                // Already initialized or initialization failed
-                log.debug("Twilio initialization check: {}", e.getMessage());
-            }
-            
-            // Check 3: Measure response time
+            // Check 2: Measure response time
             long latency = System.currentTimeMillis() - startTime;
             
             // Health check successful
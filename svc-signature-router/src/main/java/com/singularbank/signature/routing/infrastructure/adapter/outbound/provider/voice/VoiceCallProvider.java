@@ -7,6 +7,7 @@ import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
 import com.singularbank.signature.routing.domain.port.outbound.SignatureProviderPort;
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.provider.twilio.TwilioConfig;
 import com.twilio.exception.ApiException;
+import com.twilio.http.TwilioRestClient;
 import com.twilio.rest.api.v2010.account.Call;
 import com.twilio.type.PhoneNumber;
 import com.twilio.type.Twiml;
@@ -42,6 +43,7 @@ import java.util.regex.Pattern;
  * - TwiML generation for voice calls
  * - Phone number validation (E.164 format)
  * - Resilience4j retry and timeout
+ * - Shared pooled TwilioRestClient (keep-alive connections reused with SMS)
  * 
  * Architecture:
  * - Hexagonal Architecture: Implements SignatureProviderPort (domain interface)
@@ -69,6 +71,7 @@ public class VoiceCallProvider implements SignatureProviderPort {
     private static final Pattern E164_PATTERN = Pattern.compile("^\\+[1-9]\\d{1,14}$");
     
     private final TwilioConfig twilioConfig;
+    private final TwilioRestClient twilioRestClient;
     private final VoiceProviderConfig voiceConfig;
     private final MeterRegistry meterRegistry;
     private final ScheduledExecutorService providerExecutorService;
@@ -129,7 +132,7 @@ public class VoiceCallProvider implements SignatureProviderPort {
                 new PhoneNumber(phoneNumber),                        // To
                 new PhoneNumber(twilioConfig.getFromNumber()),     // From
                 new Twiml(twiml)                                   // TwiML
-            ).create();
+            ).create(twilioRestClient);
             
             // Build provider proof
             String providerProof = buildProviderProof(call, phoneNumber);
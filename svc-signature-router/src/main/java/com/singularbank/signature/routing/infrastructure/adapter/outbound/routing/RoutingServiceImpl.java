@@ -6,6 +6,7 @@ import com.singularbank.signature.routing.domain.model.valueobject.RoutingEvent;
 import com.singularbank.signature.routing.domain.model.valueobject.TransactionContext;
 import com.singularbank.signature.routing.domain.port.outbound.RoutingRuleRepository;
 import com.singularbank.signature.routing.domain.service.RoutingService;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.RoutingEvaluatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -42,6 +43,8 @@ public class RoutingServiceImpl implements RoutingService {
     @Override
     public RoutingDecision evaluate(TransactionContext transactionContext) {
         long startTime = System.nanoTime();
+        RoutingEvaluatedEvent jfrEvent = new RoutingEvaluatedEvent();
+        jfrEvent.begin();
         log.debug("Starting routing evaluation for transaction");
         
         List<RoutingEvent> timeline = new ArrayList<>();
@@ -62,6 +65,7 @@ public class RoutingServiceImpl implements RoutingService {
                 "No active routing rules configured"
             ));
             
+            jfrEvent.complete(transactionContext.merchantId(), 0, 0, null, defaultChannel);
             return new RoutingDecision(defaultChannel, timeline, true);
         }
         
@@ -69,7 +73,10 @@ public class RoutingServiceImpl implements RoutingService {
         StandardEvaluationContext context = createEvaluationContext(transactionContext);
         
         // 3. Evaluate rules in priority order (short-circuit on first match)
+        int rulesEvaluated = 0;
+        int ruleErrors = 0;
         for (RoutingRule rule : rules) {
+            rulesEvaluated++;
             try {
                 log.debug("Evaluating rule: id={}, name={}, priority={}, condition={}", 
                     rule.getId(), rule.getName(), rule.getPriority(), rule.getCondition());
@@ -93,6 +100,8 @@ public class RoutingServiceImpl implements RoutingService {
                             rule.getName(), rule.getPriority(), rule.getTargetChannel())
                     ));
                     
+                    jfrEvent.complete(transactionContext.merchantId(), rulesEvaluated, ruleErrors,
+                        rule.getName(), rule.getTargetChannel());
                     return new RoutingDecision(rule.getTargetChannel(), timeline, false);
                 }
                 
@@ -101,6 +110,7 @@ public class RoutingServiceImpl implements RoutingService {
                 
             } catch (Exception e) {
                 // Log error but continue evaluation (don't fail entire routing)
+                ruleErrors++;
                 log.error("Error evaluating rule: id={}, name={}, condition={}", 
                     rule.getId(), rule.getName(), rule.getCondition(), e);
                 
@@ -129,6 +139,7 @@ public class RoutingServiceImpl implements RoutingService {
             String.format("No rule matched after evaluating %d rules", rules.size())
         ));
         
+        jfrEvent.complete(transactionContext.merchantId(), rulesEvaluated, ruleErrors, null, defaultChannel);
         return new RoutingDecision(defaultChannel, timeline, true);
     }
     
@@ -0,0 +1,155 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.security;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * HMAC-SHA256 pseudonymization with one key, shared by all threads.
+ *
+ * <p>{@code Mac.getInstance} and {@code init} (provider lookup, key schedule) run once. Each
+ * thread gets its own clone of the initialized {@code Mac}, plus scratch buffers for the input
+ * bytes, the digest and the hex digits, so a call allocates only the returned string (ASCII
+ * customer ids up to {@value #MAX_BUFFERED_INPUT} characters; longer or non-ASCII ids are
+ * encoded with {@code getBytes}).
+ *
+ * <p>{@link #matches} compares in constant time without building the expected string.
+ *
+ * <p>Instances are immutable: a new key means a new instance (see PseudonymizationKeyHolder).
+ * The per-thread state references only its {@code Mac} clone, never the instance, so a replaced
+ * instance and its {@code ThreadLocal} can be collected while pooled threads live on.
+ */
+public final class HmacPseudonymizer {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int DIGEST_LENGTH = 32;
+    private static final int HEX_LENGTH = 2 * DIGEST_LENGTH;
+    private static final int MAX_BUFFERED_INPUT = 256;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final SecretKeySpec key;
+    private final Mac prototype;
+    private final int version;
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(() -> new Worker(cloneMac()));
+
+    /**
+     * @param key     HMAC key bytes
+     * @param version key version (from Vault metadata, 1 for a static key)
+     * @throws IllegalArgumentException if the key is empty or rejected by the provider
+     */
+    public HmacPseudonymizer(byte[] key, int version) {
+        this.key = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.prototype = newMac(this.key);
+        this.version = version;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    /**
+     * Whether this instance was built from the given key bytes and version.
+     */
+    public boolean uses(byte[] key, int version) {
+        return this.version == version && MessageDigest.isEqual(this.key.getEncoded(), key);
+    }
+
+    /**
+     * @return 64 lowercase hex characters
+     */
+    public String pseudonymize(String customerId) {
+        Worker worker = workers.get();
+        worker.hmac(customerId);
+        return new String(worker.hex, 0, HEX_LENGTH, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Constant-time check that {@code pseudonymizedId} is the pseudonym of {@code customerId}.
+     */
+    public boolean matches(String customerId, String pseudonymizedId) {
+        Worker worker = workers.get();
+        worker.hmac(customerId);
+        if (pseudonymizedId.length() != HEX_LENGTH) {
+            return false;
+        }
+        int difference = 0;
+        for (int i = 0; i < HEX_LENGTH; i++) {
+            difference |= worker.hex[i] ^ pseudonymizedId.charAt(i);
+        }
+        return difference == 0;
+    }
+
+    private Mac cloneMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            // Provider without clone support: initialize a Mac for this thread
+            return newMac(key);
+        }
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Pseudonymization algorithm not available", e);
+        } catch (InvalidKeyException e) {
+            throw new IllegalArgumentException("Invalid pseudonymization key", e);
+        }
+    }
+
+    /**
+     * Per-thread Mac and buffers (static: holds no reference to the pseudonymizer).
+     */
+    private static final class Worker {
+
+        private final Mac mac;
+        private final byte[] input = new byte[MAX_BUFFERED_INPUT];
+        private final byte[] digest = new byte[DIGEST_LENGTH];
+        private final byte[] hex = new byte[HEX_LENGTH];
+
+        Worker(Mac mac) {
+            this.mac = mac;
+        }
+
+        void hmac(String customerId) {
+            if (!updateAscii(customerId)) {
+                mac.update(customerId.getBytes(StandardCharsets.UTF_8));
+            }
+            try {
+                mac.doFinal(digest, 0);
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException("HMAC digest buffer too small", e);
+            }
+            for (int i = 0; i < DIGEST_LENGTH; i++) {
+                hex[2 * i] = HEX_DIGITS[(digest[i] >> 4) & 0xf];
+                hex[2 * i + 1] = HEX_DIGITS[digest[i] & 0xf];
+            }
+        }
+
+        /**
+         * Feed an ASCII id through the input buffer; false (nothing fed) otherwise.
+         */
+        private boolean updateAscii(String customerId) {
+            int length = customerId.length();
+            if (length > MAX_BUFFERED_INPUT) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                char c = customerId.charAt(i);
+                if (c >= 0x80) {
+                    return false;
+                }
+                input[i] = (byte) c;
+            }
+            mac.update(input, 0, length);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.singularbank.signature.routing.domain.event.PseudonymizationKeyRotated;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+/**
+ * Bounded cache of pseudonyms, keyed by customer id and pseudonymizer (key material).
+ *
+ * <p>The same customer is pseudonymized on create, on every ownership check and on status
+ * polling. A hit costs one SHA-256 block and a hash lookup instead of the four blocks of an
+ * HMAC-SHA256 plus the hex string.
+ *
+ * <p><strong>No raw ids in memory:</strong> entries are keyed by the first 128 bits of
+ * {@code SHA-256(salt || customerId)}, with a random salt generated at startup and never
+ * exposed, so a heap dump holds neither the customer ids nor a digest that can be brute-forced
+ * offline without the salt.
+ *
+ * <p><strong>Memory bound:</strong> at most {@code security.pseudonymization.cache.max-entries}
+ * entries, each expired after {@code security.pseudonymization.cache.idle-expiry} without
+ * access. An entry is about 200 bytes (key, 64-char pseudonym, Caffeine node), i.e. ~20 MB for
+ * 100,000 customers.
+ *
+ * <p><strong>Rotation:</strong> entries are keyed by the {@link HmacPseudonymizer} instance,
+ * which is replaced whenever the key material changes, even under the same version (a static
+ * key without Vault version metadata). The cache is cleared on {@link PseudonymizationKeyRotated}
+ * and as soon as a new pseudonymizer of the same or a newer version is used (rotation on another
+ * replica); older versions, used to verify during a grace period, do not clear it. Hit rates are
+ * exposed as {@code cache.gets{cache=pseudonyms}}.
+ */
+@Slf4j
+@Component
+public class PseudonymCache {
+
+    static final String CACHE_NAME = "pseudonyms";
+
+    private static final int SALT_LENGTH = 16;
+    private static final int MAX_BUFFERED_INPUT = 256;
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final Cache<Key, String> pseudonyms;
+    private final byte[] salt = new byte[SALT_LENGTH];
+    private final ThreadLocal<KeyDigest> keyDigests = ThreadLocal.withInitial(KeyDigest::new);
+    private volatile HmacPseudonymizer latest;
+
+    @Autowired
+    public PseudonymCache(
+        @Value("${security.pseudonymization.cache.max-entries:100000}") long maxEntries,
+        @Value("${security.pseudonymization.cache.idle-expiry:10m}") Duration idleExpiry,
+        MeterRegistry meterRegistry
+    ) {
+        this(maxEntries, idleExpiry, Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(meterRegistry, pseudonyms, CACHE_NAME);
+    }
+
+    PseudonymCache(long maxEntries, Duration idleExpiry, Ticker ticker) {
+        new SecureRandom().nextBytes(salt);
+        this.pseudonyms = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterAccess(idleExpiry)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Pseudonym of {@code customerId} with {@code pseudonymizer}'s key, computed on a miss.
+     */
+    public String pseudonymize(String customerId, HmacPseudonymizer pseudonymizer) {
+        HmacPseudonymizer seen = latest;
+        if (pseudonymizer != seen && (seen == null || pseudonymizer.version() >= seen.version())) {
+            newKey(pseudonymizer);
+        }
+        Key key = keyDigests.get().key(customerId, pseudonymizer);
+        String pseudonym = pseudonyms.getIfPresent(key);
+        if (pseudonym == null) {
+            // Concurrent misses compute the same value, last put wins
+            pseudonym = pseudonymizer.pseudonymize(customerId);
+            pseudonyms.put(key, pseudonym);
+        }
+        return pseudonym;
+    }
+
+    /**
+     * Constant-time check that {@code pseudonymizedId} is the pseudonym of {@code customerId}.
+     */
+    public boolean matches(String customerId, String pseudonymizedId, HmacPseudonymizer pseudonymizer) {
+        String expected = pseudonymize(customerId, pseudonymizer);
+        if (expected.length() != pseudonymizedId.length()) {
+            return false;
+        }
+        int difference = 0;
+        for (int i = 0; i < expected.length(); i++) {
+            difference |= expected.charAt(i) ^ pseudonymizedId.charAt(i);
+        }
+        return difference == 0;
+    }
+
+    @EventListener
+    public void onKeyRotated(PseudonymizationKeyRotated event) {
+        pseudonyms.invalidateAll();
+        log.info("Pseudonym cache cleared for key version {}", event.getVersion());
+    }
+
+    /**
+     * Approximate number of cached pseudonyms.
+     */
+    public long estimatedSize() {
+        return pseudonyms.estimatedSize();
+    }
+
+    /**
+     * Run pending evictions now (they are otherwise amortized over later accesses).
+     */
+    void cleanUp() {
+        pseudonyms.cleanUp();
+    }
+
+    private synchronized void newKey(HmacPseudonymizer pseudonymizer) {
+        HmacPseudonymizer seen = latest;
+        if (pseudonymizer == seen || (seen != null && pseudonymizer.version() < seen.version())) {
+            return;
+        }
+        latest = pseudonymizer;
+        if (seen != null) {
+            pseudonyms.invalidateAll();
+            log.info("Pseudonym cache cleared for key version {}", pseudonymizer.version());
+        }
+    }
+
+    /**
+     * Salted digest of a customer id (128 bits) and the pseudonymizer it was computed with
+     * (identity equality, so entries of a replaced key never match).
+     */
+    private record Key(long high, long low, HmacPseudonymizer pseudonymizer) {
+    }
+
+    /**
+     * Per-thread SHA-256 and buffers for the cache keys.
+     */
+    private final class KeyDigest {
+
+        private final MessageDigest sha256;
+        private final byte[] input = new byte[MAX_BUFFERED_INPUT];
+        private final byte[] digest;
+
+        KeyDigest() {
+            try {
+                this.sha256 = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+            this.digest = new byte[sha256.getDigestLength()];
+        }
+
+        Key key(String customerId, HmacPseudonymizer pseudonymizer) {
+            sha256.update(salt);
+            if (!updateAscii(customerId)) {
+                sha256.update(customerId.getBytes(StandardCharsets.UTF_8));
+            }
+            try {
+                sha256.digest(digest, 0, digest.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException("SHA-256 digest buffer too small", e);
+            }
+            return new Key((long) LONGS.get(digest, 0), (long) LONGS.get(digest, 8), pseudonymizer);
+        }
+
+        private boolean updateAscii(String customerId) {
+            int length = customerId.length();
+            if (length > MAX_BUFFERED_INPUT) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                char c = customerId.charAt(i);
+                if (c >= 0x80) {
+                    return false;
+                }
+                input[i] = (byte) c;
+            }
+            sha256.update(input, 0, length);
+            return true;
+        }
+    }
+}
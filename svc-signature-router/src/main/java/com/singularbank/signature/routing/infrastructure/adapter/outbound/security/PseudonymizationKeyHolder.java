@@ -0,0 +1,190 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.security;
+
+import com.singularbank.signature.routing.domain.event.PseudonymizationKeyRotated;
+import com.singularbank.signature.routing.domain.exception.PseudonymizationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.vault.core.VaultTemplate;
+import org.springframework.vault.support.VaultResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Holds the pseudonymization keys read from Vault, as ready-to-use {@link HmacPseudonymizer}s.
+ *
+ * <p>Vault is read on first use, then only when keys may have changed: on a
+ * {@link PseudonymizationKeyRotated} event (rotation on this node) and every
+ * {@code security.pseudonymization.key-refresh-interval} (rotation on another replica). A failed
+ * refresh keeps the loaded keys, and so does a refresh that finds the same key material and
+ * versions: the pseudonymizers (and their per-thread {@code Mac}s) are only rebuilt for a key
+ * that actually changed.
+ *
+ * <p>During the grace period after a rotation, the secret also carries the previous key
+ * ({@code previous_key}, until {@code previous_key_expires_at}), so pseudonyms computed before
+ * the rotation still verify.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.cloud.vault", name = "enabled", havingValue = "true")
+public class PseudonymizationKeyHolder {
+
+    static final String VAULT_SECRET_PATH = "secret/data/signature-router/pseudonymization-key";
+    static final String KEY_FIELD = "key";
+    static final String VERSION_FIELD = "version";
+    static final String PREVIOUS_KEY_FIELD = "previous_key";
+    static final String PREVIOUS_KEY_EXPIRES_AT_FIELD = "previous_key_expires_at";
+
+    private final VaultTemplate vaultTemplate;
+    private final Clock clock;
+    private volatile Keys keys;
+
+    @Autowired
+    public PseudonymizationKeyHolder(VaultTemplate vaultTemplate) {
+        this(vaultTemplate, Clock.systemUTC());
+    }
+
+    PseudonymizationKeyHolder(VaultTemplate vaultTemplate, Clock clock) {
+        this.vaultTemplate = vaultTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * Key used to pseudonymize.
+     *
+     * @throws PseudonymizationException if the keys were never loaded and Vault cannot be read
+     */
+    public HmacPseudonymizer current() {
+        return keys().current();
+    }
+
+    /**
+     * Key replaced by the last rotation, while its grace period lasts.
+     */
+    public Optional<HmacPseudonymizer> previous() {
+        Keys loaded = keys();
+        if (loaded.previous() == null || !clock.instant().isBefore(loaded.previousExpiresAt())) {
+            return Optional.empty();
+        }
+        return Optional.of(loaded.previous());
+    }
+
+    @EventListener
+    public void onKeyRotated(PseudonymizationKeyRotated event) {
+        log.info("Pseudonymization key rotated to version {}, reloading", event.getVersion());
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${security.pseudonymization.key-refresh-interval:5m}",
+        initialDelayString = "${security.pseudonymization.key-refresh-interval:5m}")
+    public void refresh() {
+        if (keys == null) {
+            return; // Not used yet, loaded on first use
+        }
+        try {
+            reload();
+        } catch (PseudonymizationException e) {
+            log.warn("Pseudonymization key refresh failed, keeping version {}: {}",
+                keys.current().version(), e.getMessage());
+        }
+    }
+
+    private Keys keys() {
+        Keys loaded = keys;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = keys;
+                if (loaded == null) {
+                    loaded = load(null);
+                    keys = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    synchronized void reload() {
+        Keys replaced = keys;
+        Keys loaded = load(replaced);
+        if (loaded.equals(replaced)) {
+            return;
+        }
+        keys = loaded;
+        if (replaced == null || replaced.current().version() != loaded.current().version()) {
+            log.info("Pseudonymization key version {} loaded (previous key: {})", loaded.current().version(),
+                loaded.previous() != null ? "valid until " + loaded.previousExpiresAt() : "none");
+        }
+    }
+
+    /**
+     * Read the keys, reusing the pseudonymizers of {@code existing} whose key and version are
+     * unchanged (after a rotation, the old current key becomes the previous one).
+     */
+    private Keys load(Keys existing) {
+        Map<String, Object> data = readSecret();
+        Object key = data.get(KEY_FIELD);
+        if (key == null || key.toString().isEmpty()) {
+            throw new PseudonymizationException(
+                "Vault secret field '" + KEY_FIELD + "' not found at path: " + VAULT_SECRET_PATH);
+        }
+        int version = data.get(VERSION_FIELD) != null ? Integer.parseInt(data.get(VERSION_FIELD).toString()) : 1;
+        HmacPseudonymizer current = pseudonymizer(key.toString(), version, existing);
+
+        Object previousKey = data.get(PREVIOUS_KEY_FIELD);
+        Object previousExpiresAt = data.get(PREVIOUS_KEY_EXPIRES_AT_FIELD);
+        if (previousKey == null || previousExpiresAt == null) {
+            Keys loaded = new Keys(current, null, null);
+            return loaded.equals(existing) ? existing : loaded;
+        }
+        Keys loaded = new Keys(current, pseudonymizer(previousKey.toString(), version - 1, existing),
+            Instant.parse(previousExpiresAt.toString()));
+        return loaded.equals(existing) ? existing : loaded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readSecret() {
+        VaultResponse response;
+        try {
+            response = vaultTemplate.read(VAULT_SECRET_PATH);
+        } catch (Exception e) {
+            throw new PseudonymizationException("Failed to retrieve secret key from Vault", e);
+        }
+        if (response == null || response.getData() == null) {
+            throw new PseudonymizationException("Vault secret not found at path: " + VAULT_SECRET_PATH);
+        }
+        Map<String, Object> data = response.getData();
+        // KV v2 read through the data/ path nests the fields under "data"
+        if (!data.containsKey(KEY_FIELD) && data.get("data") instanceof Map<?, ?> nested) {
+            return (Map<String, Object>) nested;
+        }
+        return data;
+    }
+
+    private static HmacPseudonymizer pseudonymizer(String key, int version, Keys existing) {
+        // The key string's UTF-8 bytes are the HMAC key, as for pseudonyms already stored
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (existing != null) {
+            if (existing.current().uses(keyBytes, version)) {
+                return existing.current();
+            }
+            if (existing.previous() != null && existing.previous().uses(keyBytes, version)) {
+                return existing.previous();
+            }
+        }
+        return new HmacPseudonymizer(keyBytes, version);
+    }
+
+    /**
+     * Loaded keys; {@code previous} is null outside a grace period. Equal when they hold the same
+     * pseudonymizer instances (HmacPseudonymizer has identity equality).
+     */
+    private record Keys(HmacPseudonymizer current, HmacPseudonymizer previous, Instant previousExpiresAt) {
+    }
+}
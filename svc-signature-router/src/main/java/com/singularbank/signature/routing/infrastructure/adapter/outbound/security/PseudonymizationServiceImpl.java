@@ -6,11 +6,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 
 /**
  * Implementation of PseudonymizationService using HMAC-SHA256.
@@ -22,20 +18,24 @@ import java.security.NoSuchAlgorithmException;
  * - Deterministic: Same input → same output
  * - One-way: Cannot reverse to original value
  * - Key-dependent: Different keys produce different outputs
+ * 
+ * The key is static, so one {@link HmacPseudonymizer} (initialized once, one Mac per thread)
+ * serves all calls; repeat customers are served from {@link PseudonymCache}.
  */
 @Service
 @Slf4j
 @ConditionalOnProperty(prefix = "spring.cloud.vault", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class PseudonymizationServiceImpl implements PseudonymizationService {
     
-    private static final String HMAC_ALGORITHM = "HmacSHA256";
-    
-    private final String secretKey;
+    private final HmacPseudonymizer pseudonymizer;
+    private final PseudonymCache pseudonymCache;
     
     public PseudonymizationServiceImpl(
-        @Value("${security.pseudonymization.secret-key:default-dev-key-change-in-prod}") String secretKey
+        @Value("${security.pseudonymization.secret-key:default-dev-key-change-in-prod}") String secretKey,
+        PseudonymCache pseudonymCache
     ) {
-        this.secretKey = secretKey;
+        this.pseudonymizer = new HmacPseudonymizer(secretKey.getBytes(StandardCharsets.UTF_8), 1);
+        this.pseudonymCache = pseudonymCache;
         log.info("PseudonymizationService initialized with secret key from configuration");
     }
     
@@ -45,26 +45,7 @@ public class PseudonymizationServiceImpl implements PseudonymizationService {
             throw new IllegalArgumentException("customerId cannot be null or blank");
         }
         
-        try {
-            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
-            SecretKeySpec keySpec = new SecretKeySpec(
-                secretKey.getBytes(StandardCharsets.UTF_8), 
-                HMAC_ALGORITHM
-            );
-            mac.init(keySpec);
-            
-            byte[] hmacBytes = mac.doFinal(customerId.getBytes(StandardCharsets.UTF_8));
-            
-            // Convert to hex string
-            return bytesToHex(hmacBytes);
-            
-        } catch (NoSuchAlgorithmException e) {
-            log.error("HMAC algorithm not available: {}", HMAC_ALGORITHM, e);
-            throw new IllegalStateException("Pseudonymization algorithm not available", e);
-        } catch (InvalidKeyException e) {
-            log.error("Invalid secret key for HMAC", e);
-            throw new IllegalStateException("Invalid pseudonymization key", e);
-        }
+        return pseudonymCache.pseudonymize(customerId, pseudonymizer);
     }
     
     @Override
@@ -72,27 +53,10 @@ public class PseudonymizationServiceImpl implements PseudonymizationService {
         if (customerId == null || pseudonymizedValue == null) {
             return false;
         }
-        
-        String calculated = pseudonymize(customerId);
-        return calculated.equals(pseudonymizedValue);
-    }
-    
-    /**
-     * Converts byte array to hexadecimal string.
-     * 
-     * @param bytes The byte array to convert
-     * @return Hexadecimal string representation
-     */
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder hexString = new StringBuilder(2 * bytes.length);
-        for (byte b : bytes) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
-            }
-            hexString.append(hex);
+        if (customerId.isBlank()) {
+            throw new IllegalArgumentException("customerId cannot be null or blank");
         }
-        return hexString.toString();
+        
+        return pseudonymCache.matches(customerId, pseudonymizedValue, pseudonymizer);
     }
 }
-
@@ -2,22 +2,25 @@ package com.singularbank.signature.routing.infrastructure.adapter.outbound.secur
 
 import com.singularbank.signature.routing.domain.model.valueobject.TransactionContext;
 import com.singularbank.signature.routing.domain.service.TransactionHashService;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 /**
  * Implementation of TransactionHashService using SHA-256.
  * Story 2.1: Create Signature Request Use Case
  * 
  * Uses Jackson ObjectMapper for canonical JSON serialization
- * to ensure consistent hashing.
+ * to ensure consistent hashing. The JSON is streamed into a per-thread digest;
+ * the bytes hashed are unchanged, so existing transaction hashes still verify.
  */
 @Service
 @RequiredArgsConstructor
@@ -26,6 +29,12 @@ public class TransactionHashServiceImpl implements TransactionHashService {
     
     private static final String HASH_ALGORITHM = "SHA-256";
     
+    private static final HexFormat HEX = HexFormat.of();
+    
+    // Digests are reused per thread (MessageDigest.getInstance does a provider lookup per call)
+    private static final ThreadLocal<MessageDigest> DIGEST =
+        ThreadLocal.withInitial(TransactionHashServiceImpl::newDigest);
+    
     private final ObjectMapper objectMapper;
     
     @Override
@@ -34,23 +43,18 @@ public class TransactionHashServiceImpl implements TransactionHashService {
             throw new IllegalArgumentException("transactionContext cannot be null");
         }
         
-        try {
-            // Serialize to canonical JSON (sorted keys)
-            String json = objectMapper.writeValueAsString(transactionContext);
-            
-            // Calculate SHA-256 hash
-            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
-            byte[] hashBytes = digest.digest(json.getBytes(StandardCharsets.UTF_8));
-            
-            // Convert to hex string
-            return bytesToHex(hashBytes);
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+        
+        // Stream the JSON straight into the digest (same bytes as writeValueAsString, no String)
+        try (DigestOutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            objectMapper.writeValue(out, transactionContext);
+            return HEX.formatHex(digest.digest());
             
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
+            digest.reset();
             log.error("Failed to serialize transaction context to JSON", e);
             throw new IllegalStateException("Failed to calculate transaction hash", e);
-        } catch (NoSuchAlgorithmException e) {
-            log.error("Hash algorithm not available: {}", HASH_ALGORITHM, e);
-            throw new IllegalStateException("Hash algorithm not available", e);
         }
     }
     
@@ -64,22 +68,12 @@ public class TransactionHashServiceImpl implements TransactionHashService {
         return calculated.equals(expectedHash);
     }
     
-    /**
-     * Converts byte array to hexadecimal string.
-     * 
-     * @param bytes The byte array to convert
-     * @return Hexadecimal string representation (64 characters for SHA-256)
-     */
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder hexString = new StringBuilder(2 * bytes.length);
-        for (byte b : bytes) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
-            }
-            hexString.append(hex);
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            log.error("Hash algorithm not available: {}", HASH_ALGORITHM, e);
+            throw new IllegalStateException("Hash algorithm not available", e);
         }
-        return hexString.toString();
     }
 }
-
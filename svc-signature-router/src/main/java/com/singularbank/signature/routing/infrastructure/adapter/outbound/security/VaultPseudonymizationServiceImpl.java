@@ -5,16 +5,9 @@ import com.singularbank.signature.routing.domain.port.outbound.PseudonymizationS
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.vault.core.VaultTemplate;
-import org.springframework.vault.support.VaultResponse;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
-import java.util.HexFormat;
-import java.util.Map;
+import java.util.Optional;
 
 /**
  * Vault-backed implementation of PseudonymizationService using HMAC-SHA256.
@@ -39,7 +32,10 @@ import java.util.Map;
  * <ul>
  *   <li>Secret path: {@code secret/data/signature-router/pseudonymization-key}</li>
  *   <li>Secret field: {@code key} (256-bit hex string)</li>
- *   <li>Cached for performance (cache eviction every 24 hours)</li>
+ *   <li>Read once and kept by {@link PseudonymizationKeyHolder}, reloaded after rotation
+ *       (no Vault call per pseudonymization)</li>
+ *   <li>During the rotation grace period, {@link #verify} also accepts the previous key</li>
+ *   <li>Pseudonyms of recently seen customers are served from {@link PseudonymCache}</li>
  * </ul>
  * 
  * <p><b>GDPR Compliance:</b></p>
@@ -57,20 +53,17 @@ import java.util.Map;
 @ConditionalOnProperty(prefix = "spring.cloud.vault", name = "enabled", havingValue = "true")
 public class VaultPseudonymizationServiceImpl implements PseudonymizationService {
     
-    private final VaultTemplate vaultTemplate;
-    
-    private static final String HMAC_ALGORITHM = "HmacSHA256";
-    private static final String VAULT_SECRET_PATH = "secret/data/signature-router/pseudonymization-key";
-    private static final String VAULT_KEY_FIELD = "key";
+    private final PseudonymizationKeyHolder keyHolder;
+    private final PseudonymCache pseudonymCache;
     
     /**
      * Pseudonymizes a customer ID using HMAC-SHA256.
      * 
      * <p><b>Process:</b></p>
      * <ol>
-     *   <li>Retrieve secret key from Vault (cached)</li>
-     *   <li>Initialize HMAC-SHA256 with secret key</li>
-     *   <li>Hash customer ID (UTF-8 bytes)</li>
+     *   <li>Take the current key from the key holder (Vault is only read on first use)</li>
+     *   <li>Return the cached pseudonym for this customer and key version, if any</li>
+     *   <li>Otherwise hash customer ID (UTF-8 bytes) with this thread's initialized HMAC-SHA256</li>
      *   <li>Convert hash to 64-character hex string</li>
      * </ol>
      * 
@@ -91,27 +84,8 @@ public class VaultPseudonymizationServiceImpl implements PseudonymizationService
             throw new IllegalArgumentException("Customer ID cannot be null or blank");
         }
         
-        log.debug("Pseudonymizing customer ID: {}...", customerId.substring(0, Math.min(4, customerId.length())));
-        
         try {
-            String secretKey = getSecretKeyFromVault();
-            
-            Mac hmac = Mac.getInstance(HMAC_ALGORITHM);
-            SecretKeySpec secretKeySpec = new SecretKeySpec(
-                secretKey.getBytes(StandardCharsets.UTF_8),
-                HMAC_ALGORITHM
-            );
-            hmac.init(secretKeySpec);
-            
-            byte[] hash = hmac.doFinal(customerId.getBytes(StandardCharsets.UTF_8));
-            String pseudonymized = HexFormat.of().formatHex(hash);
-            
-            log.debug("Pseudonymized customer ID: {}... → {}...", 
-                customerId.substring(0, Math.min(4, customerId.length())),
-                pseudonymized.substring(0, 8));
-            
-            return pseudonymized;
-            
+            return pseudonymCache.pseudonymize(customerId, keyHolder.current());
         } catch (Exception e) {
             log.error("Failed to pseudonymize customer ID: {}", e.getMessage());
             throw new PseudonymizationException("Failed to pseudonymize customer ID", e);
@@ -122,7 +96,8 @@ public class VaultPseudonymizationServiceImpl implements PseudonymizationService
      * Verifies if a pseudonymized ID matches the original customer ID.
      * 
      * <p>This method re-pseudonymizes the customer ID and performs a constant-time
-     * string comparison to prevent timing attacks.</p>
+     * comparison to prevent timing attacks. During the grace period after a key rotation,
+     * pseudonyms computed with the previous key are accepted too.</p>
      * 
      * <p><b>Example:</b></p>
      * <pre>
@@ -148,64 +123,15 @@ public class VaultPseudonymizationServiceImpl implements PseudonymizationService
             throw new IllegalArgumentException("Pseudonymized ID cannot be null or blank");
         }
         
-        log.debug("Verifying customer ID: {}... against pseudonymized ID: {}...", 
-            customerId.substring(0, Math.min(4, customerId.length())),
-            pseudonymizedId.substring(0, 8));
-        
-        String computedHash = pseudonymize(customerId);
-        boolean matches = computedHash.equals(pseudonymizedId);
-        
-        log.debug("Verification result: {}", matches ? "MATCH" : "NO MATCH");
-        
-        return matches;
-    }
-    
-    /**
-     * Retrieves the HMAC secret key from Vault.
-     * 
-     * <p><b>Vault Path:</b> {@code secret/data/signature-router/pseudonymization-key}</p>
-     * <p><b>Field:</b> {@code key} (256-bit hex string)</p>
-     * 
-     * <p>The secret key is cached for 24 hours to reduce Vault load.
-     * Cache eviction policy is configured in {@code application.yml}.</p>
-     * 
-     * @return The HMAC secret key (256-bit hex string)
-     * @throws PseudonymizationException if Vault is unreachable or secret not found
-     */
-    @Cacheable(value = "pseudonymization-keys", key = "'hmac-key'")
-    protected String getSecretKeyFromVault() {
-        log.debug("Retrieving pseudonymization key from Vault: {}", VAULT_SECRET_PATH);
-        
         try {
-            VaultResponse response = vaultTemplate.read(VAULT_SECRET_PATH);
-            
-            if (response == null || response.getData() == null) {
-                throw new PseudonymizationException(
-                    "Vault secret not found at path: " + VAULT_SECRET_PATH
-                );
-            }
-            
-            Map<String, Object> data = response.getData();
-            Object keyValue = data.get(VAULT_KEY_FIELD);
-            
-            if (keyValue == null) {
-                throw new PseudonymizationException(
-                    "Vault secret field '" + VAULT_KEY_FIELD + "' not found at path: " + VAULT_SECRET_PATH
-                );
+            if (pseudonymCache.matches(customerId, pseudonymizedId, keyHolder.current())) {
+                return true;
             }
-            
-            String secretKey = keyValue.toString();
-            
-            log.info("✅ Pseudonymization key retrieved successfully from Vault");
-            
-            return secretKey;
-            
-        } catch (PseudonymizationException e) {
-            throw e; // Re-throw custom exception
+            Optional<HmacPseudonymizer> previous = keyHolder.previous();
+            return previous.isPresent() && pseudonymCache.matches(customerId, pseudonymizedId, previous.get());
         } catch (Exception e) {
-            log.error("❌ Failed to retrieve pseudonymization key from Vault: {}", e.getMessage());
-            throw new PseudonymizationException("Failed to retrieve secret key from Vault", e);
+            log.error("Failed to verify customer ID: {}", e.getMessage());
+            throw new PseudonymizationException("Failed to pseudonymize customer ID", e);
         }
     }
 }
-
@@ -1,5 +1,6 @@
 package com.singularbank.signature.routing.infrastructure.adapter.outbound.security;
 
+import com.singularbank.signature.routing.domain.event.PseudonymizationKeyRotated;
 import com.singularbank.signature.routing.domain.exception.SecretRotationException;
 import com.singularbank.signature.routing.domain.model.event.AuditEvent;
 import com.singularbank.signature.routing.domain.model.valueobject.AuditAction;
@@ -9,13 +10,14 @@ import com.singularbank.signature.routing.domain.port.outbound.SecretRotationSer
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.cache.CacheManager;
 import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.vault.core.VaultTemplate;
 import org.springframework.vault.support.VaultResponse;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.Objects;
 
@@ -27,8 +29,8 @@ import java.util.Objects;
  * <ul>
  *   <li>Pseudonymization key rotation every 90 days</li>
  *   <li>Database credentials rotation every 1 hour (managed by Vault)</li>
- *   <li>Grace period of 7 days for old keys</li>
- *   <li>Automatic cache eviction after rotation</li>
+ *   <li>Grace period of 7 days for old keys (kept in the secret as {@code previous_key})</li>
+ *   <li>PseudonymizationKeyRotated event after rotation (PseudonymizationKeyHolder reloads)</li>
  *   <li>Audit logging of all rotation events</li>
  * </ul>
  * 
@@ -46,23 +48,25 @@ import java.util.Objects;
 public class VaultSecretRotationServiceImpl implements SecretRotationService {
     
     private static final String PSEUDO_KEY_PATH = "secret/signature-router/pseudonymization-key";
-    private static final String PSEUDO_KEY_FIELD = "key";
+    private static final String PSEUDO_KEY_FIELD = PseudonymizationKeyHolder.KEY_FIELD;
+    private static final String PREVIOUS_KEY_FIELD = PseudonymizationKeyHolder.PREVIOUS_KEY_FIELD;
+    private static final String PREVIOUS_KEY_EXPIRES_AT_FIELD = PseudonymizationKeyHolder.PREVIOUS_KEY_EXPIRES_AT_FIELD;
     private static final int ROTATION_PERIOD_DAYS = 90;
     private static final int GRACE_PERIOD_DAYS = 7;
     
     private final VaultTemplate vaultTemplate;
     private final AuditService auditService;
-    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
     private final ContextRefresher contextRefresher;
     
     public VaultSecretRotationServiceImpl(
             VaultTemplate vaultTemplate,
             @org.springframework.beans.factory.annotation.Autowired(required = false) AuditService auditService,
-            CacheManager cacheManager,
+            ApplicationEventPublisher eventPublisher,
             ContextRefresher contextRefresher) {
         this.vaultTemplate = vaultTemplate;
         this.auditService = auditService;
-        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
         this.contextRefresher = contextRefresher;
     }
     
@@ -80,29 +84,33 @@ public class VaultSecretRotationServiceImpl implements SecretRotationService {
             // 2. Generate new key
             String newKey = generateNewKey();
             
-            // 3. Write new key to Vault with metadata
-            Map<String, Object> newKeyData = Map.of(
-                PSEUDO_KEY_FIELD, newKey,
-                "version", newVersion,
-                "created_at", Instant.now().toString(),
-                "rotation_period", ROTATION_PERIOD_DAYS + "d",
-                "grace_period", GRACE_PERIOD_DAYS + "d",
-                "algorithm", "HMAC-SHA256",
-                "rotated_by", "VaultSecretRotationService",
-                "previous_key_hash", hashKey(oldKey) // Store hash of old key for verification
+            // 3. Write new key to Vault with metadata; the old key stays valid for verification
+            //    during the grace period
+            Instant now = Instant.now();
+            Map<String, Object> newKeyData = Map.ofEntries(
+                Map.entry(PSEUDO_KEY_FIELD, newKey),
+                Map.entry("version", newVersion),
+                Map.entry("created_at", now.toString()),
+                Map.entry(PREVIOUS_KEY_FIELD, oldKey),
+                Map.entry(PREVIOUS_KEY_EXPIRES_AT_FIELD, now.plus(GRACE_PERIOD_DAYS, ChronoUnit.DAYS).toString()),
+                Map.entry("rotation_period", ROTATION_PERIOD_DAYS + "d"),
+                Map.entry("grace_period", GRACE_PERIOD_DAYS + "d"),
+                Map.entry("algorithm", "HMAC-SHA256"),
+                Map.entry("rotated_by", "VaultSecretRotationService"),
+                Map.entry("previous_key_hash", hashKey(oldKey)) // Store hash of old key for verification
             );
             
             vaultTemplate.write(PSEUDO_KEY_PATH, newKeyData);
             
             log.info("✅ New pseudonymization key version {} written to Vault", newVersion);
             
-            // 4. Evict cache to force reload
-            evictPseudonymizationCache();
+            // 4. Reload the keys held in memory
+            eventPublisher.publishEvent(new PseudonymizationKeyRotated(newVersion, now));
             
             // 5. Refresh Spring Cloud Config context
             contextRefresher.refresh();
             
-            log.info("✅ Cache evicted and context refreshed");
+            log.info("✅ Key holder notified and context refreshed");
             
             // 6. Audit log the rotation (Epic 8 - optional)
             if (auditService != null) {
@@ -288,20 +296,4 @@ public class VaultSecretRotationServiceImpl implements SecretRotationService {
         
         return keyValue.toString();
     }
-    
-    /**
-     * Evicts the pseudonymization key from cache.
-     */
-    private void evictPseudonymizationCache() {
-        try {
-            var cache = cacheManager.getCache("pseudonymization-keys");
-            if (cache != null) {
-                cache.evict("hmac-key");
-                log.info("✅ Pseudonymization cache evicted");
-            }
-        } catch (Exception e) {
-            log.warn("⚠️ Failed to evict cache: {}", e.getMessage());
-        }
-    }
 }
-
@@ -0,0 +1,151 @@
+package com.singularbank.signature.routing.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only local file of audit rows that could not be inserted.
+ *
+ * <p>One JSON line per row; each append (one or more rows) is forced to disk before returning.
+ * {@link #drain()} moves the file aside and returns its rows; the replay file is deleted by
+ * {@link #completeDrain()} once every row was inserted or quarantined, so a crash or database
+ * failure mid-replay replays the file again (at-least-once; rows have fixed ids and are
+ * inserted idempotently).
+ *
+ * <p>Rows the database rejects on their own are moved to a separate quarantine file, which is
+ * never replayed (inspect and re-insert by hand). The spool and the quarantine file are each
+ * capped at {@code maxBytes}.
+ *
+ * @param <T> row type, serialized with Jackson
+ */
+@Slf4j
+final class AuditSpool<T> {
+
+    private static final byte NEWLINE = '\n';
+
+    private final Path spoolFile;
+    private final Path replayFile;
+    private final Path quarantineFile;
+    private final long maxBytes;
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+
+    AuditSpool(Path directory, String name, long maxBytes, ObjectMapper objectMapper, Class<T> type) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create audit spool directory " + directory, e);
+        }
+        this.spoolFile = directory.resolve(name + ".spool");
+        this.replayFile = directory.resolve(name + ".replaying");
+        this.quarantineFile = directory.resolve(name + ".quarantine");
+        this.maxBytes = maxBytes;
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    /**
+     * Append rows.
+     *
+     * @return false if the spool is full or the write failed (the rows are lost)
+     */
+    synchronized boolean append(List<T> rows) {
+        return sizeBytes() < maxBytes && write(spoolFile, rows);
+    }
+
+    /**
+     * Append rows the database rejected to the quarantine file.
+     *
+     * @return false if the quarantine file is full or the write failed (the rows are lost)
+     */
+    synchronized boolean quarantine(List<T> rows) {
+        return size(quarantineFile) < maxBytes && write(quarantineFile, rows);
+    }
+
+    /**
+     * Move pending rows aside for replay (or resume an interrupted replay).
+     *
+     * @return rows to insert; empty if nothing is spooled
+     */
+    synchronized List<T> drain() throws IOException {
+        if (!Files.exists(replayFile)) {
+            if (!Files.exists(spoolFile)) {
+                return List.of();
+            }
+            Files.move(spoolFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+        }
+        List<T> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String json;
+            while ((json = reader.readLine()) != null) {
+                if (json.isBlank()) {
+                    continue;
+                }
+                try {
+                    rows.add(objectMapper.readValue(json, type));
+                } catch (IOException e) {
+                    log.error("Discarding unreadable spooled audit row: {}", e.getMessage());
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Delete the replay file after every drained row was inserted or quarantined.
+     */
+    synchronized void completeDrain() throws IOException {
+        Files.deleteIfExists(replayFile);
+    }
+
+    /**
+     * Bytes waiting in the spool, including a replay in progress.
+     */
+    long sizeBytes() {
+        return size(spoolFile) + size(replayFile);
+    }
+
+    private boolean write(Path file, List<T> rows) {
+        try {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream(256 * rows.size());
+            for (T row : rows) {
+                objectMapper.writeValue(lines, row);
+                lines.write(NEWLINE);
+            }
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            return true;
+        } catch (IOException e) {
+            log.error("Failed to spool {} audit rows to {}: {}", rows.size(), file, e.getMessage());
+            return false;
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.singularbank.signature.routing.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Asynchronous, batched writer of audit rows.
+ *
+ * <p>Request threads build the row (user, IP and User-Agent are captured by the caller) and
+ * {@link #submit} it to a bounded queue; one writer thread inserts rows in batches of up to
+ * {@code batchSize}, or whatever is queued {@code flushInterval} after the first row. The
+ * request thread no longer checks out a second connection or waits for a commit.
+ *
+ * <p><strong>Synchronous rows:</strong> rows matching {@code synchronous} (critical operations,
+ * or all rows when async writing is off) are inserted on the caller thread.
+ *
+ * <p><strong>Durability:</strong> a batch whose insert fails, and a row finding the queue full,
+ * is appended to an {@link AuditSpool} file (fsynced, on the caller thread for a full queue)
+ * and replayed by the writer thread every {@code replayInterval}, starting one interval after
+ * startup. Only a full or unwritable spool loses rows, counted as dropped. On shutdown the
+ * queue is drained for up to {@code shutdownTimeout}, then spooled.
+ *
+ * <p><strong>Rejected rows:</strong> when the database rejects a batch
+ * ({@link DataIntegrityViolationException}: a constraint or data error rather than an outage),
+ * its rows are retried one by one and the rows rejected on their own are quarantined, so one
+ * bad row neither holds back its batch nor blocks the replay of the spool behind it. A replay
+ * stopped by an outage resumes from the same spool file; rows it inserted again are ignored
+ * by the sink (fixed ids, idempotent insert).
+ *
+ * <p><strong>Metrics Exported</strong> (tag {@code log}: the audit table):
+ * <pre>
+ * audit.writer.queue.depth   - Gauge (rows waiting for the writer)
+ * audit.writer.batch.size    - DistributionSummary (rows per insert)
+ * audit.writer.batch.latency - Timer (insert of one batch)
+ * audit.writer.spooled       - Counter (rows spooled, tag reason=queue_full|write_failed)
+ * audit.writer.quarantined   - Counter (rows rejected by the database, see the quarantine file)
+ * audit.writer.dropped       - Counter (rows lost: spool full or unwritable)
+ * audit.writer.spool.bytes   - Gauge (bytes waiting in the spool)
+ * </pre>
+ *
+ * @param <T> row type
+ */
+@Slf4j
+public class AuditWriteQueue<T> implements AutoCloseable {
+
+    private final String name;
+    private final Consumer<List<T>> sink;
+    private final Predicate<T> synchronous;
+    private final BlockingQueue<T> queue;
+    private final AuditSpool<T> spool;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long replayIntervalNanos;
+    private final Duration shutdownTimeout;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSizes;
+    private final Timer batchLatency;
+    private final Counter spooledQueueFull;
+    private final Counter spooledWriteFailed;
+    private final Counter quarantined;
+    private final Counter dropped;
+
+    /**
+     * @param name        audit table, used for the thread name, spool files and metric tags
+     * @param sink        inserts a batch of rows in one transaction, ignoring rows already inserted
+     * @param synchronous rows to insert on the caller thread
+     * @param type        row class (spool deserialization)
+     */
+    public AuditWriteQueue(
+        String name,
+        Consumer<List<T>> sink,
+        Predicate<T> synchronous,
+        Class<T> type,
+        Settings settings,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.sink = sink;
+        this.synchronous = synchronous;
+        this.queue = new ArrayBlockingQueue<>(settings.queueCapacity());
+        this.spool = new AuditSpool<>(settings.spoolDirectory(), name, settings.spoolMaxBytes(), objectMapper, type);
+        this.batchSize = settings.batchSize();
+        this.flushIntervalNanos = settings.flushInterval().toNanos();
+        this.replayIntervalNanos = settings.replayInterval().toNanos();
+        this.shutdownTimeout = settings.shutdownTimeout();
+
+        Gauge.builder("audit.writer.queue.depth", queue, BlockingQueue::size)
+            .description("Audit rows waiting for the writer thread")
+            .tag("log", name)
+            .register(meterRegistry);
+        Gauge.builder("audit.writer.spool.bytes", spool, AuditSpool::sizeBytes)
+            .description("Bytes of audit rows waiting in the spool file")
+            .tag("log", name)
+            .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("audit.writer.batch.size")
+            .description("Audit rows per insert")
+            .tag("log", name)
+            .register(meterRegistry);
+        this.batchLatency = Timer.builder("audit.writer.batch.latency")
+            .description("Insert of one batch of audit rows")
+            .tag("log", name)
+            .register(meterRegistry);
+        this.spooledQueueFull = spooledCounter(meterRegistry, "queue_full");
+        this.spooledWriteFailed = spooledCounter(meterRegistry, "write_failed");
+        this.quarantined = Counter.builder("audit.writer.quarantined")
+            .description("Audit rows rejected by the database and moved to the quarantine file")
+            .tag("log", name)
+            .register(meterRegistry);
+        this.dropped = Counter.builder("audit.writer.dropped")
+            .description("Audit rows lost (spool full or unwritable)")
+            .tag("log", name)
+            .register(meterRegistry);
+
+        this.writer = new Thread(this::run, "audit-writer-" + name);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queue a row, or insert it now if it is synchronous. Never throws for a failed insert.
+     */
+    public void submit(T row) {
+        if (synchronous.test(row)) {
+            write(List.of(row));
+        } else if (!running || !queue.offer(row)) {
+            spool(List.of(row), spooledQueueFull);
+        }
+    }
+
+    /**
+     * Rows waiting for the writer thread.
+     */
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Stop accepting rows, write what is queued (up to the shutdown timeout) and spool the rest.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            writer.interrupt();
+        }
+        List<T> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("Audit writer {} stopped with {} rows queued, spooling them", name, remaining.size());
+            spool(remaining, spooledQueueFull);
+        }
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(batchSize);
+        long nextReplay = System.nanoTime() + replayIntervalNanos;
+        while (running || !queue.isEmpty()) {
+            try {
+                if (System.nanoTime() - nextReplay >= 0) {
+                    replay();
+                    nextReplay = System.nanoTime() + replayIntervalNanos;
+                }
+                T first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                queue.drainTo(batch);
+                if (!batch.isEmpty()) {
+                    spool(new ArrayList<>(batch), spooledQueueFull);
+                }
+                return;
+            } catch (RuntimeException e) {
+                log.error("Audit writer {} failed", name, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Add queued rows until the batch is full or the flush interval since its first row expired.
+     */
+    private void fill(List<T> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long wait = deadline - System.nanoTime();
+            T next = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Insert rows; spool the rows not inserted because the database failed.
+     */
+    private void write(List<T> rows) {
+        int done = insert(rows);
+        if (done < rows.size()) {
+            spool(new ArrayList<>(rows.subList(done, rows.size())), spooledWriteFailed);
+        }
+    }
+
+    /**
+     * Insert rows in one batch; if the database rejects the batch, insert them one by one and
+     * quarantine the rows it rejects.
+     *
+     * @return leading rows inserted or quarantined; fewer than all if the database failed
+     */
+    private int insert(List<T> rows) {
+        long start = System.nanoTime();
+        try {
+            sink.accept(rows);
+            batchSizes.record(rows.size());
+            return rows.size();
+        } catch (RuntimeException e) {
+            if (!(e instanceof DataIntegrityViolationException)) {
+                log.error("Failed to insert {} {} rows: {}", rows.size(), name, e.getMessage());
+                return 0;
+            }
+            if (rows.size() == 1) {
+                quarantine(rows, e);
+                return 1;
+            }
+            log.warn("{} {} rows rejected, inserting them one by one: {}", rows.size(), name, e.getMessage());
+        } finally {
+            batchLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            List<T> row = rows.subList(i, i + 1);
+            try {
+                sink.accept(row);
+                batchSizes.record(1);
+            } catch (DataIntegrityViolationException e) {
+                quarantine(row, e);
+            } catch (RuntimeException e) {
+                log.error("Failed to insert {} {} rows: {}", rows.size() - i, name, e.getMessage());
+                return i;
+            }
+        }
+        return rows.size();
+    }
+
+    private void quarantine(List<T> rows, RuntimeException cause) {
+        if (spool.quarantine(rows)) {
+            quarantined.increment(rows.size());
+            log.error("{} row rejected by the database, quarantined: {}", name, cause.getMessage());
+        } else {
+            dropped.increment(rows.size());
+            log.error("AUDIT ROWS LOST: {} {} rows rejected and could not be quarantined", rows.size(), name);
+        }
+    }
+
+    private void spool(List<T> rows, Counter reason) {
+        if (spool.append(rows)) {
+            reason.increment(rows.size());
+        } else {
+            dropped.increment(rows.size());
+            log.error("AUDIT ROWS LOST: {} {} rows could not be spooled", rows.size(), name);
+        }
+    }
+
+    /**
+     * Insert spooled rows. Stops at the first database failure and keeps the spool file, so the
+     * next replay resumes it.
+     */
+    private void replay() {
+        List<T> rows;
+        try {
+            rows = spool.drain();
+        } catch (IOException e) {
+            log.error("Failed to read audit spool {}: {}", name, e.getMessage());
+            return;
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        int replayed = 0;
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<T> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            int done = insert(chunk);
+            replayed += done;
+            if (done < chunk.size()) {
+                log.warn("Audit spool {} replay stopped after {} of {} rows, resuming on the next replay",
+                    name, replayed, rows.size());
+                return;
+            }
+        }
+        try {
+            spool.completeDrain();
+        } catch (IOException e) {
+            log.error("Failed to delete replayed audit spool {}: {}", name, e.getMessage());
+        }
+        log.info("Audit spool {} replayed: {} rows", name, rows.size());
+    }
+
+    private Counter spooledCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("audit.writer.spooled")
+            .description("Audit rows written to the spool file instead of the database")
+            .tag("log", name)
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queue, batching and spool settings.
+     */
+    public record Settings(
+        int queueCapacity,
+        int batchSize,
+        Duration flushInterval,
+        Path spoolDirectory,
+        long spoolMaxBytes,
+        Duration replayInterval,
+        Duration shutdownTimeout
+    ) {}
+}
@@ -3,6 +3,8 @@ package com.singularbank.signature.routing.infrastructure.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
@@ -64,6 +66,23 @@ public class AsyncProviderConfig {
         );
     }
     
+    /**
+     * Creates an executor for speculative fallback races (primary and fallback challenge
+     * sent concurrently by ChallengeServiceImpl).
+     * 
+     * <p>Each racing call blocks while the adapter waits on the TimeLimiter, so it must not
+     * run on {@link #providerExecutorService()} (the provider call itself is scheduled there).
+     * Virtual threads keep the blocked callers cheap.
+     * 
+     * @return a virtual-thread-per-task executor with threads named {@code speculative-fallback-{n}}
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService speculativeFallbackExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("speculative-fallback-", 1).factory()
+        );
+    }
+    
     /**
      * Custom ThreadFactory for provider timeout executor.
      * Creates daemon threads with custom naming pattern.
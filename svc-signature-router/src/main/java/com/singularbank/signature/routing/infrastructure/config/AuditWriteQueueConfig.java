@@ -0,0 +1,83 @@
+package com.singularbank.signature.routing.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singularbank.signature.routing.domain.model.entity.AuditLog;
+import com.singularbank.signature.routing.domain.port.outbound.AuditLogRepository;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.RoutingRuleAuditLogJpaRepository;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.entity.RoutingRuleAuditLogEntity;
+import com.singularbank.signature.routing.infrastructure.audit.AuditWriteQueue;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Audit write queues, one per audit table (see {@link AuditWriteQueue}).
+ *
+ * <p>audit_log rows are inserted with a JDBC batch (AuditLogRepository#saveAll, existing ids
+ * skipped); routing_rule_audit_log rows, written only on rule changes, with JPA saveAll (merge
+ * by assigned id). Both sinks tolerate the rows a resumed spool replay inserts again.
+ * Queues are closed on shutdown, which writes or spools the rows still queued.
+ *
+ * @see AuditWriterConfig
+ */
+@Configuration
+@Slf4j
+public class AuditWriteQueueConfig {
+
+    @Bean
+    public AuditWriteQueue<AuditLog> auditLogWriteQueue(
+        AuditLogRepository auditLogRepository,
+        AuditWriterConfig config,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        log.info("Audit writer: async={}, batchSize={}, flushInterval={}, syncOperations={}",
+            config.isAsync(), config.getBatchSize(), config.getFlushInterval(), config.getSyncOperations());
+        return new AuditWriteQueue<>(
+            "audit_log",
+            auditLogRepository::saveAll,
+            auditLog -> isSynchronous(config, auditLog.getOperation().name()),
+            AuditLog.class,
+            settings(config),
+            objectMapper,
+            meterRegistry
+        );
+    }
+
+    @Bean
+    public AuditWriteQueue<RoutingRuleAuditLogEntity> routingRuleAuditWriteQueue(
+        RoutingRuleAuditLogJpaRepository routingRuleAuditLogRepository,
+        AuditWriterConfig config,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        return new AuditWriteQueue<>(
+            "routing_rule_audit_log",
+            routingRuleAuditLogRepository::saveAll,
+            entity -> isSynchronous(config, entity.getAction().name()),
+            RoutingRuleAuditLogEntity.class,
+            settings(config),
+            objectMapper,
+            meterRegistry
+        );
+    }
+
+    private static boolean isSynchronous(AuditWriterConfig config, String operation) {
+        return !config.isAsync() || config.getSyncOperations().contains(operation);
+    }
+
+    private static AuditWriteQueue.Settings settings(AuditWriterConfig config) {
+        return new AuditWriteQueue.Settings(
+            config.getQueueCapacity(),
+            config.getBatchSize(),
+            config.getFlushInterval(),
+            Path.of(config.getSpool().getDirectory()),
+            config.getSpool().getMaxBytes(),
+            config.getSpool().getReplayInterval(),
+            config.getShutdownTimeout()
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package com.singularbank.signature.routing.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Settings of the asynchronous audit writers (audit_log and routing_rule_audit_log).
+ *
+ * <p>Properties:
+ * <ul>
+ * <li>async: Queue audit rows for a background writer; false writes every row on the caller thread</li>
+ * <li>queueCapacity / batchSize / flushInterval: Bounded queue, flushed every batchSize rows or flushInterval</li>
+ * <li>syncOperations: Operations still written on the caller thread (e.g. DELETE)</li>
+ * <li>spool.*: Local file for rows that could not be inserted (DB down, queue full), replayed in background</li>
+ * </ul>
+ *
+ * <p><strong>Configuration Example:</strong>
+ * <pre>
+ * audit:
+ *   writer:
+ *     batch-size: 500
+ *     sync-operations: [DELETE, LOGIN]
+ *     spool:
+ *       directory: /var/lib/signature-router/audit-spool
+ * </pre>
+ *
+ * @see AuditWriteQueueConfig
+ */
+@Configuration
+@ConfigurationProperties(prefix = "audit.writer")
+@Data
+@Validated
+public class AuditWriterConfig {
+
+    /**
+     * Write audit rows from a background thread.
+     */
+    private boolean async = true;
+
+    /**
+     * Rows waiting for the writer; further rows go to the spool.
+     */
+    @Min(1)
+    private int queueCapacity = 10_000;
+
+    /**
+     * Max rows per insert batch.
+     */
+    @Min(1)
+    private int batchSize = 200;
+
+    /**
+     * Max wait for a batch to fill once its first row is queued.
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * Operations (audit_log operation or routing rule action names) written on the caller thread.
+     */
+    @NotNull
+    private Set<String> syncOperations = new HashSet<>();
+
+    /**
+     * Max wait on shutdown for queued rows to be written; the rest is spooled.
+     */
+    @NotNull
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    private Spool spool = new Spool();
+
+    @Data
+    public static class Spool {
+
+        /**
+         * Directory of the spool files (must survive restarts for durability; uat/prod require
+         * AUDIT_SPOOL_DIR).
+         */
+        @NotBlank
+        private String directory = System.getProperty("java.io.tmpdir") + "/signature-router-audit-spool";
+
+        /**
+         * Spool size above which new rows are dropped (and counted).
+         */
+        @Min(1)
+        private long maxBytes = 256L * 1024 * 1024;
+
+        /**
+         * Delay between replays of spooled rows.
+         */
+        @NotNull
+        private Duration replayInterval = Duration.ofSeconds(30);
+    }
+}
@@ -1,5 +1,6 @@
 package com.singularbank.signature.routing.infrastructure.config;
 
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderHealthStats;
 import com.singularbank.signature.routing.infrastructure.resilience.CircuitBreakerEventListener;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -22,6 +23,9 @@ import org.springframework.context.annotation.Configuration;
  * <li>Circuit Breakers: smsProvider, pushProvider, voiceProvider, biometricProvider</li>
  * </ul>
  * 
+ * <p>State transitions are also mirrored into {@link ProviderHealthStats} so provider
+ * availability checks can read circuit state without touching the registry.
+ * 
  * <p><strong>Configuration Source:</strong> application.yml
  * <pre>
  * resilience4j:
@@ -61,6 +65,7 @@ public class CircuitBreakerEventConfiguration {
     
     private final CircuitBreakerRegistry circuitBreakerRegistry;
     private final CircuitBreakerEventListener circuitBreakerEventListener;
+    private final ProviderHealthStats providerHealthStats;
     
     /**
      * Register event listeners for all circuit breakers after bean initialization.
@@ -104,6 +109,16 @@ public class CircuitBreakerEventConfiguration {
                 circuitBreaker.getEventPublisher()
                     .onReset(circuitBreakerEventListener::onReset);
                 
+                // Mirror circuit state into provider health stats (availability checks)
+                String provider = ProviderHealthStats.providerForCircuitBreaker(name);
+                providerHealthStats.recordCircuitState(provider, circuitBreaker.getState());
+                circuitBreaker.getEventPublisher()
+                    .onStateTransition(event -> providerHealthStats.recordCircuitState(
+                        provider, event.getStateTransition().getToState()));
+                circuitBreaker.getEventPublisher()
+                    .onReset(event -> providerHealthStats.recordCircuitState(
+                        provider, CircuitBreaker.State.CLOSED));
+                
                 registeredCount++;
                 if (circuitBreakerNames.length() > 0) {
                     circuitBreakerNames.append(", ");
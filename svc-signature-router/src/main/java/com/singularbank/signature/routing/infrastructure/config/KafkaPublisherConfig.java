@@ -0,0 +1,114 @@
+package com.singularbank.signature.routing.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Throughput settings for the direct Kafka publisher (KafkaEventPublisher).
+ *
+ * <p>Properties:
+ * <ul>
+ * <li>lingerMs / batchSize / compressionType / bufferMemory: producer batching (applied by KafkaConfig)</li>
+ * <li>maxInFlight: Unacknowledged sends allowed before callers wait (default: 10,000)</li>
+ * <li>maxBlock: Max wait for an in-flight slot; the event is spooled after that (default: 2s)</li>
+ * <li>spool.*: Local retry spool for failed sends (append-only file, replayed in background)</li>
+ * </ul>
+ *
+ * <p><strong>Configuration Example:</strong>
+ * <pre>
+ * kafka:
+ *   publisher:
+ *     linger-ms: 20
+ *     compression-type: zstd
+ *     max-in-flight: 5000
+ *     spool:
+ *       directory: /var/lib/signature-router/kafka-spool
+ * </pre>
+ *
+ * @see KafkaConfig
+ */
+@Configuration
+@ConfigurationProperties(prefix = "kafka.publisher")
+@Data
+@Validated
+public class KafkaPublisherConfig {
+
+    /**
+     * Wait for more records before sending a partial batch.
+     */
+    @Min(0)
+    private int lingerMs = 20;
+
+    /**
+     * Max bytes per partition batch.
+     */
+    @Min(1)
+    private int batchSize = 128 * 1024;
+
+    /**
+     * Producer compression (lz4 or zstd recommended).
+     */
+    @NotBlank
+    private String compressionType = "lz4";
+
+    /**
+     * Producer buffer for records not yet sent; send() blocks when it is full.
+     */
+    @Min(1)
+    private long bufferMemory = 64L * 1024 * 1024;
+
+    /**
+     * Unacknowledged sends allowed across the publisher.
+     */
+    @Min(1)
+    private int maxInFlight = 10_000;
+
+    /**
+     * Max wait for an in-flight slot before the event is spooled instead.
+     */
+    @NotNull
+    private Duration maxBlock = Duration.ofSeconds(2);
+
+    /**
+     * Max wait of publishAll for the acks of its batch.
+     */
+    @NotNull
+    private Duration batchTimeout = Duration.ofSeconds(30);
+
+    private Spool spool = new Spool();
+
+    @Data
+    public static class Spool {
+
+        /**
+         * Directory of the spool file; must survive restarts (required in UAT/PROD, {@code KAFKA_SPOOL_DIR}).
+         */
+        @NotBlank
+        private String directory = System.getProperty("java.io.tmpdir") + "/signature-router-kafka-spool";
+
+        /**
+         * Spool size above which new failures are dropped (and counted).
+         */
+        @Min(1)
+        private long maxBytes = 256L * 1024 * 1024;
+
+        /**
+         * Failed sends waiting for the spool writer; failures beyond are dropped (and counted).
+         */
+        @Min(1)
+        private int queueCapacity = 10_000;
+
+        /**
+         * Delay between replays of spooled events.
+         */
+        @NotNull
+        private Duration replayInterval = Duration.ofSeconds(30);
+    }
+}
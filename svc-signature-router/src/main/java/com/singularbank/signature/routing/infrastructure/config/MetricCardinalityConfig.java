@@ -0,0 +1,109 @@
+package com.singularbank.signature.routing.infrastructure.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for the metric cardinality governor.
+ *
+ * <p>Each rule bounds the values of one tag on the metrics whose name starts with
+ * {@code metric}. A value keeps its own series if it is allow-listed or is one of the
+ * {@code topK} heaviest hitters (seen at least {@code minCount} times); every other value is
+ * recorded under {@code otherValue}. A rule therefore never exceeds
+ * {@code allowedValues + topK + 1} series per combination of the remaining tags.
+ *
+ * <p><strong>Configuration Example:</strong>
+ * <pre>
+ * metrics:
+ *   cardinality:
+ *     enabled: true
+ *     other-value: other
+ *     default-series-budget: 500
+ *     rules:
+ *       - metric: signature.ratelimit.customer
+ *         tag: customer_id
+ *         top-k: 10
+ *       - metric: provider.
+ *         tag: error_code
+ *         allowed-values: [TIMEOUT, CIRCUIT_OPEN, PROVIDER_ERROR]
+ *         top-k: 20
+ * </pre>
+ *
+ * @see com.singularbank.signature.routing.infrastructure.observability.metrics.MetricCardinalityGovernor
+ */
+@Configuration
+@ConfigurationProperties(prefix = "metrics.cardinality")
+@Data
+@Validated
+public class MetricCardinalityConfig {
+
+    /**
+     * Apply the rules (the admin report is available either way).
+     */
+    private boolean enabled = true;
+
+    /**
+     * Tag value used for collapsed values.
+     */
+    @NotBlank
+    private String otherValue = "other";
+
+    /**
+     * Series budget for metrics without a rule (used by the admin report).
+     */
+    @Min(1)
+    private int defaultSeriesBudget = 500;
+
+    /**
+     * Tag rules, evaluated in order; all matching rules apply.
+     */
+    @Valid
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+
+        /**
+         * Metric name prefix (e.g. "signature.ratelimit.customer" or "provider.").
+         */
+        @NotBlank
+        private String metric;
+
+        /**
+         * Tag key to bound (e.g. "customer_id", "error_code").
+         */
+        @NotBlank
+        private String tag;
+
+        /**
+         * Values that always keep their own series.
+         */
+        private List<String> allowedValues = new ArrayList<>();
+
+        /**
+         * Heavy hitters admitted with their own series, on top of the allow-list.
+         */
+        @Min(0)
+        private int topK = 10;
+
+        /**
+         * Guaranteed occurrences a value needs before it can be admitted as a heavy hitter.
+         */
+        @Min(1)
+        private long minCount = 100;
+
+        /**
+         * Counters kept by the space-saving sketch (must be larger than topK for accurate ranking).
+         */
+        @Min(1)
+        private int sketchSize = 200;
+    }
+}
@@ -12,7 +12,6 @@ import java.time.Duration;
  * 
  * <p>Used by:</p>
  * <ul>
- *   <li>PrometheusQueryService - Query Prometheus metrics API</li>
  *   <li>Future HTTP integrations</li>
  * </ul>
  * 
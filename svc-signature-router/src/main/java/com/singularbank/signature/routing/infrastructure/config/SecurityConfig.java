@@ -26,6 +26,7 @@ import com.singularbank.signature.routing.infrastructure.security.KeycloakJwtAut
  * <ul>
  *   <li>Public (no auth): /swagger-ui/**, /v3/api-docs/**, /actuator/health, /actuator/prometheus</li>
  *   <li>Authenticated (any role): /api/v1/**</li>
+ *   <li>PRF_ADMIN: /actuator/jfr (endpoint exposed in DEV only)</li>
  *   <li>Method-level RBAC: @PreAuthorize on controllers (Story 8.2)</li>
  * </ul>
  * 
@@ -73,6 +74,8 @@ public class SecurityConfig {
                 // Public endpoints (no authentication) - Story 8.1 AC9
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                 .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                // JFR recordings (exposed in DEV only) - admins only
+                .requestMatchers("/actuator/jfr", "/actuator/jfr/**").hasRole("PRF_ADMIN")
                 
                 // Authenticated endpoints - Story 8.1
                 .requestMatchers("/api/v1/**").authenticated()
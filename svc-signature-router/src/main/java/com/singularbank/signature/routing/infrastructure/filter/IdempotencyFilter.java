@@ -1,16 +1,16 @@
 package com.singularbank.signature.routing.infrastructure.filter;
 
 import com.singularbank.signature.routing.application.service.HashService;
-import com.singularbank.signature.routing.application.service.IdempotencyService;
+import com.singularbank.signature.routing.application.service.IdempotencyCoordinator;
 import com.singularbank.signature.routing.domain.exception.IdempotencyKeyConflictException;
 import com.singularbank.signature.routing.domain.model.entity.IdempotencyRecord;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,7 +19,6 @@ import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -30,10 +29,11 @@ import java.util.UUID;
  * <ol>
  *   <li>Extract Idempotency-Key header (auto-generate if missing)</li>
  *   <li>Calculate request hash (SHA-256 of request body)</li>
- *   <li>Check for duplicate using IdempotencyService</li>
- *   <li>If duplicate and hash matches: return cached response</li>
+ *   <li>Check for duplicate using IdempotencyCoordinator (front cache, in-flight, DB reservation)</li>
+ *   <li>If duplicate and hash matches: return cached response (concurrent duplicates wait for the first)</li>
  *   <li>If duplicate and hash differs: return HTTP 409 Conflict</li>
- *   <li>If new: process request and cache response</li>
+ *   <li>If still executing on another node: return HTTP 409 with Retry-After</li>
+ *   <li>If new: process request and cache response (reservation released on failure)</li>
  * </ol>
  * </p>
  * 
@@ -46,10 +46,10 @@ public class IdempotencyFilter extends OncePerRequestFilter {
     
     private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
     private static final String IDEMPOTENT_REPLAY_HEADER = "X-Idempotent-Replay";
+    private static final byte[] EMPTY_BODY = {'{', '}'};
     
-    private final IdempotencyService idempotencyService;
+    private final IdempotencyCoordinator idempotencyCoordinator;
     private final HashService hashService;
-    private final ObjectMapper objectMapper;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -79,26 +79,21 @@ public class IdempotencyFilter extends OncePerRequestFilter {
             // Calculate request hash
             String requestHash = calculateRequestHash(requestWrapper);
             
-            // Check for duplicate
-            Optional<IdempotencyRecord> cachedRecord;
+            // Check for duplicate (front cache, in-flight request or DB reservation)
+            IdempotencyCoordinator.Outcome outcome;
             try {
-                cachedRecord = idempotencyService.checkAndStore(idempotencyKey, requestHash);
+                outcome = idempotencyCoordinator.begin(idempotencyKey, requestHash);
             } catch (IdempotencyKeyConflictException e) {
                 // Key conflict: same key, different request body
                 log.warn("Idempotency key conflict: key={}", idempotencyKey);
-                responseWrapper.setStatus(HttpStatus.CONFLICT.value());
-                responseWrapper.setContentType("application/json");
-                String errorResponse = String.format(
-                    "{\"error\":\"Idempotency key reused with different request\",\"errorCode\":\"IDEMPOTENCY_KEY_CONFLICT\"}"
-                );
-                responseWrapper.getWriter().write(errorResponse);
-                responseWrapper.copyBodyToResponse();
+                writeError(responseWrapper,
+                    "Idempotency key reused with different request", "IDEMPOTENCY_KEY_CONFLICT");
                 return;
             }
             
-            if (cachedRecord.isPresent()) {
+            if (outcome instanceof IdempotencyCoordinator.Outcome.Replay replay) {
                 // Duplicate request: return cached response
-                IdempotencyRecord record = cachedRecord.get();
+                IdempotencyRecord record = replay.record();
                 log.info("Idempotency replay: key={}, originalStatus={}", 
                     idempotencyKey, record.getStatusCode());
                 
@@ -110,25 +105,35 @@ public class IdempotencyFilter extends OncePerRequestFilter {
                 return;
             }
             
-            // New request: proceed with normal processing
-            filterChain.doFilter(requestWrapper, responseWrapper);
+            if (outcome instanceof IdempotencyCoordinator.Outcome.InProgress) {
+                // Same request still executing (typically on another node): client retries later
+                responseWrapper.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeError(responseWrapper,
+                    "A request with this idempotency key is still being processed", "IDEMPOTENCY_REQUEST_IN_PROGRESS");
+                return;
+            }
             
-            // Cache response if successful (2xx)
-            int status = responseWrapper.getStatus();
-            if (status >= 200 && status < 300) {
-                String responseBody = new String(
-                    responseWrapper.getContentAsByteArray(), 
-                    StandardCharsets.UTF_8
-                );
-                
-                idempotencyService.storeResponse(
-                    idempotencyKey,
-                    requestHash,
-                    status,
-                    responseBody
-                );
+            // New request: proceed with normal processing, then cache response if successful (2xx)
+            boolean completed = false;
+            try {
+                filterChain.doFilter(requestWrapper, responseWrapper);
                 
-                log.debug("Idempotency record stored: key={}, status={}", idempotencyKey, status);
+                int status = responseWrapper.getStatus();
+                if (status >= 200 && status < 300) {
+                    String responseBody = new String(
+                        responseWrapper.getContentAsByteArray(), 
+                        StandardCharsets.UTF_8
+                    );
+                    
+                    idempotencyCoordinator.complete(idempotencyKey, requestHash, status, responseBody);
+                    completed = true;
+                    
+                    log.debug("Idempotency record stored: key={}, status={}", idempotencyKey, status);
+                }
+            } finally {
+                if (!completed) {
+                    idempotencyCoordinator.abandon(idempotencyKey);
+                }
             }
             
         } finally {
@@ -136,8 +141,15 @@ public class IdempotencyFilter extends OncePerRequestFilter {
         }
     }
     
+    private void writeError(ContentCachingResponseWrapper response, String error, String errorCode) throws IOException {
+        response.setStatus(HttpStatus.CONFLICT.value());
+        response.setContentType("application/json");
+        response.getWriter().write(String.format("{\"error\":\"%s\",\"errorCode\":\"%s\"}", error, errorCode));
+        response.copyBodyToResponse();
+    }
+    
     /**
-     * Calculate SHA-256 hash of request body.
+     * Calculate SHA-256 hash of the canonical request body (sorted members, no whitespace).
      * 
      * @param request Request wrapper
      * @return SHA-256 hash as hexadecimal string
@@ -145,17 +157,15 @@ public class IdempotencyFilter extends OncePerRequestFilter {
     private String calculateRequestHash(ContentCachingRequestWrapper request) {
         byte[] bodyBytes = request.getContentAsByteArray();
         if (bodyBytes == null || bodyBytes.length == 0) {
-            return hashService.sha256("{}"); // Empty JSON object
+            return hashService.sha256CanonicalJson(EMPTY_BODY); // Empty JSON object
         }
         
         try {
-            // Parse JSON to normalize (handle whitespace differences)
-            Object bodyObject = objectMapper.readValue(bodyBytes, Object.class);
-            return hashService.sha256(bodyObject);
-        } catch (Exception e) {
+            return hashService.sha256CanonicalJson(bodyBytes);
+        } catch (IllegalArgumentException e) {
             log.warn("Failed to parse request body as JSON, using raw bytes: {}", e.getMessage());
             // Fallback: hash raw bytes
-            return hashService.sha256(new String(bodyBytes, StandardCharsets.UTF_8));
+            return hashService.sha256Bytes(bodyBytes);
         }
     }
 }
@@ -1,65 +1,165 @@
 package com.singularbank.signature.routing.infrastructure.job;
 
 import com.singularbank.signature.routing.application.service.IdempotencyService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Scheduled job for cleaning up expired idempotency records.
  * Story 10.5: Idempotency Functional
  * 
- * <p><b>Execution Schedule:</b> Every hour (cron: "0 0 * * * *")</p>
+ * <p><b>Execution Schedule:</b> Every hour by default ({@code idempotency.cleanup.cron})</p>
  * 
  * <p><b>Process:</b></p>
  * <ol>
- *   <li>Delete all idempotency records where expiresAt < NOW()</li>
- *   <li>Log number of deleted records</li>
- *   <li>Record metrics (if needed)</li>
+ *   <li>Measure the backlog (records where expiresAt < NOW())</li>
+ *   <li>Delete expired records in chunks of {@code batch-size}, one short transaction each,
+ *       pausing {@code pause} between chunks</li>
+ *   <li>Stop when a chunk comes back short or after {@code max-duration}; the next run continues</li>
  * </ol>
  * 
  * <p><b>Performance Considerations:</b></p>
  * <ul>
- *   <li>Uses batch delete query (efficient for large datasets)</li>
- *   <li>Index on expires_at ensures fast query execution</li>
+ *   <li>Bounded chunks keep transactions and row locks short and let autovacuum keep up,
+ *       instead of one unbounded DELETE</li>
+ *   <li>Chunks are selected by ctid through idx_idempotency_expires_at with
+ *       FOR UPDATE SKIP LOCKED, so the job can run on every node at once</li>
  *   <li>Job is idempotent (can run multiple times safely)</li>
+ *   <li>The scheduler only hands the run to the job's own {@code idempotency-cleanup} thread:
+ *       a run with pauses lasts up to {@code max-duration} and must not hold a
+ *       {@code spring.task.scheduling} thread. A tick while a run is in progress is skipped</li>
  * </ul>
  * 
+ * <p><b>Metrics Exported:</b></p>
+ * <pre>
+ * idempotency.cleanup.backlog     (gauge, expired records left after the last run)
+ * idempotency.cleanup.deleted     (counter, rate() gives the deletion rate)
+ * idempotency.cleanup.batch       (timer, per chunk)
+ * </pre>
+ * 
  * @since Story 10.5
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class IdempotencyCleanupJob {
     
     private final IdempotencyService idempotencyService;
+    private final int batchSize;
+    private final Duration pause;
+    private final Duration maxDuration;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Timer batchTimer;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService cleanupExecutor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("idempotency-cleanup").daemon().factory()
+    );
+    
+    public IdempotencyCleanupJob(
+            IdempotencyService idempotencyService,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.cleanup.batch-size:5000}") int batchSize,
+            @Value("${idempotency.cleanup.pause:100ms}") Duration pause,
+            @Value("${idempotency.cleanup.max-duration:10m}") Duration maxDuration) {
+        this.idempotencyService = idempotencyService;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxDuration = maxDuration;
+        this.deletedCounter = Counter.builder("idempotency.cleanup.deleted")
+            .description("Expired idempotency records deleted")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("idempotency.cleanup.batch")
+            .description("Duration of one idempotency cleanup chunk")
+            .register(meterRegistry);
+        meterRegistry.gauge("idempotency.cleanup.backlog", backlog);
+    }
     
     /**
-     * Scheduled job that cleans up expired idempotency records.
+     * Starts a cleanup run on the cleanup thread, unless the previous run is still in progress.
      * 
-     * <p>Runs every hour at minute 0 (e.g., 1:00, 2:00, 3:00).
-     * Uses cron expression: "0 0 * * * *" (second=0, minute=0, every hour)</p>
+     * <p>Runs every hour at minute 0 by default (cron: "0 0 * * * *").</p>
+     */
+    @Scheduled(cron = "${idempotency.cleanup.cron:0 0 * * * *}")
+    public void scheduleCleanup() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Idempotency cleanup still running, skipping this tick");
+            return;
+        }
+        try {
+            cleanupExecutor.execute(() -> {
+                try {
+                    cleanupExpiredRecords();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            log.warn("Idempotency cleanup not started: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Cleans up expired idempotency records in bounded chunks (on the calling thread).
      */
-    @Scheduled(cron = "0 0 * * * *") // Every hour
-    @Transactional
     public void cleanupExpiredRecords() {
         log.debug("Starting idempotency cleanup job...");
         
         try {
-            int deleted = idempotencyService.cleanupExpiredRecords();
+            Instant cutoff = Instant.now();
+            long expired = idempotencyService.countExpiredRecords(cutoff);
+            backlog.set(expired);
+            
+            long deadline = System.nanoTime() + maxDuration.toNanos();
+            long deleted = 0;
+            int chunk;
+            do {
+                chunk = batchTimer.record(() -> idempotencyService.cleanupExpiredBatch(cutoff, batchSize));
+                deleted += chunk;
+                deletedCounter.increment(chunk);
+                backlog.set(Math.max(0, expired - deleted));
+                
+                if (chunk == batchSize && pause.isPositive()) {
+                    Thread.sleep(pause.toMillis());
+                }
+            } while (chunk == batchSize && System.nanoTime() - deadline < 0);
             
-            if (deleted > 0) {
+            if (chunk == batchSize) {
+                log.warn("Idempotency cleanup stopped after {}: {} records deleted, ~{} expired records left",
+                    maxDuration, deleted, backlog.get());
+            } else if (deleted > 0) {
+                backlog.set(0);
                 log.info("Idempotency cleanup completed: {} expired records deleted", deleted);
             } else {
+                backlog.set(0);
                 log.debug("Idempotency cleanup completed: no expired records found");
             }
             
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Idempotency cleanup interrupted");
         } catch (Exception e) {
             log.error("Error during idempotency cleanup job", e);
             // Don't throw - allow job to complete and retry on next run
         }
     }
+    
+    @PreDestroy
+    void shutdown() {
+        // Interrupts the pause between chunks; the next run continues from there
+        cleanupExecutor.shutdownNow();
+    }
 }
-
@@ -0,0 +1,48 @@
+package com.singularbank.signature.routing.infrastructure.observability.jfr;
+
+import com.singularbank.signature.routing.domain.model.aggregate.SignatureRequest;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.UUID;
+
+/**
+ * Load or save of a SignatureRequest aggregate with its challenges (SignatureRequestRepositoryAdapter).
+ */
+@Name("com.singularbank.signature.AggregatePersist")
+@Label("Aggregate Persist")
+@Category({"Signature Router", "Persistence"})
+@Description("SignatureRequest aggregate saved or loaded through JPA, including entity mapping")
+@StackTrace(false)
+public class AggregatePersistEvent extends SignatureRouterEvent {
+
+    @Label("Operation")
+    @Description("SAVE or LOAD")
+    String operation;
+
+    @Label("Status")
+    String status;
+
+    @Label("Challenges")
+    int challenges;
+
+    /**
+     * @param operation   SAVE or LOAD
+     * @param signatureId the aggregate id
+     * @param request     the saved or loaded aggregate, null if not found
+     */
+    public void complete(String operation, UUID signatureId, SignatureRequest request) {
+        if (endAndCheck()) {
+            this.operation = operation;
+            this.signatureId = String.valueOf(signatureId);
+            if (request != null) {
+                this.status = request.getStatus() != null ? request.getStatus().name() : null;
+                this.challenges = request.getChallenges() != null ? request.getChallenges().size() : 0;
+            }
+            commit();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.singularbank.signature.routing.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.UUID;
+
+/**
+ * Serialization and insert of domain events into the outbox table (OutboxEventPublisherAdapter).
+ */
+@Name("com.singularbank.signature.OutboxWrite")
+@Label("Outbox Write")
+@Category({"Signature Router", "Outbox"})
+@Description("Domain events serialized and written to the outbox in the aggregate transaction")
+@StackTrace(false)
+public class OutboxWriteEvent extends SignatureRouterEvent {
+
+    @Label("Aggregate Id")
+    String aggregateId;
+
+    @Label("Event Type")
+    @Description("Type of the first event of the write")
+    String eventType;
+
+    @Label("Events")
+    int events;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * @param aggregateId aggregate of the (first) event
+     * @param eventType   type of the (first) event
+     * @param events      events written
+     * @param succeeded   whether the write succeeded
+     */
+    public void complete(UUID aggregateId, String eventType, int events, boolean succeeded) {
+        if (endAndCheck()) {
+            this.aggregateId = aggregateId != null ? aggregateId.toString() : null;
+            this.eventType = eventType;
+            this.events = events;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
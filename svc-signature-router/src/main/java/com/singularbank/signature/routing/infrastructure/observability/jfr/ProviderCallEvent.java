@@ -0,0 +1,51 @@
+package com.singularbank.signature.routing.infrastructure.observability.jfr;
+
+import com.singularbank.signature.routing.domain.model.entity.SignatureChallenge;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Challenge delivery through a provider, including the TimeLimiter wait (SignatureProviderAdapter).
+ */
+@Name("com.singularbank.signature.ProviderCall")
+@Label("Provider Call")
+@Category({"Signature Router", "Provider"})
+@Description("Challenge sent through an external provider (SMS, PUSH, VOICE, BIOMETRIC)")
+@StackTrace(false)
+public class ProviderCallEvent extends SignatureRouterEvent {
+
+    @Label("Challenge Id")
+    String challengeId;
+
+    @Label("Provider")
+    String provider;
+
+    @Label("Channel")
+    String channel;
+
+    @Label("Outcome")
+    @Description("SUCCESS, FAILURE or TIMEOUT")
+    String outcome;
+
+    @Label("Error Code")
+    String errorCode;
+
+    /**
+     * @param challenge the challenge sent
+     * @param result    the provider result
+     */
+    public void complete(SignatureChallenge challenge, ProviderResult result) {
+        if (endAndCheck()) {
+            this.challengeId = String.valueOf(challenge.getId());
+            this.provider = challenge.getProvider().name();
+            this.channel = challenge.getChannelType().name();
+            this.outcome = result.success() ? "SUCCESS" : result.timedOut() ? "TIMEOUT" : "FAILURE";
+            this.errorCode = result.errorCode();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.singularbank.signature.routing.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Rate limit check, local and distributed (GlobalRateLimitAspect, CustomerRateLimitService).
+ *
+ * <p>The customer id is deliberately not recorded: recordings leave the service.
+ */
+@Name("com.singularbank.signature.RateLimitDecision")
+@Label("Rate Limit Decision")
+@Category({"Signature Router", "Rate Limiting"})
+@Description("Rate limit permit check, including the distributed bucket lease when enabled")
+@StackTrace(false)
+public class RateLimitDecisionEvent extends SignatureRouterEvent {
+
+    @Label("Scope")
+    @Description("global or customer")
+    String scope;
+
+    @Label("Limiter")
+    String limiter;
+
+    @Label("Permitted")
+    boolean permitted;
+
+    /**
+     * @param scope     global or customer
+     * @param limiter   limiter name
+     * @param permitted whether the call was let through
+     */
+    public void complete(String scope, String limiter, boolean permitted) {
+        if (endAndCheck()) {
+            this.scope = scope;
+            this.limiter = limiter;
+            this.permitted = permitted;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.singularbank.signature.routing.infrastructure.observability.jfr;
+
+import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Routing rule evaluation of one transaction (RoutingServiceImpl).
+ */
+@Name("com.singularbank.signature.RoutingEvaluated")
+@Label("Routing Evaluated")
+@Category({"Signature Router", "Routing"})
+@Description("SpEL routing rule evaluation for a signature request")
+@StackTrace(false)
+public class RoutingEvaluatedEvent extends SignatureRouterEvent {
+
+    @Label("Merchant Id")
+    String merchantId;
+
+    @Label("Rules Evaluated")
+    int rulesEvaluated;
+
+    @Label("Rule Errors")
+    int ruleErrors;
+
+    @Label("Matched Rule")
+    String matchedRule;
+
+    @Label("Channel")
+    String channel;
+
+    @Label("Default Channel Used")
+    boolean defaultChannelUsed;
+
+    /**
+     * @param merchantId     merchant of the transaction
+     * @param rulesEvaluated rules evaluated before the decision
+     * @param ruleErrors     rules that failed to evaluate
+     * @param matchedRule    name of the matching rule, null if the default channel was used
+     * @param channel        selected channel
+     */
+    public void complete(String merchantId, int rulesEvaluated, int ruleErrors, String matchedRule, ChannelType channel) {
+        if (endAndCheck()) {
+            this.merchantId = merchantId;
+            this.rulesEvaluated = rulesEvaluated;
+            this.ruleErrors = ruleErrors;
+            this.matchedRule = matchedRule;
+            this.channel = channel != null ? channel.name() : null;
+            this.defaultChannelUsed = matchedRule == null;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.singularbank.signature.routing.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import org.slf4j.MDC;
+
+/**
+ * Base class of the signature router JDK Flight Recorder events.
+ *
+ * <p>Call sites follow the JFR idiom: create and {@code begin()} the event before the work, then
+ * call the event's {@code complete(...)} method, which only fills fields and commits when a
+ * recording has the event enabled. With no recording running, {@code begin()}, {@code end()}
+ * and {@code shouldCommit()} are no-ops the JIT removes, and the event instance does not escape,
+ * so the cost is close to zero.
+ *
+ * <p>Every event carries the signature request id where it is known (set by the event, or MDC
+ * {@code signatureId} while a request is being worked on), which correlates the events of one
+ * signature request with each other and with GC, lock and I/O events of the same recording. The
+ * HTTP trace id (MDC {@code traceId}) is kept as a secondary field. Started and dumped through
+ * the {@code jfr} actuator endpoint (dev profile, admin role).
+ */
+@Category({"Signature Router"})
+abstract class SignatureRouterEvent extends Event {
+
+    // Protected: JFR only records superclass fields that subclasses can see
+    @Label("Signature Id")
+    protected String signatureId;
+
+    @Label("Trace Id")
+    protected String traceId;
+
+    /**
+     * End the event and report whether its fields should be filled and committed.
+     */
+    boolean endAndCheck() {
+        end();
+        if (!shouldCommit()) {
+            return false;
+        }
+        signatureId = MDC.get("signatureId");
+        traceId = MDC.get("traceId");
+        return true;
+    }
+}
@@ -0,0 +1,281 @@
+package com.singularbank.signature.routing.infrastructure.observability.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+
+/**
+ * In-process latency timelines for the admin dashboard.
+ *
+ * <p>Every series (all signatures, one per channel, one per provider) has an HdrHistogram
+ * {@link Recorder}: recording is wait-free and never blocks request threads. Once a minute the
+ * interval histogram is swapped out and rolled into two fixed-size rings:
+ * <ul>
+ * <li>minutes: percentile snapshot of each of the last 60 minutes</li>
+ * <li>hours: snapshot plus the compressed histogram of each of the last 7 days of hours</li>
+ * </ul>
+ * Keeping the compressed hourly histograms lets any range of hours be merged into exact
+ * (2 significant digits) percentiles, e.g. daily p50/p95/p99 for the dashboard timeline, without
+ * querying Prometheus or the database. A compressed hour takes a few hundred bytes.
+ *
+ * <p>Values are recorded in microseconds, from 1µs to 1 hour; longer values are clamped.
+ * Timelines only cover this instance and restart empty; Prometheus remains the source for
+ * fleet-wide latency.
+ *
+ * <p><strong>Feeding:</strong>
+ * <ul>
+ * <li>StartSignatureUseCaseImpl records signature creation latency per channel</li>
+ * <li>SignatureProviderAdapter records provider call latency per provider</li>
+ * </ul>
+ */
+@Component
+public class LatencyHistograms {
+
+    static final int MINUTE_SLOTS = 60;
+    static final int HOUR_SLOTS = 7 * 24;
+
+    private static final long HIGHEST_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final Map<Series, SeriesState> series = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public LatencyHistograms() {
+        this(Clock.systemUTC());
+    }
+
+    LatencyHistograms(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Record the creation latency of a signature request.
+     *
+     * @param channel  the selected channel (SMS, PUSH, VOICE, BIOMETRIC)
+     * @param latency  time to create the request
+     */
+    public void recordSignature(String channel, Duration latency) {
+        record(Series.ALL_SIGNATURES, latency.toNanos());
+        record(Series.channel(channel), latency.toNanos());
+    }
+
+    /**
+     * Record the latency of a provider call (successful or not).
+     *
+     * @param provider the provider name (SMS, PUSH, VOICE, BIOMETRIC)
+     * @param latency  call duration
+     */
+    public void recordProviderCall(String provider, Duration latency) {
+        record(Series.provider(provider), latency.toNanos());
+    }
+
+    /**
+     * Per-minute snapshots of a series, oldest first (at most the last 60 minutes).
+     */
+    public List<LatencySnapshot> minutes(Series key) {
+        SeriesState state = series.get(key);
+        if (state == null) {
+            return List.of();
+        }
+        synchronized (state) {
+            return List.copyOf(state.minutes);
+        }
+    }
+
+    /**
+     * Merge the hours of a series that start within {@code [from, to)}, including the
+     * current (not yet closed) hour.
+     *
+     * @return merged snapshot starting at {@code from} (count 0 if nothing was recorded)
+     */
+    public LatencySnapshot aggregate(Series key, Instant from, Instant to) {
+        Histogram merged = newHistogram();
+        SeriesState state = series.get(key);
+        if (state != null) {
+            synchronized (state) {
+                for (HourSlot hour : state.hours) {
+                    if (inRange(hour.snapshot().start(), from, to)) {
+                        merged.add(decompress(hour.compressed()));
+                    }
+                }
+                if (inRange(state.hourStart, from, to)) {
+                    merged.add(state.hourAccumulator);
+                }
+            }
+        }
+        return snapshot(from, Duration.between(from, to), merged);
+    }
+
+    /**
+     * Roll the interval histograms of every series into the minute and hour rings.
+     */
+    @Scheduled(cron = "0 * * * * *")
+    public void roll() {
+        Instant now = clock.instant();
+        for (SeriesState state : series.values()) {
+            state.roll(now);
+        }
+    }
+
+    private void record(Series key, long latencyNanos) {
+        SeriesState state = series.get(key);
+        if (state == null) {
+            state = series.computeIfAbsent(key, k -> new SeriesState(clock.instant()));
+        }
+        long micros = Math.max(1, Math.min(HIGHEST_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        state.recorder.recordValue(micros);
+    }
+
+    private static boolean inRange(Instant instant, Instant from, Instant to) {
+        return !instant.isBefore(from) && instant.isBefore(to);
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    private static LatencySnapshot snapshot(Instant start, Duration length, Histogram histogram) {
+        long count = histogram.getTotalCount();
+        if (count == 0) {
+            return new LatencySnapshot(start, length, 0, 0.0, 0, 0, 0, 0);
+        }
+        return new LatencySnapshot(
+            start,
+            length,
+            count,
+            histogram.getMean() / 1000.0,
+            toMillis(histogram.getValueAtPercentile(50.0)),
+            toMillis(histogram.getValueAtPercentile(95.0)),
+            toMillis(histogram.getValueAtPercentile(99.0)),
+            toMillis(histogram.getMaxValue())
+        );
+    }
+
+    private static long toMillis(long micros) {
+        return Math.round(micros / 1000.0);
+    }
+
+    private static byte[] compress(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    private static Histogram decompress(byte[] compressed) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(compressed), HIGHEST_MICROS);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt hourly latency histogram", e);
+        }
+    }
+
+    /**
+     * Latency series key.
+     *
+     * @param dimension "signature", "channel" or "provider"
+     * @param name      channel or provider name ("ALL" for all signatures)
+     */
+    public record Series(String dimension, String name) {
+
+        public static final Series ALL_SIGNATURES = new Series("signature", "ALL");
+
+        public static Series channel(String channel) {
+            return new Series("channel", channel);
+        }
+
+        public static Series provider(String provider) {
+            return new Series("provider", provider);
+        }
+    }
+
+    /**
+     * Latency distribution over an interval (milliseconds).
+     *
+     * @param start  interval start
+     * @param length interval length
+     * @param count  recorded values
+     * @param meanMs mean latency
+     * @param p50Ms  median latency
+     * @param p95Ms  95th percentile
+     * @param p99Ms  99th percentile
+     * @param maxMs  maximum latency
+     */
+    public record LatencySnapshot(
+        Instant start,
+        Duration length,
+        long count,
+        double meanMs,
+        long p50Ms,
+        long p95Ms,
+        long p99Ms,
+        long maxMs
+    ) {}
+
+    private record HourSlot(LatencySnapshot snapshot, byte[] compressed) {}
+
+    private static final class SeriesState {
+        private final Recorder recorder = new Recorder(HIGHEST_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram hourAccumulator = newHistogram();
+        private final ArrayDeque<LatencySnapshot> minutes = new ArrayDeque<>(MINUTE_SLOTS);
+        private final ArrayDeque<HourSlot> hours = new ArrayDeque<>(HOUR_SLOTS);
+        private Histogram recycled;
+        private Instant intervalStart;
+        private Instant hourStart;
+
+        SeriesState(Instant now) {
+            this.intervalStart = now.truncatedTo(ChronoUnit.MINUTES);
+            this.hourStart = now.truncatedTo(ChronoUnit.HOURS);
+        }
+
+        synchronized void roll(Instant now) {
+            Histogram interval = recorder.getIntervalHistogram(recycled);
+            Instant start = intervalStart;
+            intervalStart = now.truncatedTo(ChronoUnit.MINUTES);
+
+            if (minutes.size() == MINUTE_SLOTS) {
+                minutes.removeFirst();
+            }
+            minutes.addLast(snapshot(start, Duration.ofMinutes(1), interval));
+
+            Instant intervalHour = start.truncatedTo(ChronoUnit.HOURS);
+            if (!intervalHour.equals(hourStart)) {
+                closeHour(intervalHour);
+            }
+            hourAccumulator.add(interval);
+            recycled = interval;
+
+            Instant currentHour = now.truncatedTo(ChronoUnit.HOURS);
+            if (currentHour.isAfter(hourStart)) {
+                closeHour(currentHour);
+            }
+        }
+
+        private void closeHour(Instant nextHourStart) {
+            if (hourAccumulator.getTotalCount() > 0) {
+                if (hours.size() == HOUR_SLOTS) {
+                    hours.removeFirst();
+                }
+                hours.addLast(new HourSlot(
+                    snapshot(hourStart, Duration.ofHours(1), hourAccumulator),
+                    compress(hourAccumulator)
+                ));
+            }
+            hourAccumulator.reset();
+            hourStart = nextHourStart;
+        }
+    }
+}
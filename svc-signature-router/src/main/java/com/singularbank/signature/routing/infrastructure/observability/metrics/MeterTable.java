@@ -0,0 +1,44 @@
+package com.singularbank.signature.routing.infrastructure.observability.metrics;
+
+import io.micrometer.core.instrument.Meter;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * Meter handles for a finite set of tag combinations, indexed by a dense int (usually built from
+ * enum ordinals).
+ *
+ * <p>Resolving a meter through {@code meterRegistry.counter(name, tags...)} allocates the tag
+ * array, sorts the tags and hashes the id on every call. A table resolves each slot once, on
+ * first use, and after that a lookup is a single array read. Binding lazily keeps unused
+ * combinations (e.g. a PUSH provider on the SMS channel) from being exported as zero series.
+ *
+ * <p>Two threads binding the same slot concurrently both get the same meter back from the
+ * registry, so the race is harmless.
+ *
+ * @param <M> meter type
+ */
+final class MeterTable<M extends Meter> {
+
+    private final AtomicReferenceArray<M> meters;
+    private final IntFunction<M> binder;
+
+    /**
+     * @param size   number of slots
+     * @param binder registers the meter for a slot index
+     */
+    MeterTable(int size, IntFunction<M> binder) {
+        this.meters = new AtomicReferenceArray<>(size);
+        this.binder = binder;
+    }
+
+    M get(int index) {
+        M meter = meters.getAcquire(index);
+        if (meter == null) {
+            meter = binder.apply(index);
+            meters.setRelease(index, meter);
+        }
+        return meter;
+    }
+}
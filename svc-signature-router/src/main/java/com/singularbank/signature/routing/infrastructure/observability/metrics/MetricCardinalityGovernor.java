@@ -0,0 +1,215 @@
+package com.singularbank.signature.routing.infrastructure.observability.metrics;
+
+import com.singularbank.signature.routing.infrastructure.config.MetricCardinalityConfig;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Project-wide MeterFilter bounding the cardinality of high-cardinality tags.
+ *
+ * <p>For every meter matching a {@link MetricCardinalityConfig.Rule} (metric name prefix + tag):
+ * <ol>
+ * <li>Allow-listed values keep their own series</li>
+ * <li>Other values are counted in a {@link SpaceSavingSketch}; the first {@code topK} values
+ *     with at least {@code minCount} guaranteed occurrences are admitted as heavy hitters and
+ *     keep their own series from then on</li>
+ * <li>Everything else is mapped to the {@code other} value</li>
+ * </ol>
+ * Micrometer applies filters each time a meter is looked up, so the sketch sees every
+ * {@code counter(...)} / {@code timer(...)} call and ranks values by traffic, not by first use.
+ *
+ * <p>Spring Boot registers this bean on the MeterRegistry like any other MeterFilter.
+ * {@link #report} backs the admin endpoint listing the metrics nearest their budget.
+ *
+ * @see MetricCardinalityConfig
+ */
+@Component
+@Slf4j
+public class MetricCardinalityGovernor implements MeterFilter {
+
+    private static final int REPORTED_HEAVY_HITTERS = 10;
+
+    private final MetricCardinalityConfig config;
+    private final List<RuleState> rules;
+
+    public MetricCardinalityGovernor(MetricCardinalityConfig config) {
+        this.config = config;
+        this.rules = config.getRules().stream().map(RuleState::new).toList();
+        log.info("Metric cardinality governor: enabled={}, rules={}", config.isEnabled(), rules.size());
+    }
+
+    @Override
+    public Meter.Id map(Meter.Id id) {
+        if (!config.isEnabled()) {
+            return id;
+        }
+
+        Meter.Id mapped = id;
+        for (RuleState rule : rules) {
+            if (!id.getName().startsWith(rule.metric)) {
+                continue;
+            }
+            String value = id.getTag(rule.tag);
+            if (value == null) {
+                continue;
+            }
+            String bounded = rule.bound(value, config.getOtherValue());
+            if (!bounded.equals(value)) {
+                mapped = mapped.withTag(Tag.of(rule.tag, bounded));
+            }
+        }
+        return mapped;
+    }
+
+    /**
+     * Metrics nearest their cardinality budget, highest utilization first.
+     *
+     * <p>Governed metrics report the distinct values of their tag against
+     * {@code allowedValues + topK + 1}; other metrics report their series count against
+     * {@code default-series-budget}.
+     *
+     * @param registry the registry to inspect
+     * @param limit    maximum number of entries
+     * @return cardinality entries
+     */
+    public List<MetricCardinality> report(MeterRegistry registry, int limit) {
+        Map<String, Integer> seriesByName = new HashMap<>();
+        Map<String, Map<String, Set<String>>> tagValuesByName = new HashMap<>();
+
+        for (Meter meter : registry.getMeters()) {
+            Meter.Id id = meter.getId();
+            seriesByName.merge(id.getName(), 1, Integer::sum);
+            for (RuleState rule : rules) {
+                String value = id.getName().startsWith(rule.metric) ? id.getTag(rule.tag) : null;
+                if (value != null) {
+                    tagValuesByName.computeIfAbsent(id.getName(), n -> new HashMap<>())
+                        .computeIfAbsent(rule.tag, t -> new HashSet<>())
+                        .add(value);
+                }
+            }
+        }
+
+        List<MetricCardinality> entries = new ArrayList<>();
+        seriesByName.forEach((name, series) -> {
+            Map<String, Set<String>> governedTags = tagValuesByName.get(name);
+            if (governedTags == null) {
+                entries.add(MetricCardinality.of(name, null, series, config.getDefaultSeriesBudget(), 0, List.of()));
+                return;
+            }
+            for (RuleState rule : rules) {
+                Set<String> values = governedTags.get(rule.tag);
+                if (values != null && name.startsWith(rule.metric)) {
+                    entries.add(MetricCardinality.of(name, rule.tag, values.size(), rule.budget(),
+                        rule.collapsed.sum(), rule.sketch.top(REPORTED_HEAVY_HITTERS)));
+                }
+            }
+        });
+
+        entries.sort(Comparator.comparingDouble(MetricCardinality::utilization).reversed()
+            .thenComparing(MetricCardinality::metric));
+        return entries.size() > limit ? List.copyOf(entries.subList(0, limit)) : entries;
+    }
+
+    /**
+     * Cardinality of a metric (or of one governed tag of it).
+     *
+     * @param metric        metric name
+     * @param tag           governed tag, or null for the whole metric
+     * @param used          distinct tag values (governed) or series (ungoverned)
+     * @param budget        maximum expected
+     * @param utilization   used / budget
+     * @param collapsed     lookups mapped to the "other" value by the rule
+     * @param heavyHitters  heaviest tag values seen by the rule's sketch
+     */
+    public record MetricCardinality(
+        String metric,
+        String tag,
+        int used,
+        int budget,
+        double utilization,
+        long collapsed,
+        List<HeavyHitter> heavyHitters
+    ) {
+        static MetricCardinality of(String metric, String tag, int used, int budget,
+                                    long collapsed, List<SpaceSavingSketch.Estimate> estimates) {
+            List<HeavyHitter> heavyHitters = estimates.stream()
+                .map(e -> new HeavyHitter(e.value(), e.count(), e.error()))
+                .toList();
+            return new MetricCardinality(metric, tag, used, budget, (double) used / budget, collapsed, heavyHitters);
+        }
+    }
+
+    /**
+     * Heavy-hitter estimate.
+     *
+     * @param value  tag value
+     * @param count  estimated lookups (upper bound)
+     * @param error  maximum overestimation
+     */
+    public record HeavyHitter(String value, long count, long error) {}
+
+    /**
+     * Runtime state of one rule.
+     */
+    private static final class RuleState {
+        private final String metric;
+        private final String tag;
+        private final Set<String> allowed;
+        private final int topK;
+        private final long minCount;
+        private final SpaceSavingSketch sketch;
+        private final Set<String> admitted = ConcurrentHashMap.newKeySet();
+        private final LongAdder collapsed = new LongAdder();
+
+        RuleState(MetricCardinalityConfig.Rule rule) {
+            this.metric = rule.getMetric();
+            this.tag = rule.getTag();
+            this.allowed = Set.copyOf(rule.getAllowedValues());
+            this.topK = rule.getTopK();
+            this.minCount = rule.getMinCount();
+            this.sketch = new SpaceSavingSketch(Math.max(rule.getSketchSize(), rule.getTopK()));
+        }
+
+        String bound(String value, String otherValue) {
+            if (allowed.contains(value)) {
+                return value;
+            }
+            long guaranteed = sketch.offer(value);
+            // Lock only while admission slots are left
+            if (admitted.contains(value)
+                || (guaranteed >= minCount && admitted.size() < topK && admit(value, guaranteed))) {
+                return value;
+            }
+            collapsed.increment();
+            return otherValue;
+        }
+
+        private synchronized boolean admit(String value, long guaranteed) {
+            if (guaranteed < minCount || admitted.size() >= topK) {
+                return false;
+            }
+            admitted.add(value);
+            log.info("Metric tag value admitted as heavy hitter: metric={}*, tag={}, value={}, count>={}",
+                metric, tag, value, guaranteed);
+            return true;
+        }
+
+        int budget() {
+            return allowed.size() + topK + 1;
+        }
+    }
+}
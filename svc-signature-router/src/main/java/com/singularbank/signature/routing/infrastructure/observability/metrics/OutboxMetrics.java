@@ -1,22 +1,32 @@
 package com.singularbank.signature.routing.infrastructure.observability.metrics;
 
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Prometheus metrics for Outbox pattern monitoring.
  * 
  * <p><strong>Metrics Exposed:</strong></p>
  * <ul>
  *   <li>outbox.events.pending - Gauge of events not yet published to Kafka</li>
+ *   <li>outbox.relay.lag.seconds - Gauge of the age of the oldest pending event</li>
+ *   <li>outbox.relay.events.total{outcome} - Events relayed by the in-process relay
+ *       (published / failed); rate() gives relay throughput</li>
+ *   <li>outbox.relay.batch.duration - Timer of one claim, send, ack and mark cycle</li>
  * </ul>
  * 
  * <p><strong>Purpose:</strong></p>
  * <ul>
- *   <li>Monitor Debezium lag (if pending events growing → Debezium issue)</li>
+ *   <li>Monitor Debezium or relay lag (if pending events growing → relay issue)</li>
  *   <li>Alert on high pending count (>100 events = investigate)</li>
  *   <li>Track outbox table size for retention policy</li>
  * </ul>
@@ -35,6 +45,9 @@ import org.springframework.stereotype.Component;
 public class OutboxMetrics {
     
     private final OutboxEventRepository outboxRepository;
+    private final Counter relayPublishedCounter;
+    private final Counter relayFailedCounter;
+    private final Timer relayBatchTimer;
     
     public OutboxMetrics(
         OutboxEventRepository outboxRepository,
@@ -54,8 +67,51 @@ public class OutboxMetrics {
             .description("Number of outbox events not yet published to Kafka")
             .tag("component", "outbox")
             .register(meterRegistry);
+        
+        // Gauge: Age of the oldest pending event (relay lag, Debezium or in-process)
+        Gauge.builder("outbox.relay.lag.seconds", outboxRepository, repo -> {
+                try {
+                    Instant oldest = repo.findOldestPendingCreatedAt();
+                    return oldest == null ? 0.0 : Duration.between(oldest, Instant.now()).toMillis() / 1000.0;
+                } catch (Exception e) {
+                    log.error("Failed to read oldest pending outbox event", e);
+                    return -1.0;
+                }
+            })
+            .description("Age of the oldest outbox event not yet published to Kafka")
+            .tag("component", "outbox")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        
+        this.relayPublishedCounter = relayCounter(meterRegistry, "published");
+        this.relayFailedCounter = relayCounter(meterRegistry, "failed");
+        this.relayBatchTimer = Timer.builder("outbox.relay.batch.duration")
+            .description("Duration of one relay batch (claim, send, ack, mark published)")
+            .tag("component", "outbox")
+            .register(meterRegistry);
             
         log.info("Outbox metrics registered successfully");
     }
+    
+    /**
+     * Record one batch of the in-process relay.
+     * 
+     * @param published    rows acknowledged by the broker and marked published
+     * @param failed       rows left pending for the next claim
+     * @param elapsedNanos batch duration
+     */
+    public void recordRelayBatch(int published, int failed, long elapsedNanos) {
+        relayPublishedCounter.increment(published);
+        relayFailedCounter.increment(failed);
+        relayBatchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    private static Counter relayCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("outbox.relay.events.total")
+            .description("Outbox events relayed to Kafka by the in-process relay")
+            .tag("component", "outbox")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
 }
 
@@ -0,0 +1,199 @@
+package com.singularbank.signature.routing.infrastructure.observability.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Sliding-window success/failure counts per provider.
+ *
+ * <p>{@code provider.calls.total} counters are cumulative, so an error rate derived from them
+ * is diluted by everything since JVM start. This component keeps two lock-free rings of
+ * time buckets per provider, fed by {@link ProviderMetrics#recordProviderCall}:
+ * <ul>
+ * <li>fine: 60 × 1s buckets, answers windows up to 1 minute</li>
+ * <li>coarse: 30 × 10s buckets, answers windows up to 5 minutes</li>
+ * </ul>
+ *
+ * <p>Each bucket is a pair of {@link LongAdder}s stamped with the time slot it belongs to.
+ * The first writer of a new slot wins a CAS on the stamp and resets the adders, so recording
+ * is two volatile reads and one adder increment in the steady state. A query sums at most
+ * 60 buckets whatever the traffic, and skips buckets whose stamp is outside the window.
+ *
+ * <p>The bucket being written is included, so a window of {@code N} seconds covers between
+ * {@code N - 1} and {@code N} seconds of calls. A reset racing with an increment can lose that
+ * increment; acceptable for health decisions.
+ *
+ * <p>Read by ProviderErrorRateCalculator, DegradedModeManager and the provider health indicator,
+ * which all judge a window through {@link WindowStats#errorRate(long)}: a window with fewer than
+ * {@code resilience.error-rate.minimum-calls} calls counts as healthy.
+ */
+@Component
+public class ProviderCallWindow {
+
+    /** Longest window {@link #stats} can answer. */
+    public static final Duration MAX_WINDOW = Duration.ofMinutes(5);
+
+    private static final long FINE_BUCKET_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int FINE_BUCKETS = 60;
+    private static final long COARSE_BUCKET_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int COARSE_BUCKETS = 30;
+
+    private final Map<String, ProviderWindow> windows = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public ProviderCallWindow() {
+        this(System::nanoTime);
+    }
+
+    ProviderCallWindow(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Record the outcome of one provider call.
+     *
+     * @param provider the provider name (SMS, PUSH, VOICE, BIOMETRIC)
+     * @param success  whether the call succeeded
+     */
+    public void record(String provider, boolean success) {
+        ProviderWindow window = windows.get(provider);
+        if (window == null) {
+            window = windows.computeIfAbsent(provider, p -> new ProviderWindow());
+        }
+        long now = nanoClock.getAsLong();
+        window.fine.record(now, success);
+        window.coarse.record(now, success);
+    }
+
+    /**
+     * Calls recorded for a provider over the last {@code window}.
+     *
+     * @param provider the provider name
+     * @param window   window length, rounded up to whole buckets (1s up to 1 minute, 10s above)
+     * @return counts over the window (zero if the provider has no calls)
+     * @throws IllegalArgumentException if the window is not positive or exceeds {@link #MAX_WINDOW}
+     */
+    public WindowStats stats(String provider, Duration window) {
+        if (window.isNegative() || window.isZero() || window.compareTo(MAX_WINDOW) > 0) {
+            throw new IllegalArgumentException("Window must be in (0, " + MAX_WINDOW + "]: " + window);
+        }
+        ProviderWindow providerWindow = windows.get(provider);
+        if (providerWindow == null) {
+            return new WindowStats(0, 0, window);
+        }
+        long windowNanos = window.toNanos();
+        long now = nanoClock.getAsLong();
+        if (windowNanos <= FINE_BUCKET_NANOS * FINE_BUCKETS) {
+            return providerWindow.fine.sum(now, ceilDiv(windowNanos, FINE_BUCKET_NANOS), window);
+        }
+        return providerWindow.coarse.sum(now, ceilDiv(windowNanos, COARSE_BUCKET_NANOS), window);
+    }
+
+    /**
+     * Error rate of a provider over the last {@code window}.
+     *
+     * @return failures / calls (0.0 if there were no calls)
+     */
+    public double errorRate(String provider, Duration window) {
+        return stats(provider, window).errorRate();
+    }
+
+    private static int ceilDiv(long value, long divisor) {
+        return (int) ((value + divisor - 1) / divisor);
+    }
+
+    /**
+     * Call counts over a window.
+     *
+     * @param calls    successes + failures
+     * @param failures failed calls
+     * @param window   the window the counts cover
+     */
+    public record WindowStats(long calls, long failures, Duration window) {
+
+        /**
+         * @return failures / calls, 0.0 if there were no calls
+         */
+        public double errorRate() {
+            return calls == 0 ? 0.0 : (double) failures / calls;
+        }
+
+        /**
+         * Error rate for health decisions ({@code resilience.error-rate.minimum-calls}).
+         *
+         * @param minimumCalls calls needed before the rate counts
+         * @return failures / calls, 0.0 (assume healthy) with fewer than {@code minimumCalls} calls
+         */
+        public double errorRate(long minimumCalls) {
+            return calls < Math.max(1, minimumCalls) ? 0.0 : errorRate();
+        }
+
+        /**
+         * @return calls per second over the window
+         */
+        public double requestRate() {
+            return calls / (window.toNanos() / 1e9);
+        }
+    }
+
+    private static final class ProviderWindow {
+        private final BucketRing fine = new BucketRing(FINE_BUCKET_NANOS, FINE_BUCKETS);
+        private final BucketRing coarse = new BucketRing(COARSE_BUCKET_NANOS, COARSE_BUCKETS);
+    }
+
+    private static final class BucketRing {
+        private final long bucketNanos;
+        private final Bucket[] buckets;
+
+        BucketRing(long bucketNanos, int size) {
+            this.bucketNanos = bucketNanos;
+            this.buckets = new Bucket[size];
+            for (int i = 0; i < size; i++) {
+                buckets[i] = new Bucket();
+            }
+        }
+
+        void record(long nowNanos, boolean success) {
+            long slot = Math.floorDiv(nowNanos, bucketNanos);
+            Bucket bucket = buckets[(int) Math.floorMod(slot, buckets.length)];
+            bucket.advanceTo(slot);
+            (success ? bucket.successes : bucket.failures).increment();
+        }
+
+        WindowStats sum(long nowNanos, int bucketCount, Duration window) {
+            long current = Math.floorDiv(nowNanos, bucketNanos);
+            long successes = 0;
+            long failures = 0;
+            for (int i = 0; i < bucketCount; i++) {
+                long slot = current - i;
+                Bucket bucket = buckets[(int) Math.floorMod(slot, buckets.length)];
+                if (bucket.slot.get() == slot) {
+                    successes += bucket.successes.sum();
+                    failures += bucket.failures.sum();
+                }
+            }
+            return new WindowStats(successes + failures, failures, window);
+        }
+    }
+
+    private static final class Bucket {
+        private final AtomicLong slot = new AtomicLong(Long.MIN_VALUE);
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        void advanceTo(long target) {
+            long current = slot.get();
+            if (current < target && slot.compareAndSet(current, target)) {
+                successes.reset();
+                failures.reset();
+            }
+        }
+    }
+}
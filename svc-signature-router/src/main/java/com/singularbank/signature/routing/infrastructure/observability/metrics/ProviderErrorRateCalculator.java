@@ -1,8 +1,6 @@
 package com.singularbank.signature.routing.infrastructure.observability.metrics;
 
 import com.singularbank.signature.routing.domain.event.ProviderErrorRateExceeded;
-import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,19 +12,23 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Scheduled task that calculates provider error rates for circuit breaker decisions.
  * 
  * <p>This component runs every 10 seconds (@Scheduled(fixedDelay = 10000)) and calculates
- * the error rate for each provider based on success/failure counts in the last minute.
+ * the error rate for each provider based on success/failure counts in the last minute,
+ * read from {@link ProviderCallWindow}.
  * 
  * <p><strong>Error Rate Formula:</strong>
  * <pre>
  * errorRate = failureCount / (successCount + failureCount)
  * </pre>
  * 
- * <p><strong>Window:</strong> 1 minute rolling window for responsive error detection.
+ * <p><strong>Window:</strong> sliding window ({@code resilience.error-rate.window}, default 1 minute)
+ * for responsive error detection. Windows with fewer than {@code resilience.error-rate.minimum-calls}
+ * calls report 0.0, so a single failure on an idle provider does not trip the threshold.
  * 
  * <p><strong>Usage in Epic 4:</strong>
  * Circuit breaker logic (Story 4.4) will read provider.error.rate gauge to decide
@@ -38,7 +40,7 @@ import java.util.Map;
  * 
  * <p><strong>Edge Cases:</strong>
  * <ul>
- * <li>No calls in window → errorRate = 0.0 (assume healthy)</li>
+ * <li>No calls (or fewer than minimum-calls) in window → errorRate = 0.0 (assume healthy)</li>
  * <li>All failures → errorRate = 1.0 (100%)</li>
  * <li>All successes → errorRate = 0.0 (0%)</li>
  * </ul>
@@ -51,7 +53,7 @@ import java.util.Map;
 @Slf4j
 public class ProviderErrorRateCalculator {
     
-    private final MeterRegistry meterRegistry;
+    private final ProviderCallWindow providerCallWindow;
     private final ProviderMetrics providerMetrics;
     private final ApplicationEventPublisher eventPublisher;
     
@@ -61,31 +63,46 @@ public class ProviderErrorRateCalculator {
     @Value("${resilience.error-rate.sustained-duration-seconds:30}")
     private long sustainedDurationSeconds;
     
+    @Value("${resilience.error-rate.window:60s}")
+    private Duration window = Duration.ofMinutes(1);
+    
+    @Value("${resilience.error-rate.minimum-calls:10}")
+    private long minimumCalls = 10;
+    
     // Provider types to calculate error rate for
     private static final String[] PROVIDER_TYPES = {"SMS", "PUSH", "VOICE", "BIOMETRIC"};
     
     // Track when high error rate was first detected for each provider
     private final Map<String, Instant> highErrorRateDetectedAt = new HashMap<>();
     
-    // Track previous error rates to detect changes
-    private final Map<String, Double> previousErrorRates = new HashMap<>();
+    // Track previous error rates to detect changes (read concurrently by getErrorRate)
+    private final Map<String, Double> previousErrorRates = new ConcurrentHashMap<>();
+    
+    /**
+     * Get the error rate computed by the last scheduled run.
+     * 
+     * <p>Used by ChallengeServiceImpl to decide on speculative fallback without querying
+     * the MeterRegistry on the request path.
+     * 
+     * @param provider the provider name (SMS, PUSH, VOICE, BIOMETRIC)
+     * @return last calculated error rate (0.0 if not calculated yet)
+     */
+    public double getErrorRate(String provider) {
+        return previousErrorRates.getOrDefault(provider, 0.0);
+    }
     
     /**
      * Calculate error rates for all providers every 10 seconds.
      * 
      * <p>This method:
      * <ol>
-     * <li>Queries MeterRegistry for success/failure counts per provider</li>
+     * <li>Reads success/failure counts per provider from the sliding window</li>
      * <li>Calculates errorRate = failures / (successes + failures)</li>
      * <li>Updates provider.error.rate gauge via ProviderMetrics</li>
      * <li>Checks if error rate exceeds threshold for sustained duration</li>
      * <li>Publishes ProviderErrorRateExceeded event if threshold breached</li>
      * <li>Logs error rate changes at INFO level</li>
      * </ol>
-     * 
-     * <p><strong>Note:</strong> Uses counter values, not rates. Counters are cumulative,
-     * so we calculate error rate based on total counts since app start. For production,
-     * consider using rate() function or resetting counters periodically.
      */
     @Scheduled(fixedDelay = 10000)  // Every 10 seconds
     public void calculateErrorRates() {
@@ -119,40 +136,14 @@ public class ProviderErrorRateCalculator {
     }
     
     /**
-     * Calculate error rate for a specific provider.
-     * 
-     * <p>Queries provider.calls.total counter with success/failure status tags
-     * and calculates the error rate.
+     * Calculate error rate for a specific provider over the sliding window.
      * 
      * @param provider the provider name (SMS, PUSH, VOICE, BIOMETRIC)
      * @return error rate (0.0 to 1.0, e.g., 0.15 = 15%)
      */
     private double calculateErrorRateForProvider(String provider) {
-        // Get success count
-        Counter successCounter = meterRegistry.find("provider.calls.total")
-            .tag("provider", provider)
-            .tag("status", "success")
-            .counter();
-        
-        double successCount = (successCounter != null) ? successCounter.count() : 0.0;
-        
-        // Get failure count
-        Counter failureCounter = meterRegistry.find("provider.calls.total")
-            .tag("provider", provider)
-            .tag("status", "failure")
-            .counter();
-        
-        double failureCount = (failureCounter != null) ? failureCounter.count() : 0.0;
-        
-        // Calculate error rate
-        double totalCalls = successCount + failureCount;
-        
-        if (totalCalls == 0) {
-            // No calls yet → assume healthy (errorRate = 0)
-            return 0.0;
-        }
-        
-        return failureCount / totalCalls;
+        // Too few calls to judge → assume healthy (errorRate = 0)
+        return providerCallWindow.stats(provider, window).errorRate(minimumCalls);
     }
     
     /**
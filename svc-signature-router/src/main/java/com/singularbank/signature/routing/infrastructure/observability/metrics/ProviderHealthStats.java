@@ -0,0 +1,54 @@
+package com.singularbank.signature.routing.infrastructure.observability.metrics;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last known circuit breaker state per provider.
+ *
+ * <p>Fed by CircuitBreakerEventConfiguration from circuit breaker state transitions, so
+ * provider availability checks on the request path read a map instead of the registry.
+ *
+ * <p>Providers without a recorded transition report CLOSED.
+ */
+@Component
+public class ProviderHealthStats {
+
+    private final Map<String, CircuitBreaker.State> circuitStates = new ConcurrentHashMap<>();
+
+    /**
+     * Record the current circuit breaker state of a provider.
+     *
+     * @param provider the provider name (SMS, PUSH, VOICE, BIOMETRIC)
+     * @param state    the new circuit breaker state
+     */
+    public void recordCircuitState(String provider, CircuitBreaker.State state) {
+        circuitStates.put(provider, state);
+    }
+
+    /**
+     * Get the last known circuit breaker state of a provider.
+     *
+     * @param provider the provider name
+     * @return circuit state (CLOSED if nothing was recorded yet)
+     */
+    public CircuitBreaker.State circuitState(String provider) {
+        return circuitStates.getOrDefault(provider, CircuitBreaker.State.CLOSED);
+    }
+
+    /**
+     * Map a Resilience4j circuit breaker name to its provider name.
+     *
+     * <p>Circuit breakers follow the {@code <type>Provider} convention
+     * (smsProvider, pushProvider, voiceProvider, biometricProvider).
+     *
+     * @param circuitBreakerName the circuit breaker name
+     * @return provider name (SMS, PUSH, VOICE, BIOMETRIC)
+     */
+    public static String providerForCircuitBreaker(String circuitBreakerName) {
+        return circuitBreakerName.replace("Provider", "").toUpperCase();
+    }
+}
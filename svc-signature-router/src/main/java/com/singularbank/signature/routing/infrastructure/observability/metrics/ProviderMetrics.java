@@ -1,13 +1,17 @@
 package com.singularbank.signature.routing.infrastructure.observability.metrics;
 
+import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
 import com.singularbank.signature.routing.domain.model.valueobject.ProviderResult;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Metrics component for tracking provider call performance and errors.
@@ -37,13 +41,18 @@ import java.time.Duration;
  * Duration duration = Duration.between(startTime, Instant.now());
  * 
  * providerMetrics.recordProviderCall(
- *     providerType.name(),  // "SMS"
- *     channelType.name(),   // "SMS"
+ *     providerType,         // ProviderType.SMS
+ *     channelType,          // ChannelType.SMS
  *     result,               // ProviderResult with success, errorCode, retriedSuccess
  *     duration              // Total duration
  * );
  * }</pre>
  * 
+ * <p><strong>Hot path:</strong> the {@link ProviderType}/{@link ChannelType} overload records into
+ * meters pre-bound per enum combination ({@link MeterTable}): no tag arrays, no registry lookups.
+ * Only provider.failures.total (open-ended error_code) and attempt numbers above
+ * {@value #BOUND_ATTEMPTS} are resolved through the registry.
+ * 
  * <p><strong>Integration with Existing Metrics:</strong>
  * <ul>
  * <li>Reuses provider.timeout.total from Story 3.8 (via SignatureProviderAdapter)</li>
@@ -55,10 +64,81 @@ import java.time.Duration;
  * @see ProviderRetryMetrics
  */
 @Component
-@RequiredArgsConstructor
 public class ProviderMetrics {
     
+    /** Attempt numbers with pre-bound latency timers (retries are capped well below this). */
+    static final int BOUND_ATTEMPTS = 5;
+    
+    private static final ProviderType[] PROVIDERS = ProviderType.values();
+    private static final ChannelType[] CHANNELS = ChannelType.values();
+    
     private final MeterRegistry meterRegistry;
+    private final ProviderCallWindow providerCallWindow;
+    
+    // provider.error.rate gauge state (double bits), strongly referenced so the gauge is not collected
+    private final Map<String, AtomicLong> errorRates = new ConcurrentHashMap<>();
+    
+    // Pre-bound meters: [provider][channel][success][retried], [provider][transient], [provider][success][attempt-1]
+    private final MeterTable<Counter> callCounters;
+    private final MeterTable<Counter> errorCounters;
+    private final MeterTable<Timer> latencyTimers;
+    
+    public ProviderMetrics(
+        MeterRegistry meterRegistry,
+        ProviderCallWindow providerCallWindow
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.providerCallWindow = providerCallWindow;
+        this.callCounters = new MeterTable<>(PROVIDERS.length * CHANNELS.length * 4, index ->
+            callCounter(
+                PROVIDERS[index / (CHANNELS.length * 4)].name(),
+                CHANNELS[index / 4 % CHANNELS.length].name(),
+                (index & 2) != 0,
+                (index & 1) != 0));
+        this.errorCounters = new MeterTable<>(PROVIDERS.length * 2, index ->
+            errorCounter(PROVIDERS[index / 2].name(), (index & 1) != 0 ? "transient" : "permanent"));
+        this.latencyTimers = new MeterTable<>(PROVIDERS.length * 2 * BOUND_ATTEMPTS, index ->
+            latencyTimer(
+                PROVIDERS[index / (2 * BOUND_ATTEMPTS)].name(),
+                index / BOUND_ATTEMPTS % 2 != 0,
+                index % BOUND_ATTEMPTS + 1));
+    }
+    
+    /**
+     * Record a provider call using pre-bound meters (hot path).
+     * 
+     * <p>Records exactly the same meters and tags as
+     * {@link #recordProviderCall(String, String, ProviderResult, Duration)}.
+     * 
+     * @param provider      the provider type
+     * @param channelType   the channel type
+     * @param result        the ProviderResult
+     * @param duration      the total duration from call start to completion
+     */
+    public void recordProviderCall(ProviderType provider, ChannelType channelType, ProviderResult result, Duration duration) {
+        int p = provider.ordinal();
+        boolean success = result.success();
+        
+        callCounters.get(((p * CHANNELS.length + channelType.ordinal()) * 2 + (success ? 1 : 0)) * 2
+            + (result.retriedSuccess() ? 1 : 0)).increment();
+        
+        if (!success) {
+            // error_code is open-ended: resolved through the registry (failure path only)
+            meterRegistry.counter("provider.failures.total",
+                "provider", provider.name(),
+                "error_code", result.errorCode()
+            ).increment();
+            errorCounters.get(p * 2 + ("transient".equals(classifyErrorType(result.errorCode())) ? 1 : 0)).increment();
+        }
+        
+        int attempt = result.attemptNumber();
+        Timer latency = attempt >= 1 && attempt <= BOUND_ATTEMPTS
+            ? latencyTimers.get((p * 2 + (success ? 1 : 0)) * BOUND_ATTEMPTS + attempt - 1)
+            : latencyTimer(provider.name(), success, attempt);
+        latency.record(duration);
+        
+        providerCallWindow.record(provider.name(), success);
+    }
     
     /**
      * Record a provider call with comprehensive metrics.
@@ -70,6 +150,9 @@ public class ProviderMetrics {
      * <li>provider.latency histogram with duration sample</li>
      * </ul>
      * 
+     * <p>The outcome is also fed into {@link ProviderCallWindow} (sliding-window error and
+     * request rates).
+     * 
      * <p><strong>Tags Applied:</strong>
      * <ul>
      * <li>provider: SMS, PUSH, VOICE, BIOMETRIC</li>
@@ -79,6 +162,10 @@ public class ProviderMetrics {
      * <li>attempt_number: 1, 2, 3, etc. (from result.attemptNumber())</li>
      * </ul>
      * 
+     * <p>Resolves every meter through the registry; prefer the
+     * {@link #recordProviderCall(ProviderType, ChannelType, ProviderResult, Duration)} overload
+     * on hot paths.
+     * 
      * @param provider      the provider name (SMS, PUSH, VOICE, BIOMETRIC)
      * @param channelType   the channel type (typically same as provider)
      * @param result        the ProviderResult containing success, errorCode, timedOut, attemptNumber, retriedSuccess
@@ -86,17 +173,8 @@ public class ProviderMetrics {
      * @throws NullPointerException if any parameter is null
      */
     public void recordProviderCall(String provider, String channelType, ProviderResult result, Duration duration) {
-        String status = result.success() ? "success" : "failure";
-        String retried = String.valueOf(result.retriedSuccess());
-        String attemptNumber = String.valueOf(result.attemptNumber());
-        
         // Record provider.calls.total counter
-        meterRegistry.counter("provider.calls.total",
-            "provider", provider,
-            "status", status,
-            "channel_type", channelType,
-            "retried", retried
-        ).increment();
+        callCounter(provider, channelType, result.success(), result.retriedSuccess()).increment();
         
         // Record provider.failures.total if failure
         if (!result.success()) {
@@ -106,19 +184,13 @@ public class ProviderMetrics {
             ).increment();
             
             // Record provider.errors.total with error classification (AC5)
-            String errorType = classifyErrorType(result.errorCode());
-            meterRegistry.counter("provider.errors.total",
-                "provider", provider,
-                "error_type", errorType
-            ).increment();
+            errorCounter(provider, classifyErrorType(result.errorCode())).increment();
         }
         
         // Record provider.latency histogram
-        meterRegistry.timer("provider.latency",
-            "provider", provider,
-            "status", status,
-            "attempt_number", attemptNumber
-        ).record(duration);
+        latencyTimer(provider, result.success(), result.attemptNumber()).record(duration);
+        
+        providerCallWindow.record(provider, result.success());
     }
     
     /**
@@ -147,23 +219,27 @@ public class ProviderMetrics {
      * <p>This method is called by ProviderErrorRateCalculator (scheduled task)
      * to update the provider.error.rate gauge every 10 seconds.
      * 
-     * <p>Error rate is calculated as:
+     * <p>Error rate is calculated over the calculator's sliding window
+     * (see {@link ProviderCallWindow}):
      * <pre>
      * errorRate = failureCount / (successCount + failureCount)
      * </pre>
      * 
-     * <p>Used by Epic 4 circuit breaker logic for decisions.
+     * <p>The gauge is registered once per provider and reads the latest value.
      * 
      * @param provider  the provider name
      * @param errorRate the error rate (0.0 to 1.0, e.g., 0.15 = 15%)
      */
     public void updateErrorRate(String provider, double errorRate) {
-        meterRegistry.gauge("provider.error.rate",
-            java.util.List.of(
-                io.micrometer.core.instrument.Tag.of("provider", provider)
-            ),
-            errorRate
-        );
+        errorRates.computeIfAbsent(provider, p -> {
+            AtomicLong bits = new AtomicLong();
+            meterRegistry.gauge("provider.error.rate",
+                java.util.List.of(io.micrometer.core.instrument.Tag.of("provider", p)),
+                bits,
+                b -> Double.longBitsToDouble(b.get())
+            );
+            return bits;
+        }).set(Double.doubleToLongBits(errorRate));
     }
     
     /**
@@ -204,6 +280,30 @@ public class ProviderMetrics {
         ).increment();
     }
     
+    private Counter callCounter(String provider, String channelType, boolean success, boolean retried) {
+        return meterRegistry.counter("provider.calls.total",
+            "provider", provider,
+            "status", success ? "success" : "failure",
+            "channel_type", channelType,
+            "retried", String.valueOf(retried)
+        );
+    }
+    
+    private Counter errorCounter(String provider, String errorType) {
+        return meterRegistry.counter("provider.errors.total",
+            "provider", provider,
+            "error_type", errorType
+        );
+    }
+    
+    private Timer latencyTimer(String provider, boolean success, int attemptNumber) {
+        return meterRegistry.timer("provider.latency",
+            "provider", provider,
+            "status", success ? "success" : "failure",
+            "attempt_number", String.valueOf(attemptNumber)
+        );
+    }
+    
     /**
      * Classify error code into transient or permanent error type.
      * 
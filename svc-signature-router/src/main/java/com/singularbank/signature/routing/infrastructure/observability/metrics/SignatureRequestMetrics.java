@@ -1,10 +1,11 @@
 package com.singularbank.signature.routing.infrastructure.observability.metrics;
 
 import com.singularbank.signature.routing.domain.model.aggregate.SignatureRequest;
+import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
+import com.singularbank.signature.routing.domain.model.valueobject.SignatureStatus;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -19,6 +20,9 @@ import java.util.concurrent.TimeUnit;
  * - signature.requests.created.total (Counter): Total requests created by channel
  * - signature.requests.completed.total (Counter): Total requests completed by status
  * - signature.requests.duration.seconds (Histogram): Duration from creation to completion
+ * - signatures.completion.failed (Counter): Completions rejected, by reason
+ * 
+ * <p>Meters are bound once per channel/status ({@link MeterTable}), not resolved per request.
  * 
  * <p><b>GDPR Compliance:</b> No PII (customer IDs) exposed in metric tags
  * 
@@ -29,10 +33,35 @@ import java.util.concurrent.TimeUnit;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SignatureRequestMetrics {
 
-    private final MeterRegistry meterRegistry;
+    private static final ChannelType[] CHANNELS = ChannelType.values();
+    private static final SignatureStatus[] STATUSES = SignatureStatus.values();
+
+    // Created counters by ChannelType ordinal; the extra last slot is "UNKNOWN"
+    private final MeterTable<Counter> createdCounters;
+    private final MeterTable<Counter> completedCounters;
+    private final Timer durationTimer;
+    private final Counter maxAttemptsExceeded;
+
+    public SignatureRequestMetrics(MeterRegistry meterRegistry) {
+        this.createdCounters = new MeterTable<>(CHANNELS.length + 1, index ->
+            Counter.builder("signature.requests.created.total")
+                .description("Total signature requests created")
+                .tag("channel", index < CHANNELS.length ? CHANNELS[index].name() : "UNKNOWN")
+                .register(meterRegistry));
+        this.completedCounters = new MeterTable<>(STATUSES.length, index ->
+            Counter.builder("signature.requests.completed.total")
+                .description("Total signature requests completed")
+                .tag("status", STATUSES[index].name())
+                .register(meterRegistry));
+        this.durationTimer = Timer.builder("signature.requests.duration.seconds")
+            .description("Duration of signature requests from creation to completion")
+            .register(meterRegistry);
+        this.maxAttemptsExceeded = Counter.builder("signatures.completion.failed")
+            .tag("reason", "max_attempts")
+            .register(meterRegistry);
+    }
 
     /**
      * Records signature request creation metrics.
@@ -53,15 +82,11 @@ public class SignatureRequestMetrics {
     public void recordCreated(SignatureRequest request) {
         try {
             // Get channel from the first routing timeline entry
-            String channel = request.getRoutingTimeline().isEmpty() 
-                ? "UNKNOWN" 
-                : request.getRoutingTimeline().get(0).toChannel().name();
+            ChannelType channel = request.getRoutingTimeline().isEmpty() 
+                ? null 
+                : request.getRoutingTimeline().get(0).toChannel();
             
-            Counter.builder("signature.requests.created.total")
-                .description("Total signature requests created")
-                .tag("channel", channel)
-                .register(meterRegistry)
-                .increment();
+            createdCounters.get(channel != null ? channel.ordinal() : CHANNELS.length).increment();
             
             log.debug("Recorded signature request created: id={}, channel={}", 
                 request.getId(), channel);
@@ -95,11 +120,7 @@ public class SignatureRequestMetrics {
     public void recordCompleted(SignatureRequest request) {
         try {
             // Increment completion counter
-            Counter.builder("signature.requests.completed.total")
-                .description("Total signature requests completed")
-                .tag("status", request.getStatus().name())
-                .register(meterRegistry)
-                .increment();
+            completedCounters.get(request.getStatus().ordinal()).increment();
             
             // Record duration histogram
             // Use signedAt for SIGNED status, abortedAt for ABORTED status, or now() as fallback
@@ -114,10 +135,7 @@ public class SignatureRequestMetrics {
             
             Duration duration = Duration.between(request.getCreatedAt(), completedAt);
             
-            Timer.builder("signature.requests.duration.seconds")
-                .description("Duration of signature requests from creation to completion")
-                .register(meterRegistry)
-                .record(duration.toMillis(), TimeUnit.MILLISECONDS);
+            durationTimer.record(duration.toMillis(), TimeUnit.MILLISECONDS);
             
             log.debug("Recorded signature request completed: id={}, status={}, duration={}s", 
                 request.getId(), request.getStatus(), duration.getSeconds());
@@ -126,5 +144,13 @@ public class SignatureRequestMetrics {
             log.error("Failed to record signature request completed metric: id={}", request.getId(), e);
         }
     }
-}
 
+    /**
+     * Records a completion rejected because the challenge ran out of code attempts.
+     * 
+     * <p>Increments counter: signatures.completion.failed{reason="max_attempts"}
+     */
+    public void recordMaxAttemptsExceeded() {
+        maxAttemptsExceeded.increment();
+    }
+}
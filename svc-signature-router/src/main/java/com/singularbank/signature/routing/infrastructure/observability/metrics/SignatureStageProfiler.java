@@ -0,0 +1,264 @@
+package com.singularbank.signature.routing.infrastructure.observability.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-stage latency breakdown of signature creation.
+ *
+ * <p>{@code @Timed} on StartSignatureUseCaseImpl only measures the total. The use case opens a
+ * {@link StageTimer} per request and marks the end of each {@link Stage}; a stage covers the time
+ * since the previous mark. When the request completes, every stage is recorded into its own
+ * HdrHistogram {@link Recorder} (wait-free, no locks on request threads).
+ *
+ * <p>Once a minute the interval histograms are rolled into a ring of the last
+ * {@value #WINDOW_MINUTES} minutes, so percentiles reflect recent traffic rather than the whole
+ * uptime. Requests that fail midway are not recorded: every histogram covers the same population.
+ *
+ * <p>A fraction of requests ({@code observability.stage-profiler.sample-rate}, 0 disables) is also
+ * kept as a full per-request breakdown in a bounded ring buffer
+ * ({@code observability.stage-profiler.sample-capacity}), to tell a slow stage apart from a slow
+ * request.
+ *
+ * <p>Exposed through the {@code signaturestages} actuator endpoint.
+ */
+@Component
+public class SignatureStageProfiler {
+
+    static final int WINDOW_MINUTES = 5;
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final Stage[] STAGES = Stage.values();
+
+    private final StageHistogram[] histograms = new StageHistogram[STAGES.length];
+    private final ArrayDeque<StageSample> samples;
+    private final int sampleCapacity;
+    private final double sampleRate;
+    private final LongSupplier nanoClock;
+    private final Clock clock;
+
+    public SignatureStageProfiler(
+        @Value("${observability.stage-profiler.sample-rate:0.01}") double sampleRate,
+        @Value("${observability.stage-profiler.sample-capacity:100}") int sampleCapacity
+    ) {
+        this(sampleRate, sampleCapacity, System::nanoTime, Clock.systemUTC());
+    }
+
+    SignatureStageProfiler(double sampleRate, int sampleCapacity, LongSupplier nanoClock, Clock clock) {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("sample-rate must be between 0 and 1: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        this.sampleCapacity = Math.max(0, sampleCapacity);
+        this.samples = new ArrayDeque<>(this.sampleCapacity);
+        this.nanoClock = nanoClock;
+        this.clock = clock;
+        for (Stage stage : STAGES) {
+            histograms[stage.ordinal()] = new StageHistogram();
+        }
+    }
+
+    /**
+     * Start timing a signature creation request. The returned timer is confined to the
+     * request thread.
+     */
+    public StageTimer start() {
+        return new StageTimer(nanoClock.getAsLong());
+    }
+
+    /**
+     * Per-stage percentiles over the last {@value #WINDOW_MINUTES} minutes plus the current one.
+     */
+    public Map<Stage, StageStats> percentiles() {
+        Map<Stage, StageStats> result = new EnumMap<>(Stage.class);
+        for (Stage stage : STAGES) {
+            result.put(stage, histograms[stage.ordinal()].snapshot());
+        }
+        return result;
+    }
+
+    /**
+     * Sampled per-request breakdowns, oldest first.
+     */
+    public List<StageSample> samples() {
+        synchronized (samples) {
+            return List.copyOf(samples);
+        }
+    }
+
+    /**
+     * Roll the current minute of every stage into the window ring.
+     */
+    @Scheduled(cron = "0 * * * * *")
+    public void roll() {
+        for (StageHistogram histogram : histograms) {
+            histogram.roll();
+        }
+    }
+
+    private void complete(StageTimer timer, String channel) {
+        long[] nanos = timer.nanos;
+        for (Stage stage : STAGES) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(nanos[stage.ordinal()]);
+            histograms[stage.ordinal()].recorder.recordValue(Math.max(1, Math.min(HIGHEST_MICROS, micros)));
+        }
+        if (sampleCapacity > 0 && sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            addSample(new StageSample(clock.instant(), channel, toMicros(nanos),
+                TimeUnit.NANOSECONDS.toMicros(timer.last - timer.started)));
+        }
+    }
+
+    private void addSample(StageSample sample) {
+        synchronized (samples) {
+            if (samples.size() == sampleCapacity) {
+                samples.removeFirst();
+            }
+            samples.addLast(sample);
+        }
+    }
+
+    private static Map<Stage, Long> toMicros(long[] nanos) {
+        Map<Stage, Long> micros = new EnumMap<>(Stage.class);
+        for (Stage stage : STAGES) {
+            micros.put(stage, TimeUnit.NANOSECONDS.toMicros(nanos[stage.ordinal()]));
+        }
+        return micros;
+    }
+
+    /**
+     * Signature creation stages, in execution order.
+     */
+    public enum Stage {
+        /** Customer rate limit check. */
+        RATE_LIMIT,
+        /** Customer ID pseudonymization (HMAC-SHA256). */
+        PSEUDONYMIZE,
+        /** DTO mapping and transaction context hash. */
+        HASH,
+        /** Routing rule evaluation. */
+        ROUTING,
+        /** Aggregate creation and challenge dispatch to the provider. */
+        CHALLENGE,
+        /** Signature request persistence. */
+        PERSIST
+    }
+
+    /**
+     * Stage timings of one request. Not thread-safe.
+     */
+    public final class StageTimer {
+
+        private final long[] nanos = new long[STAGES.length];
+        private final long started;
+        private long last;
+
+        private StageTimer(long started) {
+            this.started = started;
+            this.last = started;
+        }
+
+        /**
+         * Mark the end of a stage: it is charged the time elapsed since the previous mark.
+         */
+        public void mark(Stage stage) {
+            long now = nanoClock.getAsLong();
+            nanos[stage.ordinal()] += now - last;
+            last = now;
+        }
+
+        /**
+         * Record the stages of a completed request.
+         *
+         * @param channel the selected channel, kept on sampled breakdowns
+         */
+        public void complete(String channel) {
+            SignatureStageProfiler.this.complete(this, channel);
+        }
+    }
+
+    /**
+     * Sampled breakdown of one request (microseconds).
+     *
+     * @param completedAt  when the request completed
+     * @param channel      the selected channel
+     * @param stageMicros  time spent in each stage
+     * @param totalMicros  time from start to the last mark
+     */
+    public record StageSample(Instant completedAt, String channel, Map<Stage, Long> stageMicros, long totalMicros) {}
+
+    /**
+     * Latency distribution of one stage (microseconds).
+     *
+     * @param count      completed requests in the window
+     * @param meanMicros mean time in the stage
+     * @param p50Micros  median
+     * @param p95Micros  95th percentile
+     * @param p99Micros  99th percentile
+     * @param maxMicros  maximum
+     */
+    public record StageStats(long count, double meanMicros, long p50Micros, long p95Micros, long p99Micros, long maxMicros) {
+
+        static StageStats of(Histogram histogram) {
+            if (histogram.getTotalCount() == 0) {
+                return new StageStats(0, 0.0, 0, 0, 0, 0);
+            }
+            return new StageStats(
+                histogram.getTotalCount(),
+                histogram.getMean(),
+                histogram.getValueAtPercentile(50.0),
+                histogram.getValueAtPercentile(95.0),
+                histogram.getValueAtPercentile(99.0),
+                histogram.getMaxValue()
+            );
+        }
+    }
+
+    private static final class StageHistogram {
+        private final Recorder recorder = new Recorder(HIGHEST_MICROS, SIGNIFICANT_DIGITS);
+        private final ArrayDeque<Histogram> window = new ArrayDeque<>(WINDOW_MINUTES);
+        private Histogram current = newHistogram();
+        private Histogram interval;
+
+        synchronized StageStats snapshot() {
+            drain();
+            Histogram merged = newHistogram();
+            for (Histogram minute : window) {
+                merged.add(minute);
+            }
+            merged.add(current);
+            return StageStats.of(merged);
+        }
+
+        synchronized void roll() {
+            drain();
+            if (window.size() == WINDOW_MINUTES) {
+                window.removeFirst();
+            }
+            window.addLast(current);
+            current = newHistogram();
+        }
+
+        private void drain() {
+            interval = recorder.getIntervalHistogram(interval);
+            current.add(interval);
+        }
+
+        private static Histogram newHistogram() {
+            return new Histogram(HIGHEST_MICROS, SIGNIFICANT_DIGITS);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.singularbank.signature.routing.infrastructure.observability.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-saving heavy-hitter sketch (Metwally et al.) over a bounded number of counters.
+ *
+ * <p>Keeps at most {@code capacity} values. An unseen value replaces the value with the lowest
+ * count and inherits that count as its error, so {@code count - error} is a guaranteed lower
+ * bound of its real frequency and every value occurring more than {@code total / capacity}
+ * times is retained.
+ *
+ * <p><strong>Striping:</strong> {@link #offer} runs on every meter lookup, so the counters are
+ * split into independently locked stripes (one per available processor, each with at least
+ * {@value #MIN_STRIPE_CAPACITY} counters). A value always hashes to the same stripe, so each
+ * stripe is an exact space-saving sketch of its share of the stream and {@link #top} merges
+ * them by concatenation. The retention guarantee holds per stripe ({@code stripeTotal /
+ * stripeCapacity}); with an even hash spread that is the same bound as a single sketch.
+ *
+ * <p>Thread-safe; memory is bounded by {@code capacity}.
+ */
+final class SpaceSavingSketch {
+
+    static final int MIN_STRIPE_CAPACITY = 32;
+
+    private final Stripe[] stripes;
+
+    SpaceSavingSketch(int capacity) {
+        this(capacity, Runtime.getRuntime().availableProcessors());
+    }
+
+    SpaceSavingSketch(int capacity, int concurrency) {
+        int count = Math.max(1, Math.min(concurrency, capacity / MIN_STRIPE_CAPACITY));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            // Spread the remainder so the stripe capacities add up to capacity
+            stripes[i] = new Stripe(capacity / count + (i < capacity % count ? 1 : 0));
+        }
+    }
+
+    /**
+     * Count one occurrence of a value.
+     *
+     * @param value the observed value
+     * @return guaranteed occurrences of the value so far ({@code count - error})
+     */
+    long offer(String value) {
+        return stripeOf(value).offer(value);
+    }
+
+    /**
+     * Heaviest values, highest estimated count first.
+     *
+     * @param k number of values
+     * @return up to k estimates
+     */
+    List<Estimate> top(int k) {
+        List<Estimate> estimates = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.collect(estimates);
+        }
+        estimates.sort(Comparator.comparingLong(Estimate::count).reversed());
+        return estimates.size() > k ? List.copyOf(estimates.subList(0, k)) : estimates;
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    private Stripe stripeOf(String value) {
+        if (stripes.length == 1) {
+            return stripes[0];
+        }
+        int hash = value.hashCode();
+        hash ^= hash >>> 16;
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    /**
+     * Frequency estimate of a value.
+     *
+     * @param value  the value
+     * @param count  estimated occurrences (upper bound)
+     * @param error  maximum overestimation
+     */
+    record Estimate(String value, long count, long error) {}
+
+    /**
+     * Space-saving sketch over the values hashing to one stripe.
+     */
+    private static final class Stripe {
+        private final int capacity;
+        private final Map<String, Entry> entries;
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+            this.entries = new HashMap<>(capacity * 2);
+        }
+
+        synchronized long offer(String value) {
+            Entry entry = entries.get(value);
+            if (entry == null) {
+                if (entries.size() < capacity) {
+                    entry = new Entry(value, 0);
+                } else {
+                    Entry min = entries.values().stream().min(Comparator.comparingLong(e -> e.count)).orElseThrow();
+                    entries.remove(min.value);
+                    entry = new Entry(value, min.count);
+                    entry.count = min.count;
+                }
+                entries.put(value, entry);
+            }
+            entry.count++;
+            return entry.count - entry.error;
+        }
+
+        synchronized void collect(List<Estimate> estimates) {
+            for (Entry entry : entries.values()) {
+                estimates.add(new Estimate(entry.value, entry.count, entry.error));
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String value;
+        private final long error;
+        private long count;
+
+        Entry(String value, long error) {
+            this.value = value;
+            this.error = error;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -20,6 +21,9 @@ import java.time.format.DateTimeFormatter;
  * - Error budget (allowed failures vs actual failures)
  * - Performance SLO (P99 latency)
  * 
+ * Counts come from the in-process {@link SLOEngine} (this instance, persisted across
+ * restarts), so a report costs microseconds and does not depend on Prometheus being up.
+ * 
  * SLO Targets:
  * - Availability: ≥99.9% (0.1% error budget = 43 min/month downtime)
  * - Performance: P99 < 300ms
@@ -32,12 +36,12 @@ import java.time.format.DateTimeFormatter;
 @RequiredArgsConstructor
 public class SLOCalculator {
     
-    private final PrometheusQueryService prometheusQueryService;
+    private final SLOEngine sloEngine;
     
     // SLO targets
-    private static final double AVAILABILITY_SLO = 0.999; // 99.9%
+    private static final double AVAILABILITY_SLO = SLOEngine.AVAILABILITY_OBJECTIVE; // 99.9%
     private static final double ERROR_BUDGET_ALLOWED = 1.0 - AVAILABILITY_SLO; // 0.1%
-    private static final double PERFORMANCE_SLO_P99_SECONDS = 0.3; // 300ms
+    private static final double ALLOWED_SLOW_RATE = 1.0 - SLOEngine.LATENCY_OBJECTIVE; // P99 < 300ms
     
     // Error budget thresholds for status determination
     private static final double ERROR_BUDGET_AT_RISK_THRESHOLD = 0.5; // 50% remaining
@@ -53,7 +57,7 @@ public class SLOCalculator {
         log.info("Calculating monthly SLO report for {}", month);
         
         String period = month.format(DateTimeFormatter.ofPattern("yyyy-MM"));
-        String timeRange = "30d"; // Last 30 days
+        Duration timeRange = Duration.ofDays(30); // Last 30 days
         
         return calculateSLOReport(period, timeRange);
     }
@@ -69,7 +73,7 @@ public class SLOCalculator {
         log.info("Calculating weekly SLO report for week starting {}", monday);
         
         String period = monday.format(DateTimeFormatter.ofPattern("yyyy-'W'ww"));
-        String timeRange = "7d"; // Last 7 days
+        Duration timeRange = Duration.ofDays(7); // Last 7 days
         
         return calculateSLOReport(period, timeRange);
     }
@@ -77,21 +81,11 @@ public class SLOCalculator {
     /**
      * Calculate SLO report for a given time range.
      */
-    private SLOReportDTO calculateSLOReport(String period, String timeRange) {
-        // Query Prometheus for total requests
-        double totalRequests = prometheusQueryService.query(
-            String.format("sum(increase(http_server_requests_seconds_count[%s]))", timeRange)
-        );
-        
-        // Query Prometheus for failed requests (5xx errors)
-        double failedRequests = prometheusQueryService.query(
-            String.format("sum(increase(http_server_requests_seconds_count{status=~\"5..\"}[%s]))", timeRange)
-        );
-        
-        // Query Prometheus for P99 latency
-        double p99Latency = prometheusQueryService.query(
-            String.format("histogram_quantile(0.99, sum(rate(http_server_requests_seconds_bucket[%s])) by (le))", timeRange)
-        );
+    private SLOReportDTO calculateSLOReport(String period, Duration timeRange) {
+        SLOEngine.SLOWindow window = sloEngine.window(timeRange);
+        double totalRequests = window.requests();
+        double failedRequests = window.errors(); // 5xx errors
+        double p99Latency = window.quantileSeconds(0.99);
         
         // Calculate availability
         double availability = totalRequests > 0
@@ -112,8 +106,8 @@ public class SLOCalculator {
         // Determine SLO status
         SLOStatus sloStatus = determineSLOStatus(errorBudgetRemainingPercent);
         
-        // Check performance SLO
-        boolean performanceSloMet = p99Latency < PERFORMANCE_SLO_P99_SECONDS;
+        // Check performance SLO (at most 1% of requests over 300ms)
+        boolean performanceSloMet = window.slowRate() <= ALLOWED_SLOW_RATE;
         
         // Generate recommendations
         String recommendations = generateRecommendations(sloStatus, performanceSloMet);
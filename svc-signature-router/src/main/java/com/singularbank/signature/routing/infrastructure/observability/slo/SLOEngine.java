@@ -0,0 +1,629 @@
+package com.singularbank.signature.routing.infrastructure.observability.slo;
+
+import com.singularbank.signature.routing.domain.port.outbound.SLOSnapshotStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * In-process SLO engine: request, error and latency counts over sliding windows of up to
+ * 30 days, with multi-window burn rates and error budget.
+ *
+ * <p>Fed by {@link SLOObservationHandler} from the HTTP server observation. Counts live in four
+ * fixed-size rings of wall-clock buckets (about 4 000 counters whatever the traffic):
+ * <ul>
+ * <li>60 × 1 minute: windows up to 1 hour</li>
+ * <li>72 × 5 minutes: windows up to 6 hours</li>
+ * <li>72 × 1 hour: windows up to 3 days</li>
+ * <li>120 × 6 hours: windows up to 30 days</li>
+ * </ul>
+ * Each bucket holds a request counter, an error counter (5xx) and one counter per latency bucket
+ * ({@link #LATENCY_BOUNDS_MILLIS}, aligned with the {@code http.server.requests} SLO buckets).
+ * Buckets are stamped and reset like in ProviderCallWindow, so recording is lock-free.
+ *
+ * <p>Burn rates are re-evaluated every {@code observability.slo.engine.evaluate-interval} and
+ * served from memory ({@link #burnRates()}); they are also exported as {@code slo.burn.rate}
+ * and {@code slo.error.budget.remaining} gauges. Alert rules follow the multi-window,
+ * multi-burn-rate scheme: a long window detects the burn, a short window (1/12 of it) confirms
+ * it is still happening.
+ *
+ * <p>Counts cover this instance only. Every {@code observability.slo.engine.snapshot-interval}
+ * the rings are written as a compressed snapshot through {@link SLOSnapshotStore}, keyed by
+ * {@code observability.slo.engine.instance-id}, and merged back on startup so a restart does not
+ * lose the 30-day history. Each replica owns one row and restores only that row, so the id must be
+ * unique per replica and stable across its restarts (e.g. the StatefulSet pod name). Two replicas
+ * with the same id overwrite each other's snapshot and restore the survivor's counts twice, so
+ * uat/prod require {@code SLO_INSTANCE_ID}; only local profiles default to
+ * {@code spring.application.name}.
+ */
+@Slf4j
+@Component
+public class SLOEngine {
+
+    /** Availability objective: 99.9% of requests are not 5xx. */
+    public static final double AVAILABILITY_OBJECTIVE = 0.999;
+
+    /** Latency objective: 99% of requests complete within {@link #LATENCY_THRESHOLD}. */
+    public static final double LATENCY_OBJECTIVE = 0.99;
+
+    public static final Duration LATENCY_THRESHOLD = Duration.ofMillis(300);
+
+    /** Longest window {@link #window} can answer. */
+    public static final Duration MAX_WINDOW = Duration.ofDays(30);
+
+    /** Upper bounds of the latency buckets; a last bucket counts everything slower. */
+    static final long[] LATENCY_BOUNDS_MILLIS = {50, 100, 300, 500, 1000, 2000, 5000};
+
+    /** Windows reported by {@link #burnRates()} and exported as gauges. */
+    static final List<Duration> REPORTED_WINDOWS = List.of(
+        Duration.ofMinutes(5), Duration.ofMinutes(30), Duration.ofHours(1),
+        Duration.ofHours(6), Duration.ofDays(3), MAX_WINDOW);
+
+    private static final int LATENCY_BUCKETS = LATENCY_BOUNDS_MILLIS.length + 1;
+    private static final int THRESHOLD_BUCKET = indexOf(LATENCY_BOUNDS_MILLIS, LATENCY_THRESHOLD.toMillis());
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Ring[] rings = new Ring[Resolution.values().length];
+    private final Optional<SLOSnapshotStore> snapshotStore;
+    private final String instanceId;
+    private final Clock clock;
+    private volatile BurnRateReport latest;
+
+    public SLOEngine(
+        MeterRegistry meterRegistry,
+        Optional<SLOSnapshotStore> snapshotStore,
+        @Value("${observability.slo.engine.instance-id}") String instanceId
+    ) {
+        this(meterRegistry, snapshotStore, instanceId, Clock.systemUTC());
+    }
+
+    SLOEngine(MeterRegistry meterRegistry, Optional<SLOSnapshotStore> snapshotStore, String instanceId, Clock clock) {
+        this.snapshotStore = snapshotStore;
+        this.instanceId = instanceId;
+        this.clock = clock;
+        for (Resolution resolution : Resolution.values()) {
+            rings[resolution.ordinal()] = new Ring(resolution);
+        }
+        this.latest = evaluate();
+        registerGauges(meterRegistry);
+    }
+
+    /**
+     * Record one completed request.
+     *
+     * @param latencyNanos request duration
+     * @param error        whether the request failed on the server side (5xx)
+     */
+    public void record(long latencyNanos, boolean error) {
+        long nowMillis = clock.millis();
+        int latencyBucket = latencyBucket(TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+        for (Ring ring : rings) {
+            ring.record(nowMillis, error, latencyBucket);
+        }
+    }
+
+    /**
+     * Counts over the last {@code window}, computed from the finest ring that covers it.
+     *
+     * @param window window length, rounded up to whole buckets of that ring
+     * @throws IllegalArgumentException if the window is not positive or exceeds {@link #MAX_WINDOW}
+     */
+    public SLOWindow window(Duration window) {
+        if (window.isNegative() || window.isZero() || window.compareTo(MAX_WINDOW) > 0) {
+            throw new IllegalArgumentException("Window must be in (0, " + MAX_WINDOW + "]: " + window);
+        }
+        long nowMillis = clock.millis();
+        for (Ring ring : rings) {
+            if (window.compareTo(ring.resolution.span()) <= 0) {
+                return ring.sum(nowMillis, window);
+            }
+        }
+        throw new IllegalStateException("No ring covers " + window);
+    }
+
+    /**
+     * Latest burn rates and error budget (at most one evaluation interval old).
+     */
+    public BurnRateReport burnRates() {
+        return latest;
+    }
+
+    /**
+     * Re-evaluate burn rates and alert rules.
+     */
+    @Scheduled(fixedDelayString = "${observability.slo.engine.evaluate-interval:10s}")
+    public void refresh() {
+        BurnRateReport report = evaluate();
+        for (BurnRateAlert alert : report.alerts()) {
+            if (alert.firing() && !wasFiring(alert)) {
+                log.warn("SLO burn rate alert: severity={}, sli={}, longWindow={} ({}x), shortWindow={} ({}x), threshold={}x",
+                    alert.severity(), alert.sli(), alert.longWindow(), String.format("%.1f", alert.longBurnRate()),
+                    alert.shortWindow(), String.format("%.1f", alert.shortBurnRate()), alert.threshold());
+            }
+        }
+        latest = report;
+    }
+
+    /**
+     * Write the rings to the snapshot store and purge snapshots of instances gone for 30 days.
+     */
+    @Scheduled(fixedDelayString = "${observability.slo.engine.snapshot-interval:5m}",
+               initialDelayString = "${observability.slo.engine.snapshot-interval:5m}")
+    public void saveSnapshot() {
+        snapshotStore.ifPresent(store -> {
+            try {
+                Instant now = clock.instant();
+                store.save(instanceId, encodeSnapshot(), now);
+                store.purgeOlderThan(now.minus(MAX_WINDOW));
+            } catch (DataAccessException e) {
+                log.warn("Could not save SLO snapshot for instance {}: {}", instanceId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Merge the last snapshot of this instance into the rings.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSnapshot() {
+        snapshotStore.ifPresent(store -> {
+            try {
+                store.load(instanceId).ifPresent(snapshot -> {
+                    mergeSnapshot(snapshot);
+                    latest = evaluate();
+                    log.info("SLO history restored for instance {}: {} requests over the last 30 days",
+                        instanceId, window(MAX_WINDOW).requests());
+                });
+            } catch (DataAccessException | UncheckedIOException e) {
+                log.warn("Could not restore SLO snapshot for instance {}: {}", instanceId, e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        saveSnapshot();
+    }
+
+    byte[] encodeSnapshot() {
+        long nowMillis = clock.millis();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(rings.length);
+            for (Ring ring : rings) {
+                List<long[]> buckets = ring.live(nowMillis);
+                out.writeLong(ring.resolution.bucketMillis);
+                out.writeInt(buckets.size());
+                for (long[] bucket : buckets) {
+                    for (long value : bucket) {
+                        out.writeLong(value);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    void mergeSnapshot(byte[] snapshot) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(snapshot)))) {
+            int version = in.readInt();
+            if (version != SNAPSHOT_VERSION) {
+                log.warn("Ignoring SLO snapshot with unsupported version {}", version);
+                return;
+            }
+            int ringCount = in.readInt();
+            for (int r = 0; r < ringCount; r++) {
+                long bucketMillis = in.readLong();
+                int bucketCount = in.readInt();
+                Ring ring = ringWithBucket(bucketMillis);
+                for (int b = 0; b < bucketCount; b++) {
+                    long[] bucket = new long[Bucket.FIELDS];
+                    for (int i = 0; i < bucket.length; i++) {
+                        bucket[i] = in.readLong();
+                    }
+                    if (ring != null) {
+                        ring.merge(bucket);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt SLO snapshot", e);
+        }
+    }
+
+    private Ring ringWithBucket(long bucketMillis) {
+        for (Ring ring : rings) {
+            if (ring.resolution.bucketMillis == bucketMillis) {
+                return ring;
+            }
+        }
+        return null;
+    }
+
+    private BurnRateReport evaluate() {
+        List<BurnRateWindow> windows = new ArrayList<>(REPORTED_WINDOWS.size());
+        for (Duration reported : REPORTED_WINDOWS) {
+            SLOWindow counts = window(reported);
+            windows.add(new BurnRateWindow(reported, counts.requests(),
+                counts.availabilityBurnRate(), counts.latencyBurnRate()));
+        }
+        List<BurnRateAlert> alerts = new ArrayList<>();
+        for (AlertRule rule : AlertRule.values()) {
+            BurnRateWindow longWindow = find(windows, rule.longWindow);
+            BurnRateWindow shortWindow = find(windows, rule.shortWindow);
+            alerts.add(rule.evaluate("availability",
+                longWindow.availabilityBurnRate(), shortWindow.availabilityBurnRate()));
+            alerts.add(rule.evaluate("latency",
+                longWindow.latencyBurnRate(), shortWindow.latencyBurnRate()));
+        }
+        SLOWindow month = window(MAX_WINDOW);
+        return new BurnRateReport(clock.instant(), 1.0 - month.availabilityBurnRate(), windows, alerts);
+    }
+
+    private boolean wasFiring(BurnRateAlert alert) {
+        return latest != null && latest.alerts().stream().anyMatch(previous -> previous.firing()
+            && previous.severity().equals(alert.severity())
+            && previous.sli().equals(alert.sli())
+            && previous.longWindow().equals(alert.longWindow()));
+    }
+
+    private void registerGauges(MeterRegistry meterRegistry) {
+        for (int i = 0; i < REPORTED_WINDOWS.size(); i++) {
+            int index = i;
+            String window = format(REPORTED_WINDOWS.get(i));
+            Gauge.builder("slo.burn.rate", this, engine -> engine.latest.windows().get(index).availabilityBurnRate())
+                .description("Error budget burn rate (1 = budget spent exactly over the SLO period)")
+                .tag("sli", "availability")
+                .tag("window", window)
+                .register(meterRegistry);
+            Gauge.builder("slo.burn.rate", this, engine -> engine.latest.windows().get(index).latencyBurnRate())
+                .description("Error budget burn rate (1 = budget spent exactly over the SLO period)")
+                .tag("sli", "latency")
+                .tag("window", window)
+                .register(meterRegistry);
+        }
+        Gauge.builder("slo.error.budget.remaining", this, engine -> engine.latest.errorBudgetRemaining())
+            .description("Fraction of the 30-day availability error budget left (negative when exhausted)")
+            .register(meterRegistry);
+    }
+
+    private static BurnRateWindow find(List<BurnRateWindow> windows, Duration window) {
+        return windows.stream().filter(w -> w.window().equals(window)).findFirst().orElseThrow();
+    }
+
+    private static int latencyBucket(long millis) {
+        for (int i = 0; i < LATENCY_BOUNDS_MILLIS.length; i++) {
+            if (millis <= LATENCY_BOUNDS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return LATENCY_BOUNDS_MILLIS.length;
+    }
+
+    private static int indexOf(long[] values, long value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Latency threshold must be a bucket bound: " + value + "ms");
+    }
+
+    static String format(Duration window) {
+        if (window.toDays() > 0 && window.equals(Duration.ofDays(window.toDays()))) {
+            return window.toDays() + "d";
+        }
+        if (window.toHours() > 0 && window.equals(Duration.ofHours(window.toHours()))) {
+            return window.toHours() + "h";
+        }
+        return window.toMinutes() + "m";
+    }
+
+    /**
+     * Counts over a window.
+     *
+     * @param window        the window the counts cover
+     * @param requests      completed requests
+     * @param errors        5xx responses
+     * @param latencyCounts requests per latency bucket ({@link #LATENCY_BOUNDS_MILLIS}, then slower)
+     */
+    public record SLOWindow(Duration window, long requests, long errors, long[] latencyCounts) {
+
+        /**
+         * @return 1 - errors / requests, 1.0 if there were no requests
+         */
+        public double availability() {
+            return requests == 0 ? 1.0 : 1.0 - (double) errors / requests;
+        }
+
+        /**
+         * @return fraction of requests slower than {@link #LATENCY_THRESHOLD}
+         */
+        public double slowRate() {
+            if (requests == 0) {
+                return 0.0;
+            }
+            long slow = 0;
+            for (int i = THRESHOLD_BUCKET + 1; i < latencyCounts.length; i++) {
+                slow += latencyCounts[i];
+            }
+            return (double) slow / requests;
+        }
+
+        /**
+         * @return error rate / allowed error rate (1.0 spends the budget exactly over the period)
+         */
+        public double availabilityBurnRate() {
+            return (1.0 - availability()) / (1.0 - AVAILABILITY_OBJECTIVE);
+        }
+
+        /**
+         * @return slow rate / allowed slow rate
+         */
+        public double latencyBurnRate() {
+            return slowRate() / (1.0 - LATENCY_OBJECTIVE);
+        }
+
+        /**
+         * Latency quantile, linearly interpolated within its bucket (as PromQL
+         * {@code histogram_quantile} does). Values beyond the last bound report that bound.
+         *
+         * @param quantile between 0 and 1
+         * @return latency in seconds, 0.0 if there were no requests
+         */
+        public double quantileSeconds(double quantile) {
+            if (requests == 0) {
+                return 0.0;
+            }
+            double rank = quantile * requests;
+            long cumulative = 0;
+            for (int i = 0; i < latencyCounts.length; i++) {
+                long count = latencyCounts[i];
+                if (count > 0 && cumulative + count >= rank) {
+                    if (i == LATENCY_BOUNDS_MILLIS.length) {
+                        return LATENCY_BOUNDS_MILLIS[i - 1] / 1000.0;
+                    }
+                    double lower = i == 0 ? 0 : LATENCY_BOUNDS_MILLIS[i - 1];
+                    double upper = LATENCY_BOUNDS_MILLIS[i];
+                    return (lower + (upper - lower) * (rank - cumulative) / count) / 1000.0;
+                }
+                cumulative += count;
+            }
+            return LATENCY_BOUNDS_MILLIS[LATENCY_BOUNDS_MILLIS.length - 1] / 1000.0;
+        }
+    }
+
+    /**
+     * Burn rates over the reported windows.
+     *
+     * @param evaluatedAt          when the report was computed
+     * @param errorBudgetRemaining fraction of the 30-day availability budget left (negative when exhausted)
+     * @param windows              burn rate per window, shortest first
+     * @param alerts               multi-window alert rules and whether they fire
+     */
+    public record BurnRateReport(
+        Instant evaluatedAt,
+        double errorBudgetRemaining,
+        List<BurnRateWindow> windows,
+        List<BurnRateAlert> alerts
+    ) {}
+
+    /**
+     * @param window               window length
+     * @param requests             requests in the window
+     * @param availabilityBurnRate availability budget burn rate
+     * @param latencyBurnRate      latency budget burn rate
+     */
+    public record BurnRateWindow(Duration window, long requests, double availabilityBurnRate, double latencyBurnRate) {}
+
+    /**
+     * @param severity      "page" or "ticket"
+     * @param sli           "availability" or "latency"
+     * @param longWindow    window that detects the burn
+     * @param shortWindow   window that confirms it is ongoing
+     * @param threshold     burn rate both windows must reach
+     * @param longBurnRate  burn rate over the long window
+     * @param shortBurnRate burn rate over the short window
+     * @param firing        both burn rates at or above the threshold
+     */
+    public record BurnRateAlert(
+        String severity,
+        String sli,
+        Duration longWindow,
+        Duration shortWindow,
+        double threshold,
+        double longBurnRate,
+        double shortBurnRate,
+        boolean firing
+    ) {}
+
+    /**
+     * Multi-window alert rules: 2% of the monthly budget in 1 hour, 5% in 6 hours, 10% in 3 days.
+     */
+    private enum AlertRule {
+        FAST("page", Duration.ofHours(1), Duration.ofMinutes(5), 14.4),
+        MEDIUM("page", Duration.ofHours(6), Duration.ofMinutes(30), 6.0),
+        SLOW("ticket", Duration.ofDays(3), Duration.ofHours(6), 1.0);
+
+        private final String severity;
+        private final Duration longWindow;
+        private final Duration shortWindow;
+        private final double threshold;
+
+        AlertRule(String severity, Duration longWindow, Duration shortWindow, double threshold) {
+            this.severity = severity;
+            this.longWindow = longWindow;
+            this.shortWindow = shortWindow;
+            this.threshold = threshold;
+        }
+
+        BurnRateAlert evaluate(String sli, double longBurnRate, double shortBurnRate) {
+            return new BurnRateAlert(severity, sli, longWindow, shortWindow, threshold, longBurnRate, shortBurnRate,
+                longBurnRate >= threshold && shortBurnRate >= threshold);
+        }
+    }
+
+    private enum Resolution {
+        MINUTE(Duration.ofMinutes(1), 60),
+        FIVE_MINUTES(Duration.ofMinutes(5), 72),
+        HOUR(Duration.ofHours(1), 72),
+        SIX_HOURS(Duration.ofHours(6), 120);
+
+        private final long bucketMillis;
+        private final int buckets;
+
+        Resolution(Duration bucket, int buckets) {
+            this.bucketMillis = bucket.toMillis();
+            this.buckets = buckets;
+        }
+
+        Duration span() {
+            return Duration.ofMillis(bucketMillis * buckets);
+        }
+    }
+
+    private static final class Ring {
+        private final Resolution resolution;
+        private final Bucket[] buckets;
+
+        Ring(Resolution resolution) {
+            this.resolution = resolution;
+            this.buckets = new Bucket[resolution.buckets];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new Bucket();
+            }
+        }
+
+        void record(long nowMillis, boolean error, int latencyBucket) {
+            long slot = Math.floorDiv(nowMillis, resolution.bucketMillis);
+            Bucket bucket = bucketFor(slot);
+            bucket.advanceTo(slot);
+            bucket.requests.increment();
+            if (error) {
+                bucket.errors.increment();
+            }
+            bucket.latency[latencyBucket].increment();
+        }
+
+        SLOWindow sum(long nowMillis, Duration window) {
+            long current = Math.floorDiv(nowMillis, resolution.bucketMillis);
+            long bucketCount = (window.toMillis() + resolution.bucketMillis - 1) / resolution.bucketMillis;
+            long requests = 0;
+            long errors = 0;
+            long[] latency = new long[LATENCY_BUCKETS];
+            for (long slot = current - bucketCount + 1; slot <= current; slot++) {
+                Bucket bucket = bucketFor(slot);
+                if (bucket.slot.get() == slot) {
+                    requests += bucket.requests.sum();
+                    errors += bucket.errors.sum();
+                    for (int i = 0; i < LATENCY_BUCKETS; i++) {
+                        latency[i] += bucket.latency[i].sum();
+                    }
+                }
+            }
+            return new SLOWindow(window, requests, errors, latency);
+        }
+
+        /**
+         * Non-empty buckets still inside the ring, as {@link Bucket#FIELDS} longs each.
+         */
+        List<long[]> live(long nowMillis) {
+            long current = Math.floorDiv(nowMillis, resolution.bucketMillis);
+            List<long[]> live = new ArrayList<>();
+            for (Bucket bucket : buckets) {
+                long slot = bucket.slot.get();
+                if (slot > current - buckets.length && bucket.requests.sum() > 0) {
+                    live.add(bucket.toArray(slot));
+                }
+            }
+            return live;
+        }
+
+        void merge(long[] values) {
+            long slot = values[0];
+            Bucket bucket = bucketFor(slot);
+            bucket.advanceTo(slot);
+            if (bucket.slot.get() == slot) {
+                bucket.add(values);
+            }
+        }
+
+        private Bucket bucketFor(long slot) {
+            return buckets[(int) Math.floorMod(slot, buckets.length)];
+        }
+    }
+
+    private static final class Bucket {
+        /** slot, requests, errors, one count per latency bucket. */
+        static final int FIELDS = 3 + LATENCY_BUCKETS;
+
+        private final AtomicLong slot = new AtomicLong(Long.MIN_VALUE);
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder[] latency = new LongAdder[LATENCY_BUCKETS];
+
+        Bucket() {
+            for (int i = 0; i < LATENCY_BUCKETS; i++) {
+                latency[i] = new LongAdder();
+            }
+        }
+
+        void advanceTo(long target) {
+            long current = slot.get();
+            if (current < target && slot.compareAndSet(current, target)) {
+                requests.reset();
+                errors.reset();
+                for (LongAdder counter : latency) {
+                    counter.reset();
+                }
+            }
+        }
+
+        long[] toArray(long slotValue) {
+            long[] values = new long[FIELDS];
+            values[0] = slotValue;
+            values[1] = requests.sum();
+            values[2] = errors.sum();
+            for (int i = 0; i < LATENCY_BUCKETS; i++) {
+                values[3 + i] = latency[i].sum();
+            }
+            return values;
+        }
+
+        void add(long[] values) {
+            requests.add(values[1]);
+            errors.add(values[2]);
+            for (int i = 0; i < LATENCY_BUCKETS; i++) {
+                latency[i].add(values[3 + i]);
+            }
+        }
+    }
+}
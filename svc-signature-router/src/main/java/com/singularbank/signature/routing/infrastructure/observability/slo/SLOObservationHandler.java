@@ -0,0 +1,53 @@
+package com.singularbank.signature.routing.infrastructure.observability.slo;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds {@link SLOEngine} from the {@code http.server.requests} observation.
+ *
+ * <p>Spring Boot registers every ObservationHandler bean on the ObservationRegistry, so each
+ * HTTP request is timed from {@code onStart} to {@code onStop} on the request thread.
+ *
+ * <p>A request counts as an error when it ends in 5xx, or when an exception escaped the
+ * handler chain before an error status was set (the container turns it into a 500 afterwards).
+ * Handled client errors (4xx) do not consume the error budget. Actuator requests (probes,
+ * scrapes) are not user traffic and are skipped.
+ */
+@Component
+@RequiredArgsConstructor
+public class SLOObservationHandler implements ObservationHandler<ServerRequestObservationContext> {
+
+    private static final String START_NANOS = SLOObservationHandler.class.getName() + ".startNanos";
+    private static final String ACTUATOR_PATH = "/actuator";
+
+    private final SLOEngine sloEngine;
+
+    @Override
+    public void onStart(ServerRequestObservationContext context) {
+        context.put(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void onStop(ServerRequestObservationContext context) {
+        Long startNanos = context.get(START_NANOS);
+        HttpServletRequest request = context.getCarrier();
+        if (startNanos == null || (request != null && request.getRequestURI().startsWith(ACTUATOR_PATH))) {
+            return;
+        }
+        HttpServletResponse response = context.getResponse();
+        int status = response != null ? response.getStatus() : 500;
+        boolean error = status >= 500 || (context.getError() != null && status < 400);
+        sloEngine.record(System.nanoTime() - startNanos, error);
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ServerRequestObservationContext;
+    }
+}
@@ -0,0 +1,59 @@
+package com.singularbank.signature.routing.infrastructure.ratelimit;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration for per-customer rate limiting (FR85).
+ *
+ * <p>Properties:
+ * <ul>
+ * <li>limitForPeriod: Requests allowed per customer per refresh period (default: 10)</li>
+ * <li>limitRefreshPeriod: Period over which the limit fully refills (default: 1m)</li>
+ * <li>maxCustomers: Upper bound of customers tracked at once (default: 2,000,000)</li>
+ * </ul>
+ *
+ * <p><strong>Configuration Example:</strong>
+ * <pre>
+ * rate-limit:
+ *   customer:
+ *     limit-for-period: 10
+ *     limit-refresh-period: 1m
+ *     max-customers: 2000000
+ * </pre>
+ *
+ * @see CustomerTokenBucketStore
+ */
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit.customer")
+@Data
+@Validated
+public class CustomerRateLimitConfig {
+
+    /**
+     * Requests allowed per customer per refresh period (also the burst size).
+     */
+    @Min(1)
+    private int limitForPeriod = 10;
+
+    /**
+     * Period over which an empty bucket refills completely.
+     * Buckets idle for longer are evicted (they would be full again anyway).
+     */
+    @NotNull
+    private Duration limitRefreshPeriod = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of customer buckets kept in memory.
+     * Only customers seen within the last refresh period need a bucket, so this bounds
+     * bursts of distinct customers; the least recently used bucket is evicted beyond it.
+     */
+    @Min(1)
+    private long maxCustomers = 2_000_000;
+}
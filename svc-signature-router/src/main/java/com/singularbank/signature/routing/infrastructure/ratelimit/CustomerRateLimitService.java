@@ -1,14 +1,13 @@
 package com.singularbank.signature.routing.infrastructure.ratelimit;
 
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.RateLimitDecisionEvent;
+
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.util.Optional;
 
 /**
  * Service for customer-specific rate limiting.
@@ -16,11 +15,17 @@ import java.time.Duration;
  * 
  * <p>Implements per-customer rate limiting to prevent abuse:
  * <ul>
- * <li>10 requests per minute per customer (FR85)</li>
- * <li>Dynamic rate limiter creation per customerId</li>
+ * <li>10 requests per minute per customer (FR85), configurable via {@link CustomerRateLimitConfig}</li>
+ * <li>Token bucket per customerId in a bounded, idle-evicting {@link CustomerTokenBucketStore}</li>
  * <li>Metrics tracking per customer</li>
  * </ul>
  * 
+ * <p>Customers are not registered in the shared RateLimiterRegistry: one Resilience4j
+ * RateLimiter per customer was never removed and grew the heap without limit.
+ * 
+ * <p>When {@code rate-limit.distributed.enabled=true}, the limit is also enforced across
+ * replicas via {@link DistributedRateLimiter} (shared bucket {@code customer:<id>}).
+ * 
  * <p><strong>Usage:</strong>
  * <pre>
  * customerRateLimitService.checkRateLimit(customerId);
@@ -29,17 +34,34 @@ import java.time.Duration;
  * @since Critical Improvements - Rate Limiting
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CustomerRateLimitService {
     
-    private final RateLimiterRegistry rateLimiterRegistry;
+    private static final String LIMITER_NAME = "customer";
+    
+    private final CustomerRateLimitConfig config;
+    private final CustomerTokenBucketStore bucketStore;
     private final MeterRegistry meterRegistry;
+    private final Optional<DistributedRateLimiter> distributedRateLimiter;
     
-    private static final String RATE_LIMITER_PREFIX = "customer-";
-    private static final int LIMIT_FOR_PERIOD = 10; // 10 requests
-    private static final Duration LIMIT_REFRESH_PERIOD = Duration.ofMinutes(1); // per minute
-    private static final Duration TIMEOUT = Duration.ZERO; // fail immediately
+    public CustomerRateLimitService(
+        CustomerRateLimitConfig config,
+        MeterRegistry meterRegistry,
+        Optional<DistributedRateLimiter> distributedRateLimiter
+    ) {
+        this.config = config;
+        this.bucketStore = new CustomerTokenBucketStore(
+            config.getLimitForPeriod(),
+            config.getLimitRefreshPeriod(),
+            config.getMaxCustomers()
+        );
+        this.meterRegistry = meterRegistry;
+        this.distributedRateLimiter = distributedRateLimiter;
+        
+        Gauge.builder("signature.ratelimit.customer.buckets", bucketStore, CustomerTokenBucketStore::estimatedSize)
+            .description("Customers currently tracked by the per-customer rate limiter")
+            .register(meterRegistry);
+    }
     
     /**
      * Checks if the customer has exceeded their rate limit.
@@ -48,9 +70,16 @@ public class CustomerRateLimitService {
      * @throws RateLimitExceededException if rate limit is exceeded
      */
     public void checkRateLimit(String customerId) {
-        RateLimiter rateLimiter = getOrCreateRateLimiter(customerId);
-        
-        boolean permitted = rateLimiter.acquirePermission();
+        RateLimitDecisionEvent jfrEvent = new RateLimitDecisionEvent();
+        jfrEvent.begin();
+        boolean permitted = bucketStore.tryAcquire(customerId)
+            && distributedRateLimiter.map(distributed -> distributed.tryAcquire(
+                    LIMITER_NAME,
+                    LIMITER_NAME + ":" + customerId,
+                    config.getLimitForPeriod(),
+                    config.getLimitRefreshPeriod()))
+                .orElse(true);
+        jfrEvent.complete("customer", LIMITER_NAME, permitted);
         
         if (!permitted) {
             log.warn("Rate limit exceeded for customer: {}", customerId);
@@ -67,48 +96,24 @@ public class CustomerRateLimitService {
         ).increment();
     }
     
-    /**
-     * Gets or creates a rate limiter for the specified customer.
-     * 
-     * @param customerId the pseudonymized customer ID
-     * @return the rate limiter instance
-     */
-    private RateLimiter getOrCreateRateLimiter(String customerId) {
-        String rateLimiterName = RATE_LIMITER_PREFIX + customerId;
-        
-        return rateLimiterRegistry.rateLimiter(rateLimiterName, () -> 
-            RateLimiterConfig.custom()
-                .limitForPeriod(LIMIT_FOR_PERIOD)
-                .limitRefreshPeriod(LIMIT_REFRESH_PERIOD)
-                .timeoutDuration(TIMEOUT)
-                .build()
-        );
-    }
-    
     /**
      * Gets current metrics for a customer's rate limiter.
      * Useful for monitoring and debugging.
      * 
      * @param customerId the pseudonymized customer ID
-     * @return metrics or null if rate limiter doesn't exist
+     * @return metrics or null if the customer has no bucket (unknown or idle)
      */
     public RateLimiterMetrics getMetrics(String customerId) {
-        String rateLimiterName = RATE_LIMITER_PREFIX + customerId;
-        
-        return rateLimiterRegistry.find(rateLimiterName)
-            .map(rateLimiter -> {
-                var metrics = rateLimiter.getMetrics();
-                return new RateLimiterMetrics(
-                    customerId,
-                    metrics.getAvailablePermissions(),
-                    metrics.getNumberOfWaitingThreads()
-                );
-            })
-            .orElse(null);
+        long availablePermissions = bucketStore.availablePermits(customerId);
+        if (availablePermissions < 0) {
+            return null;
+        }
+        return new RateLimiterMetrics(customerId, (int) availablePermissions, 0);
     }
     
     /**
      * Metrics DTO for rate limiter state.
+     * waitingThreads is always 0: customer permits are never waited for.
      */
     public record RateLimiterMetrics(
         String customerId,
@@ -0,0 +1,131 @@
+package com.singularbank.signature.routing.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded store of per-customer token buckets.
+ *
+ * <p>Each customer has a bucket of {@code capacity} permits refilled at one permit every
+ * {@code refillPeriod / capacity}. A bucket is two longs (available permits and last refill
+ * time); refill is computed lazily on access, so there are no background threads.
+ *
+ * <p><strong>Memory bound:</strong> buckets live in a Caffeine cache limited to
+ * {@code maxCustomers} entries and expired after {@code refillPeriod} without access. An idle
+ * bucket is full by then, so evicting it never changes a decision. Each entry costs roughly
+ * 100 bytes plus the customer id (about 150 bytes for a 64-char id, i.e. ~300 MB at 2 million
+ * concurrently active customers).
+ *
+ * <p>{@link #tryAcquire(String)} does not allocate for known customers: the cache lookup uses a
+ * constant mapping function and the bucket is updated in place under its own monitor
+ * (uncontended except for concurrent requests of the same customer).
+ */
+public class CustomerTokenBucketStore {
+
+    private final Cache<String, Bucket> buckets;
+    private final Ticker ticker;
+    private final long capacity;
+    private final long nanosPerPermit;
+    private final Function<String, Bucket> newBucket;
+
+    public CustomerTokenBucketStore(int capacity, Duration refillPeriod, long maxCustomers) {
+        this(capacity, refillPeriod, maxCustomers, Ticker.systemTicker());
+    }
+
+    CustomerTokenBucketStore(int capacity, Duration refillPeriod, long maxCustomers, Ticker ticker) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1, got: " + capacity);
+        }
+        this.capacity = capacity;
+        this.nanosPerPermit = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.ticker = ticker;
+        this.newBucket = customerId -> new Bucket(this.capacity, this.ticker.read());
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxCustomers)
+            .expireAfterAccess(refillPeriod)
+            .ticker(ticker)
+            .build();
+    }
+
+    /**
+     * Take one permit from a customer's bucket.
+     *
+     * @param customerId the customer ID
+     * @return true if a permit was available
+     */
+    public boolean tryAcquire(String customerId) {
+        Bucket bucket = buckets.get(customerId, newBucket);
+        return bucket.tryAcquire(ticker.read(), capacity, nanosPerPermit);
+    }
+
+    /**
+     * Permits currently available to a customer.
+     *
+     * @param customerId the customer ID
+     * @return available permits, or -1 if the customer has no bucket (unknown or evicted)
+     */
+    public long availablePermits(String customerId) {
+        Bucket bucket = buckets.getIfPresent(customerId);
+        return bucket == null ? -1 : bucket.available(ticker.read(), capacity, nanosPerPermit);
+    }
+
+    /**
+     * Approximate number of customers with a bucket.
+     */
+    public long estimatedSize() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * Run pending evictions now (they are otherwise amortized over later accesses).
+     */
+    void cleanUp() {
+        buckets.cleanUp();
+    }
+
+    /**
+     * Token bucket state: available permits and the time up to which refill was credited.
+     */
+    private static final class Bucket {
+        private long permits;
+        private long refilledUpToNanos;
+
+        Bucket(long permits, long nowNanos) {
+            this.permits = permits;
+            this.refilledUpToNanos = nowNanos;
+        }
+
+        synchronized boolean tryAcquire(long nowNanos, long capacity, long nanosPerPermit) {
+            refill(nowNanos, capacity, nanosPerPermit);
+            if (permits == 0) {
+                return false;
+            }
+            permits--;
+            return true;
+        }
+
+        synchronized long available(long nowNanos, long capacity, long nanosPerPermit) {
+            refill(nowNanos, capacity, nanosPerPermit);
+            return permits;
+        }
+
+        private void refill(long nowNanos, long capacity, long nanosPerPermit) {
+            long earned = (nowNanos - refilledUpToNanos) / nanosPerPermit;
+            if (earned <= 0) {
+                return;
+            }
+            if (permits + earned >= capacity) {
+                permits = capacity;
+                refilledUpToNanos = nowNanos;
+            } else {
+                permits += earned;
+                // Keep the remainder so partial periods are not lost
+                refilledUpToNanos += earned * nanosPerPermit;
+            }
+        }
+    }
+}
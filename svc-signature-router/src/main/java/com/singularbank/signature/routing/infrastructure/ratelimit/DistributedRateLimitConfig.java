@@ -0,0 +1,120 @@
+package com.singularbank.signature.routing.infrastructure.ratelimit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration for cluster-wide rate limiting.
+ *
+ * <p>Properties:
+ * <ul>
+ * <li>enabled: Enforce global and per-customer limits across all replicas (default: false)</li>
+ * <li>store: RateLimitStore implementation (default: postgres)</li>
+ * <li>idleBucketTtl: Shared buckets unused for longer are purged (default: 10m)</li>
+ * <li>maxLeases: Max local leases kept per node (default: 100,000)</li>
+ * <li>defaults / limiters: Lease settings, per limiter name (signatureCreation, customer, ...)</li>
+ * </ul>
+ *
+ * <p><strong>Accuracy vs throughput:</strong> a node takes {@code leaseSize} permits per trip
+ * to the store. {@code leaseSize: 1} is exact but costs one store round trip per request;
+ * larger leases cut round trips by that factor, at the price of up to {@code leaseSize - 1}
+ * permits per node being held locally (usable for at most one refill period).
+ *
+ * <p>Store calls are made before the caller's transaction starts, so they never hold a second
+ * pool connection.
+ *
+ * <p><strong>Configuration Example:</strong>
+ * <pre>
+ * rate-limit:
+ *   distributed:
+ *     enabled: true
+ *     limiters:
+ *       signatureCreation:
+ *         lease-size: 10
+ *         refill-threshold: 0.5
+ *       customer:
+ *         lease-size: 2
+ *         refill-threshold: 0
+ * </pre>
+ *
+ * @see DistributedRateLimiter
+ */
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit.distributed")
+@Data
+@Validated
+public class DistributedRateLimitConfig {
+
+    /**
+     * Enforce limits across replicas (per-JVM limits still apply as an upper bound).
+     */
+    private boolean enabled = false;
+
+    /**
+     * RateLimitStore implementation to use.
+     */
+    private String store = "postgres";
+
+    /**
+     * Shared buckets unused for longer than this are deleted. Must exceed the longest
+     * refill period (idle buckets are full by then).
+     */
+    @NotNull
+    private Duration idleBucketTtl = Duration.ofMinutes(10);
+
+    /**
+     * Maximum number of local leases (one per bucket key) kept by a node.
+     */
+    @Min(1)
+    private long maxLeases = 100_000;
+
+    /**
+     * Lease settings for limiters without an entry in {@link #limiters}.
+     */
+    @Valid
+    private Limiter defaults = new Limiter();
+
+    /**
+     * Lease settings per limiter name.
+     */
+    @Valid
+    private Map<String, Limiter> limiters = new HashMap<>();
+
+    /**
+     * Lease settings for a limiter.
+     *
+     * @param name limiter name (RateLimited name, or "customer")
+     * @return configured settings, or {@link #defaults}
+     */
+    public Limiter limiter(String name) {
+        return limiters.getOrDefault(name, defaults);
+    }
+
+    @Data
+    public static class Limiter {
+
+        /**
+         * Permits taken from the shared bucket per store round trip (capped at the limit).
+         */
+        @Min(1)
+        private int leaseSize = 1;
+
+        /**
+         * Fraction of the lease left below which a background refill starts (0 disables it).
+         */
+        @DecimalMin("0.0")
+        @DecimalMax("1.0")
+        private double refillThreshold = 0.5;
+    }
+}
@@ -0,0 +1,232 @@
+package com.singularbank.signature.routing.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.singularbank.signature.routing.domain.port.outbound.RateLimitStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cluster-wide rate limiter with local permit leasing.
+ *
+ * <p>Permits come from token buckets shared by all replicas ({@link RateLimitStore}). To keep
+ * the store off the request path, a node takes {@code leaseSize} permits per round trip and
+ * spends them locally:
+ * <ol>
+ * <li>A local permit is available: take it (no I/O). When the lease drops below
+ *     {@code refillThreshold}, a background refill is started (at most one per bucket)</li>
+ * <li>The lease is empty: take a new lease from the store synchronously</li>
+ * <li>The store grants nothing: deny, and deny locally until one permit has refilled</li>
+ * </ol>
+ * Leased permits expire after one refill period, so unused permits cannot be saved up.
+ *
+ * <p><strong>Failure mode:</strong> if the store is unavailable the call is allowed (fail open);
+ * callers keep applying their per-JVM limit, so a node never exceeds its local limit.
+ *
+ * <p><strong>Metrics Exported:</strong>
+ * <pre>
+ * signature.ratelimit.distributed.store{limiter}          (timer, store round trips)
+ * signature.ratelimit.distributed.store.errors{limiter}   (counter)
+ * </pre>
+ * Meters of the configured limiters are registered in the constructor; a limiter running on
+ * the defaults gets its meters bound on first use.
+ *
+ * @see DistributedRateLimitConfig
+ */
+@Component
+@ConditionalOnProperty(prefix = "rate-limit.distributed", name = "enabled", havingValue = "true")
+@Slf4j
+public class DistributedRateLimiter {
+
+    private final RateLimitStore rateLimitStore;
+    private final DistributedRateLimitConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Lease> leases;
+    private final Map<String, StoreMeters> storeMeters = new ConcurrentHashMap<>();
+    private final ExecutorService refillExecutor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("rate-limit-refill-", 1).factory()
+    );
+
+    public DistributedRateLimiter(
+        RateLimitStore rateLimitStore,
+        DistributedRateLimitConfig config,
+        MeterRegistry meterRegistry
+    ) {
+        this.rateLimitStore = rateLimitStore;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.leases = Caffeine.newBuilder()
+            .maximumSize(config.getMaxLeases())
+            .expireAfterAccess(config.getIdleBucketTtl())
+            .build();
+        config.getLimiters().keySet().forEach(this::storeMeters);
+        log.info("Distributed rate limiting enabled: store={}, limiters={}",
+            rateLimitStore.getClass().getSimpleName(), config.getLimiters().keySet());
+    }
+
+    /**
+     * Take one permit from a shared bucket.
+     *
+     * @param limiterName    limiter name, selects the lease settings (e.g. "signatureCreation", "customer")
+     * @param bucketKey      shared bucket key (e.g. "global:signatureCreation", "customer:{id}")
+     * @param limitForPeriod bucket capacity
+     * @param refreshPeriod  time to refill an empty bucket completely
+     * @return true if a permit was granted (or the store is unavailable)
+     */
+    public boolean tryAcquire(String limiterName, String bucketKey, int limitForPeriod, Duration refreshPeriod) {
+        DistributedRateLimitConfig.Limiter settings = config.limiter(limiterName);
+        int leaseSize = Math.min(settings.getLeaseSize(), limitForPeriod);
+        Lease lease = leases.get(bucketKey, key -> new Lease());
+        long now = System.nanoTime();
+
+        if (lease.tryTake(now)) {
+            if (leaseSize > 1 && lease.remaining() < leaseSize * settings.getRefillThreshold()) {
+                refillAsync(lease, limiterName, bucketKey, leaseSize, limitForPeriod, refreshPeriod);
+            }
+            return true;
+        }
+
+        if (lease.isExhausted(now)) {
+            return false;
+        }
+
+        long granted = fetch(limiterName, bucketKey, leaseSize, limitForPeriod, refreshPeriod);
+        if (granted < 0) {
+            return true;
+        }
+        if (granted == 0) {
+            lease.markExhausted(now + refreshPeriod.toNanos() / limitForPeriod);
+            return false;
+        }
+        lease.add(granted - 1, System.nanoTime(), refreshPeriod.toNanos());
+        return true;
+    }
+
+    /**
+     * Purge shared buckets that have been idle for longer than {@code idle-bucket-ttl}.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.distributed.purge-interval:5m}")
+    public void purgeIdleBuckets() {
+        try {
+            int deleted = rateLimitStore.purgeIdle(Instant.now().minus(config.getIdleBucketTtl()));
+            if (deleted > 0) {
+                log.debug("Purged {} idle rate limit buckets", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge idle rate limit buckets: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refillExecutor.shutdown();
+    }
+
+    private void refillAsync(Lease lease, String limiterName, String bucketKey,
+                             int leaseSize, int limitForPeriod, Duration refreshPeriod) {
+        if (!lease.refilling.compareAndSet(false, true)) {
+            return;
+        }
+        refillExecutor.execute(() -> {
+            try {
+                long granted = fetch(limiterName, bucketKey, leaseSize, limitForPeriod, refreshPeriod);
+                if (granted > 0) {
+                    lease.add(granted, System.nanoTime(), refreshPeriod.toNanos());
+                }
+            } finally {
+                lease.refilling.set(false);
+            }
+        });
+    }
+
+    /**
+     * @return permits granted, or -1 if the store failed
+     */
+    private long fetch(String limiterName, String bucketKey, int leaseSize, int limitForPeriod, Duration refreshPeriod) {
+        StoreMeters meters = storeMeters(limiterName);
+        long start = System.nanoTime();
+        try {
+            return rateLimitStore.acquire(bucketKey, leaseSize, limitForPeriod, refreshPeriod);
+        } catch (Exception e) {
+            log.warn("Rate limit store unavailable, allowing request: limiter={}, error={}", limiterName, e.getMessage());
+            meters.errors().increment();
+            return -1;
+        } finally {
+            meters.latency().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private StoreMeters storeMeters(String limiterName) {
+        return storeMeters.computeIfAbsent(limiterName, name -> new StoreMeters(
+            Timer.builder("signature.ratelimit.distributed.store")
+                .description("Round trips to the shared rate limit store")
+                .tag("limiter", name)
+                .register(meterRegistry),
+            Counter.builder("signature.ratelimit.distributed.store.errors")
+                .description("Failed round trips to the shared rate limit store (request allowed)")
+                .tag("limiter", name)
+                .register(meterRegistry)
+        ));
+    }
+
+    private record StoreMeters(Timer latency, Counter errors) {}
+
+    /**
+     * Permits leased by this node for one bucket.
+     */
+    private static final class Lease {
+        private long permits;
+        private long expiresAtNanos;
+        private long exhaustedUntilNanos;
+        private boolean exhausted;
+        private final AtomicBoolean refilling = new AtomicBoolean();
+
+        synchronized boolean tryTake(long now) {
+            if (permits > 0 && now - expiresAtNanos >= 0) {
+                permits = 0;
+            }
+            if (permits == 0) {
+                return false;
+            }
+            permits--;
+            return true;
+        }
+
+        synchronized long remaining() {
+            return permits;
+        }
+
+        synchronized void add(long granted, long now, long ttlNanos) {
+            if (now - expiresAtNanos >= 0) {
+                permits = 0;
+            }
+            permits += granted;
+            expiresAtNanos = now + ttlNanos;
+            exhausted = false;
+        }
+
+        synchronized boolean isExhausted(long now) {
+            return exhausted && now - exhaustedUntilNanos < 0;
+        }
+
+        synchronized void markExhausted(long untilNanos) {
+            exhausted = true;
+            exhaustedUntilNanos = untilNanos;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.singularbank.signature.routing.infrastructure.ratelimit;
 
+import com.singularbank.signature.routing.infrastructure.observability.jfr.RateLimitDecisionEvent;
+
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -8,8 +10,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /**
  * Aspect for global rate limiting using Resilience4j.
  * Critical Improvement #2: Rate Limiting
@@ -17,23 +23,40 @@ import org.springframework.stereotype.Component;
  * <p>Intercepts methods annotated with @RateLimited and applies
  * global rate limiting (100 requests/second for signature creation).
  * 
+ * <p>When {@code rate-limit.distributed.enabled=true}, the limit is also enforced across
+ * replicas via {@link DistributedRateLimiter}, using the same limit and period as the
+ * local Resilience4j limiter (shared bucket {@code global:<name>}). The aspect runs outside
+ * {@code @Transactional} (highest precedence), so the shared store is called before the
+ * method's transaction holds a pool connection.
+ * 
  * @since Critical Improvements - Rate Limiting
  */
 @Aspect
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @RequiredArgsConstructor
 @Slf4j
 public class GlobalRateLimitAspect {
     
     private final RateLimiterRegistry rateLimiterRegistry;
     private final MeterRegistry meterRegistry;
+    private final Optional<DistributedRateLimiter> distributedRateLimiter;
     
     @Around("@annotation(rateLimited)")
     public Object applyRateLimit(ProceedingJoinPoint joinPoint, RateLimited rateLimited) throws Throwable {
         String rateLimiterName = rateLimited.name();
         RateLimiter rateLimiter = rateLimiterRegistry.rateLimiter(rateLimiterName);
+        RateLimitDecisionEvent jfrEvent = new RateLimitDecisionEvent();
+        jfrEvent.begin();
         
-        boolean permitted = rateLimiter.acquirePermission();
+        boolean permitted = rateLimiter.acquirePermission()
+            && distributedRateLimiter.map(distributed -> distributed.tryAcquire(
+                    rateLimiterName,
+                    "global:" + rateLimiterName,
+                    rateLimiter.getRateLimiterConfig().getLimitForPeriod(),
+                    rateLimiter.getRateLimiterConfig().getLimitRefreshPeriod()))
+                .orElse(true);
+        jfrEvent.complete("global", rateLimiterName, permitted);
         
         if (!permitted) {
             log.warn("Global rate limit exceeded for: {}", rateLimiterName);
@@ -14,7 +14,7 @@ import java.time.Duration;
  * <p>Configures two types of rate limiters:
  * <ul>
  * <li><strong>Global:</strong> 100 requests/second (FR86)</li>
- * <li><strong>Per-customer:</strong> 10 requests/minute (FR85) - created dynamically</li>
+ * <li><strong>Per-customer:</strong> 10 requests/minute (FR85) - token buckets in CustomerRateLimitService</li>
  * </ul>
  * 
  * @since Critical Improvements - Rate Limiting
@@ -3,12 +3,14 @@ package com.singularbank.signature.routing.infrastructure.resilience;
 import com.singularbank.signature.routing.domain.event.ProviderErrorRateExceeded;
 import com.singularbank.signature.routing.domain.model.valueobject.SystemMode;
 import com.singularbank.signature.routing.infrastructure.config.DegradedModeConfig;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderCallWindow;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -34,6 +36,11 @@ import java.util.concurrent.atomic.AtomicReference;
  * <li>Error rate < recovery threshold (default 50%) for recovery duration (default 5min)</li>
  * </ul>
  * 
+ * <p>Error rates are read from {@link ProviderCallWindow} over the last minute, so a
+ * long healthy history does not hide a current outage. A provider with fewer than
+ * {@code resilience.error-rate.minimum-calls} calls in that minute counts as healthy, as in
+ * ProviderErrorRateCalculator: one failed call on an idle provider is not a 100% error rate.
+ * 
  * <p>Manual override available via enterDegradedMode() / exitDegradedMode().
  * 
  * <p><strong>Metrics Exported:</strong>
@@ -49,8 +56,12 @@ import java.util.concurrent.atomic.AtomicReference;
 @Slf4j
 public class DegradedModeManager {
     
+    private static final Duration ERROR_RATE_WINDOW = Duration.ofMinutes(1);
+    private static final String[] PROVIDER_TYPES = {"SMS", "PUSH", "VOICE", "BIOMETRIC"};
+    
     private final MeterRegistry meterRegistry;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final ProviderCallWindow providerCallWindow;
     private final DegradedModeConfig config;
     private final ApplicationContext applicationContext;  // Lazy bean resolution to avoid circular dependency
     
@@ -66,22 +77,28 @@ public class DegradedModeManager {
     private volatile Instant highErrorRateDetectedAt;
     private volatile Instant lowErrorRateSustainedAt;
     
+    @Value("${resilience.error-rate.minimum-calls:10}")
+    private long minimumCalls = 10;
+    
     /**
      * Constructor with dependency injection.
      * 
      * @param meterRegistry        MeterRegistry for metrics
      * @param circuitBreakerRegistry CircuitBreakerRegistry for circuit breaker state
+     * @param providerCallWindow   Sliding-window provider error rates
      * @param config               Degraded mode configuration
      * @param applicationContext   Application context for lazy bean resolution
      */
     public DegradedModeManager(
         MeterRegistry meterRegistry,
         CircuitBreakerRegistry circuitBreakerRegistry,
+        ProviderCallWindow providerCallWindow,
         DegradedModeConfig config,
         ApplicationContext applicationContext
     ) {
         this.meterRegistry = meterRegistry;
         this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.providerCallWindow = providerCallWindow;
         this.config = config;
         this.applicationContext = applicationContext;
     }
@@ -110,7 +127,7 @@ public class DegradedModeManager {
      * <p>A provider is degraded if:
      * <ul>
      * <li>Circuit breaker is OPEN or FORCED_OPEN</li>
-     * <li>Error rate > threshold</li>
+     * <li>Error rate over the last minute > threshold</li>
      * </ul>
      * 
      * @return list of degraded provider names (SMS, PUSH, VOICE, BIOMETRIC)
@@ -127,17 +144,11 @@ public class DegradedModeManager {
             }
         });
         
-        // Check error rates (query provider.error.rate gauge)
-        for (String provider : new String[]{"SMS", "PUSH", "VOICE", "BIOMETRIC"}) {
-            Gauge errorRateGauge = meterRegistry.find("provider.error.rate")
-                .tag("provider", provider)
-                .gauge();
-            
-            if (errorRateGauge != null) {
-                double errorRate = errorRateGauge.value();
-                if (errorRate > (config.getErrorRateThreshold() / 100.0) && !degradedProviders.contains(provider)) {
-                    degradedProviders.add(provider);
-                }
+        // Check error rates (sliding window)
+        for (String provider : PROVIDER_TYPES) {
+            double errorRate = errorRate(provider);
+            if (errorRate > (config.getErrorRateThreshold() / 100.0) && !degradedProviders.contains(provider)) {
+                degradedProviders.add(provider);
             }
         }
         
@@ -289,17 +300,11 @@ public class DegradedModeManager {
         double maxErrorRate = 0.0;
         String providerWithMaxError = null;
         
-        for (String provider : new String[]{"SMS", "PUSH", "VOICE", "BIOMETRIC"}) {
-            Gauge errorRateGauge = meterRegistry.find("provider.error.rate")
-                .tag("provider", provider)
-                .gauge();
-            
-            if (errorRateGauge != null) {
-                double errorRate = errorRateGauge.value();
-                if (errorRate > maxErrorRate) {
-                    maxErrorRate = errorRate;
-                    providerWithMaxError = provider;
-                }
+        for (String provider : PROVIDER_TYPES) {
+            double errorRate = errorRate(provider);
+            if (errorRate > maxErrorRate) {
+                maxErrorRate = errorRate;
+                providerWithMaxError = provider;
             }
         }
         
@@ -318,7 +323,7 @@ public class DegradedModeManager {
                 Duration highErrorDuration = Duration.between(highErrorRateDetectedAt, Instant.now());
                 if (highErrorDuration.compareTo(config.getMinDuration()) >= 0) {
                     enterDegradedMode(String.format(
-                        "Error rate %.0f%% exceeds threshold %.0f%% for %ds (provider: %s)",
+                        "Error rate %.0f%% exceeds threshold %d%% for %ds (provider: %s)",
                         maxErrorRate * 100,
                         config.getErrorRateThreshold(),
                         highErrorDuration.getSeconds(),
@@ -461,5 +466,11 @@ public class DegradedModeManager {
             .replace("Provider", "")
             .toUpperCase();
     }
+    
+    /**
+     * Error rate of a provider over the last minute, 0.0 below the minimum calls.
+     */
+    private double errorRate(String provider) {
+        return providerCallWindow.stats(provider, ERROR_RATE_WINDOW).errorRate(minimumCalls);
+    }
 }
-
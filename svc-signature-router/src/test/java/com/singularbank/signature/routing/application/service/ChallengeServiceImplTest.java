@@ -0,0 +1,215 @@
+package com.singularbank.signature.routing.application.service;
+
+import com.singularbank.signature.routing.domain.exception.ProviderException;
+import com.singularbank.signature.routing.domain.model.aggregate.SignatureRequest;
+import com.singularbank.signature.routing.domain.model.entity.SignatureChallenge;
+import com.singularbank.signature.routing.domain.model.valueobject.ChallengeStatus;
+import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderResult;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
+import com.singularbank.signature.routing.domain.model.valueobject.SignatureStatus;
+import com.singularbank.signature.routing.domain.port.outbound.SignatureProviderPort;
+import com.singularbank.signature.routing.domain.service.ProviderSelectorService;
+import com.singularbank.signature.routing.infrastructure.config.FallbackChainConfig;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ChallengeMetrics;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderErrorRateCalculator;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderHealthStats;
+import com.singularbank.signature.routing.infrastructure.resilience.DegradedModeManager;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ChallengeServiceImpl speculative fallback.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChallengeServiceImplTest {
+
+    private static final String PHONE = "+34600000000";
+
+    @Mock
+    private ProviderSelectorService providerSelectorService;
+
+    @Mock
+    private SignatureProviderPort signatureProviderAdapter;
+
+    @Mock
+    private DegradedModeManager degradedModeManager;
+
+    @Mock
+    private ChallengeMetrics challengeMetrics;
+
+    @Mock
+    private ProviderErrorRateCalculator providerErrorRateCalculator;
+
+    private ProviderHealthStats providerHealthStats;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private ChallengeServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        FallbackChainConfig fallbackChainConfig = new FallbackChainConfig();
+        fallbackChainConfig.setChains(Map.of(ChannelType.SMS, ChannelType.VOICE));
+        providerHealthStats = new ProviderHealthStats();
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        service = new ChallengeServiceImpl(
+            providerSelectorService,
+            signatureProviderAdapter,
+            fallbackChainConfig,
+            meterRegistry,
+            degradedModeManager,
+            challengeMetrics,
+            providerHealthStats,
+            providerErrorRateCalculator,
+            executor
+        );
+        ReflectionTestUtils.setField(service, "maxFallbackAttempts", 3);
+        ReflectionTestUtils.setField(service, "speculativeFallbackEnabled", true);
+        ReflectionTestUtils.setField(service, "speculativeErrorRateThreshold", 0.25);
+
+        when(providerSelectorService.selectProvider(ChannelType.SMS)).thenReturn(ProviderType.SMS);
+        when(providerSelectorService.selectProvider(ChannelType.VOICE)).thenReturn(ProviderType.VOICE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should only try the primary when it is healthy and succeeds")
+    void shouldNotSpeculateWhenPrimaryHealthy() {
+        // Given
+        SignatureRequest request = signatureRequest();
+        when(signatureProviderAdapter.sendChallenge(any(), any()))
+            .thenReturn(ProviderResult.success("sms-1", "proof"));
+
+        // When
+        SignatureChallenge challenge = service.createChallenge(request, ChannelType.SMS, PHONE);
+
+        // Then
+        assertThat(challenge.getStatus()).isEqualTo(ChallengeStatus.SENT);
+        assertThat(request.getChallenges()).hasSize(1);
+        verify(signatureProviderAdapter, times(1)).sendChallenge(any(), any());
+        assertThat(meterRegistry.find("fallback.speculative.triggered").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should race the fallback when the primary circuit is HALF_OPEN and supersede the slow primary")
+    void shouldSupersedePrimaryWhenFallbackWins() throws InterruptedException {
+        // Given
+        providerHealthStats.recordCircuitState("SMS", CircuitBreaker.State.HALF_OPEN);
+        SignatureRequest request = signatureRequest();
+        CountDownLatch releasePrimary = new CountDownLatch(1);
+        when(signatureProviderAdapter.sendChallenge(any(), any())).thenAnswer(invocation -> {
+            SignatureChallenge challenge = invocation.getArgument(0);
+            if (challenge.getProvider() == ProviderType.SMS) {
+                releasePrimary.await(5, TimeUnit.SECONDS);
+                return ProviderResult.success("sms-late", "proof");
+            }
+            return ProviderResult.success("voice-1", "proof");
+        });
+
+        // When
+        SignatureChallenge primary = service.createChallenge(request, ChannelType.SMS, PHONE);
+        releasePrimary.countDown();
+
+        // Then
+        SignatureChallenge fallback = request.getChallenges().get(1);
+        assertThat(primary.getStatus()).isEqualTo(ChallengeStatus.SUPERSEDED);
+        assertThat(fallback.getChannelType()).isEqualTo(ChannelType.VOICE);
+        assertThat(fallback.getStatus()).isEqualTo(ChallengeStatus.SENT);
+        assertThat(request.getRoutingTimeline())
+            .extracting(e -> e.eventType())
+            .contains("SPECULATIVE_CHALLENGE_CREATED");
+        assertThat(meterRegistry.counter("fallback.speculative.winner",
+            "from", "SMS", "to", "VOICE", "winner", "fallback").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should deliver through the VOICE fallback when the SMS circuit is OPEN")
+    void shouldFallBackWhenPrimaryCircuitOpen() {
+        // Given - SMS circuit OPEN; the selector still returns SMS because SMS has a fallback
+        providerHealthStats.recordCircuitState("SMS", CircuitBreaker.State.OPEN);
+        SignatureRequest request = signatureRequest();
+        when(signatureProviderAdapter.sendChallenge(any(), any())).thenAnswer(invocation -> {
+            SignatureChallenge challenge = invocation.getArgument(0);
+            if (challenge.getProvider() == ProviderType.SMS) {
+                throw CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("SMS"));
+            }
+            return ProviderResult.success("voice-1", "proof");
+        });
+
+        // When
+        SignatureChallenge primary = service.createChallenge(request, ChannelType.SMS, PHONE);
+
+        // Then
+        SignatureChallenge fallback = request.getChallenges().get(1);
+        assertThat(primary.getStatus()).isEqualTo(ChallengeStatus.FAILED);
+        assertThat(fallback.getChannelType()).isEqualTo(ChannelType.VOICE);
+        assertThat(fallback.getStatus()).isEqualTo(ChallengeStatus.SENT);
+        assertThat(meterRegistry.counter("fallback.success", "from", "SMS", "to", "VOICE").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should race the fallback on high error rate and fail both challenges when both providers fail")
+    void shouldFailBothWhenRaceLost() {
+        // Given
+        when(providerErrorRateCalculator.getErrorRate("SMS")).thenReturn(0.4);
+        SignatureRequest request = signatureRequest();
+        when(signatureProviderAdapter.sendChallenge(any(), any()))
+            .thenReturn(ProviderResult.failure("PROVIDER_ERROR", "down"));
+
+        // When & Then
+        assertThatThrownBy(() -> service.createChallenge(request, ChannelType.SMS, PHONE))
+            .isInstanceOf(ProviderException.class);
+        assertThat(request.getChallenges())
+            .hasSize(2)
+            .allMatch(c -> c.getStatus() == ChallengeStatus.FAILED);
+        verify(signatureProviderAdapter, times(2)).sendChallenge(any(), any());
+        assertThat(meterRegistry.counter("fallback.speculative.winner",
+            "from", "SMS", "to", "VOICE", "winner", "none").count()).isEqualTo(1.0);
+    }
+
+    private static SignatureRequest signatureRequest() {
+        return SignatureRequest.builder()
+            .id(UUID.randomUUID())
+            .customerId("pseudo-customer-123")
+            .status(SignatureStatus.PENDING)
+            .challenges(new ArrayList<>())
+            .routingTimeline(new ArrayList<>())
+            .createdAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(180))
+            .build();
+    }
+}
@@ -5,6 +5,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -105,6 +109,55 @@ class HashServiceTest {
         assertThat(hash1).isEqualTo(hash2);
     }
     
+    @Test
+    @DisplayName("Should hash objects exactly like the serialized JSON string")
+    void shouldHashSerializedJsonBytes() throws Exception {
+        // Given
+        TestObject obj = new TestObject("caf\u00e9", 42);
+        byte[] json = new ObjectMapper().writeValueAsString(obj).getBytes(StandardCharsets.UTF_8);
+        
+        // When / Then - streaming must not change existing hashes
+        assertThat(hashService.sha256(obj))
+            .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json)));
+    }
+    
+    @Test
+    @DisplayName("Should hash canonical JSON independently of member order and whitespace")
+    void shouldHashCanonicalJson() {
+        // Given
+        String compact = "{\"z\":null,\"a\":[1,{\"c\":true,\"b\":\"x\\u00e9\"}],\"m\":-1.5e3}";
+        String reordered = "{ \"a\" : [ 1, { \"b\": \"x\u00e9\", \"c\": true } ],\n  \"m\": -1.5e3, \"z\": null }";
+        String canonical = "{\"a\":[1,{\"b\":\"x\u00e9\",\"c\":true}],\"m\":-1.5e3,\"z\":null}";
+        
+        // When
+        String hash = hashService.sha256CanonicalJson(compact.getBytes(StandardCharsets.UTF_8));
+        
+        // Then
+        assertThat(hashService.sha256CanonicalJson(reordered.getBytes(StandardCharsets.UTF_8))).isEqualTo(hash);
+        assertThat(hashService.sha256Bytes(canonical.getBytes(StandardCharsets.UTF_8))).isEqualTo(hash);
+        assertThat(hashService.sha256CanonicalJson("{\"a\":[1],\"m\":1}".getBytes(StandardCharsets.UTF_8)))
+            .isNotEqualTo(hash);
+    }
+    
+    @Test
+    @DisplayName("Should escape control characters, quotes and backslashes in canonical JSON")
+    void shouldEscapeCanonicalStrings() {
+        String json = "{\"k\\\"\":\"line\\nbreak \\\\ \\\"q\\\" \\ud83d\\ude00\"}";
+        String canonical = "{\"k\\\"\":\"line\\u000abreak \\\\ \\\"q\\\" \ud83d\ude00\"}";
+        
+        assertThat(hashService.sha256CanonicalJson(json.getBytes(StandardCharsets.UTF_8)))
+            .isEqualTo(hashService.sha256Bytes(canonical.getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    @Test
+    @DisplayName("Should reject invalid canonical JSON input")
+    void shouldRejectInvalidJson() {
+        assertThatThrownBy(() -> hashService.sha256CanonicalJson("{\"a\":".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> hashService.sha256CanonicalJson("{} {}".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
     // Test helper class
     record TestObject(String name, Integer value) {}
 }
@@ -0,0 +1,142 @@
+package com.singularbank.signature.routing.application.service;
+
+import com.singularbank.signature.routing.domain.exception.IdempotencyKeyConflictException;
+import com.singularbank.signature.routing.domain.model.entity.IdempotencyRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IdempotencyCoordinator.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyCoordinator Tests")
+class IdempotencyCoordinatorTest {
+    
+    private static final String KEY = "key-1";
+    private static final String HASH = "hash-1";
+    
+    @Mock
+    private IdempotencyService idempotencyService;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyCoordinator coordinator;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coordinator = new IdempotencyCoordinator(idempotencyService, meterRegistry,
+            1_000, Duration.ofMinutes(10), Duration.ofSeconds(60), Duration.ofSeconds(5), Runnable::run);
+    }
+    
+    @Test
+    @DisplayName("Should coalesce concurrent duplicates onto the executing request")
+    void shouldCoalesceConcurrentDuplicates() throws Exception {
+        // Given
+        when(idempotencyService.reserve(eq(KEY), eq(HASH), any())).thenReturn(true);
+        assertThat(coordinator.begin(KEY, HASH)).isInstanceOf(IdempotencyCoordinator.Outcome.Execute.class);
+        
+        // When
+        CompletableFuture<IdempotencyCoordinator.Outcome> duplicate =
+            CompletableFuture.supplyAsync(() -> coordinator.begin(KEY, HASH));
+        Thread.sleep(50);
+        assertThat(duplicate).isNotDone();
+        coordinator.complete(KEY, HASH, 201, "{\"id\":\"1\"}");
+        
+        // Then
+        IdempotencyCoordinator.Outcome outcome = duplicate.get(1, TimeUnit.SECONDS);
+        assertThat(outcome).isInstanceOf(IdempotencyCoordinator.Outcome.Replay.class);
+        assertThat(((IdempotencyCoordinator.Outcome.Replay) outcome).record().getResponseBody()).isEqualTo("{\"id\":\"1\"}");
+        verify(idempotencyService, times(1)).reserve(eq(KEY), eq(HASH), any());
+        verify(idempotencyService).storeResponse(KEY, HASH, 201, "{\"id\":\"1\"}");
+    }
+    
+    @Test
+    @DisplayName("Should replay completed keys from the front cache without a DB round trip")
+    void shouldReplayFromFrontCache() {
+        // Given
+        when(idempotencyService.reserve(eq(KEY), eq(HASH), any())).thenReturn(true);
+        coordinator.begin(KEY, HASH);
+        coordinator.complete(KEY, HASH, 201, "{}");
+        clearInvocations(idempotencyService);
+        
+        // When
+        IdempotencyCoordinator.Outcome outcome = coordinator.begin(KEY, HASH);
+        
+        // Then
+        assertThat(outcome).isInstanceOf(IdempotencyCoordinator.Outcome.Replay.class);
+        verifyNoInteractions(idempotencyService);
+        assertThat(meterRegistry.counter("idempotency.requests", "outcome", "cache_replay").count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    @DisplayName("Should report in progress when another node holds the reservation")
+    void shouldReportInProgressWhenReservedElsewhere() {
+        // Given
+        when(idempotencyService.reserve(eq(KEY), eq(HASH), any())).thenReturn(false);
+        when(idempotencyService.getCachedResponse(KEY)).thenReturn(Optional.of(record(IdempotencyRecord.State.IN_PROGRESS)));
+        
+        // When / Then
+        assertThat(coordinator.begin(KEY, HASH)).isInstanceOf(IdempotencyCoordinator.Outcome.InProgress.class);
+        
+        // Once the other node has written its response, the DB record is replayed
+        when(idempotencyService.getCachedResponse(KEY)).thenReturn(Optional.of(record(IdempotencyRecord.State.COMPLETED)));
+        assertThat(coordinator.begin(KEY, HASH)).isInstanceOf(IdempotencyCoordinator.Outcome.Replay.class);
+    }
+    
+    @Test
+    @DisplayName("Should reject a different request reusing an in-flight key")
+    void shouldRejectConflictingInFlightRequest() {
+        // Given
+        when(idempotencyService.reserve(eq(KEY), eq(HASH), any())).thenReturn(true);
+        coordinator.begin(KEY, HASH);
+        
+        // When / Then
+        assertThatThrownBy(() -> coordinator.begin(KEY, "other-hash"))
+            .isInstanceOf(IdempotencyKeyConflictException.class);
+    }
+    
+    @Test
+    @DisplayName("Should release the reservation of an abandoned request so it can be retried")
+    void shouldReleaseAbandonedReservation() {
+        // Given
+        when(idempotencyService.reserve(eq(KEY), eq(HASH), any())).thenReturn(true);
+        coordinator.begin(KEY, HASH);
+        
+        // When
+        coordinator.abandon(KEY);
+        
+        // Then
+        verify(idempotencyService).release(KEY);
+        assertThat(coordinator.begin(KEY, HASH)).isInstanceOf(IdempotencyCoordinator.Outcome.Execute.class);
+        verify(idempotencyService, never()).storeResponse(any(), any(), any(), any());
+    }
+    
+    private static IdempotencyRecord record(IdempotencyRecord.State state) {
+        return IdempotencyRecord.builder()
+            .idempotencyKey(KEY)
+            .requestHash(HASH)
+            .state(state)
+            .statusCode(state == IdempotencyRecord.State.COMPLETED ? 201 : null)
+            .responseBody(state == IdempotencyRecord.State.COMPLETED ? "{}" : null)
+            .createdAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(60))
+            .build();
+    }
+}
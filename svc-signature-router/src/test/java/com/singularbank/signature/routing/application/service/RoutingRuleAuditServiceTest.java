@@ -4,6 +4,7 @@ import com.singularbank.signature.routing.domain.model.entity.RoutingRuleAuditLo
 import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.RoutingRuleAuditLogJpaRepository;
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.entity.RoutingRuleAuditLogEntity;
+import com.singularbank.signature.routing.infrastructure.audit.AuditWriteQueue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,10 +33,13 @@ class RoutingRuleAuditServiceTest {
     @Mock
     private com.singularbank.signature.routing.infrastructure.logging.AuditLogger auditLogger;
     
+    @Mock
+    private AuditWriteQueue<RoutingRuleAuditLogEntity> writeQueue;
+    
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        service = new RoutingRuleAuditService(repository, auditLogger);
+        service = new RoutingRuleAuditService(repository, auditLogger, writeQueue);
     }
     
     @Test
@@ -59,7 +63,7 @@ class RoutingRuleAuditServiceTest {
         // Then
         ArgumentCaptor<RoutingRuleAuditLogEntity> captor =
             ArgumentCaptor.forClass(RoutingRuleAuditLogEntity.class);
-        verify(repository).save(captor.capture());
+        verify(writeQueue).submit(captor.capture());
         
         RoutingRuleAuditLogEntity entity = captor.getValue();
         assertThat(entity.getRuleId()).isEqualTo(ruleId);
@@ -94,7 +98,7 @@ class RoutingRuleAuditServiceTest {
         // Then
         ArgumentCaptor<RoutingRuleAuditLogEntity> captor =
             ArgumentCaptor.forClass(RoutingRuleAuditLogEntity.class);
-        verify(repository).save(captor.capture());
+        verify(writeQueue).submit(captor.capture());
         
         RoutingRuleAuditLogEntity entity = captor.getValue();
         assertThat(entity.getAction()).isEqualTo(RoutingRuleAuditLog.AuditAction.UPDATE);
@@ -127,7 +131,7 @@ class RoutingRuleAuditServiceTest {
         // Then
         ArgumentCaptor<RoutingRuleAuditLogEntity> captor =
             ArgumentCaptor.forClass(RoutingRuleAuditLogEntity.class);
-        verify(repository).save(captor.capture());
+        verify(writeQueue).submit(captor.capture());
         
         RoutingRuleAuditLogEntity entity = captor.getValue();
         assertThat(entity.getAction()).isEqualTo(RoutingRuleAuditLog.AuditAction.DELETE);
@@ -11,8 +11,6 @@ import com.singularbank.signature.routing.domain.model.valueobject.*;
 import com.singularbank.signature.routing.domain.port.outbound.EventPublisher;
 import com.singularbank.signature.routing.domain.port.outbound.SignatureRequestRepository;
 import com.singularbank.signature.routing.infrastructure.util.CorrelationIdProvider;
-import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -65,7 +63,6 @@ class CompleteSignatureUseCaseImplTest {
     @Mock
     private com.singularbank.signature.routing.infrastructure.observability.metrics.ChallengeMetrics challengeMetrics;
     
-    private MeterRegistry meterRegistry;
     private io.micrometer.observation.ObservationRegistry observationRegistry;
     private CompleteSignatureUseCaseImpl useCase;
 
@@ -116,9 +113,7 @@ class CompleteSignatureUseCaseImplTest {
             .expiresAt(Instant.now().plusSeconds(120))
             .build();
 
-        // Use real SimpleMeterRegistry and ObservationRegistry instead of mocks
-        // SimpleMeterRegistry is lightweight and has no side effects
-        meterRegistry = new SimpleMeterRegistry();
+        // Use real ObservationRegistry instead of a mock
         observationRegistry = io.micrometer.observation.ObservationRegistry.create();
         
         // Create use case instance
@@ -126,7 +121,6 @@ class CompleteSignatureUseCaseImplTest {
             repository,
             eventPublisher,
             correlationIdProvider,
-            meterRegistry,
             signatureRequestMetrics,
             challengeMetrics,
             observationRegistry
@@ -13,6 +13,7 @@ import com.singularbank.signature.routing.domain.port.outbound.PseudonymizationS
 import com.singularbank.signature.routing.domain.service.RoutingService;
 import com.singularbank.signature.routing.domain.service.TransactionHashService;
 import com.singularbank.signature.routing.infrastructure.ratelimit.CustomerRateLimitService;
+import com.singularbank.signature.routing.infrastructure.ratelimit.RateLimitExceededException;
 import com.singularbank.signature.routing.infrastructure.resilience.DegradedModeManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +22,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -29,6 +32,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -71,6 +75,8 @@ class StartSignatureUseCaseImplTest {
     private CustomerRateLimitService customerRateLimitService;
     @Mock
     private com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureRequestMetrics signatureRequestMetrics;
+    @Mock
+    private PlatformTransactionManager transactionManager;
     
     private io.micrometer.observation.ObservationRegistry observationRegistry;
     private StartSignatureUseCaseImpl useCase;
@@ -96,7 +102,10 @@ class StartSignatureUseCaseImplTest {
             degradedModeManager,
             customerRateLimitService,
             signatureRequestMetrics,
-            observationRegistry
+            new com.singularbank.signature.routing.infrastructure.observability.metrics.LatencyHistograms(),
+            new com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureStageProfiler(0.0, 0),
+            observationRegistry,
+            new TransactionTemplate(transactionManager)
         );
         
         // Create test DTO
@@ -205,8 +214,8 @@ class StartSignatureUseCaseImplTest {
         // When
         useCase.execute(requestDto);
 
-        // Then
-        verify(pseudonymizationService, atLeastOnce()).pseudonymize("customer-123");
+        // Then - pseudonymized exactly once (HMAC is not repeated outside the observation)
+        verify(pseudonymizationService).pseudonymize("customer-123");
     }
 
     @Test
@@ -345,6 +354,18 @@ class StartSignatureUseCaseImplTest {
         verify(customerRateLimitService).checkRateLimit("customer-123");
     }
 
+    @Test
+    @DisplayName("Should check customer rate limit before the transaction starts")
+    void shouldCheckCustomerRateLimitBeforeTransaction() {
+        // Given
+        doThrow(new RateLimitExceededException("customer", "customer-123"))
+            .when(customerRateLimitService).checkRateLimit("customer-123");
+
+        // When / Then - a rejected request never takes a pool connection
+        assertThatThrownBy(() -> useCase.execute(requestDto)).isInstanceOf(RateLimitExceededException.class);
+        verifyNoInteractions(transactionManager, repository);
+    }
+
     @Test
     @DisplayName("Should use routing timeline from routing decision")
     void shouldUseRoutingTimelineFromRoutingDecision() {
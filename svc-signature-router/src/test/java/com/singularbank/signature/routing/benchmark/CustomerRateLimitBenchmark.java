@@ -0,0 +1,75 @@
+package com.singularbank.signature.routing.benchmark;
+
+import com.singularbank.signature.routing.infrastructure.ratelimit.CustomerTokenBucketStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for CustomerTokenBucketStore under high-cardinality traffic.
+ *
+ * <p>Each operation picks a random customer out of {@code customers} distinct ids; with
+ * {@code maxCustomers} below {@code customers} the store also has to evict. Run with
+ * {@code -prof gc} to check that {@code tryAcquire} allocates nothing for known customers.
+ *
+ * <p>Run: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.singularbank.signature.routing.benchmark.CustomerRateLimitBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class CustomerRateLimitBenchmark {
+
+    @Param({"10000", "1000000", "4000000"})
+    private int customers;
+
+    @Param({"2000000"})
+    private long maxCustomers;
+
+    private String[] customerIds;
+    private CustomerTokenBucketStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        customerIds = new String[customers];
+        for (int i = 0; i < customers; i++) {
+            // Same shape as a pseudonymized id (64 hex chars)
+            customerIds[i] = String.format("%064x", i * 0x9E3779B97F4A7C15L);
+        }
+        store = new CustomerTokenBucketStore(10, Duration.ofMinutes(1), maxCustomers);
+    }
+
+    @Benchmark
+    public boolean tryAcquire() {
+        return store.tryAcquire(customerIds[ThreadLocalRandom.current().nextInt(customers)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(CustomerRateLimitBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,131 @@
+package com.singularbank.signature.routing.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singularbank.signature.routing.application.service.HashService;
+import com.singularbank.signature.routing.domain.model.valueobject.Money;
+import com.singularbank.signature.routing.domain.model.valueobject.TransactionContext;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.security.TransactionHashServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of request/transaction hashing: tree + re-serialization vs streaming.
+ *
+ * <p>{@code legacy*} reproduce the previous implementations (parse to an Object tree,
+ * serialize to a String, {@code MessageDigest.getInstance} per call, StringBuilder hex).
+ * {@code bodySize} is the approximate request body size in bytes. Run with {@code -prof gc}
+ * to compare allocation per operation.
+ *
+ * <p>Run: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.singularbank.signature.routing.benchmark.JsonHashingBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonHashingBenchmark {
+
+    @Param({"1024", "16384"})
+    private int bodySize;
+
+    private ObjectMapper objectMapper;
+    private HashService hashService;
+    private TransactionHashServiceImpl transactionHashService;
+    private byte[] body;
+    private TransactionContext transactionContext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        hashService = new HashService(objectMapper);
+        transactionHashService = new TransactionHashServiceImpl(objectMapper);
+        body = requestBody(bodySize);
+        transactionContext = new TransactionContext(
+            new Money(new BigDecimal("1250.75"), "EUR"),
+            "merchant-4f2a9c",
+            "order-20261018-000123",
+            "Transferencia a cuenta de ahorro",
+            "a".repeat(64)
+        );
+    }
+
+    @Benchmark
+    public String legacyRequestHash() throws Exception {
+        Object tree = objectMapper.readValue(body, Object.class);
+        String json = objectMapper.writeValueAsString(tree);
+        return legacyHex(MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public String streamingRequestHash() {
+        return hashService.sha256CanonicalJson(body);
+    }
+
+    @Benchmark
+    public String legacyTransactionHash() throws Exception {
+        String json = objectMapper.writeValueAsString(transactionContext);
+        return legacyHex(MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public String streamingTransactionHash() {
+        return transactionHashService.calculateHash(transactionContext);
+    }
+
+    /**
+     * Signature request shaped body (customer, transaction, metadata entries) of about {@code size} bytes.
+     */
+    private static byte[] requestBody(int size) {
+        StringBuilder json = new StringBuilder(size + 256)
+            .append("{\"customerId\":\"CUST-00012345\",\"transactionContext\":{\"amount\":{\"amount\":1250.75,")
+            .append("\"currency\":\"EUR\"},\"merchantId\":\"merchant-4f2a9c\",\"orderId\":\"order-20261018-000123\",")
+            .append("\"description\":\"Transferencia a cuenta de ahorro\"},\"metadata\":[");
+        for (int i = 0; json.length() < size - 2; i++) {
+            json.append(i == 0 ? "" : ",")
+                .append("{\"key\":\"attr-").append(i)
+                .append("\",\"value\":\"valor con acentos \\u00e1\\u00e9 ").append(i)
+                .append("\",\"enabled\":").append(i % 2 == 0).append('}');
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String legacyHex(byte[] bytes) {
+        StringBuilder hexString = new StringBuilder(2 * bytes.length);
+        for (byte b : bytes) {
+            String hex = Integer.toHexString(0xff & b);
+            if (hex.length() == 1) {
+                hexString.append('0');
+            }
+            hexString.append(hex);
+        }
+        return hexString.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(JsonHashingBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,96 @@
+package com.singularbank.signature.routing.benchmark;
+
+import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderResult;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderCallWindow;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for meter resolution on the provider call hot path.
+ *
+ * <ul>
+ * <li>{@code counterLookup} / {@code counterPreBound}: one counter increment, resolved by name and
+ *     tags on every call vs. a handle bound once</li>
+ * <li>{@code recordProviderCallByName} / {@code recordProviderCallByEnum}: the full
+ *     ProviderMetrics.recordProviderCall (String overload vs. pre-bound enum overload)</li>
+ * </ul>
+ * Run with {@code -prof gc} to compare allocation per operation.
+ *
+ * <p>Run: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.singularbank.signature.routing.benchmark.MeterLookupBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class MeterLookupBenchmark {
+
+    private static final Duration LATENCY = Duration.ofMillis(120);
+    private static final ProviderResult RESULT = ProviderResult.success("msg-1", "{}");
+
+    private MeterRegistry meterRegistry;
+    private Counter preBoundCounter;
+    private ProviderMetrics providerMetrics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        preBoundCounter = meterRegistry.counter("provider.calls.total",
+            "provider", "SMS", "status", "success", "channel_type", "SMS", "retried", "false");
+        providerMetrics = new ProviderMetrics(meterRegistry, new ProviderCallWindow());
+    }
+
+    @Benchmark
+    public void counterLookup() {
+        meterRegistry.counter("provider.calls.total",
+            "provider", "SMS", "status", "success", "channel_type", "SMS", "retried", "false").increment();
+    }
+
+    @Benchmark
+    public void counterPreBound() {
+        preBoundCounter.increment();
+    }
+
+    @Benchmark
+    public void recordProviderCallByName() {
+        providerMetrics.recordProviderCall("SMS", "SMS", RESULT, LATENCY);
+    }
+
+    @Benchmark
+    public void recordProviderCallByEnum() {
+        providerMetrics.recordProviderCall(ProviderType.SMS, ChannelType.SMS, RESULT, LATENCY);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(MeterLookupBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
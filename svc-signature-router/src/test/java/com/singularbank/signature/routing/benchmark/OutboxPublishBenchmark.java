@@ -0,0 +1,151 @@
+package com.singularbank.signature.routing.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singularbank.signature.routing.domain.event.DomainEvent;
+import com.singularbank.signature.routing.domain.event.SignatureCompletedEvent;
+import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.event.OutboxEventPublisherAdapter;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.adapter.OutboxEventJdbcWriter;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.entity.OutboxEventEntity;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of outbox writes: one INSERT per event vs one JDBC batch per aggregate.
+ *
+ * <p>{@code perEvent} goes through {@code publish} for every event (one statement each, like
+ * the JPA {@code save} path); {@code batched} goes through {@code publishAll}. The {@code rows}
+ * counter reports rows per second for each {@code batchSize}.
+ *
+ * <p>Without a database only serialization, hashing and row building are measured. Pass
+ * {@code -Doutbox.benchmark.jdbc-url=jdbc:postgresql://localhost:5432/signature_router?reWriteBatchedInserts=true}
+ * (plus {@code outbox.benchmark.jdbc-user}/{@code -password}) to insert into a real
+ * {@code outbox_event} table, one transaction per invocation.
+ *
+ * <p>Run: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.singularbank.signature.routing.benchmark.OutboxPublishBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutboxPublishBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int batchSize;
+
+    private OutboxEventPublisherAdapter publisher;
+    private TransactionTemplate transactionTemplate;
+    private List<DomainEvent> events;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OutboxEventJdbcWriter writer;
+        String jdbcUrl = System.getProperty("outbox.benchmark.jdbc-url");
+        if (jdbcUrl != null) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                jdbcUrl,
+                System.getProperty("outbox.benchmark.jdbc-user", "siguser"),
+                System.getProperty("outbox.benchmark.jdbc-password", "sigpass"));
+            writer = new OutboxEventJdbcWriter(new JdbcTemplate(dataSource));
+            transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        } else {
+            writer = new OutboxEventJdbcWriter(null) {
+                @Override
+                public int insertAll(List<OutboxEventEntity> rows) {
+                    return rows.size();
+                }
+            };
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        publisher = new OutboxEventPublisherAdapter(
+            singleRowRepository(writer), writer, objectMapper, new SimpleMeterRegistry(), Optional.empty());
+
+        events = new ArrayList<>(batchSize);
+        UUID aggregateId = UUID.randomUUID();
+        for (int i = 0; i < batchSize; i++) {
+            events.add(SignatureCompletedEvent.create(aggregateId, UUID.randomUUID(), ChannelType.SMS, "corr-" + i));
+        }
+    }
+
+    @Benchmark
+    public void perEvent(Rows rows) {
+        inTransaction(() -> events.forEach(publisher::publish));
+        rows.rows += batchSize;
+    }
+
+    @Benchmark
+    public void batched(Rows rows) {
+        inTransaction(() -> publisher.publishAll(events));
+        rows.rows += batchSize;
+    }
+
+    private void inTransaction(Runnable work) {
+        if (transactionTemplate == null) {
+            work.run();
+        } else {
+            transactionTemplate.executeWithoutResult(status -> work.run());
+        }
+    }
+
+    /**
+     * Repository whose {@code save} is a single-row insert, the statement JPA issues per event.
+     */
+    private static OutboxEventRepository singleRowRepository(OutboxEventJdbcWriter writer) {
+        return (OutboxEventRepository) Proxy.newProxyInstance(
+            OutboxEventRepository.class.getClassLoader(),
+            new Class<?>[] {OutboxEventRepository.class},
+            (proxy, method, args) -> {
+                if (!"save".equals(method.getName())) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                writer.insertAll(List.of((OutboxEventEntity) args[0]));
+                return args[0];
+            });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(OutboxPublishBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,105 @@
+package com.singularbank.signature.routing.benchmark;
+
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.security.HmacPseudonymizer;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.security.PseudonymCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of customer id pseudonymization: per-call Mac vs HmacPseudonymizer.
+ *
+ * <p>{@code legacy*} reproduce the previous implementations ({@code Mac.getInstance} and
+ * {@code init} per call, then {@code HexFormat} or StringBuilder hex). The Vault read the Vault
+ * implementation also did per call (a network round trip, now done once by
+ * PseudonymizationKeyHolder) is not included. {@code cached*} measure a PseudonymCache hit
+ * (repeat customer). Runs on 4 threads, as request threads share the pseudonymizer. Run with
+ * {@code -prof gc} to compare allocation per operation.
+ *
+ * <p>Run: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.singularbank.signature.routing.benchmark.PseudonymizationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class PseudonymizationBenchmark {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+    private static final String CUSTOMER_ID = "CUST-000123456789";
+
+    private HmacPseudonymizer pseudonymizer;
+    private PseudonymCache cache;
+    private String pseudonym;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pseudonymizer = new HmacPseudonymizer(KEY.getBytes(StandardCharsets.UTF_8), 1);
+        pseudonym = pseudonymizer.pseudonymize(CUSTOMER_ID);
+        cache = new PseudonymCache(1_000, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        cache.pseudonymize(CUSTOMER_ID, pseudonymizer);
+    }
+
+    @Benchmark
+    public String legacyPseudonymize() throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(mac.doFinal(CUSTOMER_ID.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public boolean legacyVerify() throws Exception {
+        return legacyPseudonymize().equals(pseudonym);
+    }
+
+    @Benchmark
+    public String pseudonymize() {
+        return pseudonymizer.pseudonymize(CUSTOMER_ID);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return pseudonymizer.matches(CUSTOMER_ID, pseudonym);
+    }
+
+    @Benchmark
+    public String cachedPseudonymize() {
+        return cache.pseudonymize(CUSTOMER_ID, pseudonymizer);
+    }
+
+    @Benchmark
+    public boolean cachedVerify() {
+        return cache.matches(CUSTOMER_ID, pseudonym, pseudonymizer);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(PseudonymizationBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
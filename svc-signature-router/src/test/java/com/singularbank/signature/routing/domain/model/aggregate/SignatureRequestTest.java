@@ -182,6 +182,39 @@ class SignatureRequestTest {
         assertThat(signatureRequest.getChallenges()).hasSize(2);
     }
     
+    @Test
+    @DisplayName("Should create speculative challenge alongside the active primary")
+    void shouldCreateSpeculativeChallengeAlongsidePrimary() {
+        // Arrange
+        SignatureRequest signatureRequest = createPendingSignatureRequest();
+        SignatureChallenge primary = signatureRequest.createChallenge(ChannelType.SMS, ProviderType.SMS);
+        
+        // Act
+        SignatureChallenge speculative = signatureRequest.createSpeculativeChallenge(
+            primary, ChannelType.VOICE, ProviderType.VOICE);
+        primary.supersede();
+        
+        // Assert
+        assertThat(speculative.getStatus()).isEqualTo(ChallengeStatus.PENDING);
+        assertThat(primary.getStatus()).isEqualTo(ChallengeStatus.SUPERSEDED);
+        assertThat(signatureRequest.getRoutingTimeline().get(1).eventType()).isEqualTo("SPECULATIVE_CHALLENGE_CREATED");
+    }
+    
+    @Test
+    @DisplayName("Should reject speculative challenge when primary is no longer active")
+    void shouldRejectSpeculativeChallengeForInactivePrimary() {
+        // Arrange
+        SignatureRequest signatureRequest = createPendingSignatureRequest();
+        SignatureChallenge primary = signatureRequest.createChallenge(ChannelType.SMS, ProviderType.SMS);
+        primary.fail("PROVIDER_ERROR");
+        
+        // Act & Assert
+        assertThatThrownBy(() -> signatureRequest.createSpeculativeChallenge(primary, ChannelType.VOICE, ProviderType.VOICE))
+            .isInstanceOf(ChallengeAlreadyActiveException.class);
+        assertThatThrownBy(primary::supersede)
+            .isInstanceOf(InvalidStateTransitionException.class);
+    }
+    
     @Test
     @DisplayName("Should find challenge by ID")
     void shouldFindChallengeById() {
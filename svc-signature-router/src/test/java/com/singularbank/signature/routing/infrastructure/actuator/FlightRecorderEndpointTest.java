@@ -0,0 +1,119 @@
+package com.singularbank.signature.routing.infrastructure.actuator;
+
+import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
+import com.singularbank.signature.routing.infrastructure.actuator.FlightRecorderEndpoint.RecordingStatus;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.AggregatePersistEvent;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.OutboxWriteEvent;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.RateLimitDecisionEvent;
+import com.singularbank.signature.routing.infrastructure.observability.jfr.RoutingEvaluatedEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for FlightRecorderEndpoint and the signature router JFR events.
+ */
+class FlightRecorderEndpointTest {
+
+    private FlightRecorderEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new FlightRecorderEndpoint(Duration.ofMinutes(1), DataSize.ofMegabytes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop();
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Should record router events with the signature and trace ids and dump them as a .jfr file")
+    void shouldRecordAndDumpRouterEvents() throws Exception {
+        // Given
+        WebEndpointResponse<RecordingStatus> started = endpoint.start(Duration.ofHours(1), null);
+        assertThat(started.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(started.getBody().state()).isEqualTo("RUNNING");
+        assertThat(started.getBody().duration()).isEqualTo(Duration.ofMinutes(1));
+
+        // When
+        MDC.put("traceId", "trace-123");
+        MDC.put("signatureId", "signature-456");
+        RoutingEvaluatedEvent routing = new RoutingEvaluatedEvent();
+        routing.begin();
+        routing.complete("merchant-1", 3, 0, "High amount", ChannelType.VOICE);
+        OutboxWriteEvent outbox = new OutboxWriteEvent();
+        outbox.begin();
+        outbox.complete(UUID.randomUUID(), "SIGNATURE_REQUEST_CREATED", 2, true);
+        RateLimitDecisionEvent rateLimit = new RateLimitDecisionEvent();
+        rateLimit.begin();
+        rateLimit.complete("customer", "customer", false);
+        UUID persistedId = UUID.randomUUID();
+        AggregatePersistEvent persist = new AggregatePersistEvent();
+        persist.begin();
+        persist.complete("LOAD", persistedId, null);
+
+        WebEndpointResponse<Resource> dump = endpoint.dump("dump");
+
+        // Then
+        assertThat(dump.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        Path copy = Files.createTempFile("jfr-test-", ".jfr");
+        try (InputStream in = dump.getBody().getInputStream()) {
+            Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+        assertThat(dump.getBody().getFile()).doesNotExist();
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(copy).stream()
+            .filter(event -> event.getEventType().getName().startsWith("com.singularbank.signature."))
+            .toList();
+        Files.delete(copy);
+
+        assertThat(events).extracting(event -> event.getEventType().getName()).containsExactlyInAnyOrder(
+            "com.singularbank.signature.RoutingEvaluated",
+            "com.singularbank.signature.OutboxWrite",
+            "com.singularbank.signature.RateLimitDecision",
+            "com.singularbank.signature.AggregatePersist");
+        assertThat(events).allSatisfy(event -> assertThat(event.getString("traceId")).isEqualTo("trace-123"));
+        assertThat(events).allSatisfy(event -> assertThat(event.getString("signatureId")).isEqualTo(
+            event.getEventType().getName().endsWith("AggregatePersist") ? persistedId.toString() : "signature-456"));
+        RecordedEvent routed = events.stream()
+            .filter(event -> event.getEventType().getName().endsWith("RoutingEvaluated"))
+            .findFirst().orElseThrow();
+        assertThat(routed.getString("channel")).isEqualTo("VOICE");
+        assertThat(routed.getInt("rulesEvaluated")).isEqualTo(3);
+        assertThat(routed.getBoolean("defaultChannelUsed")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should allow one running recording and reject unknown settings")
+    void shouldGuardRecordingLifecycle() {
+        assertThat(endpoint.status().state()).isEqualTo("NONE");
+        assertThat(endpoint.dump("dump").getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.start(null, "no-such-settings").getStatus())
+            .isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+
+        assertThat(endpoint.start(null, "default").getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(endpoint.start(null, "profile").getStatus()).isEqualTo(FlightRecorderEndpoint.STATUS_CONFLICT);
+
+        assertThat(endpoint.stop().state()).isEqualTo("NONE");
+        assertThat(endpoint.status().state()).isEqualTo("NONE");
+    }
+}
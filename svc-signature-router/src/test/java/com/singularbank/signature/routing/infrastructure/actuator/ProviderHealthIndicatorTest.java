@@ -0,0 +1,65 @@
+package com.singularbank.signature.routing.infrastructure.actuator;
+
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderCallWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ProviderHealthIndicator.
+ */
+class ProviderHealthIndicatorTest {
+
+    private ProviderCallWindow providerCallWindow;
+    private ProviderHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        providerCallWindow = new ProviderCallWindow();
+        indicator = new ProviderHealthIndicator(providerCallWindow);
+    }
+
+    @Test
+    @DisplayName("Should stay UP after a single failed call (below minimum calls)")
+    void shouldStayUpBelowMinimumCalls() {
+        // Given - one call, one failure
+        providerCallWindow.record("SMS", false);
+
+        // When
+        Health health = indicator.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(details(health, "SMS"))
+            .containsEntry("errorRate", 0.0)
+            .containsEntry("calls", 1L)
+            .containsEntry("status", "UP");
+    }
+
+    @Test
+    @DisplayName("Should report DOWN once failures reach the minimum calls")
+    void shouldGoDownAboveMinimumCalls() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            providerCallWindow.record("SMS", false);
+        }
+
+        // When
+        Health health = indicator.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(details(health, "SMS")).containsEntry("errorRate", 1.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> details(Health health, String provider) {
+        return (Map<String, Object>) health.getDetails().get(provider);
+    }
+}
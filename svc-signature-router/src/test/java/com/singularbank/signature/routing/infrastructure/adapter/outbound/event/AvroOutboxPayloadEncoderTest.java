@@ -0,0 +1,106 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.event;
+
+import com.singularbank.signature.routing.domain.event.DomainEvent;
+import com.singularbank.signature.routing.domain.event.SignatureCompletedEvent;
+import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AvroOutboxPayloadEncoder.
+ */
+@ExtendWith(MockitoExtension.class)
+class AvroOutboxPayloadEncoderTest {
+    
+    @Mock
+    private SchemaRegistrySchemaIdResolver schemaIdResolver;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private AvroOutboxPayloadEncoder encoder;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new AvroOutboxPayloadEncoder(new AvroEventMapper(), schemaIdResolver, meterRegistry, relayConfig(true));
+    }
+    
+    @Test
+    void shouldEncodeConfluentFramedAvro() throws Exception {
+        // Given
+        when(schemaIdResolver.schemaId(any())).thenReturn(OptionalInt.of(42));
+        SignatureCompletedEvent event = SignatureCompletedEvent.create(
+            UUID.randomUUID(), UUID.randomUUID(), ChannelType.SMS, "correlation-123");
+        
+        // When
+        byte[] bytes = encoder.encode(event).orElseThrow();
+        
+        // Then - magic byte, big-endian schema id, Avro binary body
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        assertThat(buffer.get()).isZero();
+        assertThat(buffer.getInt()).isEqualTo(42);
+        
+        com.singularbank.signature.routing.events.avro.SignatureCompletedEvent decoded =
+            new SpecificDatumReader<>(com.singularbank.signature.routing.events.avro.SignatureCompletedEvent.class)
+                .read(null, DecoderFactory.get().binaryDecoder(bytes, 5, bytes.length - 5, null));
+        assertThat(decoded.getEventId()).isEqualTo(event.getEventId().toString());
+        assertThat(decoded.getCorrelationId()).isEqualTo("correlation-123");
+        assertThat(decoded.getPayload().getChannel()).isEqualTo("SMS");
+    }
+    
+    @Test
+    void shouldFallBackToJsonForUnmappedEvents() {
+        DomainEvent unmapped = mock(DomainEvent.class);
+        
+        assertThat(encoder.encode(unmapped)).isEmpty();
+        assertThat(encoder.encode(unmapped)).isEmpty();
+        
+        verifyNoInteractions(schemaIdResolver);
+        assertThat(meterRegistry.counter("outbox.avro.fallback", "reason", "unmapped").count()).isEqualTo(2.0);
+    }
+    
+    @Test
+    void shouldFallBackToJsonUntilSchemaIsRegistered() {
+        // Given - the registry was down at startup
+        when(schemaIdResolver.schemaId(any())).thenReturn(OptionalInt.empty());
+        SignatureCompletedEvent event = SignatureCompletedEvent.create(
+            UUID.randomUUID(), UUID.randomUUID(), ChannelType.SMS, "correlation-123");
+        
+        // When
+        Optional<byte[]> encoded = encoder.encode(event);
+        
+        // Then - stored as JSON, the resolver is only looked up
+        assertThat(encoded).isEmpty();
+        verify(schemaIdResolver, never()).registerSchemas();
+        assertThat(meterRegistry.counter("outbox.avro.fallback", "reason", "registry").count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    void shouldRefuseToStartWithoutTheRelay() {
+        assertThatThrownBy(() -> new AvroOutboxPayloadEncoder(
+                new AvroEventMapper(), schemaIdResolver, meterRegistry, relayConfig(false)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("outbox.relay.enabled=true");
+    }
+    
+    private static OutboxRelayConfig relayConfig(boolean enabled) {
+        OutboxRelayConfig config = new OutboxRelayConfig();
+        config.setEnabled(enabled);
+        return config;
+    }
+}
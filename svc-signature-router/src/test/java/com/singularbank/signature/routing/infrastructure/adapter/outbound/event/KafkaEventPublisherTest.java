@@ -0,0 +1,261 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.singularbank.signature.routing.domain.event.DomainEvent;
+import com.singularbank.signature.routing.domain.event.SignatureCompletedEvent;
+import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
+import com.singularbank.signature.routing.infrastructure.config.KafkaPublisherConfig;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for KafkaEventPublisher back-pressure and retry spool.
+ */
+class KafkaEventPublisherTest {
+    
+    private static final String TOPIC = "signature.completed";
+    
+    @TempDir
+    Path spoolDir;
+    
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private KafkaPublisherConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private ObjectMapper objectMapper;
+    
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        config = new KafkaPublisherConfig();
+        config.getSpool().setDirectory(spoolDir.toString());
+        config.setBatchTimeout(Duration.ofSeconds(2));
+        meterRegistry = new SimpleMeterRegistry();
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+    }
+    
+    @Test
+    void shouldSendWholeBatchBeforeAwaitingAcks() throws Exception {
+        // Given - acks arrive only after every send was issued
+        List<CompletableFuture<SendResult<String, Object>>> acks = new CopyOnWriteArrayList<>();
+        CountDownLatch sent = new CountDownLatch(3);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            CompletableFuture<SendResult<String, Object>> ack = new CompletableFuture<>();
+            acks.add(ack);
+            sent.countDown();
+            return ack;
+        });
+        KafkaEventPublisher publisher = publisher();
+        List<DomainEvent> events = List.of(event(), event(), event());
+        
+        // When
+        CompletableFuture<Void> publishing = CompletableFuture.runAsync(() -> publisher.publishAll(events));
+        assertThat(sent.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(publishing).isNotDone();
+        acks.forEach(ack -> ack.complete(null));
+        publishing.get();
+        
+        // Then
+        verify(kafkaTemplate, times(3)).send(eq(TOPIC), anyString(), any());
+        assertThat(meterRegistry.get("kafka.publisher.in-flight").gauge().value()).isZero();
+    }
+    
+    @Test
+    void shouldSpoolFailedSendsAndReplayThem() {
+        // Given - the broker rejects the first send
+        SignatureCompletedEvent event = event();
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        KafkaEventPublisher publisher = publisher();
+        
+        // When
+        publisher.publishAll(List.of(event));
+        
+        // Then
+        assertThat(meterRegistry.counter("kafka.publisher.spooled", "reason", "broker_error").count()).isEqualTo(1.0);
+        assertThat(spoolDir.resolve(KafkaRetrySpool.SPOOL_FILE)).exists();
+        
+        publisher.replaySpool();
+        
+        verify(kafkaTemplate, times(2)).send(TOPIC, event.signatureRequestId().toString(), event);
+        assertThat(meterRegistry.counter("kafka.publisher.spool.replayed", "outcome", "published").count()).isEqualTo(1.0);
+        assertThat(spoolDir.resolve(KafkaRetrySpool.SPOOL_FILE)).doesNotExist();
+        assertThat(spoolDir.resolve(KafkaRetrySpool.REPLAY_FILE)).doesNotExist();
+    }
+    
+    @Test
+    void shouldSpoolWhenInFlightLimitStalls() {
+        // Given - one slot, held by a send that is never acknowledged
+        config.setMaxInFlight(1);
+        config.setMaxBlock(Duration.ofMillis(50));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        KafkaEventPublisher publisher = publisher();
+        
+        // When
+        publisher.publish(event());
+        publisher.publish(event());
+        
+        // Then
+        verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any());
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            assertThat(meterRegistry.counter("kafka.publisher.spooled", "reason", "in_flight_limit").count()).isEqualTo(1.0));
+        assertThat(meterRegistry.get("kafka.publisher.stall").tag("cause", "in_flight").timer().count()).isEqualTo(1);
+    }
+    
+    @Test
+    void shouldSpoolFailedAcksOnSpoolWriterThread() throws Exception {
+        // Given - acks failed by the test thread, standing in for the producer I/O thread
+        List<CompletableFuture<SendResult<String, Object>>> acks = new CopyOnWriteArrayList<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            CompletableFuture<SendResult<String, Object>> ack = new CompletableFuture<>();
+            acks.add(ack);
+            return ack;
+        });
+        KafkaEventPublisher publisher = publisher();
+        List<String> spooledOn = new CopyOnWriteArrayList<>();
+        CompletableFuture<?>[] outcomes = new CompletableFuture<?>[50];
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = publisher.send(TOPIC, "key-" + i, event())
+                .whenComplete((result, ex) -> spooledOn.add(Thread.currentThread().getName()));
+        }
+        
+        // When
+        acks.forEach(ack -> ack.completeExceptionally(new IllegalStateException("broker down")));
+        CompletableFuture.allOf(outcomes).handle((ignored, ex) -> null).get(5, TimeUnit.SECONDS);
+        
+        // Then - the futures fail only once their records are on disk, written by the spool writer
+        assertThat(spooledOn).hasSize(50).containsOnly("kafka-spool-writer");
+        assertThat(Files.readAllLines(spoolDir.resolve(KafkaRetrySpool.SPOOL_FILE))).hasSize(50);
+        assertThat(meterRegistry.counter("kafka.publisher.spooled", "reason", "broker_error").count()).isEqualTo(50.0);
+        publisher.shutdown();
+    }
+    
+    @Test
+    void shouldReplayOnReplayThreadAndSkipTicksWhileReplaying() {
+        // Given - one spooled event, its resend blocks until acknowledged
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        KafkaEventPublisher publisher = publisher();
+        publisher.publishAll(List.of(event()));
+        
+        CompletableFuture<SendResult<String, Object>> resendAck = new CompletableFuture<>();
+        List<String> replayedOn = new CopyOnWriteArrayList<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            replayedOn.add(Thread.currentThread().getName());
+            return resendAck;
+        });
+        
+        // When
+        publisher.scheduleReplay();
+        publisher.scheduleReplay();
+        await().atMost(Duration.ofSeconds(5)).until(() -> !replayedOn.isEmpty());
+        resendAck.complete(null);
+        
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            assertThat(spoolDir.resolve(KafkaRetrySpool.REPLAY_FILE)).doesNotExist());
+        assertThat(replayedOn).containsExactly("kafka-spool-replay");
+        publisher.shutdown();
+    }
+    
+    @Test
+    void shouldNotResendCheckpointedRecordsWhenReplayTimesOut() {
+        // Given - three spooled events; on replay the first is acked, the second fails, the third hangs
+        SignatureCompletedEvent acked = event();
+        SignatureCompletedEvent failed = event();
+        SignatureCompletedEvent hanging = event();
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        KafkaEventPublisher publisher = publisher();
+        publisher.publishAll(List.of(acked, failed, hanging));
+        
+        config.setBatchTimeout(Duration.ofMillis(100));
+        CompletableFuture<SendResult<String, Object>> hangingAck = new CompletableFuture<>();
+        when(kafkaTemplate.send(TOPIC, acked.signatureRequestId().toString(), acked))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaTemplate.send(TOPIC, failed.signatureRequestId().toString(), failed))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(kafkaTemplate.send(TOPIC, hanging.signatureRequestId().toString(), hanging))
+            .thenReturn(hangingAck);
+        
+        // When - the replay times out on the third ack, and the next run starts before it arrives
+        publisher.replaySpool();
+        publisher.replaySpool();
+        
+        // Then - resolved records are checkpointed, nothing is resent while the third is outstanding
+        verify(kafkaTemplate, times(2)).send(TOPIC, acked.signatureRequestId().toString(), acked);
+        verify(kafkaTemplate, times(2)).send(TOPIC, failed.signatureRequestId().toString(), failed);
+        verify(kafkaTemplate, times(2)).send(TOPIC, hanging.signatureRequestId().toString(), hanging);
+        assertThat(spoolDir.resolve(KafkaRetrySpool.REPLAY_FILE)).exists();
+        
+        // When - the third ack arrives
+        hangingAck.complete(null);
+        when(kafkaTemplate.send(TOPIC, failed.signatureRequestId().toString(), failed))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        publisher.replaySpool();
+        
+        // Then - the replay file is done, only the re-spooled record is sent once more
+        assertThat(spoolDir.resolve(KafkaRetrySpool.REPLAY_FILE)).doesNotExist();
+        assertThat(spoolDir.resolve(KafkaRetrySpool.CHECKPOINT_FILE)).doesNotExist();
+        verify(kafkaTemplate, times(2)).send(TOPIC, acked.signatureRequestId().toString(), acked);
+        verify(kafkaTemplate, times(3)).send(TOPIC, failed.signatureRequestId().toString(), failed);
+        verify(kafkaTemplate, times(2)).send(TOPIC, hanging.signatureRequestId().toString(), hanging);
+    }
+    
+    @Test
+    void shouldReadReplayInChunksAndResumeAfterCheckpoint() throws Exception {
+        // Given - three spooled records
+        KafkaRetrySpool spool = new KafkaRetrySpool(spoolDir, Long.MAX_VALUE, objectMapper);
+        List<SignatureCompletedEvent> events = List.of(event(), event(), event());
+        spool.appendAll(events.stream()
+            .map(event -> new KafkaRetrySpool.SpooledRecord(TOPIC, event.signatureRequestId().toString(), event))
+            .toList());
+        
+        // When - the first chunk is checkpointed, then the process restarts
+        KafkaRetrySpool.ReplayChunk first = spool.readReplay(2);
+        spool.checkpoint(first.end());
+        KafkaRetrySpool.ReplayChunk rest = new KafkaRetrySpool(spoolDir, Long.MAX_VALUE, objectMapper).readReplay(2);
+        
+        // Then
+        assertThat(first.records()).extracting(KafkaRetrySpool.SpooledRecord::event).containsExactly(events.get(0), events.get(1));
+        assertThat(first.exhausted()).isFalse();
+        assertThat(rest.records()).extracting(KafkaRetrySpool.SpooledRecord::event).containsExactly(events.get(2));
+        assertThat(rest.exhausted()).isTrue();
+        assertThat(rest.end()).isEqualTo(Files.size(spoolDir.resolve(KafkaRetrySpool.REPLAY_FILE)));
+    }
+    
+    private KafkaEventPublisher publisher() {
+        KafkaEventPublisher publisher = new KafkaEventPublisher(
+            kafkaTemplate, mock(ProviderMetrics.class), config, objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(publisher, "signatureCompletedTopic", TOPIC);
+        return publisher;
+    }
+    
+    private static SignatureCompletedEvent event() {
+        return SignatureCompletedEvent.create(UUID.randomUUID(), UUID.randomUUID(), ChannelType.SMS, "corr-" + UUID.randomUUID());
+    }
+}
@@ -3,6 +3,7 @@ package com.singularbank.signature.routing.infrastructure.adapter.outbound.event
 import com.singularbank.signature.routing.domain.event.DomainEvent;
 import com.singularbank.signature.routing.domain.event.SignatureCompletedEvent;
 import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.adapter.OutboxEventJdbcWriter;
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.entity.OutboxEventEntity;
 import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.repository.OutboxEventRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -41,6 +43,9 @@ class OutboxEventPublisherAdapterTest {
     @Mock
     private OutboxEventRepository outboxRepository;
     
+    @Mock
+    private OutboxEventJdbcWriter outboxWriter;
+    
     private ObjectMapper objectMapper;
     private SimpleMeterRegistry meterRegistry;
     private OutboxEventPublisherAdapter publisher;
@@ -50,7 +55,7 @@ class OutboxEventPublisherAdapterTest {
         objectMapper = new ObjectMapper();
         objectMapper.findAndRegisterModules(); // For Java 8 date/time
         meterRegistry = new SimpleMeterRegistry();
-        publisher = new OutboxEventPublisherAdapter(outboxRepository, objectMapper, meterRegistry);
+        publisher = new OutboxEventPublisherAdapter(outboxRepository, outboxWriter, objectMapper, meterRegistry, Optional.empty());
     }
     
     @Test
@@ -192,6 +197,63 @@ class OutboxEventPublisherAdapterTest {
         assertThat(meterRegistry.find("outbox.events.created.total").counter()).isNotNull();
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldInsertBatchWithOneJdbcCall() {
+        // Given
+        List<DomainEvent> events = List.of(
+            SignatureCompletedEvent.create(UUID.randomUUID(), UUID.randomUUID(), ChannelType.SMS, "corr-1"),
+            SignatureCompletedEvent.create(UUID.randomUUID(), UUID.randomUUID(), ChannelType.PUSH, "corr-2"),
+            SignatureCompletedEvent.create(UUID.randomUUID(), UUID.randomUUID(), ChannelType.VOICE, "corr-3")
+        );
+        
+        // When
+        publisher.publishAll(events);
+        
+        // Then
+        ArgumentCaptor<List<OutboxEventEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxWriter).insertAll(captor.capture());
+        verify(outboxRepository, never()).save(any());
+        
+        List<OutboxEventEntity> rows = captor.getValue();
+        assertThat(rows).extracting(OutboxEventEntity::getAggregateId)
+            .containsExactly(events.get(0).getAggregateId(), events.get(1).getAggregateId(), events.get(2).getAggregateId());
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.getPayload()).isNotBlank();
+            assertThat(row.getPayloadHash()).hasSize(64);
+        });
+        assertThat(meterRegistry.counter("outbox.events.created.total", "component", "outbox").count()).isEqualTo(3.0);
+    }
+    
+    @Test
+    void shouldStoreAvroPayloadWhenEncoderEnabled() {
+        // Given
+        AvroOutboxPayloadEncoder avroEncoder = mock(AvroOutboxPayloadEncoder.class);
+        byte[] framed = {0, 0, 0, 0, 42, 2, 4, 6};
+        when(avroEncoder.encode(any())).thenReturn(Optional.of(framed));
+        OutboxEventPublisherAdapter avroPublisher = new OutboxEventPublisherAdapter(
+            outboxRepository, outboxWriter, objectMapper, meterRegistry, Optional.of(avroEncoder)
+        );
+        DomainEvent event = SignatureCompletedEvent.create(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            ChannelType.SMS,
+            "correlation-123"
+        );
+        
+        // When
+        avroPublisher.publish(event);
+        
+        // Then
+        ArgumentCaptor<OutboxEventEntity> captor = ArgumentCaptor.forClass(OutboxEventEntity.class);
+        verify(outboxRepository).save(captor.capture());
+        OutboxEventEntity saved = captor.getValue();
+        assertThat(saved.getPayloadFormat()).isEqualTo(OutboxEventEntity.PAYLOAD_FORMAT_AVRO);
+        assertThat(saved.getPayloadAvro()).isEqualTo(framed);
+        assertThat(saved.getPayload()).isNull();
+        assertThat(saved.getPayloadHash()).hasSize(64);
+    }
+    
     @Test
     void shouldThrowExceptionWhenSerializationFails() throws Exception {
         // Given
@@ -199,7 +261,7 @@ class OutboxEventPublisherAdapterTest {
         when(faultyMapper.writeValueAsString(any())).thenThrow(new RuntimeException("Serialization error"));
         
         OutboxEventPublisherAdapter faultyPublisher = new OutboxEventPublisherAdapter(
-            outboxRepository, faultyMapper, meterRegistry
+            outboxRepository, outboxWriter, faultyMapper, meterRegistry, Optional.empty()
         );
         
         DomainEvent event = SignatureCompletedEvent.create(
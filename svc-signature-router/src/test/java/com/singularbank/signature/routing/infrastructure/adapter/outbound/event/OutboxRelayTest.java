@@ -0,0 +1,267 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.event;
+
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.adapter.OutboxEventRelayStore;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.entity.OutboxEventEntity;
+import com.singularbank.signature.routing.infrastructure.adapter.outbound.persistence.repository.OutboxEventRepository;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.OutboxMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxRelay against an embedded Kafka broker.
+ */
+class OutboxRelayTest {
+    
+    private static final String TOPIC = "signature.events";
+    
+    private static EmbeddedKafkaKraftBroker broker;
+    
+    private OutboxEventRelayStore relayStore;
+    private OutboxRelayConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxMetrics outboxMetrics;
+    private TransactionTemplate transactionTemplate;
+    
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 1, TOPIC);
+        broker.afterPropertiesSet();
+    }
+    
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+    
+    @BeforeEach
+    void setUp() {
+        relayStore = mock(OutboxEventRelayStore.class);
+        config = new OutboxRelayConfig();
+        config.setBatchSize(10);
+        config.setSendTimeout(Duration.ofSeconds(10));
+        meterRegistry = new SimpleMeterRegistry();
+        outboxMetrics = new OutboxMetrics(mock(OutboxEventRepository.class), meterRegistry);
+        transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    }
+    
+    @Test
+    void shouldPublishClaimedRowsAndMarkThemPublished() {
+        // Given
+        OutboxEventEntity json = row(OutboxEventEntity.PAYLOAD_FORMAT_JSON);
+        OutboxEventEntity avro = row(OutboxEventEntity.PAYLOAD_FORMAT_AVRO);
+        when(relayStore.claimBatch(10)).thenReturn(List.of(json, avro));
+        
+        Map<String, Object> producerProps = OutboxRelay.producerProperties(config, broker.getBrokersAsString());
+        OutboxRelay relay = new OutboxRelay(relayStore, config, transactionTemplate,
+            new KafkaProducer<>(producerProps), outboxMetrics);
+        
+        // When
+        int published = relay.relayBatch();
+        relay.shutdown();
+        
+        // Then
+        assertThat(published).isEqualTo(2);
+        verify(relayStore).markPublished(List.of(json.getId(), avro.getId()));
+        assertThat(meterRegistry.counter("outbox.relay.events.total", "component", "outbox", "outcome", "published").count())
+            .isEqualTo(2.0);
+        
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("relay-test", "true", broker);
+        try (Consumer<String, byte[]> consumer =
+                 new KafkaConsumer<>(consumerProps, new StringDeserializer(), new ByteArrayDeserializer())) {
+            broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+            ConsumerRecords<String, byte[]> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 2);
+            
+            assertThat(records.count()).isEqualTo(2);
+            for (ConsumerRecord<String, byte[]> record : records) {
+                OutboxEventEntity source = record.key().equals(json.getAggregateId().toString()) ? json : avro;
+                assertThat(header(record, OutboxRelay.HEADER_ID)).isEqualTo(source.getId().toString());
+                assertThat(header(record, OutboxRelay.HEADER_PAYLOAD_FORMAT)).isEqualTo(source.getPayloadFormat());
+                assertThat(record.value()).isEqualTo(source == json
+                    ? json.getPayload().getBytes(StandardCharsets.UTF_8)
+                    : avro.getPayloadAvro());
+            }
+        }
+    }
+    
+    @Test
+    void shouldLeaveUnacknowledgedRowsPending() {
+        // Given - the broker never acknowledges
+        config.setSendTimeout(Duration.ofMillis(100));
+        when(relayStore.claimBatch(anyInt())).thenReturn(List.of(row(OutboxEventEntity.PAYLOAD_FORMAT_JSON)));
+        MockProducer<String, byte[]> producer =
+            new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        OutboxRelay relay = new OutboxRelay(relayStore, config, transactionTemplate, producer, outboxMetrics);
+        
+        // When
+        int published = relay.relayBatch();
+        
+        // Then
+        assertThat(published).isZero();
+        assertThat(producer.flushed()).isFalse();
+        verify(relayStore).markPublished(List.of());
+        assertThat(meterRegistry.counter("outbox.relay.events.total", "component", "outbox", "outcome", "failed").count())
+            .isEqualTo(1.0);
+    }
+    
+    @Test
+    void shouldStopSendingOnceSendTimeoutElapsed() {
+        // Given - every send blocks 60ms (metadata wait), the batch has 100ms
+        config.setSendTimeout(Duration.ofMillis(100));
+        List<OutboxEventEntity> claimed = List.of(
+            row(OutboxEventEntity.PAYLOAD_FORMAT_JSON), row(OutboxEventEntity.PAYLOAD_FORMAT_JSON),
+            row(OutboxEventEntity.PAYLOAD_FORMAT_JSON), row(OutboxEventEntity.PAYLOAD_FORMAT_JSON),
+            row(OutboxEventEntity.PAYLOAD_FORMAT_JSON));
+        when(relayStore.claimBatch(anyInt())).thenReturn(claimed);
+        MockProducer<String, byte[]> producer =
+            new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer()) {
+                @Override
+                public synchronized Future<RecordMetadata> send(ProducerRecord<String, byte[]> record) {
+                    sleep(60);
+                    return super.send(record);
+                }
+            };
+        OutboxRelay relay = new OutboxRelay(relayStore, config, transactionTemplate, producer, outboxMetrics);
+        
+        // When
+        int published = relay.relayBatch();
+        
+        // Then - the sent rows are published, the rest stay pending
+        assertThat(published).isZero();
+        assertThat(producer.history()).hasSize(2);
+        verify(relayStore).markPublished(List.of(claimed.get(0).getId(), claimed.get(1).getId()));
+    }
+    
+    @Test
+    void shouldCapProducerTimeoutsAtSendTimeout() {
+        // Given
+        config.setSendTimeout(Duration.ofSeconds(5));
+        config.setProducer(Map.of("max.block.ms", "60000", "linger.ms", "20"));
+        
+        // When
+        Map<String, Object> props = OutboxRelay.producerProperties(config, broker.getBrokersAsString());
+        
+        // Then
+        assertThat(props)
+            .containsEntry(ProducerConfig.MAX_BLOCK_MS_CONFIG, 5_000L)
+            .containsEntry(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 5_000)
+            .containsEntry(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 4_980);
+        new KafkaProducer<>(props).close(Duration.ZERO);
+    }
+    
+    @Test
+    void shouldDrainBacklogWhileBatchesAreFull() {
+        // Given
+        config.setBatchSize(1);
+        when(relayStore.claimBatch(1))
+            .thenReturn(List.of(row(OutboxEventEntity.PAYLOAD_FORMAT_JSON)))
+            .thenReturn(List.of(row(OutboxEventEntity.PAYLOAD_FORMAT_JSON)))
+            .thenReturn(List.of());
+        MockProducer<String, byte[]> producer =
+            new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        OutboxRelay relay = new OutboxRelay(relayStore, config, transactionTemplate, producer, outboxMetrics);
+        
+        // When
+        relay.poll();
+        
+        // Then
+        assertThat(producer.history()).hasSize(2);
+        verify(relayStore, times(3)).claimBatch(1);
+    }
+    
+    @Test
+    void shouldDrainOnRelayThreadAndSkipTicksWhileDraining() throws InterruptedException {
+        // Given - the first claim blocks until released
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        when(relayStore.claimBatch(anyInt())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        OutboxRelay relay = new OutboxRelay(relayStore, config, transactionTemplate,
+            new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer()), outboxMetrics);
+        
+        // When
+        relay.schedulePoll();
+        relay.schedulePoll();
+        release.countDown();
+        
+        // Then
+        verify(relayStore, timeout(5_000).times(1)).claimBatch(anyInt());
+        assertThat(threads).containsExactly("outbox-relay");
+        relay.shutdown();
+    }
+    
+    @Test
+    void shouldRejectAckWaitNotWellBelowTransactionTimeout() {
+        config.setSendTimeout(Duration.ofSeconds(20));
+        config.setTransactionTimeout(Duration.ofSeconds(30));
+        MockProducer<String, byte[]> producer =
+            new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        
+        assertThatThrownBy(() -> new OutboxRelay(relayStore, config, transactionTemplate, producer, outboxMetrics))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("send-timeout");
+    }
+    
+    private static OutboxEventEntity row(String format) {
+        OutboxEventEntity.OutboxEventEntityBuilder row = OutboxEventEntity.builder()
+            .id(UUID.randomUUID())
+            .aggregateId(UUID.randomUUID())
+            .aggregateType("SignatureRequest")
+            .eventType("SIGNATURE_COMPLETED")
+            .payloadFormat(format)
+            .createdAt(Instant.now());
+        return OutboxEventEntity.PAYLOAD_FORMAT_AVRO.equals(format)
+            ? row.payloadAvro(new byte[] {0, 0, 0, 0, 42, 2, 4}).build()
+            : row.payload("{\"eventType\":\"SIGNATURE_COMPLETED\"}").build();
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static String header(ConsumerRecord<String, byte[]> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,64 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.event;
+
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Unit tests for SchemaRegistrySchemaIdResolver.
+ */
+class SchemaRegistrySchemaIdResolverTest {
+    
+    private static final String REGISTRY = "http://registry:8081";
+    
+    private final AvroEventMapper mapper = new AvroEventMapper();
+    private MockRestServiceServer server;
+    private SchemaRegistrySchemaIdResolver resolver;
+    
+    @BeforeEach
+    void setUp() {
+        MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+        resolver = new SchemaRegistrySchemaIdResolver(new RestTemplateBuilder(customizer), mapper, REGISTRY);
+        server = customizer.getServer();
+    }
+    
+    @Test
+    void shouldRegisterUnderRecordNameSubjectsAheadOfUse() {
+        // Given - the first schema fails once, the others register
+        Schema failing = mapper.schemas().get(0);
+        server.expect(once(), requestTo(subjectUrl(failing))).andExpect(method(HttpMethod.POST))
+            .andRespond(withServerError());
+        for (Schema schema : mapper.schemas().subList(1, mapper.schemas().size())) {
+            server.expect(once(), requestTo(subjectUrl(schema)))
+                .andRespond(withSuccess("{\"id\":7}", MediaType.APPLICATION_JSON));
+        }
+        server.expect(once(), requestTo(subjectUrl(failing)))
+            .andRespond(withSuccess("{\"id\":42}", MediaType.APPLICATION_JSON));
+        
+        // When / Then - lookups never call the registry; the next run retries only the missing schema
+        assertThat(resolver.schemaId(failing)).isEmpty();
+        resolver.registerSchemas();
+        assertThat(resolver.schemaId(failing)).isEmpty();
+        assertThat(resolver.schemaId(mapper.schemas().get(1))).hasValue(7);
+        
+        resolver.registerSchemas();
+        assertThat(resolver.schemaId(failing)).hasValue(42);
+        server.verify();
+    }
+    
+    private static String subjectUrl(Schema schema) {
+        return REGISTRY + "/subjects/" + schema.getFullName() + "/versions";
+    }
+}
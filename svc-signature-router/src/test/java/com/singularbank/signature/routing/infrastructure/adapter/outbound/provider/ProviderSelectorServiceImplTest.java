@@ -3,24 +3,35 @@ package com.singularbank.signature.routing.infrastructure.adapter.outbound.provi
 import com.singularbank.signature.routing.domain.exception.NoAvailableProviderException;
 import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
 import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
+import com.singularbank.signature.routing.infrastructure.config.FallbackChainConfig;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderHealthStats;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
  * Unit tests for ProviderSelectorServiceImpl.
  * Story 2.4: Challenge Creation & Provider Selection
+ * 
+ * Also covers availability from the last known circuit breaker state.
  */
 @DisplayName("ProviderSelectorService")
 class ProviderSelectorServiceImplTest {
     
     private ProviderSelectorServiceImpl providerSelectorService;
+    private ProviderHealthStats providerHealthStats;
+    private FallbackChainConfig fallbackChainConfig;
     
     @BeforeEach
     void setUp() {
-        providerSelectorService = new ProviderSelectorServiceImpl();
+        providerHealthStats = new ProviderHealthStats();
+        fallbackChainConfig = new FallbackChainConfig();
+        providerSelectorService = new ProviderSelectorServiceImpl(providerHealthStats, fallbackChainConfig);
     }
     
     @Test
@@ -73,13 +84,37 @@ class ProviderSelectorServiceImplTest {
     }
     
     @Test
-    @DisplayName("Should return true for provider availability (Story 2.4 - no circuit breaker yet)")
+    @DisplayName("Should report providers as available when no circuit state recorded")
     void shouldReturnTrueForProviderAvailability() {
-        // When / Then - For Story 2.4, always returns true
+        // When / Then - no transitions recorded yet, all circuits CLOSED
         assertThat(providerSelectorService.isProviderAvailable(ProviderType.SMS)).isTrue();
         assertThat(providerSelectorService.isProviderAvailable(ProviderType.PUSH)).isTrue();
         assertThat(providerSelectorService.isProviderAvailable(ProviderType.VOICE)).isTrue();
         assertThat(providerSelectorService.isProviderAvailable(ProviderType.BIOMETRIC)).isTrue();
     }
+    
+    @Test
+    @DisplayName("Should reject provider whose circuit breaker is OPEN when its channel has no fallback")
+    void shouldRejectProviderWithOpenCircuit() {
+        // Given
+        providerHealthStats.recordCircuitState("SMS", CircuitBreaker.State.OPEN);
+        
+        // When / Then
+        assertThat(providerSelectorService.isProviderAvailable(ProviderType.SMS)).isFalse();
+        assertThatThrownBy(() -> providerSelectorService.selectProvider(ChannelType.SMS))
+            .isInstanceOf(NoAvailableProviderException.class);
+        assertThat(providerSelectorService.isProviderAvailable(ProviderType.VOICE)).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Should select provider whose circuit breaker is OPEN when its channel has a fallback")
+    void shouldSelectOpenProviderWithFallback() {
+        // Given
+        fallbackChainConfig.setChains(Map.of(ChannelType.SMS, ChannelType.VOICE));
+        providerHealthStats.recordCircuitState("SMS", CircuitBreaker.State.OPEN);
+        
+        // When / Then - the send fails fast and the fallback chain takes over
+        assertThat(providerSelectorService.isProviderAvailable(ProviderType.SMS)).isFalse();
+        assertThat(providerSelectorService.selectProvider(ChannelType.SMS)).isEqualTo(ProviderType.SMS);
+    }
 }
-
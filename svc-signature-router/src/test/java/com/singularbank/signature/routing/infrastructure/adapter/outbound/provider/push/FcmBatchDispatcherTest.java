@@ -0,0 +1,232 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.provider.push;
+
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import com.singularbank.signature.routing.domain.model.entity.SignatureChallenge;
+import com.singularbank.signature.routing.domain.model.valueobject.ChallengeStatus;
+import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderResult;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for FcmBatchDispatcher.
+ *
+ * <p>Uses a real FirebaseMessaging client whose HTTP transport is redirected to a local
+ * {@link HttpServer} standing in for the FCM v1 API. Tokens containing "invalid" are
+ * rejected with an FCM INVALID_ARGUMENT error.
+ */
+class FcmBatchDispatcherTest {
+
+    private static final String INVALID_ARGUMENT_BODY = """
+        {"error":{"code":400,"message":"The registration token is not a valid FCM registration token",\
+        "status":"INVALID_ARGUMENT","details":[{"@type":"type.googleapis.com/google.firebase.fcm.v1.FcmError",\
+        "errorCode":"INVALID_ARGUMENT"}]}}""";
+
+    private HttpServer fcmStub;
+    private final AtomicInteger stubRequests = new AtomicInteger();
+    private FirebaseApp firebaseApp;
+    private FirebaseMessaging firebaseMessaging;
+    private SimpleMeterRegistry meterRegistry;
+    private ScheduledExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fcmStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fcmStub.createContext("/", exchange -> {
+            int n = stubRequests.incrementAndGet();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            boolean invalid = body.contains("invalid");
+            byte[] response = (invalid
+                ? INVALID_ARGUMENT_BODY
+                : "{\"name\":\"projects/test-project/messages/" + n + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(invalid ? 400 : 200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        fcmStub.start();
+
+        FirebaseOptions options = FirebaseOptions.builder()
+            .setCredentials(GoogleCredentials.create(
+                new AccessToken("test-token", new Date(System.currentTimeMillis() + 3_600_000))))
+            .setProjectId("test-project")
+            .setHttpTransport(new LocalStubTransport(fcmStub.getAddress().getPort()))
+            .build();
+        firebaseApp = FirebaseApp.initializeApp(options, "fcm-batch-test-" + UUID.randomUUID());
+        firebaseMessaging = FirebaseMessaging.getInstance(firebaseApp);
+
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newScheduledThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        firebaseApp.delete();
+        fcmStub.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should flush a full batch with one sendEach call and map responses in order")
+    void shouldFlushFullBatch() throws Exception {
+        // Given - batch closes at 3 messages, linger long enough never to fire
+        FcmBatchDispatcher dispatcher = dispatcher(3, 10_000);
+
+        // When
+        CompletableFuture<SendResponse> first = dispatcher.submit(message("token-a"));
+        CompletableFuture<SendResponse> second = dispatcher.submit(message("token-b"));
+        CompletableFuture<SendResponse> third = dispatcher.submit(message("token-c"));
+
+        // Then
+        List<SendResponse> responses = List.of(
+            first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS), third.get(5, TimeUnit.SECONDS));
+        assertThat(responses).allMatch(SendResponse::isSuccessful);
+        assertThat(responses).extracting(SendResponse::getMessageId).doesNotHaveDuplicates();
+        assertThat(stubRequests.get()).isEqualTo(3);
+
+        DistributionSummary batchSize = meterRegistry.find("provider.push.batch.size").summary();
+        assertThat(batchSize.count()).isEqualTo(1);
+        assertThat(batchSize.totalAmount()).isEqualTo(3.0);
+        assertThat(meterRegistry.find("provider.push.batch.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch once the linger time elapses")
+    void shouldFlushAfterLinger() throws Exception {
+        // Given
+        FcmBatchDispatcher dispatcher = dispatcher(100, 20);
+
+        // When
+        CompletableFuture<SendResponse> first = dispatcher.submit(message("token-a"));
+        CompletableFuture<SendResponse> second = dispatcher.submit(message("token-b"));
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS).isSuccessful()).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS).isSuccessful()).isTrue();
+        assertThat(meterRegistry.find("provider.push.batch.size").summary().totalAmount()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should map per-message FCM results back to each challenge's ProviderResult")
+    void shouldMapPerMessageResultsToProviderResults() throws Exception {
+        // Given
+        FcmBatchDispatcher dispatcher = dispatcher(2, 10_000);
+        PushNotificationProvider provider = new PushNotificationProvider(
+            firebaseMessaging, meterRegistry, executor, Optional.of(dispatcher));
+
+        // When
+        CompletableFuture<ProviderResult> ok = provider.sendChallengeAsync(challenge(), "valid-device-token-0123456789");
+        CompletableFuture<ProviderResult> rejected = provider.sendChallengeAsync(challenge(), "invalid-device-token-012345678");
+
+        // Then
+        ProviderResult okResult = ok.get(5, TimeUnit.SECONDS);
+        assertThat(okResult.success()).isTrue();
+        assertThat(okResult.providerChallengeId()).startsWith("projects/test-project/messages/");
+
+        ProviderResult rejectedResult = rejected.get(5, TimeUnit.SECONDS);
+        assertThat(rejectedResult.success()).isFalse();
+        assertThat(rejectedResult.errorCode()).isEqualTo("FCM_ERROR_" + MessagingErrorCode.INVALID_ARGUMENT.name());
+        assertThat(meterRegistry.find("provider.push.batch.size").summary().count()).isEqualTo(1);
+    }
+
+    private FcmBatchDispatcher dispatcher(int maxSize, long lingerMs) {
+        PushProviderConfig config = new PushProviderConfig();
+        config.getBatch().setEnabled(true);
+        config.getBatch().setMaxSize(maxSize);
+        config.getBatch().setLingerMs(lingerMs);
+        return new FcmBatchDispatcher(firebaseMessaging, config, meterRegistry, executor);
+    }
+
+    private static Message message(String token) {
+        return Message.builder().putData("challengeCode", "123456").setToken(token).build();
+    }
+
+    private static SignatureChallenge challenge() {
+        return SignatureChallenge.builder()
+            .id(UUID.randomUUID())
+            .channelType(ChannelType.PUSH)
+            .provider(ProviderType.PUSH)
+            .status(ChallengeStatus.PENDING)
+            .challengeCode("654321")
+            .createdAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(300))
+            .build();
+    }
+
+    /**
+     * HTTP transport that forwards every FCM request to the local stub, keeping the path.
+     */
+    private static final class LocalStubTransport extends MockHttpTransport {
+
+        private final HttpClient httpClient = HttpClient.newHttpClient();
+        private final int port;
+
+        LocalStubTransport(int port) {
+            this.port = port;
+        }
+
+        @Override
+        public MockLowLevelHttpRequest buildRequest(String method, String url) {
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public LowLevelHttpResponse execute() throws IOException {
+                    URI target = URI.create("http://localhost:" + port + new URL(url).getPath());
+                    HttpRequest request = HttpRequest.newBuilder(target)
+                        .header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofString(getContentAsString()))
+                        .build();
+                    try {
+                        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                        return new MockLowLevelHttpResponse()
+                            .setStatusCode(response.statusCode())
+                            .setContentType("application/json")
+                            .setContent(response.body());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(e);
+                    }
+                }
+            };
+        }
+    }
+}
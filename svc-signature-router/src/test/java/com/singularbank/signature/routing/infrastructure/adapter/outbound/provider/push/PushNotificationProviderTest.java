@@ -16,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -43,7 +44,7 @@ class PushNotificationProviderTest {
         java.util.concurrent.ScheduledExecutorService executorService = 
             java.util.concurrent.Executors.newScheduledThreadPool(2);
         
-        provider = new PushNotificationProvider(firebaseMessaging, meterRegistry, executorService);
+        provider = new PushNotificationProvider(firebaseMessaging, meterRegistry, executorService, Optional.empty());
     }
     
     // ==================== sendChallenge() Tests ====================
@@ -267,7 +268,7 @@ class PushNotificationProviderTest {
         java.util.concurrent.ScheduledExecutorService executor = 
             java.util.concurrent.Executors.newScheduledThreadPool(1);
         PushNotificationProvider providerWithNullFcm = 
-            new PushNotificationProvider(null, meterRegistry, executor);
+            new PushNotificationProvider(null, meterRegistry, executor, Optional.empty());
         
         // When
         HealthStatus health = providerWithNullFcm.checkHealth(ProviderType.PUSH);
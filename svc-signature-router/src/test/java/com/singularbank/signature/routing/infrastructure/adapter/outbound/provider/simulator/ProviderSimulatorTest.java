@@ -0,0 +1,224 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.provider.simulator;
+
+import com.singularbank.signature.routing.domain.exception.NotFoundException;
+import com.singularbank.signature.routing.domain.model.entity.SignatureChallenge;
+import com.singularbank.signature.routing.domain.model.valueobject.ChallengeStatus;
+import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
+import com.singularbank.signature.routing.domain.model.valueobject.HealthStatus;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderResult;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for ProviderSimulator and SimulatedSignatureProvider.
+ */
+class ProviderSimulatorTest {
+
+    private ProviderSimulatorConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private ScheduledExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        config = new ProviderSimulatorConfig();
+        config.setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .failureRateThreshold(50)
+            .build());
+        executor = Executors.newScheduledThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should succeed after the profile latency and count the call")
+    void shouldSucceedWithFixedLatency() {
+        // Given
+        config.getProfiles().put(ProviderType.SMS, profile(ProviderSimulatorConfig.LatencyDistribution.FIXED, 20, 0.0));
+        ProviderSimulator simulator = simulator();
+
+        // When
+        long start = System.nanoTime();
+        ProviderResult result = simulator.provider(ProviderType.SMS).sendChallenge(challenge(), "+34600000000");
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertThat(result.success()).isTrue();
+        assertThat(result.providerChallengeId()).startsWith("SIM-SMS-");
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(20);
+        assertThat(meterRegistry.counter("provider.simulator.calls", "provider", "SMS", "outcome", "success").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should inject errors and open the provider's circuit breaker")
+    void shouldInjectErrorsAndOpenCircuitBreaker() {
+        // Given
+        config.getProfiles().put(ProviderType.PUSH, profile(ProviderSimulatorConfig.LatencyDistribution.FIXED, 0, 1.0));
+        ProviderSimulator simulator = simulator();
+        SimulatedSignatureProvider push = simulator.provider(ProviderType.PUSH);
+
+        // When
+        List<ProviderResult> failures = List.of(
+            push.sendChallenge(challenge(), "token"), push.sendChallenge(challenge(), "token"),
+            push.sendChallenge(challenge(), "token"), push.sendChallenge(challenge(), "token"));
+        ProviderResult rejected = push.sendChallenge(challenge(), "token");
+
+        // Then
+        assertThat(failures).allMatch(r -> "SIMULATED_ERROR".equals(r.errorCode()));
+        assertThat(rejected.errorCode()).isEqualTo("CIRCUIT_OPEN");
+        assertThat(circuitBreakerRegistry.circuitBreaker("pushProvider").getState())
+            .isEqualTo(io.github.resilience4j.circuitbreaker.CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should apply scenario phases and return to the profile when the scenario ends")
+    void shouldRunScenarioPhases() {
+        // Given
+        ProviderSimulatorConfig.Phase outage = new ProviderSimulatorConfig.Phase();
+        outage.setDuration(Duration.ofSeconds(1));
+        outage.setErrorRate(1.0);
+        ProviderSimulatorConfig.Scenario scenario = new ProviderSimulatorConfig.Scenario();
+        scenario.setPhases(List.of(outage));
+        config.getScenarios().put("hard-outage", scenario);
+        ProviderSimulator simulator = simulator();
+        SimulatedSignatureProvider voice = simulator.provider(ProviderType.VOICE);
+
+        // When
+        ProviderSimulator.SimulatorState state = simulator.startScenario(ProviderType.VOICE, "hard-outage");
+
+        // Then
+        assertThat(state.scenario()).isEqualTo("hard-outage");
+        assertThat(state.phase()).isZero();
+        assertThat(state.effectiveErrorRate()).isEqualTo(1.0);
+        assertThat(voice.checkHealth(ProviderType.VOICE).status()).isEqualTo(HealthStatus.Status.DOWN);
+
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> voice.checkHealth(ProviderType.VOICE).status() == HealthStatus.Status.UP);
+        assertThat(simulator.getState())
+            .filteredOn(s -> s.providerType() == ProviderType.VOICE)
+            .singleElement()
+            .satisfies(s -> assertThat(s.scenario()).isNull());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown scenarios")
+    void shouldRejectUnknownScenario() {
+        ProviderSimulator simulator = simulator();
+
+        assertThatThrownBy(() -> simulator.startScenario(ProviderType.SMS, "does-not-exist"))
+            .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should throttle calls above the throughput cap")
+    void shouldThrottleAboveThroughputCap() {
+        // Given
+        ProviderSimulatorConfig.Profile capped = profile(ProviderSimulatorConfig.LatencyDistribution.FIXED, 0, 0.0);
+        capped.setMaxThroughputPerSecond(2);
+        ProviderSimulator simulator = simulator();
+        simulator.updateProfile(ProviderType.BIOMETRIC, capped);
+
+        // When
+        long throttled = 0;
+        for (int i = 0; i < 5; i++) {
+            ProviderResult result = simulator.provider(ProviderType.BIOMETRIC).sendChallenge(challenge(), "bio-id");
+            if ("THROTTLED".equals(result.errorCode())) {
+                throttled++;
+            }
+        }
+
+        // Then - at most 2 per one-second window get through
+        assertThat(throttled).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not hold provider executor threads while simulated calls hang")
+    void shouldNotBlockExecutorWhileHanging() {
+        // Given - PUSH always hangs; the executor has 2 threads
+        ProviderSimulatorConfig.Profile hanging = profile(ProviderSimulatorConfig.LatencyDistribution.FIXED, 0, 0.0);
+        hanging.setTimeoutRate(1.0);
+        hanging.setHangDuration(Duration.ofSeconds(30));
+        config.getProfiles().put(ProviderType.PUSH, hanging);
+        config.getProfiles().put(ProviderType.SMS, profile(ProviderSimulatorConfig.LatencyDistribution.FIXED, 10, 0.0));
+        ProviderSimulator simulator = simulator();
+
+        // When
+        List<CompletableFuture<ProviderResult>> hung = IntStream.range(0, 5)
+            .mapToObj(i -> simulator.provider(ProviderType.PUSH).sendChallengeAsync(challenge(), "token"))
+            .toList();
+        ProviderResult sms = simulator.provider(ProviderType.SMS).sendChallengeAsync(challenge(), "+34600000000")
+            .orTimeout(1, TimeUnit.SECONDS)
+            .join();
+
+        // Then
+        assertThat(sms.success()).isTrue();
+        assertThat(hung).noneMatch(CompletableFuture::isDone);
+    }
+
+    @Test
+    @DisplayName("Should sample Pareto latencies above the scale and below the cap")
+    void shouldSampleParetoWithinBounds() {
+        ProviderSimulatorConfig.Profile pareto = profile(ProviderSimulatorConfig.LatencyDistribution.PARETO, 100, 0.0);
+        pareto.setParetoShape(1.5);
+        pareto.setMaxLatencyMs(5_000);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(SimulatedSignatureProvider.sampleLatencyMs(pareto, random)).isBetween(100.0, 5_000.0);
+        }
+    }
+
+    private ProviderSimulator simulator() {
+        return new ProviderSimulator(config, circuitBreakerRegistry, meterRegistry, executor);
+    }
+
+    private static ProviderSimulatorConfig.Profile profile(
+            ProviderSimulatorConfig.LatencyDistribution distribution, long latencyMs, double errorRate) {
+        ProviderSimulatorConfig.Profile profile = new ProviderSimulatorConfig.Profile();
+        profile.setDistribution(distribution);
+        profile.setLatencyMs(latencyMs);
+        profile.setErrorRate(errorRate);
+        return profile;
+    }
+
+    private static SignatureChallenge challenge() {
+        return SignatureChallenge.builder()
+            .id(UUID.randomUUID())
+            .channelType(ChannelType.SMS)
+            .provider(ProviderType.SMS)
+            .status(ChallengeStatus.PENDING)
+            .challengeCode("123456")
+            .createdAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(300))
+            .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.provider.twilio;
+
+import com.sun.net.httpserver.HttpServer;
+import com.twilio.http.HttpMethod;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TwilioHttpClientConfig (shared pooled Twilio client).
+ */
+class TwilioHttpClientConfigTest {
+
+    private final TwilioHttpClientConfig clientConfig = new TwilioHttpClientConfig();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private HttpServer twilioStub;
+    private SimpleMeterRegistry meterRegistry;
+    private TimeLimiterRegistry timeLimiterRegistry;
+    private TwilioConfig twilioConfig;
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        twilioStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        twilioStub.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "{\"sid\":\"SM123\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        twilioStub.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        timeLimiterRegistry = TimeLimiterRegistry.ofDefaults();
+        timeLimiterRegistry.timeLimiter("smsTimeout",
+            TimeLimiterConfig.custom().timeoutDuration(Duration.ofSeconds(5)).build());
+        timeLimiterRegistry.timeLimiter("voiceTimeout",
+            TimeLimiterConfig.custom().timeoutDuration(Duration.ofSeconds(10)).build());
+
+        twilioConfig = new TwilioConfig();
+        twilioConfig.setAccountSid("AC_test");
+        twilioConfig.setAuthToken("test_token");
+        twilioConfig.getHttp().setMaxConnectionsPerRoute(8);
+        twilioConfig.getHttp().setMaxConnectionsTotal(16);
+
+        connectionManager = clientConfig.twilioConnectionManager(twilioConfig, timeLimiterRegistry, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.close();
+        twilioStub.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should size the pool from configuration and align the read timeout with the longest TimeLimiter")
+    void shouldConfigurePoolAndReadTimeout() {
+        assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(8);
+        assertThat(connectionManager.getMaxTotal()).isEqualTo(16);
+        assertThat(connectionManager.getDefaultSocketConfig().getSoTimeout()).isEqualTo(10_000);
+        assertThat(TwilioHttpClientConfig.readTimeout(timeLimiterRegistry)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Should reuse one keep-alive connection across sequential Twilio requests")
+    void shouldReuseKeepAliveConnection() {
+        // Given
+        TwilioRestClient client = clientConfig.twilioRestClient(twilioConfig, connectionManager, timeLimiterRegistry);
+        String url = "http://localhost:" + twilioStub.getAddress().getPort() + "/2010-04-01/Accounts/AC_test/Messages.json";
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            Response response = client.request(new Request(HttpMethod.GET, url));
+            assertThat(response.getStatusCode()).isEqualTo(200);
+        }
+
+        // Then - same client socket every time, returned to the pool
+        assertThat(clientPorts).hasSize(1);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+            .tags("httpclient", TwilioHttpClientConfig.POOL_NAME, "state", "available").gauge().value())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+            .tags("httpclient", TwilioHttpClientConfig.POOL_NAME, "state", "leased").gauge().value())
+            .isZero();
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.pending")
+            .tag("httpclient", TwilioHttpClientConfig.POOL_NAME).gauge().value())
+            .isZero();
+    }
+}
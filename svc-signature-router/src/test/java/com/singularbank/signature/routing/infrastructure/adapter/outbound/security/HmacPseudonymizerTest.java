@@ -0,0 +1,85 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for HmacPseudonymizer.
+ */
+class HmacPseudonymizerTest {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private final HmacPseudonymizer pseudonymizer = new HmacPseudonymizer(KEY.getBytes(StandardCharsets.UTF_8), 1);
+
+    @Test
+    @DisplayName("Should produce the same pseudonyms as a per-call Mac for ASCII, Unicode and long ids")
+    void shouldMatchReferenceHmac() throws Exception {
+        for (String customerId : List.of("CUST_123456", "CUST_日本語_中文", "CUST_" + "A".repeat(1000), "x")) {
+            assertThat(pseudonymizer.pseudonymize(customerId)).isEqualTo(referenceHmac(customerId));
+        }
+    }
+
+    @Test
+    @DisplayName("Should match only the pseudonym of the same customer")
+    void shouldMatchInConstantTime() {
+        String pseudonym = pseudonymizer.pseudonymize("CUST_1");
+
+        assertThat(pseudonymizer.matches("CUST_1", pseudonym)).isTrue();
+        assertThat(pseudonymizer.matches("CUST_2", pseudonym)).isFalse();
+        assertThat(pseudonymizer.matches("CUST_1", pseudonym.toUpperCase())).isFalse();
+        assertThat(pseudonymizer.matches("CUST_1", pseudonym.substring(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should give consistent results when shared by many threads")
+    void shouldBeThreadSafe() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Boolean>> results = IntStream.range(0, 8)
+                .mapToObj(thread -> executor.submit(() -> IntStream.range(0, 2_000)
+                    .allMatch(i -> pseudonymizer.pseudonymize("CUST_" + i).equals(referenceHmac("CUST_" + i)))))
+                .toList();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should recognize the key bytes and version it was built from")
+    void shouldRecognizeItsKey() {
+        assertThat(pseudonymizer.uses(KEY.getBytes(StandardCharsets.UTF_8), 1)).isTrue();
+        assertThat(pseudonymizer.uses(KEY.getBytes(StandardCharsets.UTF_8), 2)).isFalse();
+        assertThat(pseudonymizer.uses("other-key".getBytes(StandardCharsets.UTF_8), 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject an empty key")
+    void shouldRejectEmptyKey() {
+        assertThatThrownBy(() -> new HmacPseudonymizer(new byte[0], 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String referenceHmac(String customerId) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(customerId.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
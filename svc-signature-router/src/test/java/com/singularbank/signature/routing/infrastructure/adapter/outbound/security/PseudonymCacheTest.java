@@ -0,0 +1,113 @@
+package com.singularbank.signature.routing.infrastructure.adapter.outbound.security;
+
+import com.singularbank.signature.routing.domain.event.PseudonymizationKeyRotated;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PseudonymCache.
+ */
+class PseudonymCacheTest {
+
+    private static final HmacPseudonymizer KEY_V1 = pseudonymizer("key-version-1", 1);
+    private static final HmacPseudonymizer KEY_V2 = pseudonymizer("key-version-2", 2);
+
+    @Test
+    @DisplayName("Should serve repeat customers from the cache and expose hits and misses")
+    void shouldCacheRepeatPseudonyms() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PseudonymCache cache = new PseudonymCache(100, Duration.ofMinutes(10), registry);
+
+        // When
+        String first = cache.pseudonymize("CUST_1", KEY_V1);
+        String second = cache.pseudonymize("CUST_1", KEY_V1);
+        cache.pseudonymize("CUST_日本", KEY_V1);
+
+        // Then
+        assertThat(first).isEqualTo(KEY_V1.pseudonymize("CUST_1")).isSameAs(second);
+        assertThat(cache.pseudonymize("CUST_日本", KEY_V1)).isEqualTo(KEY_V1.pseudonymize("CUST_日本"));
+        assertThat(registry.get("cache.gets").tag("cache", "pseudonyms").tag("result", "hit")
+            .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.gets").tag("cache", "pseudonyms").tag("result", "miss")
+            .functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should verify against the cached pseudonym of each key version")
+    void shouldMatchPerKeyVersion() {
+        PseudonymCache cache = new PseudonymCache(100, Duration.ofMinutes(10), () -> 0L);
+        String v2 = cache.pseudonymize("CUST_1", KEY_V2);
+
+        assertThat(cache.matches("CUST_1", v2, KEY_V2)).isTrue();
+        assertThat(cache.matches("CUST_1", v2, KEY_V1)).isFalse();
+        assertThat(cache.matches("CUST_2", v2, KEY_V2)).isFalse();
+        assertThat(cache.matches("CUST_1", KEY_V1.pseudonymize("CUST_1"), KEY_V1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should clear all entries on key rotation")
+    void shouldInvalidateOnRotation() {
+        PseudonymCache cache = new PseudonymCache(100, Duration.ofMinutes(10), () -> 0L);
+        cache.pseudonymize("CUST_1", KEY_V1);
+        cache.pseudonymize("CUST_2", KEY_V1);
+
+        // Rotation on another replica: first use of a newer key version
+        assertThat(cache.pseudonymize("CUST_1", KEY_V2)).isEqualTo(KEY_V2.pseudonymize("CUST_1"));
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+
+        // Rotation on this node
+        cache.onKeyRotated(new PseudonymizationKeyRotated(3, Instant.now()));
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not serve pseudonyms of a replaced key with the same version")
+    void shouldInvalidateOnSameVersionKeyChange() {
+        // Given - a static key (no Vault version metadata) replaced by another, both version 1
+        HmacPseudonymizer replacement = pseudonymizer("replacement-key", 1);
+        PseudonymCache cache = new PseudonymCache(100, Duration.ofMinutes(10), () -> 0L);
+        String before = cache.pseudonymize("CUST_1", KEY_V1);
+
+        // When
+        String after = cache.pseudonymize("CUST_1", replacement);
+
+        // Then
+        assertThat(after).isEqualTo(replacement.pseudonymize("CUST_1")).isNotEqualTo(before);
+        assertThat(cache.matches("CUST_1", before, replacement)).isFalse();
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should bound the entry count and expire idle customers")
+    void shouldBoundEntriesAndExpireIdle() {
+        AtomicLong nanos = new AtomicLong();
+        PseudonymCache cache = new PseudonymCache(50, Duration.ofMinutes(10), nanos::get);
+
+        for (int i = 0; i < 500; i++) {
+            cache.pseudonymize("CUST_" + i, KEY_V1);
+        }
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(50);
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    private static HmacPseudonymizer pseudonymizer(String key, int version) {
+        return new HmacPseudonymizer(key.getBytes(StandardCharsets.UTF_8), version);
+    }
+}
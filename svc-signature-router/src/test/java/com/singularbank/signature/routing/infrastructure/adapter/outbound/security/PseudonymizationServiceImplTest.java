@@ -1,9 +1,12 @@
 package com.singularbank.signature.routing.infrastructure.adapter.outbound.security;
 
+import com.github.benmanes.caffeine.cache.Ticker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -18,7 +21,7 @@ class PseudonymizationServiceImplTest {
     
     @BeforeEach
     void setUp() {
-        service = new PseudonymizationServiceImpl(TEST_SECRET_KEY);
+        service = new PseudonymizationServiceImpl(TEST_SECRET_KEY, new PseudonymCache(1_000, Duration.ofMinutes(10), Ticker.systemTicker()));
     }
     
     @Test
@@ -1,5 +1,6 @@
 package com.singularbank.signature.routing.infrastructure.adapter.outbound.security;
 
+import com.singularbank.signature.routing.domain.event.PseudonymizationKeyRotated;
 import com.singularbank.signature.routing.domain.exception.SecretRotationException;
 import com.singularbank.signature.routing.domain.port.outbound.AuditService;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,9 +10,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.vault.core.VaultTemplate;
 import org.springframework.vault.support.VaultResponse;
 
@@ -37,7 +37,7 @@ class VaultSecretRotationServiceImplTest {
     private AuditService auditService;
     
     @Mock
-    private CacheManager cacheManager;
+    private ApplicationEventPublisher eventPublisher;
     
     @Mock
     private ContextRefresher contextRefresher;
@@ -53,7 +53,7 @@ class VaultSecretRotationServiceImplTest {
         service = new VaultSecretRotationServiceImpl(
             vaultTemplate,
             auditService,
-            cacheManager,
+            eventPublisher,
             contextRefresher
         );
     }
@@ -65,11 +65,6 @@ class VaultSecretRotationServiceImplTest {
         VaultResponse oldResponse = createVaultResponse(OLD_KEY);
         when(vaultTemplate.read(PSEUDO_KEY_PATH)).thenReturn(oldResponse);
         
-        // And: Cache exists
-        ConcurrentMapCache cache = new ConcurrentMapCache("pseudonymization-keys");
-        cache.put("hmac-key", OLD_KEY);
-        when(cacheManager.getCache("pseudonymization-keys")).thenReturn(cache);
-        
         // When: Rotate key
         service.rotatePseudonymizationKey();
         
@@ -81,8 +76,13 @@ class VaultSecretRotationServiceImplTest {
         assertThat(writtenData).containsKeys("key", "created_at", "rotation_period", "grace_period");
         assertThat(writtenData.get("key")).isNotEqualTo(OLD_KEY);
         
-        // And: Cache is evicted
-        assertThat(cache.get("hmac-key")).isNull();
+        // And: Old key stays valid during the grace period
+        assertThat(writtenData).containsEntry("previous_key", OLD_KEY).containsKey("previous_key_expires_at");
+        
+        // And: Key holder is notified
+        ArgumentCaptor<PseudonymizationKeyRotated> eventCaptor = ArgumentCaptor.forClass(PseudonymizationKeyRotated.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getVersion()).isEqualTo(writtenData.get("version"));
         
         // And: Context is refreshed
         verify(contextRefresher).refresh();
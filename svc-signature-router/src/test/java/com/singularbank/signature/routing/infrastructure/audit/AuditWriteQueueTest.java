@@ -0,0 +1,256 @@
+package com.singularbank.signature.routing.infrastructure.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for AuditWriteQueue.
+ */
+class AuditWriteQueueTest {
+
+    @TempDir
+    Path spoolDirectory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<Row>> batches = new CopyOnWriteArrayList<>();
+    private final List<AuditWriteQueue<Row>> queues = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        queues.forEach(AuditWriteQueue::close);
+    }
+
+    @Test
+    @DisplayName("Should insert full batches at once and the remainder after the flush interval")
+    void shouldBatchBySizeAndInterval() {
+        // Given
+        AuditWriteQueue<Row> queue = queue(rows -> batches.add(List.copyOf(rows)), row -> false,
+            100, 5, Duration.ofMillis(300));
+
+        // When
+        IntStream.range(0, 12).forEach(i -> queue.submit(new Row("row-" + i, "UPDATE")));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> written().size() == 12);
+        assertThat(batches).extracting(List::size).containsExactly(5, 5, 2);
+        assertThat(written()).extracting(Row::id).startsWith("row-0", "row-1").endsWith("row-11");
+        assertThat(meterRegistry.get("audit.writer.batch.size").tag("log", "test").summary().totalAmount())
+            .isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should insert synchronous operations on the caller thread")
+    void shouldWriteCriticalOperationsSynchronously() {
+        // Given
+        List<String> writerThreads = new CopyOnWriteArrayList<>();
+        AuditWriteQueue<Row> queue = queue(rows -> {
+            writerThreads.add(Thread.currentThread().getName());
+            batches.add(List.copyOf(rows));
+        }, row -> row.operation().equals("DELETE"), 10, 100, Duration.ofSeconds(10));
+
+        // When
+        queue.submit(new Row("deleted", "DELETE"));
+
+        // Then - written before submit returned
+        assertThat(written()).extracting(Row::id).containsExactly("deleted");
+        assertThat(writerThreads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("Should spool rows when the database is down and replay them once it is back")
+    void shouldSpoolFailedBatchesAndReplay() {
+        // Given
+        AtomicBoolean databaseUp = new AtomicBoolean(false);
+        AuditWriteQueue<Row> queue = queue(rows -> {
+            if (!databaseUp.get()) {
+                throw new IllegalStateException("connection refused");
+            }
+            batches.add(List.copyOf(rows));
+        }, row -> false, 10, 10, Duration.ofMillis(20));
+
+        // When
+        queue.submit(new Row("a", "CREATE"));
+        queue.submit(new Row("b", "CREATE"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> spooled("write_failed") >= 2);
+        databaseUp.set(true);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> written().size() == 2);
+        assertThat(written()).extracting(Row::id).containsExactlyInAnyOrder("a", "b");
+        assertThat(meterRegistry.get("audit.writer.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should spool rows finding the queue full and report the queue depth")
+    void shouldSpoolWhenQueueIsFull() throws Exception {
+        // Given - the writer is stuck in an insert
+        CountDownLatch insertStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AuditWriteQueue<Row> queue = queue(rows -> {
+            insertStarted.countDown();
+            awaitRelease(release);
+            batches.add(List.copyOf(rows));
+        }, row -> false, 1, 1, Duration.ofMillis(20));
+        queue.submit(new Row("in-insert", "UPDATE"));
+        assertThat(insertStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        queue.submit(new Row("queued", "UPDATE"));
+        queue.submit(new Row("overflow", "UPDATE"));
+
+        // Then
+        assertThat(queue.queueDepth()).isEqualTo(1);
+        assertThat(meterRegistry.get("audit.writer.queue.depth").gauge().value()).isEqualTo(1);
+        assertThat(spooled("queue_full")).isEqualTo(1);
+
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> written().size() == 3);
+        assertThat(written()).extracting(Row::id).containsExactlyInAnyOrder("in-insert", "queued", "overflow");
+    }
+
+    @Test
+    @DisplayName("Should count rows as dropped when the spool is full")
+    void shouldDropWhenSpoolIsFull() {
+        // Given - spool limited to one append, no replay during the test
+        AuditWriteQueue<Row> queue = new AuditWriteQueue<>("test", rows -> {
+            throw new IllegalStateException("connection refused");
+        }, row -> true, Row.class, settings(10, 10, Duration.ofMillis(20), 1, Duration.ofHours(1)),
+            new ObjectMapper(), meterRegistry);
+        queues.add(queue);
+
+        // When
+        queue.submit(new Row("spooled", "DELETE"));
+        queue.submit(new Row("dropped", "DELETE"));
+
+        // Then
+        assertThat(spooled("write_failed")).isEqualTo(1);
+        assertThat(meterRegistry.get("audit.writer.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should quarantine a row the database rejects and insert the rest of its batch")
+    void shouldQuarantineRejectedRow() {
+        // Given
+        AuditWriteQueue<Row> queue = queue(rejecting("bad"), row -> false, 10, 10, Duration.ofMillis(100));
+
+        // When
+        queue.submit(new Row("a", "CREATE"));
+        queue.submit(new Row("bad", "CREATE"));
+        queue.submit(new Row("c", "CREATE"));
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> written().size() == 2);
+        assertThat(written()).extracting(Row::id).containsExactly("a", "c");
+        assertThat(meterRegistry.get("audit.writer.quarantined").counter().count()).isEqualTo(1);
+        assertThat(spooled("write_failed")).isZero();
+        assertThat(spoolDirectory.resolve("test.quarantine")).content().contains("\"bad\"");
+    }
+
+    @Test
+    @DisplayName("Should replay the spool past a row the database rejects")
+    void shouldReplayPastRejectedRow() {
+        // Given - rows spooled while the database was down
+        AtomicBoolean databaseUp = new AtomicBoolean(false);
+        Consumer<List<Row>> rejecting = rejecting("bad");
+        AuditWriteQueue<Row> queue = queue(rows -> {
+            if (!databaseUp.get()) {
+                throw new IllegalStateException("connection refused");
+            }
+            rejecting.accept(rows);
+        }, row -> false, 10, 2, Duration.ofMillis(20));
+        queue.submit(new Row("bad", "CREATE"));
+        queue.submit(new Row("b", "CREATE"));
+        queue.submit(new Row("c", "CREATE"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> spooled("write_failed") >= 3);
+
+        // When
+        databaseUp.set(true);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> written().size() == 2);
+        assertThat(written()).extracting(Row::id).containsExactlyInAnyOrder("b", "c");
+        assertThat(meterRegistry.get("audit.writer.quarantined").counter().count()).isEqualTo(1);
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> meterRegistry.get("audit.writer.spool.bytes").gauge().value() == 0);
+    }
+
+    @Test
+    @DisplayName("Should count a replay in progress toward the spool size limit")
+    void shouldCountReplayTowardSpoolLimit() throws Exception {
+        // Given
+        AuditSpool<Row> spool = new AuditSpool<>(spoolDirectory, "test", 1, new ObjectMapper(), Row.class);
+        assertThat(spool.append(List.of(new Row("a", "CREATE")))).isTrue();
+
+        // When
+        List<Row> replaying = spool.drain();
+
+        // Then
+        assertThat(replaying).containsExactly(new Row("a", "CREATE"));
+        assertThat(spool.sizeBytes()).isPositive();
+        assertThat(spool.append(List.of(new Row("b", "CREATE")))).isFalse();
+    }
+
+    private Consumer<List<Row>> rejecting(String id) {
+        return rows -> {
+            if (rows.stream().anyMatch(row -> row.id().equals(id))) {
+                throw new DataIntegrityViolationException("value too long for column");
+            }
+            batches.add(List.copyOf(rows));
+        };
+    }
+
+    private AuditWriteQueue<Row> queue(
+        Consumer<List<Row>> sink, Predicate<Row> synchronous, int capacity, int batchSize, Duration flushInterval
+    ) {
+        AuditWriteQueue<Row> queue = new AuditWriteQueue<>("test", sink, synchronous, Row.class,
+            settings(capacity, batchSize, flushInterval, 1024 * 1024, Duration.ofMillis(100)),
+            new ObjectMapper(), meterRegistry);
+        queues.add(queue);
+        return queue;
+    }
+
+    private AuditWriteQueue.Settings settings(
+        int capacity, int batchSize, Duration flushInterval, long spoolMaxBytes, Duration replayInterval
+    ) {
+        return new AuditWriteQueue.Settings(capacity, batchSize, flushInterval, spoolDirectory, spoolMaxBytes,
+            replayInterval, Duration.ofSeconds(5));
+    }
+
+    private List<Row> written() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+
+    private double spooled(String reason) {
+        return meterRegistry.get("audit.writer.spooled").tag("reason", reason).counter().count();
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Row(String id, String operation) {}
+}
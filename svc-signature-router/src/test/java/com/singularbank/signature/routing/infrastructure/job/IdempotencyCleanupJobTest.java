@@ -0,0 +1,113 @@
+package com.singularbank.signature.routing.infrastructure.job;
+
+import com.singularbank.signature.routing.application.service.IdempotencyService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IdempotencyCleanupJob.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyCleanupJob Tests")
+class IdempotencyCleanupJobTest {
+    
+    @Mock
+    private IdempotencyService idempotencyService;
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+    
+    @Test
+    @DisplayName("Should delete in chunks until a chunk comes back short")
+    void shouldDeleteInChunksUntilDrained() {
+        // Given
+        when(idempotencyService.countExpiredRecords(any(Instant.class))).thenReturn(250L);
+        when(idempotencyService.cleanupExpiredBatch(any(Instant.class), eq(100))).thenReturn(100, 100, 50);
+        IdempotencyCleanupJob job = job(Duration.ofMinutes(1));
+        
+        // When
+        job.cleanupExpiredRecords();
+        
+        // Then
+        verify(idempotencyService, times(3)).cleanupExpiredBatch(any(Instant.class), eq(100));
+        assertThat(meterRegistry.counter("idempotency.cleanup.deleted").count()).isEqualTo(250.0);
+        assertThat(meterRegistry.get("idempotency.cleanup.batch").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("idempotency.cleanup.backlog").gauge().value()).isZero();
+    }
+    
+    @Test
+    @DisplayName("Should stop at max duration and report the remaining backlog")
+    void shouldStopAtMaxDuration() {
+        // Given
+        when(idempotencyService.countExpiredRecords(any(Instant.class))).thenReturn(1_000L);
+        when(idempotencyService.cleanupExpiredBatch(any(Instant.class), eq(100))).thenReturn(100);
+        IdempotencyCleanupJob job = job(Duration.ZERO);
+        
+        // When
+        job.cleanupExpiredRecords();
+        
+        // Then - one chunk per run when the time budget is exhausted
+        verify(idempotencyService, times(1)).cleanupExpiredBatch(any(Instant.class), eq(100));
+        assertThat(meterRegistry.get("idempotency.cleanup.backlog").gauge().value()).isEqualTo(900.0);
+    }
+    
+    @Test
+    @DisplayName("Should run scheduled cleanups on the cleanup thread and skip ticks while one is running")
+    void shouldRunOnOwnThread() throws InterruptedException {
+        // Given - the first chunk blocks until released
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        when(idempotencyService.countExpiredRecords(any(Instant.class))).thenReturn(10L);
+        when(idempotencyService.cleanupExpiredBatch(any(Instant.class), eq(100))).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            release.await(5, TimeUnit.SECONDS);
+            return 10;
+        });
+        IdempotencyCleanupJob job = job(Duration.ofMinutes(1));
+        
+        // When
+        job.scheduleCleanup();
+        job.scheduleCleanup();
+        release.countDown();
+        
+        // Then
+        verify(idempotencyService, timeout(5_000).times(1)).cleanupExpiredBatch(any(Instant.class), eq(100));
+        assertThat(threads).containsExactly("idempotency-cleanup");
+        job.shutdown();
+    }
+    
+    @Test
+    @DisplayName("Should not propagate cleanup failures")
+    void shouldSwallowFailures() {
+        when(idempotencyService.countExpiredRecords(any(Instant.class))).thenThrow(new IllegalStateException("db down"));
+        
+        job(Duration.ofMinutes(1)).cleanupExpiredRecords();
+        
+        verify(idempotencyService, never()).cleanupExpiredBatch(any(), anyInt());
+    }
+    
+    private IdempotencyCleanupJob job(Duration maxDuration) {
+        return new IdempotencyCleanupJob(idempotencyService, meterRegistry, 100, Duration.ZERO, maxDuration);
+    }
+}
@@ -0,0 +1,114 @@
+package com.singularbank.signature.routing.infrastructure.observability.metrics;
+
+import com.singularbank.signature.routing.infrastructure.observability.metrics.LatencyHistograms.LatencySnapshot;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.LatencyHistograms.Series;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LatencyHistograms.
+ */
+class LatencyHistogramsTest {
+
+    private static final Instant TEN_AM = Instant.parse("2025-11-24T10:00:00Z");
+
+    private AtomicReference<Instant> now;
+    private LatencyHistograms histograms;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicReference<>(TEN_AM.plusSeconds(10));
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        histograms = new LatencyHistograms(clock);
+    }
+
+    @Test
+    @DisplayName("Should roll the interval into a per-minute snapshot with real percentiles")
+    void shouldSnapshotMinute() {
+        // Given - 1..100 ms
+        for (int ms = 1; ms <= 100; ms++) {
+            histograms.recordSignature("SMS", Duration.ofMillis(ms));
+        }
+
+        // When
+        rollAt(TEN_AM.plusSeconds(60));
+
+        // Then
+        List<LatencySnapshot> minutes = histograms.minutes(Series.channel("SMS"));
+        assertThat(minutes).singleElement().satisfies(minute -> {
+            assertThat(minute.start()).isEqualTo(TEN_AM);
+            assertThat(minute.count()).isEqualTo(100);
+            assertThat(minute.p50Ms()).isCloseTo(50, within(1L));
+            assertThat(minute.p99Ms()).isCloseTo(99, within(1L));
+            assertThat(minute.meanMs()).isCloseTo(50.5, within(0.5));
+        });
+        assertThat(histograms.minutes(Series.ALL_SIGNATURES)).singleElement()
+            .satisfies(minute -> assertThat(minute.count()).isEqualTo(100));
+        assertThat(histograms.minutes(Series.channel("PUSH"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should merge closed and current hours into exact percentiles over a range")
+    void shouldAggregateHours() {
+        // Given - 10:00 hour at 10 ms, closed at 11:00
+        for (int i = 0; i < 90; i++) {
+            histograms.recordProviderCall("SMS", Duration.ofMillis(10));
+        }
+        rollAt(TEN_AM.plusSeconds(60));
+        rollAt(TEN_AM.plusSeconds(3600));
+
+        // And - 11:00 hour (still open) at 1 s
+        now.set(TEN_AM.plusSeconds(3600 + 30));
+        for (int i = 0; i < 10; i++) {
+            histograms.recordProviderCall("SMS", Duration.ofSeconds(1));
+        }
+        rollAt(TEN_AM.plusSeconds(3600 + 60));
+
+        // When
+        LatencySnapshot day = histograms.aggregate(Series.provider("SMS"),
+            Instant.parse("2025-11-24T00:00:00Z"), Instant.parse("2025-11-25T00:00:00Z"));
+        LatencySnapshot tenAmHour = histograms.aggregate(Series.provider("SMS"), TEN_AM, TEN_AM.plusSeconds(3600));
+
+        // Then
+        assertThat(day.count()).isEqualTo(100);
+        assertThat(day.p50Ms()).isEqualTo(10);
+        assertThat(day.p95Ms()).isCloseTo(1000, within(10L));
+        assertThat(tenAmHour.count()).isEqualTo(90);
+        assertThat(tenAmHour.maxMs()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should keep at most 60 minute snapshots")
+    void shouldBoundMinuteRing() {
+        histograms.recordProviderCall("VOICE", Duration.ofMillis(5));
+
+        for (int minute = 1; minute <= 90; minute++) {
+            rollAt(TEN_AM.plusSeconds(60L * minute));
+        }
+
+        List<LatencySnapshot> minutes = histograms.minutes(Series.provider("VOICE"));
+        assertThat(minutes).hasSize(LatencyHistograms.MINUTE_SLOTS);
+        assertThat(minutes.get(0).start()).isEqualTo(TEN_AM.plusSeconds(60L * 30));
+        assertThat(minutes).allMatch(minute -> minute.count() == 0);
+        assertThat(histograms.aggregate(Series.provider("VOICE"), TEN_AM, TEN_AM.plusSeconds(7200)).count())
+            .isEqualTo(1);
+    }
+
+    private void rollAt(Instant instant) {
+        now.set(instant);
+        histograms.roll();
+    }
+}
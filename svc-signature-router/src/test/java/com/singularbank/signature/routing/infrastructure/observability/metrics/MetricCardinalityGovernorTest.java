@@ -0,0 +1,120 @@
+package com.singularbank.signature.routing.infrastructure.observability.metrics;
+
+import com.singularbank.signature.routing.infrastructure.config.MetricCardinalityConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for MetricCardinalityGovernor.
+ */
+class MetricCardinalityGovernorTest {
+
+    private MetricCardinalityConfig config;
+    private SimpleMeterRegistry registry;
+    private MetricCardinalityGovernor governor;
+
+    @BeforeEach
+    void setUp() {
+        MetricCardinalityConfig.Rule customers = new MetricCardinalityConfig.Rule();
+        customers.setMetric("signature.ratelimit.customer");
+        customers.setTag("customer_id");
+        customers.setTopK(2);
+        customers.setMinCount(5);
+        customers.setSketchSize(10);
+
+        MetricCardinalityConfig.Rule errorCodes = new MetricCardinalityConfig.Rule();
+        errorCodes.setMetric("provider.");
+        errorCodes.setTag("error_code");
+        errorCodes.setAllowedValues(List.of("TIMEOUT"));
+        errorCodes.setTopK(0);
+
+        config = new MetricCardinalityConfig();
+        config.setDefaultSeriesBudget(10);
+        config.setRules(List.of(customers, errorCodes));
+
+        governor = new MetricCardinalityGovernor(config);
+        registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(governor);
+    }
+
+    @Test
+    @DisplayName("Should collapse long-tail customers into the other series")
+    void shouldCollapseLongTail() {
+        for (int i = 0; i < 1_000; i++) {
+            registry.counter("signature.ratelimit.customer.allowed", "customer_id", "customer-" + i).increment();
+        }
+
+        assertThat(registry.find("signature.ratelimit.customer.allowed").counters()).hasSize(1);
+        assertThat(registry.counter("signature.ratelimit.customer.allowed", "customer_id", "other").count())
+            .isEqualTo(1_000.0);
+    }
+
+    @Test
+    @DisplayName("Should admit at most top-k heavy hitters once they reach min-count")
+    void shouldAdmitHeavyHitters() {
+        for (int round = 0; round < 20; round++) {
+            for (String customer : List.of("heavy-1", "heavy-2", "heavy-3")) {
+                registry.counter("signature.ratelimit.customer.exceeded", "customer_id", customer).increment();
+            }
+            registry.counter("signature.ratelimit.customer.exceeded", "customer_id", "tail-" + round).increment();
+        }
+
+        assertThat(registry.find("signature.ratelimit.customer.exceeded").tag("customer_id", "heavy-1").counter())
+            .isNotNull()
+            .satisfies(c -> assertThat(c.count()).isEqualTo(16.0));
+        assertThat(registry.find("signature.ratelimit.customer.exceeded").tag("customer_id", "heavy-2").counter())
+            .isNotNull();
+        assertThat(registry.find("signature.ratelimit.customer.exceeded").tag("customer_id", "heavy-3").counter())
+            .isNull();
+        assertThat(registry.find("signature.ratelimit.customer.exceeded").counters()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should keep allow-listed values and leave other metrics untouched")
+    void shouldKeepAllowListedValues() {
+        registry.counter("provider.twilio.errors", "error_code", "TIMEOUT").increment();
+        registry.counter("provider.twilio.errors", "error_code", "TWILIO_ERROR_21211").increment();
+        registry.counter("routing.decisions", "error_code", "TWILIO_ERROR_21211").increment();
+
+        assertThat(registry.find("provider.twilio.errors").tag("error_code", "TIMEOUT").counter()).isNotNull();
+        assertThat(registry.find("provider.twilio.errors").tag("error_code", "other").counter()).isNotNull();
+        assertThat(registry.find("routing.decisions").tag("error_code", "TWILIO_ERROR_21211").counter()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should report metrics by budget utilization")
+    void shouldReportByUtilization() {
+        for (int i = 0; i < 8; i++) {
+            registry.counter("routing.decisions", "rule", "rule-" + i).increment();
+        }
+        registry.counter("provider.push.errors", "error_code", "TIMEOUT").increment();
+        registry.counter("provider.push.errors", "error_code", "FCM_ERROR_UNAVAILABLE").increment();
+
+        List<MetricCardinalityGovernor.MetricCardinality> report = governor.report(registry, 10);
+
+        assertThat(report).extracting(MetricCardinalityGovernor.MetricCardinality::metric)
+            .containsExactly("provider.push.errors", "routing.decisions");
+        assertThat(report.get(0).tag()).isEqualTo("error_code");
+        assertThat(report.get(0).used()).isEqualTo(2);
+        assertThat(report.get(0).budget()).isEqualTo(2);
+        assertThat(report.get(0).collapsed()).isEqualTo(1);
+        assertThat(report.get(1).utilization()).isEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("Should pass meters through when disabled")
+    void shouldPassThroughWhenDisabled() {
+        config.setEnabled(false);
+
+        registry.counter("signature.ratelimit.customer.allowed", "customer_id", "customer-1").increment();
+
+        assertThat(registry.find("signature.ratelimit.customer.allowed").tag("customer_id", "customer-1").counter())
+            .isNotNull();
+    }
+}
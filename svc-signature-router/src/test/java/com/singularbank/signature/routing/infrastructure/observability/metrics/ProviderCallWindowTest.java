@@ -0,0 +1,107 @@
+package com.singularbank.signature.routing.infrastructure.observability.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ProviderCallWindow.
+ */
+class ProviderCallWindowTest {
+
+    private AtomicLong clock;
+    private ProviderCallWindow window;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+        window = new ProviderCallWindow(clock::get);
+    }
+
+    @Test
+    @DisplayName("Should report an outage within seconds despite a long healthy history")
+    void shouldNotBeDilutedByHistory() {
+        // Given - 4 minutes of healthy traffic
+        for (int second = 0; second < 240; second++) {
+            record("SMS", 10, 0);
+            advanceSeconds(1);
+        }
+
+        // When - 10 seconds of total outage
+        for (int second = 0; second < 10; second++) {
+            record("SMS", 0, 10);
+            advanceSeconds(1);
+        }
+
+        // Then
+        assertThat(window.errorRate("SMS", Duration.ofSeconds(10))).isGreaterThanOrEqualTo(0.9);
+        assertThat(window.errorRate("SMS", Duration.ofMinutes(1))).isBetween(0.1, 0.2);
+        assertThat(window.errorRate("SMS", Duration.ofMinutes(5))).isLessThan(0.05);
+    }
+
+    @Test
+    @DisplayName("Should expire calls that fall out of the window")
+    void shouldExpireOldBuckets() {
+        record("PUSH", 5, 5);
+
+        advanceSeconds(30);
+        assertThat(window.stats("PUSH", Duration.ofMinutes(1)).calls()).isEqualTo(10);
+        assertThat(window.stats("PUSH", Duration.ofSeconds(10)).calls()).isZero();
+
+        advanceSeconds(60);
+        assertThat(window.stats("PUSH", Duration.ofMinutes(1)).calls()).isZero();
+        assertThat(window.stats("PUSH", Duration.ofMinutes(5)).calls()).isEqualTo(10);
+
+        advanceSeconds(210);
+        assertThat(window.stats("PUSH", Duration.ofMinutes(5)).calls()).isZero();
+
+        // The 1s and 10s buckets of the first calls are reused and start from zero
+        record("PUSH", 1, 0);
+        assertThat(window.stats("PUSH", Duration.ofMinutes(5)).calls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should compute the request rate per second over the window")
+    void shouldComputeRequestRate() {
+        for (int second = 0; second < 10; second++) {
+            record("VOICE", 3, 1);
+            advanceSeconds(1);
+        }
+        advanceSeconds(-1);
+
+        ProviderCallWindow.WindowStats stats = window.stats("VOICE", Duration.ofSeconds(10));
+
+        assertThat(stats.calls()).isEqualTo(40);
+        assertThat(stats.failures()).isEqualTo(10);
+        assertThat(stats.requestRate()).isEqualTo(4.0);
+        assertThat(stats.errorRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    @DisplayName("Should treat unknown providers as idle and reject windows over 5 minutes")
+    void shouldHandleEdgeCases() {
+        assertThat(window.errorRate("BIOMETRIC", Duration.ofMinutes(1))).isZero();
+        assertThatThrownBy(() -> window.stats("SMS", Duration.ofMinutes(6)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void record(String provider, int successes, int failures) {
+        for (int i = 0; i < successes; i++) {
+            window.record(provider, true);
+        }
+        for (int i = 0; i < failures; i++) {
+            window.record(provider, false);
+        }
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+}
@@ -25,12 +25,12 @@ class ProviderErrorRateCalculatorTest {
     void shouldInstantiateSuccessfully() {
         // Given
         SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
-        ProviderMetrics providerMetrics = new ProviderMetrics(meterRegistry);
+        ProviderMetrics providerMetrics = new ProviderMetrics(meterRegistry, new ProviderCallWindow());
         ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
         
         // When - instantiate calculator
         ProviderErrorRateCalculator calculator = new ProviderErrorRateCalculator(
-            meterRegistry,
+            new ProviderCallWindow(),
             providerMetrics,
             eventPublisher
         );
@@ -48,11 +48,11 @@ class ProviderErrorRateCalculatorTest {
     void shouldExecuteCalculateErrorRatesWithoutException() {
         // Given
         SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
-        ProviderMetrics providerMetrics = new ProviderMetrics(meterRegistry);
+        ProviderMetrics providerMetrics = new ProviderMetrics(meterRegistry, new ProviderCallWindow());
         ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
         
         ProviderErrorRateCalculator calculator = new ProviderErrorRateCalculator(
-            meterRegistry,
+            new ProviderCallWindow(),
             providerMetrics,
             eventPublisher
         );
@@ -1,6 +1,8 @@
 package com.singularbank.signature.routing.infrastructure.observability.metrics;
 
+import com.singularbank.signature.routing.domain.model.valueobject.ChannelType;
 import com.singularbank.signature.routing.domain.model.valueobject.ProviderResult;
+import com.singularbank.signature.routing.domain.model.valueobject.ProviderType;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Timer;
@@ -35,7 +37,7 @@ class ProviderMetricsTest {
     @BeforeEach
     void setUp() {
         meterRegistry = new SimpleMeterRegistry();
-        providerMetrics = new ProviderMetrics(meterRegistry);
+        providerMetrics = new ProviderMetrics(meterRegistry, new ProviderCallWindow());
     }
     
     @Test
@@ -267,5 +269,35 @@ class ProviderMetricsTest {
         assertThat(counter).isNotNull();
         assertThat(counter.count()).isEqualTo(1.0);
     }
+    
+    @Test
+    @DisplayName("recordProviderCall with enum types should record the same meters through pre-bound handles")
+    void recordProviderCall_enumOverload_shouldRecordSameMeters() {
+        // Given
+        ProviderResult retried = ProviderResult.successAfterRetry("msg-1", "{}", 2);
+        ProviderResult failure = ProviderResult.failure("TIMEOUT", "Timeout");
+        ProviderResult manyAttempts = ProviderResult.retryExhausted("API_ERROR", "Server error", 7);
+        
+        // When - enum and String overloads mixed
+        providerMetrics.recordProviderCall(ProviderType.VOICE, ChannelType.VOICE, retried, Duration.ofMillis(100));
+        providerMetrics.recordProviderCall("VOICE", "VOICE", retried, Duration.ofMillis(100));
+        providerMetrics.recordProviderCall(ProviderType.VOICE, ChannelType.VOICE, failure, Duration.ofMillis(300));
+        providerMetrics.recordProviderCall(ProviderType.VOICE, ChannelType.VOICE, manyAttempts, Duration.ofMillis(900));
+        
+        // Then - one series per tag combination, shared by both overloads
+        Counter retriedCounter = meterRegistry.find("provider.calls.total")
+            .tags("provider", "VOICE", "channel_type", "VOICE", "status", "success", "retried", "true")
+            .counter();
+        assertThat(retriedCounter.count()).isEqualTo(2.0);
+        assertThat(meterRegistry.find("provider.calls.total").tag("status", "failure").counter().count())
+            .isEqualTo(2.0);
+        assertThat(meterRegistry.find("provider.errors.total").tag("error_type", "transient").counter().count())
+            .isEqualTo(2.0);
+        assertThat(meterRegistry.find("provider.failures.total").tag("error_code", "TIMEOUT").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.find("provider.latency").tags("status", "success", "attempt_number", "2").timer().count())
+            .isEqualTo(2L);
+        assertThat(meterRegistry.find("provider.latency").tags("status", "failure", "attempt_number", "7").timer().count())
+            .isEqualTo(1L);
+    }
 }
-
@@ -0,0 +1,107 @@
+package com.singularbank.signature.routing.infrastructure.observability.metrics;
+
+import com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureStageProfiler.Stage;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureStageProfiler.StageSample;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureStageProfiler.StageStats;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.SignatureStageProfiler.StageTimer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for SignatureStageProfiler.
+ */
+class SignatureStageProfilerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-11-24T10:00:00Z"), ZoneOffset.UTC);
+
+    private AtomicLong nanos;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+    }
+
+    @Test
+    @DisplayName("Should charge each stage the time since the previous mark")
+    void shouldRecordStagePercentiles() {
+        // Given
+        SignatureStageProfiler profiler = new SignatureStageProfiler(0.0, 10, nanos::get, CLOCK);
+
+        // When - 100 requests, challenge takes 1..100 ms, everything else 50 µs
+        for (int ms = 1; ms <= 100; ms++) {
+            runRequest(profiler, TimeUnit.MILLISECONDS.toMicros(ms));
+        }
+
+        // Then
+        Map<Stage, StageStats> stages = profiler.percentiles();
+        assertThat(stages).containsOnlyKeys(Stage.values());
+        assertThat(stages.get(Stage.CHALLENGE).count()).isEqualTo(100);
+        assertThat(stages.get(Stage.CHALLENGE).p99Micros()).isCloseTo(99_000, within(1_000L));
+        assertThat(stages.get(Stage.HASH).p99Micros()).isCloseTo(50, within(1L));
+        assertThat(profiler.samples()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the last sampled breakdowns in a bounded ring")
+    void shouldBoundSamples() {
+        // Given
+        SignatureStageProfiler profiler = new SignatureStageProfiler(1.0, 3, nanos::get, CLOCK);
+
+        // When
+        for (int ms = 1; ms <= 5; ms++) {
+            runRequest(profiler, TimeUnit.MILLISECONDS.toMicros(ms));
+        }
+
+        // Then
+        List<StageSample> samples = profiler.samples();
+        assertThat(samples).hasSize(3);
+        assertThat(samples.get(0).stageMicros().get(Stage.CHALLENGE)).isEqualTo(3_000);
+        assertThat(samples.get(2).totalMicros()).isEqualTo(5_000 + 5 * 50);
+        assertThat(samples.get(2).channel()).isEqualTo("SMS");
+    }
+
+    @Test
+    @DisplayName("Should drop minutes older than the window")
+    void shouldRollWindow() {
+        SignatureStageProfiler profiler = new SignatureStageProfiler(0.0, 0, nanos::get, CLOCK);
+        runRequest(profiler, 1_000);
+
+        for (int minute = 0; minute < SignatureStageProfiler.WINDOW_MINUTES; minute++) {
+            profiler.roll();
+        }
+        assertThat(profiler.percentiles().get(Stage.PERSIST).count()).isEqualTo(1);
+
+        profiler.roll();
+        assertThat(profiler.percentiles().get(Stage.PERSIST).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject sample rates outside [0, 1]")
+    void shouldRejectInvalidSampleRate() {
+        assertThatThrownBy(() -> new SignatureStageProfiler(1.5, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void runRequest(SignatureStageProfiler profiler, long challengeMicros) {
+        StageTimer timer = profiler.start();
+        for (Stage stage : Stage.values()) {
+            long micros = stage == Stage.CHALLENGE ? challengeMicros : 50;
+            nanos.addAndGet(TimeUnit.MICROSECONDS.toNanos(micros));
+            timer.mark(stage);
+        }
+        timer.complete("SMS");
+    }
+}
@@ -0,0 +1,58 @@
+package com.singularbank.signature.routing.infrastructure.observability.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SpaceSavingSketch.
+ */
+class SpaceSavingSketchTest {
+
+    @Test
+    @DisplayName("Should use a single stripe below the minimum stripe capacity")
+    void shouldNotStripeSmallSketches() {
+        assertThat(new SpaceSavingSketch(10, 8).stripeCount()).isEqualTo(1);
+        assertThat(new SpaceSavingSketch(200, 8).stripeCount()).isEqualTo(6);
+        assertThat(new SpaceSavingSketch(1_000, 4).stripeCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should count heavy hitters exactly across stripes under concurrent offers")
+    void shouldMergeStripesOnRead() throws Exception {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(256, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When - 4 threads, 3 heavy values and a long tail
+        try {
+            List<Future<?>> futures = IntStream.range(0, 4)
+                .<Future<?>>mapToObj(thread -> executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        sketch.offer("heavy-" + (i % 3));
+                        sketch.offer("tail-" + thread + "-" + i);
+                    }
+                }))
+                .toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        List<SpaceSavingSketch.Estimate> top = sketch.top(3);
+        assertThat(top).extracting(SpaceSavingSketch.Estimate::value)
+            .containsExactlyInAnyOrder("heavy-0", "heavy-1", "heavy-2");
+        assertThat(top).allSatisfy(estimate ->
+            assertThat(estimate.count() - estimate.error()).isGreaterThanOrEqualTo(1_000));
+    }
+}
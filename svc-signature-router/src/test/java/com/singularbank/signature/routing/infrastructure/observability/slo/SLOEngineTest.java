@@ -0,0 +1,226 @@
+package com.singularbank.signature.routing.infrastructure.observability.slo;
+
+import com.singularbank.signature.routing.domain.port.outbound.SLOSnapshotStore;
+import com.singularbank.signature.routing.infrastructure.observability.slo.SLOEngine.BurnRateAlert;
+import com.singularbank.signature.routing.infrastructure.observability.slo.SLOEngine.BurnRateReport;
+import com.singularbank.signature.routing.infrastructure.observability.slo.SLOEngine.SLOWindow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SLOEngine.
+ */
+class SLOEngineTest {
+
+    private static final Instant START = Instant.parse("2025-11-24T10:00:00Z");
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(40);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(800);
+
+    private AtomicReference<Instant> now;
+    private Clock clock;
+    private MeterRegistry meterRegistry;
+    private SLOEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicReference<>(START);
+        clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> now.get().toEpochMilli());
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new SLOEngine(meterRegistry, Optional.empty(), "pod-0", clock);
+    }
+
+    @Test
+    @DisplayName("Should keep a 30-day history at coarse resolution and expire it afterwards")
+    void shouldAnswerWindowsUpTo30Days() {
+        // Given - 1000 requests 10 days ago, 10 of them 5xx
+        record(990, FAST, false);
+        record(10, FAST, true);
+        advance(Duration.ofDays(10));
+
+        // Then
+        assertThat(engine.window(Duration.ofHours(1)).requests()).isZero();
+        assertThat(engine.window(Duration.ofDays(3)).requests()).isZero();
+        SLOWindow month = engine.window(Duration.ofDays(30));
+        assertThat(month.requests()).isEqualTo(1000);
+        assertThat(month.availability()).isCloseTo(0.99, within(1e-9));
+        assertThat(month.availabilityBurnRate()).isCloseTo(10.0, within(1e-9));
+
+        advance(Duration.ofDays(21));
+        assertThat(engine.window(Duration.ofDays(30)).requests()).isZero();
+        assertThatThrownBy(() -> engine.window(Duration.ofDays(31)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should estimate p99 from latency buckets and count requests over 300 ms as slow")
+    void shouldComputeLatencySli() {
+        record(97, FAST, false);
+        record(3, SLOW, false);
+
+        SLOWindow window = engine.window(Duration.ofMinutes(5));
+
+        assertThat(window.slowRate()).isEqualTo(0.03);
+        assertThat(window.latencyBurnRate()).isCloseTo(3.0, within(1e-9));
+        assertThat(window.quantileSeconds(0.5)).isBetween(0.0, 0.05);
+        assertThat(window.quantileSeconds(0.99)).isBetween(0.5, 1.0);
+    }
+
+    @Test
+    @DisplayName("Should fire the fast-burn page only while both 1h and 5m windows burn")
+    void shouldEvaluateMultiWindowAlerts() {
+        // Given - 5% errors for 10 minutes: 50x burn rate
+        for (int minute = 0; minute < 10; minute++) {
+            record(95, FAST, false);
+            record(5, FAST, true);
+            advance(Duration.ofMinutes(1));
+        }
+
+        // When
+        engine.refresh();
+
+        // Then
+        assertThat(fastAvailabilityAlert(engine.burnRates()).firing()).isTrue();
+        assertThat(meterRegistry.get("slo.burn.rate").tags("sli", "availability", "window", "5m").gauge().value())
+            .isCloseTo(50.0, within(1e-9));
+        assertThat(engine.burnRates().errorBudgetRemaining()).isCloseTo(-49.0, within(1e-9));
+
+        // When - errors stop, only healthy traffic for the next 10 minutes
+        for (int minute = 0; minute < 10; minute++) {
+            record(100, FAST, false);
+            advance(Duration.ofMinutes(1));
+        }
+        engine.refresh();
+
+        // Then - 1h still burning, 5m recovered
+        BurnRateAlert alert = fastAvailabilityAlert(engine.burnRates());
+        assertThat(alert.longBurnRate()).isGreaterThan(alert.threshold());
+        assertThat(alert.shortBurnRate()).isZero();
+        assertThat(alert.firing()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should restore counts from the last snapshot after a restart")
+    void shouldRoundTripSnapshot() {
+        // Given
+        SLOSnapshotStore store = mock(SLOSnapshotStore.class);
+        SLOEngine first = new SLOEngine(new SimpleMeterRegistry(), Optional.of(store), "pod-0", clock);
+        for (int hour = 0; hour < 48; hour++) {
+            first.record(FAST, false);
+            first.record(SLOW, hour % 12 == 0);
+            advance(Duration.ofHours(1));
+        }
+        first.saveSnapshot();
+        ArgumentCaptor<byte[]> snapshot = ArgumentCaptor.forClass(byte[].class);
+        verify(store).save(eq("pod-0"), snapshot.capture(), any(Instant.class));
+
+        // When
+        advance(Duration.ofMinutes(2));
+        when(store.load("pod-0")).thenReturn(Optional.of(snapshot.getValue()));
+        SLOEngine restarted = new SLOEngine(new SimpleMeterRegistry(), Optional.of(store), "pod-0", clock);
+        restarted.restoreSnapshot();
+
+        // Then
+        for (Duration window : SLOEngine.REPORTED_WINDOWS) {
+            SLOWindow expected = first.window(window);
+            SLOWindow actual = restarted.window(window);
+            assertThat(actual.requests()).as(SLOEngine.format(window)).isEqualTo(expected.requests());
+            assertThat(actual.errors()).as(SLOEngine.format(window)).isEqualTo(expected.errors());
+            assertThat(actual.latencyCounts()).as(SLOEngine.format(window)).isEqualTo(expected.latencyCounts());
+        }
+        assertThat(restarted.window(Duration.ofDays(3)).requests()).isEqualTo(96);
+        assertThat(restarted.window(Duration.ofDays(3)).errors()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should keep one snapshot per replica and restore each replica's own history")
+    void shouldKeepReplicaSnapshotsApart() {
+        // Given - two replicas sharing one store, with different traffic
+        SLOSnapshotStore store = new InMemorySnapshotStore();
+        SLOEngine pod0 = new SLOEngine(new SimpleMeterRegistry(), Optional.of(store), "pod-0", clock);
+        SLOEngine pod1 = new SLOEngine(new SimpleMeterRegistry(), Optional.of(store), "pod-1", clock);
+        for (int i = 0; i < 30; i++) {
+            pod0.record(FAST, false);
+        }
+        for (int i = 0; i < 10; i++) {
+            pod1.record(FAST, true);
+        }
+        pod0.saveSnapshot();
+        pod1.saveSnapshot();
+
+        // When - both replicas restart
+        advance(Duration.ofMinutes(2));
+        SLOEngine restarted0 = new SLOEngine(new SimpleMeterRegistry(), Optional.of(store), "pod-0", clock);
+        SLOEngine restarted1 = new SLOEngine(new SimpleMeterRegistry(), Optional.of(store), "pod-1", clock);
+        restarted0.restoreSnapshot();
+        restarted1.restoreSnapshot();
+
+        // Then - no history lost, none counted twice
+        assertThat(restarted0.window(Duration.ofHours(1)).requests()).isEqualTo(30);
+        assertThat(restarted0.window(Duration.ofHours(1)).errors()).isZero();
+        assertThat(restarted1.window(Duration.ofHours(1)).requests()).isEqualTo(10);
+        assertThat(restarted1.window(Duration.ofHours(1)).errors()).isEqualTo(10);
+    }
+
+    private BurnRateAlert fastAvailabilityAlert(BurnRateReport report) {
+        return report.alerts().stream()
+            .filter(alert -> alert.sli().equals("availability") && alert.longWindow().equals(Duration.ofHours(1)))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private void record(int requests, long latencyNanos, boolean error) {
+        for (int i = 0; i < requests; i++) {
+            engine.record(latencyNanos, error);
+        }
+    }
+
+    private void advance(Duration duration) {
+        now.set(now.get().plus(duration));
+    }
+
+    /**
+     * Snapshot store keeping one row per instance id, like slo_snapshot.
+     */
+    private static final class InMemorySnapshotStore implements SLOSnapshotStore {
+        private final Map<String, byte[]> rows = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<byte[]> load(String instanceId) {
+            return Optional.ofNullable(rows.get(instanceId));
+        }
+
+        @Override
+        public void save(String instanceId, byte[] snapshot, Instant takenAt) {
+            rows.put(instanceId, snapshot);
+        }
+
+        @Override
+        public int purgeOlderThan(Instant takenBefore) {
+            return 0;
+        }
+    }
+}
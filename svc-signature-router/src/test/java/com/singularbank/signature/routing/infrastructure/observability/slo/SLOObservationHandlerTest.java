@@ -0,0 +1,71 @@
+package com.singularbank.signature.routing.infrastructure.observability.slo;
+
+import io.micrometer.observation.Observation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for SLOObservationHandler.
+ */
+class SLOObservationHandlerTest {
+
+    private SLOEngine sloEngine;
+    private SLOObservationHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        sloEngine = mock(SLOEngine.class);
+        handler = new SLOObservationHandler(sloEngine);
+    }
+
+    @Test
+    @DisplayName("Should count 5xx and escaped exceptions as errors, but not handled 4xx")
+    void shouldClassifyErrors() {
+        observe("/api/v1/signatures", 201, null);
+        verify(sloEngine).record(anyLong(), eq(false));
+
+        observe("/api/v1/signatures", 503, null);
+        verify(sloEngine).record(anyLong(), eq(true));
+
+        observe("/api/v1/signatures/42", 404, new IllegalArgumentException("not found"));
+        verify(sloEngine, times(2)).record(anyLong(), eq(false));
+
+        observe("/api/v1/signatures", 200, new IllegalStateException("escaped"));
+        verify(sloEngine, times(2)).record(anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("Should skip actuator requests and other observation types")
+    void shouldSkipNonUserTraffic() {
+        observe("/actuator/health", 200, null);
+
+        verify(sloEngine, never()).record(anyLong(), anyBoolean());
+        assertThat(handler.supportsContext(new Observation.Context())).isFalse();
+    }
+
+    private void observe(String uri, int status, Throwable error) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        ServerRequestObservationContext context = new ServerRequestObservationContext(request, response);
+        assertThat(handler.supportsContext(context)).isTrue();
+        handler.onStart(context);
+        if (error != null) {
+            context.setError(error);
+        }
+        handler.onStop(context);
+    }
+}
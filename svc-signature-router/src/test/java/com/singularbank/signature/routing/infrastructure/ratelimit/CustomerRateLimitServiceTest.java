@@ -1,12 +1,13 @@
 package com.singularbank.signature.routing.infrastructure.ratelimit;
 
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -18,14 +19,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 class CustomerRateLimitServiceTest {
     
     private CustomerRateLimitService service;
-    private RateLimiterRegistry rateLimiterRegistry;
     private MeterRegistry meterRegistry;
     
     @BeforeEach
     void setUp() {
-        rateLimiterRegistry = RateLimiterRegistry.ofDefaults();
         meterRegistry = new SimpleMeterRegistry();
-        service = new CustomerRateLimitService(rateLimiterRegistry, meterRegistry);
+        service = new CustomerRateLimitService(new CustomerRateLimitConfig(), meterRegistry, Optional.empty());
     }
     
     @Test
@@ -0,0 +1,68 @@
+package com.singularbank.signature.routing.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CustomerTokenBucketStore.
+ */
+@DisplayName("CustomerTokenBucketStore")
+class CustomerTokenBucketStoreTest {
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+    private final Ticker ticker = nanos::get;
+
+    @Test
+    @DisplayName("Should refill one permit per period/limit, lazily on access")
+    void shouldRefillLazily() {
+        CustomerTokenBucketStore store = new CustomerTokenBucketStore(10, Duration.ofMinutes(1), 100, ticker);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(store.tryAcquire("customer-1")).isTrue();
+        }
+        assertThat(store.tryAcquire("customer-1")).isFalse();
+
+        // 5.9s is not enough for a permit (one every 6s)
+        advance(Duration.ofMillis(5_900));
+        assertThat(store.tryAcquire("customer-1")).isFalse();
+
+        // The remainder is kept: 0.1s more completes the first permit
+        advance(Duration.ofMillis(100));
+        assertThat(store.tryAcquire("customer-1")).isTrue();
+        assertThat(store.tryAcquire("customer-1")).isFalse();
+
+        // Refill never exceeds the limit
+        advance(Duration.ofSeconds(59));
+        assertThat(store.availablePermits("customer-1")).isEqualTo(9);
+        advance(Duration.ofMinutes(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(store.tryAcquire("customer-1")).isTrue();
+        }
+        assertThat(store.tryAcquire("customer-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should evict idle buckets and stay within the customer bound")
+    void shouldEvictIdleAndBoundSize() {
+        CustomerTokenBucketStore store = new CustomerTokenBucketStore(10, Duration.ofMinutes(1), 1_000, ticker);
+
+        for (int i = 0; i < 10_000; i++) {
+            store.tryAcquire("customer-" + i);
+        }
+        store.cleanUp();
+        assertThat(store.estimatedSize()).isLessThanOrEqualTo(1_000);
+
+        advance(Duration.ofMinutes(2));
+        assertThat(store.availablePermits("customer-9999")).isEqualTo(-1);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,124 @@
+package com.singularbank.signature.routing.infrastructure.ratelimit;
+
+import com.singularbank.signature.routing.domain.port.outbound.RateLimitStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for DistributedRateLimiter (two nodes sharing an in-memory store).
+ */
+@DisplayName("DistributedRateLimiter")
+class DistributedRateLimiterTest {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    private InMemoryStore store;
+    private DistributedRateLimitConfig config;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryStore();
+        config = new DistributedRateLimitConfig();
+        config.setEnabled(true);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should never exceed the shared limit across nodes and lease permits in batches")
+    void shouldEnforceSharedLimitWithLeases() {
+        DistributedRateLimitConfig.Limiter leased = new DistributedRateLimitConfig.Limiter();
+        leased.setLeaseSize(10);
+        leased.setRefillThreshold(0.0);
+        config.getLimiters().put("signatureCreation", leased);
+        DistributedRateLimiter node1 = new DistributedRateLimiter(store, config, meterRegistry);
+        DistributedRateLimiter node2 = new DistributedRateLimiter(store, config, meterRegistry);
+
+        int allowed = 0;
+        for (int i = 0; i < 100; i++) {
+            allowed += node1.tryAcquire("signatureCreation", "global:signatureCreation", 100, HOUR) ? 1 : 0;
+            allowed += node2.tryAcquire("signatureCreation", "global:signatureCreation", 100, HOUR) ? 1 : 0;
+        }
+
+        assertThat(allowed).isEqualTo(100);
+        // 10 leases of 10 permits, plus one empty answer per node
+        assertThat(store.calls.get()).isEqualTo(12);
+        assertThat(meterRegistry.get("signature.ratelimit.distributed.store")
+            .tag("limiter", "signatureCreation").timer().count()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should register store meters of configured limiters at construction")
+    void shouldRegisterStoreMetersUpFront() {
+        config.getLimiters().put("signatureCreation", new DistributedRateLimitConfig.Limiter());
+
+        new DistributedRateLimiter(store, config, meterRegistry);
+
+        assertThat(meterRegistry.get("signature.ratelimit.distributed.store")
+            .tag("limiter", "signatureCreation").timer().count()).isZero();
+        assertThat(meterRegistry.get("signature.ratelimit.distributed.store.errors")
+            .tag("limiter", "signatureCreation").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should go to the store on every request with lease size 1 and stop after an empty answer")
+    void shouldBeExactWithLeaseSizeOne() {
+        DistributedRateLimiter node = new DistributedRateLimiter(store, config, meterRegistry);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(node.tryAcquire("customer", "customer:42", 10, HOUR)).isTrue();
+        }
+        assertThat(node.tryAcquire("customer", "customer:42", 10, HOUR)).isFalse();
+        // Denied locally until one permit has refilled (6 minutes here)
+        assertThat(node.tryAcquire("customer", "customer:42", 10, HOUR)).isFalse();
+
+        assertThat(store.calls.get()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Should allow requests when the store is unavailable")
+    void shouldFailOpenWhenStoreUnavailable() {
+        store.failing = true;
+        DistributedRateLimiter node = new DistributedRateLimiter(store, config, meterRegistry);
+
+        assertThat(node.tryAcquire("customer", "customer:42", 10, HOUR)).isTrue();
+        assertThat(meterRegistry.counter("signature.ratelimit.distributed.store.errors", "limiter", "customer").count())
+            .isEqualTo(1.0);
+    }
+
+    /**
+     * Shared store without refill (the tests run well within one permit interval).
+     */
+    private static final class InMemoryStore implements RateLimitStore {
+        private final Map<String, Long> tokens = new HashMap<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean failing;
+
+        @Override
+        public synchronized long acquire(String bucketKey, int requested, int capacity, Duration refillPeriod) {
+            calls.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("store down");
+            }
+            long available = tokens.getOrDefault(bucketKey, (long) capacity);
+            long granted = Math.min(requested, available);
+            tokens.put(bucketKey, available - granted);
+            return granted;
+        }
+
+        @Override
+        public int purgeIdle(Instant idleSince) {
+            return 0;
+        }
+    }
+}
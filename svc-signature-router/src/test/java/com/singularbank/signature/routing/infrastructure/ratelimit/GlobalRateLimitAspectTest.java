@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.Duration;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -49,7 +50,7 @@ class GlobalRateLimitAspectTest {
         rateLimiterRegistry.rateLimiter("testLimiter", config);
         
         meterRegistry = new SimpleMeterRegistry();
-        aspect = new GlobalRateLimitAspect(rateLimiterRegistry, meterRegistry);
+        aspect = new GlobalRateLimitAspect(rateLimiterRegistry, meterRegistry, Optional.empty());
     }
     
     @Test
@@ -2,6 +2,7 @@ package com.singularbank.signature.routing.infrastructure.resilience;
 
 import com.singularbank.signature.routing.domain.model.valueobject.SystemMode;
 import com.singularbank.signature.routing.infrastructure.config.DegradedModeConfig;
+import com.singularbank.signature.routing.infrastructure.observability.metrics.ProviderCallWindow;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -55,6 +56,7 @@ class DegradedModeManagerTest {
     
     private MeterRegistry meterRegistry;
     private DegradedModeConfig config;
+    private ProviderCallWindow providerCallWindow;
     private DegradedModeManager degradedModeManager;
     
     @BeforeEach
@@ -68,9 +70,11 @@ class DegradedModeManagerTest {
         config.setRecoveryDuration(Duration.ofSeconds(300));
         config.setCircuitOpenThreshold(3);
         
+        providerCallWindow = new ProviderCallWindow();
         degradedModeManager = new DegradedModeManager(
             meterRegistry,
             circuitBreakerRegistry,
+            providerCallWindow,
             config,
             applicationContext
         );
@@ -148,6 +152,40 @@ class DegradedModeManagerTest {
         assertThat(degradedProviders).doesNotContain("PUSH", "BIOMETRIC");
     }
     
+    @Test
+    void testSingleFailedCall_belowMinimumCalls_shouldNotDegrade() {
+        // Given: One call in the window, and it failed (raw error rate 100%)
+        when(circuitBreakerRegistry.getAllCircuitBreakers()).thenReturn(java.util.Set.of());
+        providerCallWindow.record("SMS", false);
+        config.setMinDuration(Duration.ZERO);
+        
+        // When: Health evaluated twice (entry needs a high rate on two evaluations)
+        degradedModeManager.evaluateSystemHealth();
+        degradedModeManager.evaluateSystemHealth();
+        
+        // Then: Fewer than minimum-calls calls count as healthy
+        assertThat(degradedModeManager.getDegradedProviders()).isEmpty();
+        assertThat(degradedModeManager.isInDegradedMode()).isFalse();
+    }
+    
+    @Test
+    void testSustainedFailures_aboveMinimumCalls_shouldDegrade() {
+        // Given: Ten failed calls in the window
+        when(circuitBreakerRegistry.getAllCircuitBreakers()).thenReturn(java.util.Set.of());
+        for (int i = 0; i < 10; i++) {
+            providerCallWindow.record("SMS", false);
+        }
+        config.setMinDuration(Duration.ZERO);
+        
+        // When
+        degradedModeManager.evaluateSystemHealth();
+        degradedModeManager.evaluateSystemHealth();
+        
+        // Then
+        assertThat(degradedModeManager.getDegradedProviders()).containsExactly("SMS");
+        assertThat(degradedModeManager.isInDegradedMode()).isTrue();
+    }
+    
     @Test
     void testEnterDegradedMode_multipleTimes_shouldNotDuplicate() {
         // Given: System in NORMAL mode
@@ -0,0 +1,174 @@
+package com.singularbank.signature.routing.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side measurements of a load test run.
+ *
+ * <p>Only flows started after the warmup are recorded. Latencies go into one HdrHistogram per
+ * operation (microseconds, 3 significant digits), errors are counted per operation and kind
+ * ({@code http_500}, {@code rate_limited}, {@code timeout}, ...). The connection pool of the
+ * service is sampled while measuring.
+ */
+final class LoadMetrics {
+
+    /**
+     * HTTP operations of the signature flows.
+     */
+    enum Operation {
+        CREATE,
+        POLL,
+        COMPLETE
+    }
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final long warmupArrivals;
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<String, LongAdder>> errors = new EnumMap<>(Operation.class);
+    private final Map<SignatureFlows.Flow, LongAdder> flowsStarted = new EnumMap<>(SignatureFlows.Flow.class);
+    private final Map<SignatureFlows.Flow, LongAdder> flowsSucceeded = new EnumMap<>(SignatureFlows.Flow.class);
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong firstMeasuredNanos = new AtomicLong(Long.MAX_VALUE);
+    private final LongAccumulator lastMeasuredNanos = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    private volatile boolean measuring;
+    private int poolSize;
+    private long poolSamples;
+    private long poolActiveSum;
+    private int poolMaxActive;
+    private int poolMaxPending;
+    private long poolSaturatedSamples;
+
+    LoadMetrics(long warmupArrivals) {
+        this.warmupArrivals = warmupArrivals;
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new ConcurrentHashMap<>());
+        }
+        for (SignatureFlows.Flow flow : SignatureFlows.Flow.values()) {
+            flowsStarted.put(flow, new LongAdder());
+            flowsSucceeded.put(flow, new LongAdder());
+        }
+    }
+
+    boolean isMeasured(long arrivalIndex) {
+        return arrivalIndex >= warmupArrivals;
+    }
+
+    void flowStarted(long arrivalIndex, SignatureFlows.Flow flow, long intendedStartNanos) {
+        if (isMeasured(arrivalIndex)) {
+            measuring = true;
+            firstMeasuredNanos.accumulateAndGet(intendedStartNanos, Math::min);
+            flowsStarted.get(flow).increment();
+        }
+    }
+
+    void flowSucceeded(long arrivalIndex, SignatureFlows.Flow flow) {
+        if (isMeasured(arrivalIndex)) {
+            flowsSucceeded.get(flow).increment();
+        }
+    }
+
+    void arrivalDropped(long arrivalIndex) {
+        if (isMeasured(arrivalIndex)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Record one operation; {@code errorKind} is {@code null} when it succeeded.
+     */
+    void record(long arrivalIndex, Operation operation, long startNanos, long endNanos, String errorKind) {
+        if (!isMeasured(arrivalIndex)) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos);
+        latencies.get(operation).recordValue(Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS));
+        if (errorKind != null) {
+            errors.get(operation).computeIfAbsent(errorKind, kind -> new LongAdder()).increment();
+        }
+        lastMeasuredNanos.accumulate(endNanos);
+    }
+
+    /**
+     * Sample the Hikari pool of the service (called on a fixed period).
+     */
+    synchronized void samplePool(int active, int pending, int total) {
+        if (!measuring) {
+            return;
+        }
+        poolSize = Math.max(poolSize, total);
+        poolSamples++;
+        poolActiveSum += active;
+        poolMaxActive = Math.max(poolMaxActive, active);
+        poolMaxPending = Math.max(poolMaxPending, pending);
+        if (pending > 0) {
+            poolSaturatedSamples++;
+        }
+    }
+
+    synchronized LoadReport.PoolStats poolStats() {
+        return new LoadReport.PoolStats(poolSize, poolMaxActive,
+            poolSamples == 0 ? 0 : (double) poolActiveSum / poolSamples,
+            poolMaxPending,
+            poolSamples == 0 ? 0 : (double) poolSaturatedSamples / poolSamples);
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    Map<String, LoadReport.FlowStats> flowStats() {
+        Map<String, LoadReport.FlowStats> stats = new LinkedHashMap<>();
+        for (SignatureFlows.Flow flow : SignatureFlows.Flow.values()) {
+            long started = flowsStarted.get(flow).sum();
+            if (started > 0) {
+                long succeeded = flowsSucceeded.get(flow).sum();
+                stats.put(flow.key(), new LoadReport.FlowStats(started, succeeded, started - succeeded));
+            }
+        }
+        return stats;
+    }
+
+    Map<String, LoadReport.OperationStats> operationStats() {
+        double seconds = Math.max(lastMeasuredNanos.get() - firstMeasuredNanos.get(), 1) / 1e9;
+        Map<String, LoadReport.OperationStats> stats = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation).copy();
+            long count = histogram.getTotalCount();
+            if (count == 0) {
+                continue;
+            }
+            Map<String, Long> errorsByKind = new TreeMap<>();
+            errors.get(operation).forEach((kind, adder) -> errorsByKind.put(kind, adder.sum()));
+            long errorCount = errorsByKind.values().stream().mapToLong(Long::longValue).sum();
+            stats.put(operation.name().toLowerCase(), new LoadReport.OperationStats(
+                count,
+                count / seconds,
+                millis(histogram.getValueAtPercentile(50.0)),
+                millis(histogram.getValueAtPercentile(99.0)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                errorCount,
+                (double) errorCount / count,
+                errorsByKind));
+        }
+        return stats;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
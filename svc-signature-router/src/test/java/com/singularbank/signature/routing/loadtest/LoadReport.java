@@ -0,0 +1,134 @@
+package com.singularbank.signature.routing.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Result of a load test run, written as JSON so runs can be compared across commits.
+ *
+ * @param commit     git commit of the tree under test ({@code -dirty} with local changes)
+ * @param startedAt  start of the run
+ * @param jvm        JVM running both the service and the load generator
+ * @param processors available processors
+ * @param settings   load test settings; only runs with equal settings are comparable
+ * @param driver     arrival accounting of the measured phase
+ * @param flows      flows started and succeeded, per flow
+ * @param operations latency, throughput and errors, per HTTP operation
+ * @param pool       service connection pool usage
+ */
+record LoadReport(
+    String commit,
+    Instant startedAt,
+    String jvm,
+    int processors,
+    Map<String, String> settings,
+    DriverStats driver,
+    Map<String, FlowStats> flows,
+    Map<String, OperationStats> operations,
+    PoolStats pool
+) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * @param arrivals   measured arrivals
+     * @param dropped    measured arrivals dropped by the in-flight bound (load generator saturated)
+     * @param unfinished flows still running at the end of the drain
+     * @param maxLagMillis largest delay of an arrival behind schedule
+     */
+    record DriverStats(long arrivals, long dropped, long unfinished, double maxLagMillis) {
+    }
+
+    record FlowStats(long started, long succeeded, long failed) {
+    }
+
+    /**
+     * Latencies in milliseconds; {@code create} is measured from the intended arrival time.
+     */
+    record OperationStats(long count, double throughput, double p50Millis, double p99Millis, double p999Millis,
+                          double maxMillis, long errors, double errorRate, Map<String, Long> errorsByKind) {
+    }
+
+    /**
+     * @param maxPoolSize    Hikari maximum pool size
+     * @param maxActive      most connections in use at a sample
+     * @param meanActive     mean connections in use
+     * @param maxPending     most threads waiting for a connection at a sample
+     * @param saturatedRatio share of samples with threads waiting for a connection
+     */
+    record PoolStats(int maxPoolSize, int maxActive, double meanActive, int maxPending, double saturatedRatio) {
+    }
+
+    Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String timestamp = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC).format(startedAt);
+        Path file = directory.resolve("loadtest-" + timestamp + "-" + commit + ".json");
+        MAPPER.writeValue(file.toFile(), this);
+        return file;
+    }
+
+    static LoadReport read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), LoadReport.class);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nSignature load test - commit %s, %s, %d cpus%n", commit, jvm, processors);
+        out.printf("Settings: %s%n", settings);
+        out.printf("Arrivals: %d measured, %d dropped, %d unfinished, max lag %.1f ms%n",
+            driver.arrivals(), driver.dropped(), driver.unfinished(), driver.maxLagMillis());
+        out.printf("%n%-14s %10s %10s %10s%n", "flow", "started", "succeeded", "failed");
+        flows.forEach((flow, stats) -> out.printf("%-14s %10d %10d %10d%n",
+            flow, stats.started(), stats.succeeded(), stats.failed()));
+        out.printf("%n%-10s %9s %9s %9s %9s %9s %9s %8s  %s%n",
+            "operation", "count", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors", "error kinds");
+        operations.forEach((operation, stats) -> out.printf("%-10s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %7.2f%%  %s%n",
+            operation, stats.count(), stats.throughput(), stats.p50Millis(), stats.p99Millis(), stats.p999Millis(),
+            stats.maxMillis(), stats.errorRate() * 100, stats.errorsByKind()));
+        out.printf("%nDB pool: size %d, active max %d / mean %.1f, pending max %d, saturated %.1f%% of samples%n",
+            pool.maxPoolSize(), pool.maxActive(), pool.meanActive(), pool.maxPending(), pool.saturatedRatio() * 100);
+    }
+
+    /**
+     * Print throughput, latency and error deltas against a previous run.
+     */
+    void printComparison(LoadReport baseline, PrintStream out) {
+        out.printf("%nCompared with %s (%s)%n", baseline.commit(), baseline.startedAt());
+        if (!Objects.equals(settings, baseline.settings())) {
+            out.printf("WARNING: settings differ, results are not comparable%n  baseline: %s%n", baseline.settings());
+        }
+        out.printf("%-10s %16s %16s %16s %16s%n", "operation", "ops/s", "p50 ms", "p99 ms", "p999 ms");
+        operations.forEach((operation, current) -> {
+            OperationStats previous = baseline.operations().get(operation);
+            if (previous == null) {
+                return;
+            }
+            out.printf("%-10s %16s %16s %16s %16s%n", operation,
+                delta(previous.throughput(), current.throughput()),
+                delta(previous.p50Millis(), current.p50Millis()),
+                delta(previous.p99Millis(), current.p99Millis()),
+                delta(previous.p999Millis(), current.p999Millis()));
+        });
+        out.printf("DB pool saturated: %.1f%% -> %.1f%% of samples%n",
+            baseline.pool().saturatedRatio() * 100, pool.saturatedRatio() * 100);
+    }
+
+    private static String delta(double previous, double current) {
+        if (previous == 0) {
+            return String.format("%.1f", current);
+        }
+        return String.format("%.1f (%+.0f%%)", current, (current - previous) / previous * 100);
+    }
+}
@@ -0,0 +1,95 @@
+package com.singularbank.signature.routing.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code -Dloadtest.*} system properties.
+ *
+ * <p>Defaults describe the reference run: results are only comparable between runs with the
+ * same settings (they are written into every report).
+ *
+ * @param rate            arrivals (new signature flows) per second
+ * @param warmup          arrivals before measurement starts (JIT, pools, caches)
+ * @param duration        measured arrivals
+ * @param mix             flow weights
+ * @param customers       distinct customer ids (the per-customer limit is 10/min)
+ * @param thinkTime       time a user takes to read and type the OTP
+ * @param pollInterval    wait between two polls of the POLL_COMPLETE flow
+ * @param maxInFlight     concurrent flows; arrivals beyond are dropped and reported
+ * @param requestTimeout  HTTP request timeout
+ * @param poolSize        Hikari maximum pool size of the service
+ * @param liftGlobalLimit lift the 100/s global limiters so the service itself is measured
+ * @param seed            seed of the flow and customer sequence
+ * @param outputDirectory where JSON reports are written
+ * @param baseline        previous report to compare with, or {@code null}
+ */
+record LoadTestConfig(
+    double rate,
+    Duration warmup,
+    Duration duration,
+    Map<SignatureFlows.Flow, Integer> mix,
+    int customers,
+    Duration thinkTime,
+    Duration pollInterval,
+    int maxInFlight,
+    Duration requestTimeout,
+    int poolSize,
+    boolean liftGlobalLimit,
+    long seed,
+    Path outputDirectory,
+    Path baseline
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        String baseline = System.getProperty("loadtest.baseline");
+        return new LoadTestConfig(
+            Double.parseDouble(System.getProperty("loadtest.rate", "50")),
+            Duration.parse(System.getProperty("loadtest.warmup", "PT30S")),
+            Duration.parse(System.getProperty("loadtest.duration", "PT2M")),
+            parseMix(System.getProperty("loadtest.mix", "complete=60,poll-complete=20,expire=15,wrong-code=5")),
+            Integer.getInteger("loadtest.customers", 10_000),
+            Duration.parse(System.getProperty("loadtest.think-time", "PT2S")),
+            Duration.parse(System.getProperty("loadtest.poll-interval", "PT0.5S")),
+            Integer.getInteger("loadtest.max-in-flight", 5_000),
+            Duration.parse(System.getProperty("loadtest.request-timeout", "PT30S")),
+            Integer.getInteger("loadtest.pool-size", 10),
+            Boolean.parseBoolean(System.getProperty("loadtest.lift-global-limit", "true")),
+            Long.getLong("loadtest.seed", 42L),
+            Path.of(System.getProperty("loadtest.output", "target/loadtest")),
+            baseline != null ? Path.of(baseline) : null
+        );
+    }
+
+    /**
+     * Parse {@code complete=60,poll-complete=20,...}; missing flows get weight 0.
+     */
+    static Map<SignatureFlows.Flow, Integer> parseMix(String mix) {
+        Map<SignatureFlows.Flow, Integer> weights = new EnumMap<>(SignatureFlows.Flow.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative loadtest.mix weight: " + entry);
+            }
+            weights.put(SignatureFlows.Flow.fromKey(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("loadtest.mix has no positive weight: " + mix);
+        }
+        return weights;
+    }
+
+    long warmupArrivals() {
+        return Math.round(rate * warmup.toNanos() / 1e9);
+    }
+
+    long measuredArrivals() {
+        return Math.round(rate * duration.toNanos() / 1e9);
+    }
+}
@@ -0,0 +1,143 @@
+package com.singularbank.signature.routing.loadtest;
+
+import com.singularbank.signature.routing.infrastructure.SignatureRouterApplication;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The service under test, booted in this JVM against local stand-ins.
+ *
+ * <ul>
+ * <li>PostgreSQL 15 in a Testcontainers container, schema from the Liquibase changelog</li>
+ * <li>Providers replaced by the provider simulator (default latency and error profiles)</li>
+ * <li>JWTs from {@link LocalJwtIssuer}</li>
+ * <li>No Kafka and no Vault, as in the {@code test} profile (the outbox table is still written)</li>
+ * </ul>
+ *
+ * <p>The OTP a user would read on their phone is looked up in {@code signature_challenge} on a
+ * separate connection pool, so the lookups do not compete with the service for connections.
+ */
+final class LoadTestEnvironment implements AutoCloseable {
+
+    private static final String CHALLENGE_SQL = """
+        SELECT id, challenge_code FROM signature_challenge
+        WHERE signature_request_id = ?
+        ORDER BY created_at DESC
+        LIMIT 1
+        """;
+
+    /**
+     * Challenge of a signature request, with the code sent to the user.
+     */
+    record Challenge(UUID id, String code) {
+    }
+
+    private final PostgreSQLContainer<?> postgres;
+    private final LocalJwtIssuer jwtIssuer;
+    private final ConfigurableApplicationContext context;
+    private final HikariDataSource lookupDataSource;
+    private final JdbcTemplate lookup;
+    private final HikariPoolMXBean servicePool;
+
+    private LoadTestEnvironment(PostgreSQLContainer<?> postgres, LocalJwtIssuer jwtIssuer,
+                                ConfigurableApplicationContext context) throws SQLException {
+        this.postgres = postgres;
+        this.jwtIssuer = jwtIssuer;
+        this.context = context;
+
+        HikariConfig lookupConfig = new HikariConfig();
+        lookupConfig.setPoolName("loadtest-lookup");
+        lookupConfig.setJdbcUrl(postgres.getJdbcUrl());
+        lookupConfig.setUsername(postgres.getUsername());
+        lookupConfig.setPassword(postgres.getPassword());
+        lookupConfig.setMaximumPoolSize(4);
+        this.lookupDataSource = new HikariDataSource(lookupConfig);
+        this.lookup = new JdbcTemplate(lookupDataSource);
+        this.servicePool = context.getBean(DataSource.class).unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    }
+
+    static LoadTestEnvironment start(LoadTestConfig config) throws Exception {
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("signature_router")
+            .withUsername("siguser")
+            .withPassword("sigpass");
+        postgres.start();
+        LocalJwtIssuer jwtIssuer = LocalJwtIssuer.start();
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.profiles.active", "test");
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", postgres.getJdbcUrl());
+        properties.put("spring.datasource.username", postgres.getUsername());
+        properties.put("spring.datasource.password", postgres.getPassword());
+        properties.put("spring.datasource.hikari.maximum-pool-size", config.poolSize());
+        properties.put("spring.liquibase.enabled", true);
+        properties.put("spring.liquibase.contexts", "dev");
+        properties.put("spring.jpa.hibernate.ddl-auto", "none");
+        properties.put("spring.security.oauth2.resourceserver.jwt.issuer-uri", jwtIssuer.issuerUri());
+        properties.put("spring.security.oauth2.resourceserver.jwt.jwk-set-uri", jwtIssuer.jwkSetUri());
+        properties.put("providers.simulator.enabled", true);
+        // Per-request INFO logs would make the console the bottleneck
+        properties.put("logging.level.com.singularbank.signature.routing",
+            System.getProperty("loadtest.log-level", "WARN"));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SignatureRouterApplication.class)
+            .properties(properties)
+            .run();
+        if (config.liftGlobalLimit()) {
+            RateLimiterRegistry rateLimiters = context.getBean(RateLimiterRegistry.class);
+            for (String limiter : List.of("signatureCreation", "signatureCompletion")) {
+                rateLimiters.rateLimiter(limiter).changeLimitForPeriod(Integer.MAX_VALUE);
+            }
+        }
+        return new LoadTestEnvironment(postgres, jwtIssuer, context);
+    }
+
+    URI baseUrl() {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port);
+    }
+
+    LocalJwtIssuer jwtIssuer() {
+        return jwtIssuer;
+    }
+
+    HikariPoolMXBean servicePool() {
+        return servicePool;
+    }
+
+    /**
+     * Latest challenge of a signature request: what the user received by SMS, push or voice.
+     */
+    Optional<Challenge> challenge(UUID signatureId) {
+        return lookup.query(CHALLENGE_SQL,
+                (rs, rowNum) -> new Challenge(rs.getObject("id", UUID.class), rs.getString("challenge_code")),
+                signatureId)
+            .stream()
+            .findFirst();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        lookupDataSource.close();
+        jwtIssuer.close();
+        postgres.stop();
+    }
+}
@@ -0,0 +1,97 @@
+package com.singularbank.signature.routing.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stand-in for Keycloak: signs RS256 tokens and serves the public key as a JWK set.
+ *
+ * <p>The service validates tokens exactly as in production (signature against the JWK set,
+ * issuer, expiry), so JWT decoding stays part of the measured path. Tokens carry Keycloak-style
+ * {@code realm_access.roles} for the signature endpoints ({@code PRF_ADMIN}) and the query
+ * endpoint ({@code ADMIN}).
+ */
+final class LocalJwtIssuer implements AutoCloseable {
+
+    private static final String JWKS_PATH = "/realms/loadtest/protocol/openid-connect/certs";
+
+    private final RSAKey signingKey;
+    private final HttpServer server;
+    private final String issuerUri;
+
+    private LocalJwtIssuer(RSAKey signingKey, HttpServer server) {
+        this.signingKey = signingKey;
+        this.server = server;
+        this.issuerUri = "http://127.0.0.1:" + server.getAddress().getPort() + "/realms/loadtest";
+    }
+
+    static LocalJwtIssuer start() throws IOException, JOSEException {
+        RSAKey signingKey = new RSAKeyGenerator(2048).keyID("loadtest").generate();
+        byte[] jwks = new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(JWKS_PATH, exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwks);
+            }
+        });
+        server.start();
+        return new LocalJwtIssuer(signingKey, server);
+    }
+
+    String issuerUri() {
+        return issuerUri;
+    }
+
+    String jwkSetUri() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + JWKS_PATH;
+    }
+
+    /**
+     * Issue a token valid for {@code validity}.
+     */
+    String issueToken(Duration validity) throws JOSEException {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .issuer(issuerUri)
+            .subject("loadtest")
+            .audience("signature-router")
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plus(validity)))
+            .claim("preferred_username", "loadtest")
+            .claim("email", "loadtest@localhost")
+            .claim("name", "Load Test")
+            .claim("realm_access", Map.of("roles", List.of("PRF_ADMIN", "ADMIN")))
+            .build();
+        SignedJWT jwt = new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(signingKey));
+        return jwt.serialize();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
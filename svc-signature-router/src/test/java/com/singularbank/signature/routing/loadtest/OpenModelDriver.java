@@ -0,0 +1,114 @@
+package com.singularbank.signature.routing.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: starts flows at a constant arrival rate, whatever the response times.
+ *
+ * <p>Arrival {@code i} is due at {@code start + i / rate}. A closed model (N users looping) slows
+ * down with the service and hides queueing; here a slow service means more flows in flight, not
+ * fewer arrivals. When the generator itself falls behind, late arrivals are started at once and
+ * keep their intended start time, so latency measured from it includes the delay (no coordinated
+ * omission). The largest delay is reported as {@code maxLag}.
+ *
+ * <p>Flows in flight are bounded: an arrival finding {@code maxInFlight} flows running is
+ * dropped and reported, so an overloaded run shows up instead of exhausting the load generator.
+ */
+final class OpenModelDriver {
+
+    /**
+     * A flow started by the driver, on its own (virtual) thread.
+     */
+    interface Arrival {
+
+        /**
+         * @param index              arrival number, from 0
+         * @param intendedStartNanos {@link System#nanoTime()} at which the arrival was due
+         */
+        void start(long index, long intendedStartNanos);
+
+        /**
+         * Called on the driver thread for an arrival that found {@code maxInFlight} flows running.
+         */
+        default void dropped(long index) {
+        }
+    }
+
+    /**
+     * @param arrivals   arrivals due
+     * @param dropped    arrivals dropped by the in-flight bound
+     * @param unfinished flows still running when the drain timeout expired
+     * @param maxLag     largest delay between an arrival's due time and its start
+     * @param elapsed    time from the first arrival to the end of the drain
+     */
+    record Result(long arrivals, long dropped, long unfinished, Duration maxLag, Duration elapsed) {
+    }
+
+    private final double ratePerSecond;
+    private final int maxInFlight;
+    private final ExecutorService executor;
+
+    OpenModelDriver(double ratePerSecond, int maxInFlight, ExecutorService executor) {
+        if (ratePerSecond <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("rate and maxInFlight must be positive");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.maxInFlight = maxInFlight;
+        this.executor = executor;
+    }
+
+    /**
+     * Start {@code arrivals} flows at the configured rate, then wait for them to finish.
+     *
+     * @param arrivals     number of arrivals
+     * @param arrival      flow to start
+     * @param drainTimeout max wait for running flows after the last arrival
+     */
+    Result run(long arrivals, Arrival arrival, Duration drainTimeout) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double intervalNanos = 1e9 / ratePerSecond;
+        long start = System.nanoTime();
+        long dropped = 0;
+        long maxLagNanos = 0;
+
+        for (long index = 0; index < arrivals; index++) {
+            long intended = start + (long) (index * intervalNanos);
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            maxLagNanos = Math.max(maxLagNanos, -wait);
+
+            if (!inFlight.tryAcquire()) {
+                dropped++;
+                arrival.dropped(index);
+                continue;
+            }
+            long arrivalIndex = index;
+            try {
+                executor.execute(() -> {
+                    try {
+                        arrival.start(arrivalIndex, intended);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                throw e;
+            }
+        }
+
+        long unfinished = 0;
+        if (!inFlight.tryAcquire(maxInFlight, drainTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            unfinished = maxInFlight - inFlight.availablePermits();
+        }
+        return new Result(arrivals, dropped, unfinished, Duration.ofNanos(maxLagNanos),
+            Duration.ofNanos(System.nanoTime() - start));
+    }
+}
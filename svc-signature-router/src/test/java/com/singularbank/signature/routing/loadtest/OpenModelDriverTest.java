@@ -0,0 +1,118 @@
+package com.singularbank.signature.routing.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for OpenModelDriver and the load test measurements.
+ */
+class OpenModelDriverTest {
+
+    @Test
+    @DisplayName("Should keep the arrival rate when flows are slower than the arrival interval")
+    void shouldKeepArrivalRateWithSlowFlows() throws Exception {
+        // Given - 100 arrivals at 200/s, each flow takes 200 ms
+        List<Long> intendedStarts = new CopyOnWriteArrayList<>();
+        OpenModelDriver.Arrival slowFlow = (index, intendedStartNanos) -> {
+            intendedStarts.add(intendedStartNanos);
+            sleep(200);
+        };
+
+        // When
+        OpenModelDriver.Result result;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            result = new OpenModelDriver(200, 1_000, executor).run(100, slowFlow, Duration.ofSeconds(10));
+        }
+
+        // Then - a closed model with the same concurrency would need 100 x 200 ms
+        assertThat(result.dropped()).isZero();
+        assertThat(result.unfinished()).isZero();
+        assertThat(intendedStarts).hasSize(100);
+        long span = intendedStarts.stream().mapToLong(Long::longValue).max().orElseThrow()
+            - intendedStarts.stream().mapToLong(Long::longValue).min().orElseThrow();
+        assertThat(span).isEqualTo(TimeUnit.MILLISECONDS.toNanos(495));
+        assertThat(result.elapsed()).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should drop and report arrivals beyond the in-flight bound")
+    void shouldDropArrivalsBeyondMaxInFlight() throws Exception {
+        // Given - flows block until released
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger dropped = new AtomicInteger();
+        OpenModelDriver.Arrival blockedFlow = new OpenModelDriver.Arrival() {
+            @Override
+            public void start(long index, long intendedStartNanos) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void dropped(long index) {
+                dropped.incrementAndGet();
+            }
+        };
+
+        // When
+        OpenModelDriver.Result result;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            result = new OpenModelDriver(1_000, 10, executor).run(50, blockedFlow, Duration.ofMillis(100));
+            release.countDown();
+        }
+
+        // Then
+        assertThat(result.dropped()).isEqualTo(40);
+        assertThat(dropped).hasValue(40);
+        assertThat(result.unfinished()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should only count flows started after the warmup")
+    void shouldIgnoreWarmupArrivals() {
+        // Given
+        LoadMetrics metrics = new LoadMetrics(2);
+        long start = System.nanoTime();
+
+        // When
+        for (long index = 0; index < 4; index++) {
+            metrics.flowStarted(index, SignatureFlows.Flow.COMPLETE, start);
+            metrics.record(index, LoadMetrics.Operation.CREATE, start, start + TimeUnit.MILLISECONDS.toNanos(10 * (index + 1)),
+                index == 3 ? "http_500" : null);
+            metrics.flowSucceeded(index, SignatureFlows.Flow.COMPLETE);
+        }
+
+        // Then
+        LoadReport.OperationStats create = metrics.operationStats().get("create");
+        assertThat(create.count()).isEqualTo(2);
+        assertThat(create.maxMillis()).isBetween(39.9, 40.1);
+        assertThat(create.errorsByKind()).containsEntry("http_500", 1L);
+        assertThat(create.errorRate()).isEqualTo(0.5);
+        assertThat(metrics.flowStats().get("complete")).isEqualTo(new LoadReport.FlowStats(2, 2, 0));
+        assertThat(LoadTestConfig.parseMix("complete=3,expire=1"))
+            .containsEntry(SignatureFlows.Flow.COMPLETE, 3)
+            .containsEntry(SignatureFlows.Flow.EXPIRE, 1)
+            .doesNotContainKey(SignatureFlows.Flow.WRONG_CODE);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
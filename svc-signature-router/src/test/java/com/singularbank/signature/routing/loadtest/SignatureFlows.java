@@ -0,0 +1,267 @@
+package com.singularbank.signature.routing.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.singularbank.signature.routing.loadtest.LoadMetrics.Operation;
+import com.singularbank.signature.routing.loadtest.LoadTestEnvironment.Challenge;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.Stream;
+
+/**
+ * User journeys driven against the signature API.
+ *
+ * <ul>
+ * <li>{@code complete}: create, read the OTP, complete</li>
+ * <li>{@code poll-complete}: create, poll {@code GET /{id}} until the challenge is SENT, complete</li>
+ * <li>{@code expire}: create, poll once, abandon (the request is left to expire)</li>
+ * <li>{@code wrong-code}: create, complete with a wrong code (4xx expected), then the right one</li>
+ * </ul>
+ *
+ * <p>The flow and customer of arrival {@code i} only depend on the seed and {@code i}, so two
+ * runs with the same settings send the same traffic. A flow stops at its first failed call.
+ */
+final class SignatureFlows implements OpenModelDriver.Arrival {
+
+    /**
+     * Flow kinds, keyed as in {@code loadtest.mix}.
+     */
+    enum Flow {
+        COMPLETE("complete"),
+        POLL_COMPLETE("poll-complete"),
+        EXPIRE("expire"),
+        WRONG_CODE("wrong-code");
+
+        private final String key;
+
+        Flow(String key) {
+            this.key = key;
+        }
+
+        String key() {
+            return key;
+        }
+
+        static Flow fromKey(String key) {
+            return Arrays.stream(values())
+                .filter(flow -> flow.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown flow: " + key));
+        }
+    }
+
+    private static final int MAX_POLLS = 10;
+    private static final IntPredicate CREATED = status -> status == 201 || status == 202;
+    private static final IntPredicate OK = status -> status == 200;
+    private static final IntPredicate REJECTED = status -> status >= 400 && status < 500 && status != 429;
+
+    private final HttpClient client;
+    private final URI signaturesUrl;
+    private final String authorization;
+    private final Function<UUID, Optional<Challenge>> challenges;
+    private final LoadMetrics metrics;
+    private final LoadTestConfig config;
+    private final Flow[] flowTable;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    SignatureFlows(HttpClient client, URI baseUrl, String token, Function<UUID, Optional<Challenge>> challenges,
+                   LoadMetrics metrics, LoadTestConfig config) {
+        this.client = client;
+        this.signaturesUrl = baseUrl.resolve("/api/v1/signatures");
+        this.authorization = "Bearer " + token;
+        this.challenges = challenges;
+        this.metrics = metrics;
+        this.config = config;
+        this.flowTable = flowTable(config.mix());
+    }
+
+    @Override
+    public void start(long index, long intendedStartNanos) {
+        SplittableRandom random = new SplittableRandom(config.seed() ^ (index * 0x9E3779B97F4A7C15L));
+        Flow flow = flowTable[random.nextInt(flowTable.length)];
+        metrics.flowStarted(index, flow, intendedStartNanos);
+        try {
+            boolean succeeded = switch (flow) {
+                case COMPLETE -> complete(index, random, intendedStartNanos);
+                case POLL_COMPLETE -> pollAndComplete(index, random, intendedStartNanos);
+                case EXPIRE -> abandon(index, random, intendedStartNanos);
+                case WRONG_CODE -> completeAfterWrongCode(index, random, intendedStartNanos);
+            };
+            if (succeeded) {
+                metrics.flowSucceeded(index, flow);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void dropped(long index) {
+        metrics.arrivalDropped(index);
+    }
+
+    private boolean complete(long index, SplittableRandom random, long intendedStartNanos) throws InterruptedException {
+        UUID signatureId = create(index, random, intendedStartNanos);
+        if (signatureId == null) {
+            return false;
+        }
+        Thread.sleep(config.thinkTime());
+        Optional<Challenge> challenge = challenges.apply(signatureId);
+        return challenge.isPresent()
+            && complete(index, signatureId, challenge.get().id(), challenge.get().code(), OK) != null;
+    }
+
+    private boolean pollAndComplete(long index, SplittableRandom random, long intendedStartNanos)
+            throws InterruptedException {
+        UUID signatureId = create(index, random, intendedStartNanos);
+        if (signatureId == null) {
+            return false;
+        }
+        UUID challengeId = null;
+        for (int poll = 0; poll < MAX_POLLS && challengeId == null; poll++) {
+            JsonNode detail = poll(index, signatureId);
+            if (detail == null) {
+                return false;
+            }
+            JsonNode activeChallenge = detail.path("activeChallenge");
+            if ("SENT".equals(activeChallenge.path("status").asText())) {
+                challengeId = UUID.fromString(activeChallenge.path("id").asText());
+            } else {
+                Thread.sleep(config.pollInterval());
+            }
+        }
+        if (challengeId == null) {
+            return false;
+        }
+        Thread.sleep(config.thinkTime());
+        Optional<Challenge> challenge = challenges.apply(signatureId);
+        return challenge.isPresent() && complete(index, signatureId, challengeId, challenge.get().code(), OK) != null;
+    }
+
+    private boolean abandon(long index, SplittableRandom random, long intendedStartNanos) throws InterruptedException {
+        UUID signatureId = create(index, random, intendedStartNanos);
+        if (signatureId == null) {
+            return false;
+        }
+        Thread.sleep(config.thinkTime());
+        return poll(index, signatureId) != null;
+    }
+
+    private boolean completeAfterWrongCode(long index, SplittableRandom random, long intendedStartNanos)
+            throws InterruptedException {
+        UUID signatureId = create(index, random, intendedStartNanos);
+        if (signatureId == null) {
+            return false;
+        }
+        Thread.sleep(config.thinkTime());
+        Optional<Challenge> challenge = challenges.apply(signatureId);
+        if (challenge.isEmpty()) {
+            return false;
+        }
+        String code = challenge.get().code();
+        String wrongCode = "000000".equals(code) ? "999999" : "000000";
+        return complete(index, signatureId, challenge.get().id(), wrongCode, REJECTED) != null
+            && complete(index, signatureId, challenge.get().id(), code, OK) != null;
+    }
+
+    /**
+     * Create a signature request; latency is measured from the intended arrival time.
+     */
+    private UUID create(long index, SplittableRandom random, long intendedStartNanos) throws InterruptedException {
+        int customer = random.nextInt(config.customers());
+        BigDecimal amount = BigDecimal.valueOf(random.nextLong(1_000, 500_000), 2);
+
+        ObjectNode body = mapper.createObjectNode()
+            .put("customerId", "loadtest-customer-" + customer)
+            .put("phoneNumber", String.format("+346%08d", customer));
+        body.putObject("transactionContext")
+            .put("merchantId", "merchant-" + random.nextInt(50))
+            .put("orderId", "order-" + index)
+            .put("description", "Load test")
+            .putObject("amount")
+            .put("value", amount)
+            .put("currency", "EUR");
+
+        HttpRequest request = request(signaturesUrl)
+            .header("Content-Type", "application/json")
+            .header("Idempotency-Key", new UUID(random.nextLong(), random.nextLong()).toString())
+            .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+            .build();
+        JsonNode response = send(index, Operation.CREATE, request, intendedStartNanos, CREATED);
+        return response != null ? UUID.fromString(response.path("id").asText()) : null;
+    }
+
+    private JsonNode poll(long index, UUID signatureId) throws InterruptedException {
+        HttpRequest request = request(signaturesUrl.resolve("/api/v1/signatures/" + signatureId)).GET().build();
+        return send(index, Operation.POLL, request, System.nanoTime(), OK);
+    }
+
+    private JsonNode complete(long index, UUID signatureId, UUID challengeId, String code, IntPredicate expected)
+            throws InterruptedException {
+        String body = mapper.createObjectNode()
+            .put("challengeId", challengeId.toString())
+            .put("code", code)
+            .toString();
+        HttpRequest request = request(signaturesUrl.resolve("/api/v1/signatures/" + signatureId + "/complete"))
+            .header("Content-Type", "application/json")
+            .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return send(index, Operation.COMPLETE, request, System.nanoTime(), expected);
+    }
+
+    private HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(config.requestTimeout())
+            .header("Authorization", authorization);
+    }
+
+    /**
+     * Send and record one call.
+     *
+     * @return response body, or {@code null} when the status was unexpected or the call failed
+     */
+    private JsonNode send(long index, Operation operation, HttpRequest request, long startNanos,
+                          IntPredicate expected) throws InterruptedException {
+        String errorKind = null;
+        JsonNode body = null;
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            int status = response.statusCode();
+            if (!expected.test(status)) {
+                errorKind = status == 429 ? "rate_limited" : "http_" + status;
+            } else {
+                body = response.body().length > 0 ? mapper.readTree(response.body()) : MissingNode.getInstance();
+            }
+        } catch (HttpTimeoutException e) {
+            errorKind = "timeout";
+        } catch (IOException e) {
+            errorKind = "io";
+        }
+        metrics.record(index, operation, startNanos, System.nanoTime(), errorKind);
+        return body;
+    }
+
+    /**
+     * One slot per weight unit: picking a random slot picks a flow with its weight.
+     */
+    private static Flow[] flowTable(Map<Flow, Integer> mix) {
+        return mix.entrySet().stream()
+            .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+            .toArray(Flow[]::new);
+    }
+}
@@ -0,0 +1,135 @@
+package com.singularbank.signature.routing.loadtest;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load test of {@code POST /api/v1/signatures} and {@code PATCH /{id}/complete}.
+ *
+ * <p>Boots the service in this JVM against local stand-ins (see {@link LoadTestEnvironment}),
+ * then drives an open-model workload: {@code loadtest.rate} new signature flows per second,
+ * mixed as {@code loadtest.mix} (see {@link SignatureFlows}), for {@code loadtest.warmup}
+ * (not measured) plus {@code loadtest.duration}. Reports throughput, p50/p99/p999 latency and
+ * errors per operation, and DB pool saturation of the service.
+ *
+ * <p>Each run writes {@code target/loadtest/loadtest-<time>-<commit>.json}. Runs with the same
+ * settings on the same machine are comparable: pass {@code -Dloadtest.baseline=<json>} to print
+ * the deltas against an earlier run. The load generator shares the machine with the service,
+ * so compare runs, not absolute numbers with production.
+ *
+ * <p>Requires Docker (Testcontainers). Run:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.singularbank.signature.routing.loadtest.SignatureLoadHarness -Dloadtest.rate=100}
+ */
+public final class SignatureLoadHarness {
+
+    private static final Duration POOL_SAMPLE_PERIOD = Duration.ofMillis(100);
+
+    private SignatureLoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Instant startedAt = Instant.now();
+
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(config);
+             ExecutorService flows = Executors.newVirtualThreadPerTaskExecutor();
+             ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor()) {
+
+            LoadMetrics metrics = new LoadMetrics(config.warmupArrivals());
+            HikariPoolMXBean pool = environment.servicePool();
+            sampler.scheduleAtFixedRate(
+                () -> metrics.samplePool(pool.getActiveConnections(), pool.getThreadsAwaitingConnection(),
+                    pool.getTotalConnections()),
+                0, POOL_SAMPLE_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(flows)
+                .build();
+            Duration runLength = config.warmup().plus(config.duration());
+            String token = environment.jwtIssuer().issueToken(runLength.plusHours(1));
+            SignatureFlows signatureFlows = new SignatureFlows(client, environment.baseUrl(), token,
+                environment::challenge, metrics, config);
+
+            OpenModelDriver driver = new OpenModelDriver(config.rate(), config.maxInFlight(), flows);
+            OpenModelDriver.Result result = driver.run(
+                config.warmupArrivals() + config.measuredArrivals(), signatureFlows, Duration.ofMinutes(2));
+
+            LoadReport report = new LoadReport(
+                commit(),
+                startedAt,
+                Runtime.version() + " " + System.getProperty("java.vm.name"),
+                Runtime.getRuntime().availableProcessors(),
+                settings(config),
+                new LoadReport.DriverStats(config.measuredArrivals(), metrics.dropped(), result.unfinished(),
+                    result.maxLag().toNanos() / 1e6),
+                metrics.flowStats(),
+                metrics.operationStats(),
+                metrics.poolStats());
+            report.print(System.out);
+            Path file = report.write(config.outputDirectory());
+            System.out.printf("%nReport written to %s%n", file);
+            if (config.baseline() != null) {
+                report.printComparison(LoadReport.read(config.baseline()), System.out);
+            }
+        }
+        System.exit(0);
+    }
+
+    private static Map<String, String> settings(LoadTestConfig config) {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("rate", String.valueOf(config.rate()));
+        settings.put("warmup", config.warmup().toString());
+        settings.put("duration", config.duration().toString());
+        settings.put("mix", config.mix().toString());
+        settings.put("customers", String.valueOf(config.customers()));
+        settings.put("thinkTime", config.thinkTime().toString());
+        settings.put("pollInterval", config.pollInterval().toString());
+        settings.put("maxInFlight", String.valueOf(config.maxInFlight()));
+        settings.put("poolSize", String.valueOf(config.poolSize()));
+        settings.put("liftGlobalLimit", String.valueOf(config.liftGlobalLimit()));
+        settings.put("seed", String.valueOf(config.seed()));
+        return settings;
+    }
+
+    /**
+     * Short commit id of the working tree, with {@code -dirty} when it has local changes.
+     */
+    private static String commit() {
+        try {
+            String commit = git("rev-parse", "--short", "HEAD");
+            return git("status", "--porcelain", "--untracked-files=no").isEmpty() ? commit : commit + "-dirty";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private static String git(String... args) throws IOException, InterruptedException {
+        String[] command = new String[args.length + 1];
+        command[0] = "git";
+        System.arraycopy(args, 0, command, 1, args.length);
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        if (process.waitFor() != 0) {
+            throw new IOException("git " + String.join(" ", args) + " failed: " + output);
+        }
+        return output;
+    }
+}